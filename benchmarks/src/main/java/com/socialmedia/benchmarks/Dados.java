@@ -0,0 +1,48 @@
+package com.socialmedia.benchmarks;
+
+import com.socialmedia.config.ConfiguracaoPlataforma;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.TipoConteudo;
+
+import java.util.List;
+
+// Conteúdos e credenciais usados pelos benchmarks
+final class Dados {
+    // Ordem em que as plataformas entram nos benchmarks com 1 a 4 plataformas
+    static final String[] PLATAFORMAS = {"TWITTER", "INSTAGRAM", "LINKEDIN", "TIKTOK"};
+
+    private Dados() {
+    }
+
+    static ConfiguracaoPlataforma configuracao(String plataforma) {
+        return new ConfiguracaoPlataforma.Builder()
+            .plataforma(plataforma)
+            .credenciais(credenciais(plataforma))
+            .build();
+    }
+
+    static String credenciais(String plataforma) {
+        switch (plataforma) {
+            case "TWITTER":
+                return "api-key:api-secret";
+            case "INSTAGRAM":
+                return "access-token";
+            case "LINKEDIN":
+                return "client-id:client-secret";
+            case "TIKTOK":
+                return "app-id:app-secret:auth-code";
+            default:
+                throw new IllegalArgumentException("Plataforma sem credenciais de benchmark: " + plataforma);
+        }
+    }
+
+    // Conteúdo aceito pelas quatro plataformas (o TikTok exige vídeo)
+    static Conteudo conteudo(String texto) {
+        return new Conteudo.Builder()
+            .texto(texto)
+            .tipo(TipoConteudo.VIDEO)
+            .midias(List.of("https://cdn.exemplo.com/videos/lancamento.mp4"))
+            .hashtags(List.of("lancamento", "#produto", "novidade"))
+            .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.socialmedia.benchmarks;
+
+import com.socialmedia.adapter.TikTokAdapter;
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.midia.EnviadorMidia;
+import com.socialmedia.midia.ResultadoUpload;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão do upload em partes de vídeos de vários GB para a API simulada do TikTok
+ * O contador "bytes" dá a vazão em bytes/s. O arquivo é criado em java.io.tmpdir (aponte para o
+ * disco que interessa medir); com ele no cache de páginas, a medida é a do caminho de leitura e
+ * envio, não a do disco. A API simulada lê cada parte inteira (CRC32C) sem guardá-la
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m"})
+public class EnvioMidiaBenchmark {
+
+    @Param({"1024", "4096"})
+    private int megabytes;
+
+    @Param({"1", "4"})
+    private int paralelismo;
+
+    @Param({"false", "true"})
+    private boolean mapeado;
+
+    private Path arquivo;
+    private EnviadorMidia enviador;
+    private TikTokAdapter tiktok;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Vazao {
+        public long bytes;
+    }
+
+    @Setup(Level.Trial)
+    public void criarArquivo() throws IOException {
+        arquivo = Files.createTempFile("envio-midia-", ".mp4");
+        long tamanho = (long) megabytes << 20;
+        ByteBuffer bloco = ByteBuffer.allocateDirect(1 << 20);
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.WRITE)) {
+            for (long escrito = 0; escrito < tamanho; escrito += bloco.capacity()) {
+                bloco.clear();
+                while (bloco.hasRemaining()) {
+                    bloco.putLong(aleatorio.nextLong());
+                }
+                bloco.flip();
+                while (bloco.hasRemaining()) {
+                    canal.write(bloco);
+                }
+            }
+        }
+        enviador = new EnviadorMidia.Builder()
+            .paralelismo(paralelismo)
+            .mapeado(mapeado)
+            .build();
+    }
+
+    // Adapter novo por iteração, para as sessões concluídas não se acumularem na API simulada
+    @Setup(Level.Iteration)
+    public void autenticar() throws AutenticacaoException {
+        tiktok = new TikTokAdapter();
+        tiktok.autenticar(Dados.configuracao("TIKTOK").getCredenciais());
+    }
+
+    @TearDown(Level.Trial)
+    public void apagarArquivo() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Benchmark
+    public ResultadoUpload enviar(Vazao vazao) throws IOException, PublicacaoException {
+        ResultadoUpload resultado = enviador.enviar(arquivo, tiktok);
+        vazao.bytes += resultado.getBytes();
+        return resultado;
+    }
+}
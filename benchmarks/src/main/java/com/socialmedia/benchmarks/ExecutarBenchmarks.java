@@ -0,0 +1,62 @@
+package com.socialmedia.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Properties;
+
+/**
+ * Ponto de entrada do benchmarks.jar: aceita as mesmas opções do JMH e, quando não
+ * informados, liga o profiler de alocação (-prof gc) e grava os resultados em JSON em
+ * resultados/jmh-<versão>-<data>.json, para comparar entre versões
+ */
+public final class ExecutarBenchmarks {
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private ExecutarBenchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions linhaDeComando = new CommandLineOptions(args);
+        if (linhaDeComando.shouldHelp() || linhaDeComando.shouldList() || linhaDeComando.shouldListWithParams()
+                || linhaDeComando.shouldListProfilers() || linhaDeComando.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder opcoes = new OptionsBuilder().parent(linhaDeComando);
+        if (linhaDeComando.getProfilers().isEmpty()) {
+            opcoes.addProfiler(GCProfiler.class);
+        }
+        if (!linhaDeComando.getResultFormat().hasValue()) {
+            opcoes.resultFormat(ResultFormatType.JSON);
+        }
+        if (!linhaDeComando.getResult().hasValue()) {
+            Path arquivo = Paths.get("resultados", "jmh-" + versao() + "-" + LocalDateTime.now().format(FORMATO_DATA) + ".json");
+            Files.createDirectories(arquivo.getParent());
+            opcoes.result(arquivo.toString());
+        }
+        new Runner(opcoes.build()).run();
+    }
+
+    private static String versao() throws IOException {
+        Properties propriedades = new Properties();
+        try (InputStream entrada = ExecutarBenchmarks.class.getResourceAsStream("/benchmarks.properties")) {
+            if (entrada != null) {
+                propriedades.load(entrada);
+            }
+        }
+        return propriedades.getProperty("versao", "dev");
+    }
+}
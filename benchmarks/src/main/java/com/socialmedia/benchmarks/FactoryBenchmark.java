@@ -0,0 +1,34 @@
+package com.socialmedia.benchmarks;
+
+import com.socialmedia.factory.RedeSocialFactory;
+import com.socialmedia.service.RedeSocialService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Custo de RedeSocialFactory.criar (normalização do nome, busca no registro e construção do adapter)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FactoryBenchmark {
+
+    @Param({"twitter", "Instagram", "LINKEDIN", " tiktok "})
+    private String plataforma;
+
+    @Benchmark
+    public RedeSocialService criar() {
+        return RedeSocialFactory.criar(plataforma);
+    }
+}
@@ -0,0 +1,77 @@
+package com.socialmedia.benchmarks;
+
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.service.GerenciadorMidiaSocial;
+import com.socialmedia.strategy.RespostaSumarizadaStrategy;
+import com.socialmedia.strategy.RespostaUnificada;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão do fan-out do GerenciadorMidiaSocial com 1 a 4 plataformas
+ * No modo concorrente cada thread tem o seu gerenciador (ele não é thread-safe), então a
+ * disputa medida é a do estado compartilhado: gerador de ids, caches de renderização e relógio.
+ * As APIs simuladas guardam todas as publicações, por isso o gerenciador é recriado a cada iteração
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class FanOutBenchmark {
+
+    @Param({"1", "2", "3", "4"})
+    private int plataformas;
+
+    private GerenciadorMidiaSocial gerenciador;
+    private Conteudo conteudo;
+    private long sequencia;
+
+    @Setup(Level.Iteration)
+    public void preparar() throws AutenticacaoException {
+        gerenciador = new GerenciadorMidiaSocial(new RespostaSumarizadaStrategy());
+        for (int i = 0; i < plataformas; i++) {
+            gerenciador.adicionarPlataforma(Dados.configuracao(Dados.PLATAFORMAS[i]));
+        }
+        conteudo = Dados.conteudo("Lançamento da nova linha de produtos, confira!");
+    }
+
+    // Mesmo conteúdo em todas as chamadas: a renderização vem do cache
+    @Benchmark
+    public RespostaUnificada sincrono() {
+        return gerenciador.publicarEmTodasPlataformas(conteudo);
+    }
+
+    // Conteúdo novo a cada chamada: inclui a formatação em cada adapter
+    @Benchmark
+    public RespostaUnificada sincronoConteudoNovo() {
+        return gerenciador.publicarEmTodasPlataformas(Dados.conteudo("Publicação número " + sequencia++));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public RespostaUnificada concorrente() {
+        return gerenciador.publicarEmTodasPlataformas(conteudo);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public RespostaUnificada concorrenteConteudoNovo() {
+        return gerenciador.publicarEmTodasPlataformas(Dados.conteudo("Publicação número " + sequencia++));
+    }
+}
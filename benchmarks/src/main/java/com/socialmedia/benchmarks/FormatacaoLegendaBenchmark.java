@@ -0,0 +1,86 @@
+package com.socialmedia.benchmarks;
+
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.factory.RedeSocialFactory;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.TipoConteudo;
+import com.socialmedia.resultado.Resultado;
+import com.socialmedia.service.RedeSocialService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatação do texto/legenda de cada adapter, medida pela API pública do adapter
+ * conteudoNovo publica um conteúdo inédito (formata e renderiza); conteudoEmCache publica sempre
+ * o mesmo (renderização vem do cache); apenasConteudo é o custo de montar o conteúdo.
+ * Formatação ≈ conteudoNovo - conteudoEmCache - apenasConteudo
+ * As APIs simuladas guardam as publicações, por isso o adapter é recriado a cada iteração
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FormatacaoLegendaBenchmark {
+
+    @Param({"TWITTER", "INSTAGRAM", "LINKEDIN", "TIKTOK"})
+    private String plataforma;
+
+    @Param({"0", "3", "15"})
+    private int quantidadeHashtags;
+
+    private RedeSocialService service;
+    private List<String> hashtags;
+    private Conteudo conteudo;
+    private long sequencia;
+
+    @Setup(Level.Iteration)
+    public void preparar() throws AutenticacaoException {
+        service = RedeSocialFactory.criarAutenticado(plataforma, Dados.credenciais(plataforma));
+        hashtags = new ArrayList<>(quantidadeHashtags);
+        for (int i = 0; i < quantidadeHashtags; i++) {
+            hashtags.add(i % 2 == 0 ? "#tema" + i : "tema" + i);
+        }
+        conteudo = conteudo("Conheça a nova coleção de outono, disponível a partir de hoje em todas as lojas!");
+    }
+
+    @Benchmark
+    public Resultado<Publicacao> conteudoNovo() {
+        return service.tentarPublicar(conteudo("Coleção de outono, edição " + sequencia++));
+    }
+
+    @Benchmark
+    public Resultado<Publicacao> conteudoEmCache() {
+        return service.tentarPublicar(conteudo);
+    }
+
+    @Benchmark
+    public Conteudo apenasConteudo() {
+        return conteudo("Coleção de outono, edição " + sequencia++);
+    }
+
+    private Conteudo conteudo(String texto) {
+        return new Conteudo.Builder()
+            .texto(texto)
+            .tipo(TipoConteudo.VIDEO)
+            .midias(List.of("https://cdn.exemplo.com/videos/colecao.mp4"))
+            .hashtags(hashtags)
+            .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.socialmedia.benchmarks;
+
+import com.socialmedia.config.ConfiguracaoPlataforma;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Estatisticas;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.model.TipoConteudo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Builders dos modelos (Conteudo, Publicacao, Estatisticas, ConfiguracaoPlataforma)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ModeloBenchmark {
+    private final List<String> midias = List.of("https://cdn.exemplo.com/imagens/capa.jpg");
+    private final List<String> hashtags = List.of("marketing", "social");
+    private Conteudo conteudo;
+
+    @Setup
+    public void preparar() {
+        conteudo = Dados.conteudo("Conteúdo base");
+    }
+
+    @Benchmark
+    public Conteudo conteudo() {
+        return new Conteudo.Builder()
+            .texto("Novo post")
+            .tipo(TipoConteudo.IMAGEM)
+            .midias(midias)
+            .hashtags(hashtags)
+            .build();
+    }
+
+    // Inclui a geração de id e a leitura do relógio aproximado
+    @Benchmark
+    public Publicacao publicacao() {
+        return new Publicacao.Builder()
+            .plataforma("Twitter")
+            .conteudo(conteudo)
+            .status(StatusPublicacao.PUBLICADO)
+            .build();
+    }
+
+    @Benchmark
+    public Estatisticas estatisticas() {
+        return new Estatisticas.Builder()
+            .publicacaoId("tw_123")
+            .plataforma("Twitter")
+            .visualizacoes(1000)
+            .curtidas(50)
+            .compartilhamentos(10)
+            .comentarios(5)
+            .taxaEngajamento(6.5)
+            .build();
+    }
+
+    @Benchmark
+    public ConfiguracaoPlataforma configuracao() {
+        return new ConfiguracaoPlataforma.Builder()
+            .plataforma("twitter")
+            .credenciais("api-key:api-secret")
+            .build();
+    }
+}
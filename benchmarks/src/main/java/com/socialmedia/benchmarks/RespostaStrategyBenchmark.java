@@ -0,0 +1,87 @@
+package com.socialmedia.benchmarks;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.strategy.RespostaDetalhadaStrategy;
+import com.socialmedia.strategy.RespostaStrategy;
+import com.socialmedia.strategy.RespostaSumarizadaStrategy;
+import com.socialmedia.strategy.RespostaUnificada;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RespostaDetalhadaStrategy x RespostaSumarizadaStrategy em lotes de 1 a 100 mil publicações
+ * O lote mistura os status e as plataformas; "comDetalhes" também lê os textos renderizados
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RespostaStrategyBenchmark {
+
+    @Param({"detalhada", "sumarizada"})
+    private String strategy;
+
+    @Param({"1", "10", "100", "1000", "10000", "100000"})
+    private int tamanhoLote;
+
+    private RespostaStrategy respostaStrategy;
+    private List<Publicacao> lote;
+
+    @Setup
+    public void preparar() {
+        respostaStrategy = strategy.equals("detalhada")
+            ? new RespostaDetalhadaStrategy()
+            : new RespostaSumarizadaStrategy();
+
+        Conteudo conteudo = Dados.conteudo("Conteúdo do lote");
+        StatusPublicacao[] status = {StatusPublicacao.PUBLICADO, StatusPublicacao.PUBLICADO,
+            StatusPublicacao.AGENDADO, StatusPublicacao.FALHOU};
+        lote = new ArrayList<>(tamanhoLote);
+        for (int i = 0; i < tamanhoLote; i++) {
+            Publicacao.Builder builder = new Publicacao.Builder()
+                .plataforma(Dados.PLATAFORMAS[i % Dados.PLATAFORMAS.length])
+                .conteudo(conteudo)
+                .status(status[i % status.length]);
+            if (status[i % status.length] == StatusPublicacao.FALHOU) {
+                builder.mensagemErro("Limite de requisições atingido").categoriaErro(CategoriaErro.LIMITADO);
+            }
+            lote.add(builder.build());
+        }
+    }
+
+    @Benchmark
+    public RespostaUnificada processar() {
+        return respostaStrategy.processar(lote);
+    }
+
+    @Benchmark
+    public void comDetalhes(Blackhole blackhole) {
+        RespostaUnificada resposta = respostaStrategy.processar(lote);
+        blackhole.consume(resposta.getPublicacoesPorPlataforma());
+        blackhole.consume(resposta.getErros());
+    }
+
+    @Benchmark
+    public RespostaUnificada coletorParalelo() {
+        return lote.parallelStream().collect(respostaStrategy.coletor());
+    }
+}
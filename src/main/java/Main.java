@@ -1,3 +1,6 @@
+import com.socialmedia.carga.CenarioCarga;
+import com.socialmedia.carga.GeradorCarga;
+import com.socialmedia.carga.RelatorioCarga;
 import com.socialmedia.config.ConfiguracaoPlataforma;
 import com.socialmedia.exception.AutenticacaoException;
 import com.socialmedia.model.*;
@@ -6,14 +9,85 @@ import com.socialmedia.strategy.RespostaDetalhadaStrategy;
 import com.socialmedia.strategy.RespostaSumarizadaStrategy;
 import com.socialmedia.strategy.RespostaUnificada;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-
-// Classe principal demonstrando o uso do Sistema de Integração de APIs de Mídia Social
+import java.util.Properties;
+
+/**
+ * Classe principal: gerador de carga sobre as APIs simuladas
+ * Uso: java Main [cenario | arquivo.properties] [--chave=valor ...] [--saida=arquivo.tsv]
+ * O cenário pode ser um dos presets em resources/carga (padrao, rajadas, rampa) ou um arquivo;
+ * --chave=valor sobrescreve qualquer propriedade do cenário. Com --demo, executa a demonstração dos padrões
+ */
 public class Main {
-    
+
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains("--demo")) {
+            executarDemonstracao();
+            return;
+        }
+
+        try {
+            Properties propriedades = new Properties();
+            String saida = null;
+            String cenario = "padrao";
+            for (String argumento : args) {
+                if (argumento.startsWith("--saida=")) {
+                    saida = argumento.substring("--saida=".length());
+                } else if (argumento.startsWith("--") && argumento.indexOf('=') > 2) {
+                    int separador = argumento.indexOf('=');
+                    propriedades.setProperty(argumento.substring(2, separador), argumento.substring(separador + 1));
+                } else {
+                    cenario = argumento;
+                }
+            }
+            Properties base = carregarCenario(cenario);
+            base.putAll(propriedades);
+
+            CenarioCarga cenarioCarga = CenarioCarga.deProperties(base);
+            System.out.println("Executando o cenário " + cenarioCarga.getNome() + "...");
+            RelatorioCarga relatorio = new GeradorCarga(cenarioCarga).executar();
+            System.out.println();
+            System.out.print(relatorio.formatar());
+            if (saida != null) {
+                Files.writeString(Paths.get(saida), relatorio.exportarDistribuicao(), StandardCharsets.UTF_8);
+                System.out.println("Distribuição de percentis gravada em " + saida);
+            }
+        } catch (Exception e) {
+            System.err.println("ERRO NA CARGA: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    // Arquivo .properties, se existir, ou preset do classpath (carga/<nome>.properties)
+    private static Properties carregarCenario(String cenario) throws IOException {
+        Properties propriedades = new Properties();
+        Path arquivo = Paths.get(cenario);
+        if (Files.isRegularFile(arquivo)) {
+            try (Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+                propriedades.load(leitor);
+            }
+            return propriedades;
+        }
+        try (InputStream entrada = Main.class.getResourceAsStream("/carga/" + cenario + ".properties")) {
+            if (entrada == null) {
+                throw new IllegalArgumentException("Cenário não encontrado: " + cenario);
+            }
+            propriedades.load(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        }
+        return propriedades;
+    }
+
+    private static void executarDemonstracao() {
         System.out.println("=".repeat(80));
         System.out.println("SISTEMA DE INTEGRAÇÃO DE APIS DE MÍDIA SOCIAL");
         System.out.println("Demonstração do Padrão Adapter + Factory + Strategy");
@@ -0,0 +1,41 @@
+package com.socialmedia.adapter;
+
+/**
+ * Separação das credenciais "parte:parte[:parte]" dos adapters sem regex nem listas intermediárias
+ * A última parte fica com o restante do texto, de modo que valores com ':' (ex.: uma URI de
+ * redirecionamento) chegam inteiros ao adapter
+ */
+final class Credenciais {
+
+    private Credenciais() {
+    }
+
+    /**
+     * Separa em no máximo {@code maximo} partes; como no split, partes vazias no final são
+     * descartadas, então "a:" resulta em uma única parte
+     */
+    static String[] separar(String credenciais, int maximo) {
+        String[] partes = new String[maximo];
+        int quantidade = 0;
+        int inicio = 0;
+        while (quantidade < maximo - 1) {
+            int separador = credenciais.indexOf(':', inicio);
+            if (separador < 0) {
+                break;
+            }
+            partes[quantidade++] = credenciais.substring(inicio, separador);
+            inicio = separador + 1;
+        }
+        partes[quantidade++] = credenciais.substring(inicio);
+
+        while (quantidade > 0 && partes[quantidade - 1].isEmpty()) {
+            quantidade--;
+        }
+        if (quantidade == maximo) {
+            return partes;
+        }
+        String[] resultado = new String[quantidade];
+        System.arraycopy(partes, 0, resultado, 0, quantidade);
+        return resultado;
+    }
+}
@@ -1,17 +1,30 @@
 package com.socialmedia.adapter;
 
+import com.socialmedia.api.ApiException;
+import com.socialmedia.api.ServidorUploads;
+import com.socialmedia.api.TokenAcesso;
 import com.socialmedia.api.instagram.InstagramAPI;
+import com.socialmedia.cache.CacheRenderizacao;
 import com.socialmedia.exception.AutenticacaoException;
 import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.midia.DestinoUpload;
+import com.socialmedia.midia.SessaoUpload;
 import com.socialmedia.model.*;
+import com.socialmedia.resultado.ErroPlataforma;
+import com.socialmedia.resultado.Resultado;
+import com.socialmedia.service.AutenticacaoPorToken;
 import com.socialmedia.service.RedeSocialService;
 
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
 
 // Adapter para a API do Instagram
 // Converte a interface do InstagramAPI para a interface RedeSocialService
-public class InstagramAdapter implements RedeSocialService {
+public class InstagramAdapter implements RedeSocialService, DestinoUpload, AutenticacaoPorToken {
     private final InstagramAPI instagramAPI;
     private static final String PLATAFORMA = "Instagram";
+    private static final CacheRenderizacao<PostRenderizado> CACHE_RENDERIZACAO = new CacheRenderizacao<>();
 
     public InstagramAdapter() {
         this.instagramAPI = new InstagramAPI();
@@ -19,19 +32,43 @@ public class InstagramAdapter implements RedeSocialService {
 
     @Override
     public void autenticar(String credenciais) throws AutenticacaoException {
+        emitirToken(credenciais);
+    }
+
+    @Override
+    public TokenAcesso emitirToken(String credenciais) throws AutenticacaoException {
         try {
             // Credenciais no formato de access token
-            instagramAPI.login(credenciais);
+            return instagramAPI.login(credenciais);
         } catch (Exception e) {
             throw new AutenticacaoException("Erro ao autenticar no Instagram: " + e.getMessage(), e);
         }
     }
 
+    @Override
+    public void usarToken(TokenAcesso token) throws AutenticacaoException {
+        try {
+            instagramAPI.useToken(token);
+        } catch (ApiException e) {
+            throw new AutenticacaoException("Erro ao autenticar no Instagram: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public Publicacao publicar(Conteudo conteudo) throws PublicacaoException {
+        Resultado<Publicacao> resultado = tentarPublicar(conteudo);
+        return resultado.isSucesso() ? resultado.getValor() : criarPublicacaoFalha(conteudo, resultado.getErro());
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarPublicar(Conteudo conteudo) {
+        long inicio = System.nanoTime();
+        ErroPlataforma erro = verificarConteudo(conteudo);
+        if (erro != null) {
+            return Resultado.falha(erro);
+        }
+
         try {
-            validarConteudo(conteudo);
-            
             InstagramAPI.InstagramMedia media;
             
             if (conteudo.getTipo() == TipoConteudo.STORY) {
@@ -40,51 +77,72 @@ public class InstagramAdapter implements RedeSocialService {
                 media = publicarPost(conteudo);
             }
             
-            return new Publicacao.Builder()
+            return Resultado.sucesso(new Publicacao.Builder()
                     .id(media.id)
                     .plataforma(PLATAFORMA)
                     .conteudo(conteudo)
                     .dataPublicacao(media.timestamp)
                     .status(StatusPublicacao.PUBLICADO)
                     .urlPublicacao(media.permalink)
-                    .build();
-        } catch (Exception e) {
-            return criarPublicacaoFalha(conteudo, e.getMessage());
+                    .tempos(inicio, System.nanoTime())
+                    .build());
+        } catch (ApiException e) {
+            return Resultado.falha(ErroPlataforma.de(PLATAFORMA, e));
         }
     }
 
     @Override
     public Publicacao agendar(Conteudo conteudo) throws PublicacaoException {
-        validarConteudo(conteudo);
+        return tentarAgendar(conteudo).getValorOuLancar();
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarAgendar(Conteudo conteudo) {
+        long inicio = System.nanoTime();
+        ErroPlataforma erro = verificarConteudo(conteudo);
+        if (erro != null) {
+            return Resultado.falha(erro);
+        }
         
         if (conteudo.getDataAgendamento() == null) {
-            throw new PublicacaoException("Data de agendamento é obrigatória");
+            return Resultado.falha(ErroPlataforma.invalido(PLATAFORMA, "Data de agendamento é obrigatória"));
         }
         
         // Instagram suporta agendamento através de ferramentas de terceiros ou Creator Studio
-        return new Publicacao.Builder()
+        return Resultado.sucesso(new Publicacao.Builder()
                 .plataforma(PLATAFORMA)
                 .conteudo(conteudo)
                 .dataPublicacao(conteudo.getDataAgendamento())
                 .status(StatusPublicacao.AGENDADO)
-                .build();
+                .tempos(inicio, System.nanoTime())
+                .build());
     }
 
     @Override
     public boolean remover(String publicacaoId) throws PublicacaoException {
+        return tentarRemover(publicacaoId).getValorOuLancar();
+    }
+
+    @Override
+    public Resultado<Boolean> tentarRemover(String publicacaoId) {
         try {
-            return instagramAPI.deleteMedia(publicacaoId);
-        } catch (Exception e) {
-            throw new PublicacaoException("Erro ao remover mídia: " + e.getMessage(), e);
+            return Resultado.sucesso(instagramAPI.deleteMedia(publicacaoId));
+        } catch (ApiException e) {
+            return Resultado.falha(ErroPlataforma.de(PLATAFORMA, "Erro ao remover mídia: ", e));
         }
     }
 
     @Override
     public Estatisticas obterEstatisticas(String publicacaoId) throws PublicacaoException {
+        return tentarObterEstatisticas(publicacaoId).getValorOuLancar();
+    }
+
+    @Override
+    public Resultado<Estatisticas> tentarObterEstatisticas(String publicacaoId) {
         try {
             InstagramAPI.InstagramInsights insights = instagramAPI.getMediaInsights(publicacaoId);
             
-            return new Estatisticas.Builder()
+            return Resultado.sucesso(new Estatisticas.Builder()
                     .publicacaoId(publicacaoId)
                     .plataforma(PLATAFORMA)
                     .visualizacoes(insights.reach)
@@ -92,9 +150,9 @@ public class InstagramAdapter implements RedeSocialService {
                     .compartilhamentos(insights.shares)
                     .comentarios(insights.comments)
                     .taxaEngajamento(insights.engagement)
-                    .build();
-        } catch (Exception e) {
-            throw new PublicacaoException("Erro ao obter insights: " + e.getMessage(), e);
+                    .build());
+        } catch (ApiException e) {
+            return Resultado.falha(ErroPlataforma.de(PLATAFORMA, "Erro ao obter insights: ", e));
         }
     }
 
@@ -108,35 +166,77 @@ public class InstagramAdapter implements RedeSocialService {
         return instagramAPI.isAuthenticated();
     }
 
-    private void validarConteudo(Conteudo conteudo) throws PublicacaoException {
+    // Upload em partes (a API retomável endereça as partes pelo deslocamento em bytes)
+
+    @Override
+    public SessaoUpload iniciarUpload(long tamanho, int tamanhoParte) throws PublicacaoException {
+        try {
+            ServidorUploads.Upload upload = instagramAPI.createUploadSession(tamanho, tamanhoParte);
+            return new SessaoUpload(upload.id, upload.tamanho, upload.tamanhoParte);
+        } catch (ApiException e) {
+            throw ErroPlataforma.de(PLATAFORMA, e).comoExcecao();
+        }
+    }
+
+    @Override
+    public void enviarParte(SessaoUpload sessao, int indice, ByteBuffer dados) throws PublicacaoException {
+        try {
+            instagramAPI.uploadChunk(sessao.getUploadId(), sessao.getPosicao(indice), dados);
+        } catch (ApiException e) {
+            throw ErroPlataforma.de(PLATAFORMA, e).comoExcecao();
+        }
+    }
+
+    @Override
+    public BitSet partesRecebidas(SessaoUpload sessao) throws PublicacaoException {
+        try {
+            return instagramAPI.getUploadStatus(sessao.getUploadId());
+        } catch (ApiException e) {
+            throw ErroPlataforma.de(PLATAFORMA, e).comoExcecao();
+        }
+    }
+
+    @Override
+    public String concluirUpload(SessaoUpload sessao) throws PublicacaoException {
+        try {
+            return instagramAPI.finishUpload(sessao.getUploadId());
+        } catch (ApiException e) {
+            throw ErroPlataforma.de(PLATAFORMA, e).comoExcecao();
+        }
+    }
+
+    private ErroPlataforma verificarConteudo(Conteudo conteudo) {
         if (!isAutenticado()) {
-            throw new PublicacaoException("Não autenticado no Instagram");
+            return ErroPlataforma.autenticacao(PLATAFORMA, "Não autenticado no Instagram");
         }
         
         if (conteudo == null) {
-            throw new PublicacaoException("Conteúdo não pode ser nulo");
+            return ErroPlataforma.invalido(PLATAFORMA, "Conteúdo não pode ser nulo");
         }
         
         if (conteudo.getMidias().isEmpty()) {
-            throw new PublicacaoException("Instagram requer ao menos uma mídia (imagem ou vídeo)");
+            return ErroPlataforma.invalido(PLATAFORMA, "Instagram requer ao menos uma mídia (imagem ou vídeo)");
         }
+        
+        return null;
     }
 
-    private InstagramAPI.InstagramMedia publicarPost(Conteudo conteudo) throws Exception {
-        InstagramAPI.MediaRequest request = new InstagramAPI.MediaRequest();
-        request.caption = formatarCaption(conteudo);
-        request.mediaType = determinarTipoMidia(conteudo);
-        request.mediaUrl = conteudo.getMidias().get(0);
-        
+    private InstagramAPI.InstagramMedia publicarPost(Conteudo conteudo) throws ApiException {
+        PostRenderizado post = CACHE_RENDERIZACAO.obter(conteudo, PLATAFORMA, this::renderizarPost);
+        return instagramAPI.createMediaPost(post.paraRequest());
+    }
+
+    private PostRenderizado renderizarPost(Conteudo conteudo) {
+        String mediaType = determinarTipoMidia(conteudo);
+        String[] childMediaUrls = null;
         if (conteudo.getMidias().size() > 1) {
-            request.mediaType = "CAROUSEL_ALBUM";
-            request.childMediaUrls = conteudo.getMidias().toArray(new String[0]);
+            mediaType = "CAROUSEL_ALBUM";
+            childMediaUrls = conteudo.getMidias().toArray(new String[0]);
         }
-        
-        return instagramAPI.createMediaPost(request);
+        return new PostRenderizado(formatarCaption(conteudo), mediaType, conteudo.getMidias().get(0), childMediaUrls);
     }
 
-    private InstagramAPI.InstagramMedia publicarStory(Conteudo conteudo) throws Exception {
+    private InstagramAPI.InstagramMedia publicarStory(Conteudo conteudo) throws ApiException {
         String mediaUrl = conteudo.getMidias().get(0);
         boolean isVideo = mediaUrl.endsWith(".mp4") || mediaUrl.endsWith(".mov");
         
@@ -167,13 +267,38 @@ public class InstagramAdapter implements RedeSocialService {
         return "IMAGE";
     }
 
-    private Publicacao criarPublicacaoFalha(Conteudo conteudo, String mensagemErro) {
+    private Publicacao criarPublicacaoFalha(Conteudo conteudo, ErroPlataforma erro) {
         return new Publicacao.Builder()
                 .plataforma(PLATAFORMA)
                 .conteudo(conteudo)
                 .status(StatusPublicacao.FALHOU)
-                .mensagemErro(mensagemErro)
+                .mensagemErro(erro.getMensagem())
+                .categoriaErro(erro.getCategoria())
                 .build();
     }
-}
 
+    // Post já convertido para o formato do InstagramAPI; imutável, compartilhado entre threads pelo cache
+    private static final class PostRenderizado {
+        private final String caption;
+        private final String mediaType;
+        private final String mediaUrl;
+        private final String[] childMediaUrls;
+
+        private PostRenderizado(String caption, String mediaType, String mediaUrl, String[] childMediaUrls) {
+            this.caption = caption;
+            this.mediaType = mediaType;
+            this.mediaUrl = mediaUrl;
+            this.childMediaUrls = childMediaUrls;
+        }
+
+        // Request novo a cada chamada: os campos do request são públicos e mutáveis
+        private InstagramAPI.MediaRequest paraRequest() {
+            InstagramAPI.MediaRequest request = new InstagramAPI.MediaRequest();
+            request.caption = caption;
+            request.mediaType = mediaType;
+            request.mediaUrl = mediaUrl;
+            request.childMediaUrls = childMediaUrls != null ? childMediaUrls.clone() : null;
+            return request;
+        }
+    }
+}
@@ -1,17 +1,31 @@
 package com.socialmedia.adapter;
 
+import com.socialmedia.api.ApiException;
+import com.socialmedia.api.ServidorUploads;
+import com.socialmedia.api.TokenAcesso;
 import com.socialmedia.api.linkedin.LinkedInAPI;
+import com.socialmedia.cache.CacheRenderizacao;
 import com.socialmedia.exception.AutenticacaoException;
 import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.midia.DestinoUpload;
+import com.socialmedia.midia.SessaoUpload;
 import com.socialmedia.model.*;
+import com.socialmedia.resultado.ErroPlataforma;
+import com.socialmedia.resultado.Resultado;
+import com.socialmedia.service.AutenticacaoPorToken;
 import com.socialmedia.service.RedeSocialService;
 
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
 
 // Adapter para a API do LinkedIn
 // Converte a interface do LinkedInAPI para a interface RedeSocialService
-public class LinkedInAdapter implements RedeSocialService {
+public class LinkedInAdapter implements RedeSocialService, DestinoUpload, AutenticacaoPorToken {
     private final LinkedInAPI linkedInAPI;
     private static final String PLATAFORMA = "LinkedIn";
+    private static final CacheRenderizacao<ShareRenderizado> CACHE_SHARES = new CacheRenderizacao<>();
+    private static final CacheRenderizacao<ArtigoRenderizado> CACHE_ARTIGOS = new CacheRenderizacao<>();
 
     public LinkedInAdapter() {
         this.linkedInAPI = new LinkedInAPI();
@@ -19,9 +33,14 @@ public class LinkedInAdapter implements RedeSocialService {
 
     @Override
     public void autenticar(String credenciais) throws AutenticacaoException {
+        emitirToken(credenciais);
+    }
+
+    @Override
+    public TokenAcesso emitirToken(String credenciais) throws AutenticacaoException {
         try {
             // Credenciais no formato: "clientId:clientSecret:redirectUri"
-            String[] partes = credenciais.split(":");
+            String[] partes = Credenciais.separar(credenciais, 3);
             if (partes.length < 2) {
                 throw new AutenticacaoException("Formato de credenciais inválido. Use: clientId:clientSecret[:redirectUri]");
             }
@@ -30,17 +49,36 @@ public class LinkedInAdapter implements RedeSocialService {
             String clientSecret = partes[1];
             String redirectUri = partes.length > 2 ? partes[2] : "https://localhost/callback";
             
-            linkedInAPI.authorize(clientId, clientSecret, redirectUri);
+            return linkedInAPI.authorize(clientId, clientSecret, redirectUri);
         } catch (Exception e) {
             throw new AutenticacaoException("Erro ao autenticar no LinkedIn: " + e.getMessage(), e);
         }
     }
 
+    @Override
+    public void usarToken(TokenAcesso token) throws AutenticacaoException {
+        try {
+            linkedInAPI.useToken(token);
+        } catch (ApiException e) {
+            throw new AutenticacaoException("Erro ao autenticar no LinkedIn: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public Publicacao publicar(Conteudo conteudo) throws PublicacaoException {
+        Resultado<Publicacao> resultado = tentarPublicar(conteudo);
+        return resultado.isSucesso() ? resultado.getValor() : criarPublicacaoFalha(conteudo, resultado.getErro());
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarPublicar(Conteudo conteudo) {
+        long inicio = System.nanoTime();
+        ErroPlataforma erro = verificarConteudo(conteudo);
+        if (erro != null) {
+            return Resultado.falha(erro);
+        }
+
         try {
-            validarConteudo(conteudo);
-            
             LinkedInAPI.LinkedInShare share;
             
             if (conteudo.getTipo() == TipoConteudo.ARTIGO) {
@@ -49,51 +87,72 @@ public class LinkedInAdapter implements RedeSocialService {
                 share = publicarShare(conteudo);
             }
             
-            return new Publicacao.Builder()
+            return Resultado.sucesso(new Publicacao.Builder()
                     .id(share.shareUrn)
                     .plataforma(PLATAFORMA)
                     .conteudo(conteudo)
                     .dataPublicacao(share.created)
                     .status(StatusPublicacao.PUBLICADO)
                     .urlPublicacao("https://www.linkedin.com/feed/update/" + share.shareUrn)
-                    .build();
-        } catch (Exception e) {
-            return criarPublicacaoFalha(conteudo, e.getMessage());
+                    .tempos(inicio, System.nanoTime())
+                    .build());
+        } catch (ApiException e) {
+            return Resultado.falha(ErroPlataforma.de(PLATAFORMA, e));
         }
     }
 
     @Override
     public Publicacao agendar(Conteudo conteudo) throws PublicacaoException {
-        validarConteudo(conteudo);
+        return tentarAgendar(conteudo).getValorOuLancar();
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarAgendar(Conteudo conteudo) {
+        long inicio = System.nanoTime();
+        ErroPlataforma erro = verificarConteudo(conteudo);
+        if (erro != null) {
+            return Resultado.falha(erro);
+        }
         
         if (conteudo.getDataAgendamento() == null) {
-            throw new PublicacaoException("Data de agendamento é obrigatória");
+            return Resultado.falha(ErroPlataforma.invalido(PLATAFORMA, "Data de agendamento é obrigatória"));
         }
         
         // LinkedIn suporta agendamento através de ferramentas de gestão
-        return new Publicacao.Builder()
+        return Resultado.sucesso(new Publicacao.Builder()
                 .plataforma(PLATAFORMA)
                 .conteudo(conteudo)
                 .dataPublicacao(conteudo.getDataAgendamento())
                 .status(StatusPublicacao.AGENDADO)
-                .build();
+                .tempos(inicio, System.nanoTime())
+                .build());
     }
 
     @Override
     public boolean remover(String publicacaoId) throws PublicacaoException {
+        return tentarRemover(publicacaoId).getValorOuLancar();
+    }
+
+    @Override
+    public Resultado<Boolean> tentarRemover(String publicacaoId) {
         try {
-            return linkedInAPI.deleteShare(publicacaoId);
-        } catch (Exception e) {
-            throw new PublicacaoException("Erro ao remover share: " + e.getMessage(), e);
+            return Resultado.sucesso(linkedInAPI.deleteShare(publicacaoId));
+        } catch (ApiException e) {
+            return Resultado.falha(ErroPlataforma.de(PLATAFORMA, "Erro ao remover share: ", e));
         }
     }
 
     @Override
     public Estatisticas obterEstatisticas(String publicacaoId) throws PublicacaoException {
+        return tentarObterEstatisticas(publicacaoId).getValorOuLancar();
+    }
+
+    @Override
+    public Resultado<Estatisticas> tentarObterEstatisticas(String publicacaoId) {
         try {
             LinkedInAPI.LinkedInAnalytics analytics = linkedInAPI.getShareStatistics(publicacaoId);
             
-            return new Estatisticas.Builder()
+            return Resultado.sucesso(new Estatisticas.Builder()
                     .publicacaoId(publicacaoId)
                     .plataforma(PLATAFORMA)
                     .visualizacoes(analytics.impressionCount)
@@ -101,9 +160,9 @@ public class LinkedInAdapter implements RedeSocialService {
                     .compartilhamentos(analytics.shareCount)
                     .comentarios(analytics.commentCount)
                     .taxaEngajamento(analytics.engagementRate)
-                    .build();
-        } catch (Exception e) {
-            throw new PublicacaoException("Erro ao obter analytics: " + e.getMessage(), e);
+                    .build());
+        } catch (ApiException e) {
+            return Resultado.falha(ErroPlataforma.de(PLATAFORMA, "Erro ao obter analytics: ", e));
         }
     }
 
@@ -117,49 +176,86 @@ public class LinkedInAdapter implements RedeSocialService {
         return linkedInAPI.isAuthenticated();
     }
 
-    private void validarConteudo(Conteudo conteudo) throws PublicacaoException {
+    // Upload em partes (o LinkedIn impõe partes de 4 MB e ignora o tamanho pedido)
+
+    @Override
+    public SessaoUpload iniciarUpload(long tamanho, int tamanhoParte) throws PublicacaoException {
+        try {
+            ServidorUploads.Upload upload = linkedInAPI.initializeUpload(tamanho);
+            return new SessaoUpload(upload.id, upload.tamanho, upload.tamanhoParte);
+        } catch (ApiException e) {
+            throw ErroPlataforma.de(PLATAFORMA, e).comoExcecao();
+        }
+    }
+
+    @Override
+    public void enviarParte(SessaoUpload sessao, int indice, ByteBuffer dados) throws PublicacaoException {
+        try {
+            linkedInAPI.uploadPart(sessao.getUploadId(), indice, dados);
+        } catch (ApiException e) {
+            throw ErroPlataforma.de(PLATAFORMA, e).comoExcecao();
+        }
+    }
+
+    @Override
+    public BitSet partesRecebidas(SessaoUpload sessao) throws PublicacaoException {
+        try {
+            return linkedInAPI.getUploadStatus(sessao.getUploadId());
+        } catch (ApiException e) {
+            throw ErroPlataforma.de(PLATAFORMA, e).comoExcecao();
+        }
+    }
+
+    @Override
+    public String concluirUpload(SessaoUpload sessao) throws PublicacaoException {
+        try {
+            return linkedInAPI.finalizeUpload(sessao.getUploadId());
+        } catch (ApiException e) {
+            throw ErroPlataforma.de(PLATAFORMA, e).comoExcecao();
+        }
+    }
+
+    private ErroPlataforma verificarConteudo(Conteudo conteudo) {
         if (!isAutenticado()) {
-            throw new PublicacaoException("Não autenticado no LinkedIn");
+            return ErroPlataforma.autenticacao(PLATAFORMA, "Não autenticado no LinkedIn");
         }
         
         if (conteudo == null) {
-            throw new PublicacaoException("Conteúdo não pode ser nulo");
+            return ErroPlataforma.invalido(PLATAFORMA, "Conteúdo não pode ser nulo");
         }
+        
+        return null;
     }
 
-    private LinkedInAPI.LinkedInShare publicarShare(Conteudo conteudo) throws Exception {
-        LinkedInAPI.ShareRequest request = new LinkedInAPI.ShareRequest();
-        request.commentary = formatarComentario(conteudo);
-        request.visibility = "PUBLIC";
-        
+    private LinkedInAPI.LinkedInShare publicarShare(Conteudo conteudo) throws ApiException {
+        ShareRenderizado share = CACHE_SHARES.obter(conteudo, PLATAFORMA, this::renderizarShare);
+        return linkedInAPI.createShare(share.paraRequest());
+    }
+
+    private ShareRenderizado renderizarShare(Conteudo conteudo) {
+        String mediaCategory = "NONE";
+        String mediaUrl = null;
         if (!conteudo.getMidias().isEmpty()) {
-            String mediaUrl = conteudo.getMidias().get(0);
+            mediaUrl = conteudo.getMidias().get(0);
             if (mediaUrl.endsWith(".mp4") || mediaUrl.endsWith(".mov")) {
-                request.mediaCategory = "VIDEO";
+                mediaCategory = "VIDEO";
             } else {
-                request.mediaCategory = "IMAGE";
+                mediaCategory = "IMAGE";
             }
-            request.mediaUrl = mediaUrl;
-        } else {
-            request.mediaCategory = "NONE";
         }
-        
-        return linkedInAPI.createShare(request);
+        return new ShareRenderizado(formatarComentario(conteudo), mediaCategory, mediaUrl);
     }
 
-    private LinkedInAPI.LinkedInShare publicarArtigo(Conteudo conteudo) throws Exception {
-        LinkedInAPI.ArticleRequest request = new LinkedInAPI.ArticleRequest();
-        
+    private LinkedInAPI.LinkedInShare publicarArtigo(Conteudo conteudo) throws ApiException {
+        ArtigoRenderizado artigo = CACHE_ARTIGOS.obter(conteudo, PLATAFORMA, this::renderizarArtigo);
+        return linkedInAPI.createArticle(artigo.paraRequest());
+    }
+
+    private ArtigoRenderizado renderizarArtigo(Conteudo conteudo) {
         // Para artigos, o texto pode ser dividido em título e conteúdo
         String[] partes = conteudo.getTexto().split("\n", 2);
-        request.title = partes[0];
-        request.content = partes.length > 1 ? partes[1] : partes[0];
-        
-        if (!conteudo.getMidias().isEmpty()) {
-            request.thumbnailUrl = conteudo.getMidias().get(0);
-        }
-        
-        return linkedInAPI.createArticle(request);
+        String thumbnailUrl = conteudo.getMidias().isEmpty() ? null : conteudo.getMidias().get(0);
+        return new ArtigoRenderizado(partes[0], partes.length > 1 ? partes[1] : partes[0], thumbnailUrl);
     }
 
     private String formatarComentario(Conteudo conteudo) {
@@ -176,13 +272,56 @@ public class LinkedInAdapter implements RedeSocialService {
         return comentario.toString().trim();
     }
 
-    private Publicacao criarPublicacaoFalha(Conteudo conteudo, String mensagemErro) {
+    private Publicacao criarPublicacaoFalha(Conteudo conteudo, ErroPlataforma erro) {
         return new Publicacao.Builder()
                 .plataforma(PLATAFORMA)
                 .conteudo(conteudo)
                 .status(StatusPublicacao.FALHOU)
-                .mensagemErro(mensagemErro)
+                .mensagemErro(erro.getMensagem())
+                .categoriaErro(erro.getCategoria())
                 .build();
     }
-}
 
+    // Share e artigo já convertidos para o formato do LinkedInAPI; imutáveis, compartilhados pelo cache.
+    // Cada chamada recebe um request novo, porque os campos do request são públicos e mutáveis
+    private static final class ShareRenderizado {
+        private final String commentary;
+        private final String mediaCategory;
+        private final String mediaUrl;
+
+        private ShareRenderizado(String commentary, String mediaCategory, String mediaUrl) {
+            this.commentary = commentary;
+            this.mediaCategory = mediaCategory;
+            this.mediaUrl = mediaUrl;
+        }
+
+        private LinkedInAPI.ShareRequest paraRequest() {
+            LinkedInAPI.ShareRequest request = new LinkedInAPI.ShareRequest();
+            request.commentary = commentary;
+            request.visibility = "PUBLIC";
+            request.mediaCategory = mediaCategory;
+            request.mediaUrl = mediaUrl;
+            return request;
+        }
+    }
+
+    private static final class ArtigoRenderizado {
+        private final String title;
+        private final String content;
+        private final String thumbnailUrl;
+
+        private ArtigoRenderizado(String title, String content, String thumbnailUrl) {
+            this.title = title;
+            this.content = content;
+            this.thumbnailUrl = thumbnailUrl;
+        }
+
+        private LinkedInAPI.ArticleRequest paraRequest() {
+            LinkedInAPI.ArticleRequest request = new LinkedInAPI.ArticleRequest();
+            request.title = title;
+            request.content = content;
+            request.thumbnailUrl = thumbnailUrl;
+            return request;
+        }
+    }
+}
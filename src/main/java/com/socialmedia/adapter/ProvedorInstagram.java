@@ -0,0 +1,18 @@
+package com.socialmedia.adapter;
+
+import com.socialmedia.factory.ProvedorPlataforma;
+import com.socialmedia.service.RedeSocialService;
+
+// Registra o Instagram na RedeSocialFactory via ServiceLoader
+public final class ProvedorInstagram implements ProvedorPlataforma {
+
+    @Override
+    public String getNome() {
+        return "INSTAGRAM";
+    }
+
+    @Override
+    public RedeSocialService criar() {
+        return new InstagramAdapter();
+    }
+}
@@ -0,0 +1,18 @@
+package com.socialmedia.adapter;
+
+import com.socialmedia.factory.ProvedorPlataforma;
+import com.socialmedia.service.RedeSocialService;
+
+// Registra o LinkedIn na RedeSocialFactory via ServiceLoader
+public final class ProvedorLinkedIn implements ProvedorPlataforma {
+
+    @Override
+    public String getNome() {
+        return "LINKEDIN";
+    }
+
+    @Override
+    public RedeSocialService criar() {
+        return new LinkedInAdapter();
+    }
+}
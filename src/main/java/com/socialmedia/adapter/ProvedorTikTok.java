@@ -0,0 +1,18 @@
+package com.socialmedia.adapter;
+
+import com.socialmedia.factory.ProvedorPlataforma;
+import com.socialmedia.service.RedeSocialService;
+
+// Registra o TikTok na RedeSocialFactory via ServiceLoader
+public final class ProvedorTikTok implements ProvedorPlataforma {
+
+    @Override
+    public String getNome() {
+        return "TIKTOK";
+    }
+
+    @Override
+    public RedeSocialService criar() {
+        return new TikTokAdapter();
+    }
+}
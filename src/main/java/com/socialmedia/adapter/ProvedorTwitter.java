@@ -0,0 +1,18 @@
+package com.socialmedia.adapter;
+
+import com.socialmedia.factory.ProvedorPlataforma;
+import com.socialmedia.service.RedeSocialService;
+
+// Registra o Twitter na RedeSocialFactory via ServiceLoader
+public final class ProvedorTwitter implements ProvedorPlataforma {
+
+    @Override
+    public String getNome() {
+        return "TWITTER";
+    }
+
+    @Override
+    public RedeSocialService criar() {
+        return new TwitterAdapter();
+    }
+}
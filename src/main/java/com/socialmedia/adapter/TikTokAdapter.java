@@ -1,16 +1,29 @@
 package com.socialmedia.adapter;
 
+import com.socialmedia.api.ApiException;
+import com.socialmedia.api.ServidorUploads;
+import com.socialmedia.api.TokenAcesso;
 import com.socialmedia.api.tiktok.TikTokAPI;
+import com.socialmedia.cache.CacheRenderizacao;
 import com.socialmedia.exception.AutenticacaoException;
 import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.midia.DestinoUpload;
+import com.socialmedia.midia.SessaoUpload;
 import com.socialmedia.model.*;
+import com.socialmedia.resultado.ErroPlataforma;
+import com.socialmedia.resultado.Resultado;
+import com.socialmedia.service.AutenticacaoPorToken;
 import com.socialmedia.service.RedeSocialService;
 
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
 // Adapter para a API do TikTok
 // Converte a interface do TikTokAPI para a interface RedeSocialService
-public class TikTokAdapter implements RedeSocialService {
+public class TikTokAdapter implements RedeSocialService, DestinoUpload, AutenticacaoPorToken {
     private final TikTokAPI tiktokAPI;
     private static final String PLATAFORMA = "TikTok";
+    private static final CacheRenderizacao<VideoRenderizado> CACHE_RENDERIZACAO = new CacheRenderizacao<>();
 
     public TikTokAdapter() {
         this.tiktokAPI = new TikTokAPI();
@@ -18,72 +31,117 @@ public class TikTokAdapter implements RedeSocialService {
 
     @Override
     public void autenticar(String credenciais) throws AutenticacaoException {
+        emitirToken(credenciais);
+    }
+
+    @Override
+    public TokenAcesso emitirToken(String credenciais) throws AutenticacaoException {
         try {
             // Credenciais no formato: "appId:appSecret:authCode"
-            String[] partes = credenciais.split(":");
+            String[] partes = Credenciais.separar(credenciais, 4);
             if (partes.length != 3) {
                 throw new AutenticacaoException("Formato de credenciais inválido. Use: appId:appSecret:authCode");
             }
             
-            tiktokAPI.authenticate(partes[0], partes[1], partes[2]);
+            return tiktokAPI.authenticate(partes[0], partes[1], partes[2]);
         } catch (Exception e) {
             throw new AutenticacaoException("Erro ao autenticar no TikTok: " + e.getMessage(), e);
         }
     }
 
+    @Override
+    public void usarToken(TokenAcesso token) throws AutenticacaoException {
+        try {
+            tiktokAPI.useToken(token);
+        } catch (ApiException e) {
+            throw new AutenticacaoException("Erro ao autenticar no TikTok: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public Publicacao publicar(Conteudo conteudo) throws PublicacaoException {
+        Resultado<Publicacao> resultado = tentarPublicar(conteudo);
+        return resultado.isSucesso() ? resultado.getValor() : criarPublicacaoFalha(conteudo, resultado.getErro());
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarPublicar(Conteudo conteudo) {
+        long inicio = System.nanoTime();
+        ErroPlataforma erro = verificarConteudo(conteudo);
+        if (erro != null) {
+            return Resultado.falha(erro);
+        }
+
         try {
-            validarConteudo(conteudo);
+            VideoRenderizado renderizado = CACHE_RENDERIZACAO.obter(conteudo, PLATAFORMA, this::renderizarVideo);
+            TikTokAPI.TikTokVideo video = tiktokAPI.uploadVideo(renderizado.paraRequest());
             
-            TikTokAPI.VideoUploadRequest request = criarRequestVideo(conteudo);
-            TikTokAPI.TikTokVideo video = tiktokAPI.uploadVideo(request);
-            
-            return new Publicacao.Builder()
+            return Resultado.sucesso(new Publicacao.Builder()
                     .id(video.videoId)
                     .plataforma(PLATAFORMA)
                     .conteudo(conteudo)
                     .dataPublicacao(video.createTime)
                     .status(StatusPublicacao.PUBLICADO)
                     .urlPublicacao(video.shareUrl)
-                    .build();
-        } catch (Exception e) {
-            return criarPublicacaoFalha(conteudo, e.getMessage());
+                    .tempos(inicio, System.nanoTime())
+                    .build());
+        } catch (ApiException e) {
+            return Resultado.falha(ErroPlataforma.de(PLATAFORMA, e));
         }
     }
 
     @Override
     public Publicacao agendar(Conteudo conteudo) throws PublicacaoException {
-        validarConteudo(conteudo);
+        return tentarAgendar(conteudo).getValorOuLancar();
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarAgendar(Conteudo conteudo) {
+        long inicio = System.nanoTime();
+        ErroPlataforma erro = verificarConteudo(conteudo);
+        if (erro != null) {
+            return Resultado.falha(erro);
+        }
         
         if (conteudo.getDataAgendamento() == null) {
-            throw new PublicacaoException("Data de agendamento é obrigatória");
+            return Resultado.falha(ErroPlataforma.invalido(PLATAFORMA, "Data de agendamento é obrigatória"));
         }
         
         // TikTok permite agendamento através de ferramentas de criadores
-        return new Publicacao.Builder()
+        return Resultado.sucesso(new Publicacao.Builder()
                 .plataforma(PLATAFORMA)
                 .conteudo(conteudo)
                 .dataPublicacao(conteudo.getDataAgendamento())
                 .status(StatusPublicacao.AGENDADO)
-                .build();
+                .tempos(inicio, System.nanoTime())
+                .build());
     }
 
     @Override
     public boolean remover(String publicacaoId) throws PublicacaoException {
+        return tentarRemover(publicacaoId).getValorOuLancar();
+    }
+
+    @Override
+    public Resultado<Boolean> tentarRemover(String publicacaoId) {
         try {
-            return tiktokAPI.deleteVideo(publicacaoId);
-        } catch (Exception e) {
-            throw new PublicacaoException("Erro ao remover vídeo: " + e.getMessage(), e);
+            return Resultado.sucesso(tiktokAPI.deleteVideo(publicacaoId));
+        } catch (ApiException e) {
+            return Resultado.falha(ErroPlataforma.de(PLATAFORMA, "Erro ao remover vídeo: ", e));
         }
     }
 
     @Override
     public Estatisticas obterEstatisticas(String publicacaoId) throws PublicacaoException {
+        return tentarObterEstatisticas(publicacaoId).getValorOuLancar();
+    }
+
+    @Override
+    public Resultado<Estatisticas> tentarObterEstatisticas(String publicacaoId) {
         try {
             TikTokAPI.TikTokVideoInfo info = tiktokAPI.getVideoInfo(publicacaoId);
             
-            return new Estatisticas.Builder()
+            return Resultado.sucesso(new Estatisticas.Builder()
                     .publicacaoId(publicacaoId)
                     .plataforma(PLATAFORMA)
                     .visualizacoes(info.viewCount)
@@ -91,9 +149,9 @@ public class TikTokAdapter implements RedeSocialService {
                     .compartilhamentos(info.shareCount)
                     .comentarios(info.commentCount)
                     .taxaEngajamento(info.engagementRate)
-                    .build();
-        } catch (Exception e) {
-            throw new PublicacaoException("Erro ao obter info do vídeo: " + e.getMessage(), e);
+                    .build());
+        } catch (ApiException e) {
+            return Resultado.falha(ErroPlataforma.de(PLATAFORMA, "Erro ao obter info do vídeo: ", e));
         }
     }
 
@@ -107,44 +165,79 @@ public class TikTokAdapter implements RedeSocialService {
         return tiktokAPI.isAuthenticated();
     }
 
-    private void validarConteudo(Conteudo conteudo) throws PublicacaoException {
+    // Upload em partes (a URL retornada vai em Conteudo.midias)
+
+    @Override
+    public SessaoUpload iniciarUpload(long tamanho, int tamanhoParte) throws PublicacaoException {
+        try {
+            ServidorUploads.Upload upload = tiktokAPI.initVideoUpload(tamanho, tamanhoParte);
+            return new SessaoUpload(upload.id, upload.tamanho, upload.tamanhoParte);
+        } catch (ApiException e) {
+            throw ErroPlataforma.de(PLATAFORMA, e).comoExcecao();
+        }
+    }
+
+    @Override
+    public void enviarParte(SessaoUpload sessao, int indice, ByteBuffer dados) throws PublicacaoException {
+        try {
+            tiktokAPI.uploadVideoChunk(sessao.getUploadId(), indice, dados);
+        } catch (ApiException e) {
+            throw ErroPlataforma.de(PLATAFORMA, e).comoExcecao();
+        }
+    }
+
+    @Override
+    public BitSet partesRecebidas(SessaoUpload sessao) throws PublicacaoException {
+        try {
+            return tiktokAPI.getUploadedChunks(sessao.getUploadId());
+        } catch (ApiException e) {
+            throw ErroPlataforma.de(PLATAFORMA, e).comoExcecao();
+        }
+    }
+
+    @Override
+    public String concluirUpload(SessaoUpload sessao) throws PublicacaoException {
+        try {
+            return tiktokAPI.completeVideoUpload(sessao.getUploadId());
+        } catch (ApiException e) {
+            throw ErroPlataforma.de(PLATAFORMA, e).comoExcecao();
+        }
+    }
+
+    private ErroPlataforma verificarConteudo(Conteudo conteudo) {
         if (!isAutenticado()) {
-            throw new PublicacaoException("Não autenticado no TikTok");
+            return ErroPlataforma.autenticacao(PLATAFORMA, "Não autenticado no TikTok");
         }
         
         if (conteudo == null) {
-            throw new PublicacaoException("Conteúdo não pode ser nulo");
+            return ErroPlataforma.invalido(PLATAFORMA, "Conteúdo não pode ser nulo");
         }
         
         if (conteudo.getMidias().isEmpty()) {
-            throw new PublicacaoException("TikTok requer um vídeo");
+            return ErroPlataforma.invalido(PLATAFORMA, "TikTok requer um vídeo");
         }
         
         String videoUrl = conteudo.getMidias().get(0);
         if (!videoUrl.endsWith(".mp4") && !videoUrl.endsWith(".mov")) {
-            throw new PublicacaoException("TikTok aceita apenas vídeos (.mp4, .mov)");
+            return ErroPlataforma.invalido(PLATAFORMA, "TikTok aceita apenas vídeos (.mp4, .mov)");
         }
+        
+        return null;
     }
 
-    private TikTokAPI.VideoUploadRequest criarRequestVideo(Conteudo conteudo) {
-        TikTokAPI.VideoUploadRequest request = new TikTokAPI.VideoUploadRequest();
-        request.videoUrl = conteudo.getMidias().get(0);
-        request.caption = formatarCaption(conteudo);
-        request.privacyLevel = "PUBLIC_TO_EVERYONE";
-        
+    private VideoRenderizado renderizarVideo(Conteudo conteudo) {
         // Extrai hashtags
+        String[] hashtags = null;
         if (!conteudo.getHashtags().isEmpty()) {
-            request.hashtags = conteudo.getHashtags().stream()
+            hashtags = conteudo.getHashtags().stream()
                     .map(tag -> tag.replace("#", ""))
                     .toArray(String[]::new);
         }
-        
+
         // Cover image se disponível
-        if (conteudo.getMidias().size() > 1) {
-            request.coverImageUrl = conteudo.getMidias().get(1);
-        }
-        
-        return request;
+        String coverImageUrl = conteudo.getMidias().size() > 1 ? conteudo.getMidias().get(1) : null;
+
+        return new VideoRenderizado(conteudo.getMidias().get(0), formatarCaption(conteudo), coverImageUrl, hashtags);
     }
 
     private String formatarCaption(Conteudo conteudo) {
@@ -161,13 +254,39 @@ public class TikTokAdapter implements RedeSocialService {
         return caption.toString().trim();
     }
 
-    private Publicacao criarPublicacaoFalha(Conteudo conteudo, String mensagemErro) {
+    private Publicacao criarPublicacaoFalha(Conteudo conteudo, ErroPlataforma erro) {
         return new Publicacao.Builder()
                 .plataforma(PLATAFORMA)
                 .conteudo(conteudo)
                 .status(StatusPublicacao.FALHOU)
-                .mensagemErro(mensagemErro)
+                .mensagemErro(erro.getMensagem())
+                .categoriaErro(erro.getCategoria())
                 .build();
     }
-}
 
+    // Vídeo já convertido para o formato do TikTokAPI; imutável, compartilhado entre threads pelo cache
+    private static final class VideoRenderizado {
+        private final String videoUrl;
+        private final String caption;
+        private final String coverImageUrl;
+        private final String[] hashtags;
+
+        private VideoRenderizado(String videoUrl, String caption, String coverImageUrl, String[] hashtags) {
+            this.videoUrl = videoUrl;
+            this.caption = caption;
+            this.coverImageUrl = coverImageUrl;
+            this.hashtags = hashtags;
+        }
+
+        // Request novo a cada chamada: os campos do request são públicos e o vídeo guarda o array
+        private TikTokAPI.VideoUploadRequest paraRequest() {
+            TikTokAPI.VideoUploadRequest request = new TikTokAPI.VideoUploadRequest();
+            request.videoUrl = videoUrl;
+            request.caption = caption;
+            request.privacyLevel = "PUBLIC_TO_EVERYONE";
+            request.coverImageUrl = coverImageUrl;
+            request.hashtags = hashtags != null ? hashtags.clone() : null;
+            return request;
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package com.socialmedia.adapter;
 
+import com.socialmedia.api.ApiException;
+import com.socialmedia.api.TokenAcesso;
 import com.socialmedia.api.twitter.TwitterAPI;
+import com.socialmedia.cache.CacheRenderizacao;
 import com.socialmedia.exception.AutenticacaoException;
 import com.socialmedia.exception.PublicacaoException;
 import com.socialmedia.model.*;
+import com.socialmedia.resultado.ErroPlataforma;
+import com.socialmedia.resultado.Resultado;
+import com.socialmedia.service.AutenticacaoPorToken;
 import com.socialmedia.service.RedeSocialService;
 
 // Adapter para a API do Twitter
 // Converte a interface do TwitterAPI para a interface RedeSocialService
-public class TwitterAdapter implements RedeSocialService {
+public class TwitterAdapter implements RedeSocialService, AutenticacaoPorToken {
     private final TwitterAPI twitterAPI;
     private static final String PLATAFORMA = "Twitter";
+    private static final CacheRenderizacao<TweetRenderizado> CACHE_RENDERIZACAO = new CacheRenderizacao<>();
 
     public TwitterAdapter() {
         this.twitterAPI = new TwitterAPI();
@@ -18,74 +25,119 @@ public class TwitterAdapter implements RedeSocialService {
 
     @Override
     public void autenticar(String credenciais) throws AutenticacaoException {
+        emitirToken(credenciais);
+    }
+
+    @Override
+    public TokenAcesso emitirToken(String credenciais) throws AutenticacaoException {
         try {
             // Credenciais no formato: "apiKey:apiSecret"
-            String[] partes = credenciais.split(":");
+            String[] partes = Credenciais.separar(credenciais, 3);
             if (partes.length != 2) {
                 throw new AutenticacaoException("Formato de credenciais inválido. Use: apiKey:apiSecret");
             }
-            twitterAPI.authenticate(partes[0], partes[1]);
+            return twitterAPI.authenticate(partes[0], partes[1]);
         } catch (Exception e) {
             throw new AutenticacaoException("Erro ao autenticar no Twitter: " + e.getMessage(), e);
         }
     }
 
+    @Override
+    public void usarToken(TokenAcesso token) throws AutenticacaoException {
+        try {
+            twitterAPI.useToken(token);
+        } catch (ApiException e) {
+            throw new AutenticacaoException("Erro ao autenticar no Twitter: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public Publicacao publicar(Conteudo conteudo) throws PublicacaoException {
+        Resultado<Publicacao> resultado = tentarPublicar(conteudo);
+        return resultado.isSucesso() ? resultado.getValor() : criarPublicacaoFalha(conteudo, resultado.getErro());
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarPublicar(Conteudo conteudo) {
+        long inicio = System.nanoTime();
+        ErroPlataforma erro = verificarConteudo(conteudo);
+        if (erro != null) {
+            return Resultado.falha(erro);
+        }
+
         try {
-            validarConteudo(conteudo);
-            
-            String texto = formatarTexto(conteudo);
-            String[] mediaUrls = conteudo.getMidias().toArray(new String[0]);
+            TweetRenderizado tweet = CACHE_RENDERIZACAO.obter(conteudo, PLATAFORMA, this::renderizar);
             
-            TwitterAPI.TwitterPost post = twitterAPI.tweet(texto, mediaUrls);
+            // Cópia do array: o post guarda a referência e o renderizado é compartilhado entre threads
+            TwitterAPI.TwitterPost post = twitterAPI.tweet(tweet.texto, tweet.mediaUrls.clone());
             
-            return new Publicacao.Builder()
+            return Resultado.sucesso(new Publicacao.Builder()
                     .id(post.id)
                     .plataforma(PLATAFORMA)
                     .conteudo(conteudo)
                     .dataPublicacao(post.createdAt)
                     .status(StatusPublicacao.PUBLICADO)
                     .urlPublicacao("https://twitter.com/i/web/status/" + post.id)
-                    .build();
-        } catch (Exception e) {
-            return criarPublicacaoFalha(conteudo, e.getMessage());
+                    .tempos(inicio, System.nanoTime())
+                    .build());
+        } catch (ApiException e) {
+            return Resultado.falha(ErroPlataforma.de(PLATAFORMA, e));
         }
     }
 
     @Override
     public Publicacao agendar(Conteudo conteudo) throws PublicacaoException {
+        return tentarAgendar(conteudo).getValorOuLancar();
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarAgendar(Conteudo conteudo) {
         // Twitter API v2 suporta agendamento através de parâmetros específicos
         // Para simplificação, simulamos o agendamento
-        validarConteudo(conteudo);
+        long inicio = System.nanoTime();
+        ErroPlataforma erro = verificarConteudo(conteudo);
+        if (erro != null) {
+            return Resultado.falha(erro);
+        }
         
         if (conteudo.getDataAgendamento() == null) {
-            throw new PublicacaoException("Data de agendamento é obrigatória");
+            return Resultado.falha(ErroPlataforma.invalido(PLATAFORMA, "Data de agendamento é obrigatória"));
         }
         
-        return new Publicacao.Builder()
+        return Resultado.sucesso(new Publicacao.Builder()
                 .plataforma(PLATAFORMA)
                 .conteudo(conteudo)
                 .dataPublicacao(conteudo.getDataAgendamento())
                 .status(StatusPublicacao.AGENDADO)
-                .build();
+                .tempos(inicio, System.nanoTime())
+                .build());
     }
 
     @Override
     public boolean remover(String publicacaoId) throws PublicacaoException {
+        return tentarRemover(publicacaoId).getValorOuLancar();
+    }
+
+    @Override
+    public Resultado<Boolean> tentarRemover(String publicacaoId) {
         try {
-            return twitterAPI.deleteTweet(publicacaoId);
-        } catch (Exception e) {
-            throw new PublicacaoException("Erro ao remover tweet: " + e.getMessage(), e);
+            return Resultado.sucesso(twitterAPI.deleteTweet(publicacaoId));
+        } catch (ApiException e) {
+            return Resultado.falha(ErroPlataforma.de(PLATAFORMA, "Erro ao remover tweet: ", e));
         }
     }
 
     @Override
     public Estatisticas obterEstatisticas(String publicacaoId) throws PublicacaoException {
+        return tentarObterEstatisticas(publicacaoId).getValorOuLancar();
+    }
+
+    @Override
+    public Resultado<Estatisticas> tentarObterEstatisticas(String publicacaoId) {
         try {
             TwitterAPI.TwitterMetrics metrics = twitterAPI.getTweetMetrics(publicacaoId);
             
-            return new Estatisticas.Builder()
+            return Resultado.sucesso(new Estatisticas.Builder()
                     .publicacaoId(publicacaoId)
                     .plataforma(PLATAFORMA)
                     .visualizacoes(metrics.impressions)
@@ -93,9 +145,9 @@ public class TwitterAdapter implements RedeSocialService {
                     .compartilhamentos(metrics.retweets)
                     .comentarios(metrics.replies)
                     .taxaEngajamento(metrics.engagementRate)
-                    .build();
-        } catch (Exception e) {
-            throw new PublicacaoException("Erro ao obter estatísticas: " + e.getMessage(), e);
+                    .build());
+        } catch (ApiException e) {
+            return Resultado.falha(ErroPlataforma.de(PLATAFORMA, "Erro ao obter estatísticas: ", e));
         }
     }
 
@@ -109,14 +161,23 @@ public class TwitterAdapter implements RedeSocialService {
         return twitterAPI.isAuthenticated();
     }
 
-    private void validarConteudo(Conteudo conteudo) throws PublicacaoException {
+    private ErroPlataforma verificarConteudo(Conteudo conteudo) {
         if (!isAutenticado()) {
-            throw new PublicacaoException("Não autenticado no Twitter");
+            return ErroPlataforma.autenticacao(PLATAFORMA, "Não autenticado no Twitter");
         }
         
         if (conteudo == null) {
-            throw new PublicacaoException("Conteúdo não pode ser nulo");
+            return ErroPlataforma.invalido(PLATAFORMA, "Conteúdo não pode ser nulo");
         }
+        
+        return null;
+    }
+
+    private TweetRenderizado renderizar(Conteudo conteudo) {
+        return new TweetRenderizado(
+            formatarTexto(conteudo),
+            conteudo.getMidias().toArray(new String[0])
+        );
     }
 
     private String formatarTexto(Conteudo conteudo) {
@@ -133,13 +194,24 @@ public class TwitterAdapter implements RedeSocialService {
         return texto.toString().trim();
     }
 
-    private Publicacao criarPublicacaoFalha(Conteudo conteudo, String mensagemErro) {
+    private Publicacao criarPublicacaoFalha(Conteudo conteudo, ErroPlataforma erro) {
         return new Publicacao.Builder()
                 .plataforma(PLATAFORMA)
                 .conteudo(conteudo)
                 .status(StatusPublicacao.FALHOU)
-                .mensagemErro(mensagemErro)
+                .mensagemErro(erro.getMensagem())
+                .categoriaErro(erro.getCategoria())
                 .build();
     }
-}
 
+    // Texto e mídias já convertidos para o formato do TwitterAPI; imutável (o array nunca sai sem cópia)
+    private static final class TweetRenderizado {
+        private final String texto;
+        private final String[] mediaUrls;
+
+        private TweetRenderizado(String texto, String[] mediaUrls) {
+            this.texto = texto;
+            this.mediaUrls = mediaUrls;
+        }
+    }
+}
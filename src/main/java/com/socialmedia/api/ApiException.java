@@ -0,0 +1,20 @@
+package com.socialmedia.api;
+
+import com.socialmedia.resultado.CategoriaErro;
+
+/**
+ * Exceção lançada pelas APIs simuladas
+ * Não preenche stack trace: o custo fica baixo mesmo com altas taxas de falha
+ */
+public class ApiException extends Exception {
+    private final CategoriaErro categoria;
+
+    public ApiException(CategoriaErro categoria, String mensagem) {
+        super(mensagem, null, false, false);
+        this.categoria = categoria;
+    }
+
+    public CategoriaErro getCategoria() {
+        return categoria;
+    }
+}
@@ -0,0 +1,164 @@
+package com.socialmedia.api;
+
+import com.socialmedia.id.GeradorIds;
+import com.socialmedia.resultado.CategoriaErro;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+
+/**
+ * Lado "servidor" dos uploads em partes das APIs simuladas
+ * Cada parte é lida por inteiro (CRC32C), como um servidor real faria ao recebê-la, mas os bytes não
+ * são guardados: vídeos de vários GB passam sem ocupar memória. As sessões ficam até a conclusão, o
+ * que permite retomar um upload interrompido. Thread-safe: as partes de um upload chegam em paralelo
+ */
+public final class ServidorUploads {
+    private final String plataforma;
+    private final String prefixoId;
+    private final int menorParte;
+    private final int maiorParte;
+    private final long maiorArquivo;
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+    // Mídias concluídas: id -> assinatura (combinação dos CRC32C das partes)
+    private final Map<String, Long> midias = new ConcurrentHashMap<>();
+
+    /**
+     * @param menorParte tamanho mínimo das partes, exceto a última
+     * @param maiorParte tamanho máximo; igual ao mínimo quando a plataforma impõe o tamanho
+     */
+    public ServidorUploads(String plataforma, String prefixoId, int menorParte, int maiorParte, long maiorArquivo) {
+        if (menorParte <= 0 || maiorParte < menorParte) {
+            throw new IllegalArgumentException("Limites de parte inválidos: " + menorParte + ".." + maiorParte);
+        }
+        this.plataforma = plataforma;
+        this.prefixoId = prefixoId;
+        this.menorParte = menorParte;
+        this.maiorParte = maiorParte;
+        this.maiorArquivo = maiorArquivo;
+    }
+
+    // Abre uma sessão; o tamanho de parte pedido é ajustado aos limites da plataforma
+    public Upload iniciar(long tamanho, int tamanhoParteDesejado) throws ApiException {
+        if (tamanho <= 0) {
+            throw new ApiException(CategoriaErro.INVALIDO, plataforma + ": tamanho do arquivo deve ser positivo");
+        }
+        if (tamanho > maiorArquivo) {
+            throw new ApiException(CategoriaErro.INVALIDO, plataforma + ": arquivo excede o limite de "
+                + maiorArquivo + " bytes");
+        }
+        int tamanhoParte = Math.max(menorParte, Math.min(maiorParte, tamanhoParteDesejado));
+        if (tamanho <= tamanhoParte) {
+            tamanhoParte = (int) tamanho;
+        }
+        Upload upload = new Upload(GeradorIds.proximoIdTexto("up_"), tamanho, tamanhoParte);
+        uploads.put(upload.id, upload);
+        return upload;
+    }
+
+    public void receber(String uploadId, int indice, ByteBuffer dados) throws ApiException {
+        Upload upload = obter(uploadId);
+        if (indice < 0 || indice >= upload.totalPartes) {
+            throw new ApiException(CategoriaErro.INVALIDO, plataforma + ": parte fora do intervalo: " + indice);
+        }
+        long esperado = Math.min(upload.tamanhoParte, upload.tamanho - (long) indice * upload.tamanhoParte);
+        if (dados.remaining() != esperado) {
+            throw new ApiException(CategoriaErro.INVALIDO, plataforma + ": parte " + indice + " com "
+                + dados.remaining() + " bytes, esperado " + esperado);
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(dados);
+        synchronized (upload) {
+            upload.crcs[indice] = (int) crc.getValue();
+            upload.recebidas.set(indice);
+        }
+    }
+
+    // Para protocolos que endereçam as partes pelo deslocamento em bytes
+    public void receberNoDeslocamento(String uploadId, long deslocamento, ByteBuffer dados) throws ApiException {
+        Upload upload = obter(uploadId);
+        if (deslocamento < 0 || deslocamento % upload.tamanhoParte != 0) {
+            throw new ApiException(CategoriaErro.INVALIDO, plataforma + ": deslocamento fora do limite de parte: "
+                + deslocamento);
+        }
+        receber(uploadId, (int) Math.min(Integer.MAX_VALUE, deslocamento / upload.tamanhoParte), dados);
+    }
+
+    // Partes já recebidas; NAO_ENCONTRADO se a sessão não existe mais
+    public BitSet recebidas(String uploadId) throws ApiException {
+        Upload upload = obter(uploadId);
+        synchronized (upload) {
+            return (BitSet) upload.recebidas.clone();
+        }
+    }
+
+    // Fecha a sessão e retorna o id da mídia; falha se ainda faltam partes
+    public String concluir(String uploadId) throws ApiException {
+        Upload upload = obter(uploadId);
+        long assinatura;
+        synchronized (upload) {
+            int faltando = upload.totalPartes - upload.recebidas.cardinality();
+            if (faltando > 0) {
+                throw new ApiException(CategoriaErro.INVALIDO, plataforma + ": upload incompleto, faltam "
+                    + faltando + " partes");
+            }
+            assinatura = assinatura(upload.crcs);
+        }
+        if (!uploads.remove(uploadId, upload)) {
+            throw new ApiException(CategoriaErro.NAO_ENCONTRADO, plataforma + ": upload já concluído: " + uploadId);
+        }
+        String id = GeradorIds.proximoIdTexto(prefixoId);
+        midias.put(id, assinatura);
+        return id;
+    }
+
+    public boolean contemMidia(String midiaId) {
+        return midias.containsKey(midiaId);
+    }
+
+    /**
+     * Assinatura dos bytes recebidos para a mídia, para conferir a integridade de um upload
+     * (h = 31 * h + CRC32C de cada parte, em ordem); null se a mídia não existe
+     */
+    public Long getAssinatura(String midiaId) {
+        return midias.get(midiaId);
+    }
+
+    public static long assinatura(int[] crcsPartes) {
+        long h = 1;
+        for (int crc : crcsPartes) {
+            h = 31 * h + (crc & 0xFFFFFFFFL);
+        }
+        return h;
+    }
+
+    private Upload obter(String uploadId) throws ApiException {
+        Upload upload = uploadId != null ? uploads.get(uploadId) : null;
+        if (upload == null) {
+            throw new ApiException(CategoriaErro.NAO_ENCONTRADO, plataforma + ": upload não encontrado: " + uploadId);
+        }
+        return upload;
+    }
+
+    // Sessão de upload aberta no servidor
+    public static final class Upload {
+        public final String id;
+        public final long tamanho;
+        public final int tamanhoParte;
+        public final int totalPartes;
+        private final BitSet recebidas;
+        private final int[] crcs;
+
+        private Upload(String id, long tamanho, int tamanhoParte) {
+            this.id = id;
+            this.tamanho = tamanho;
+            this.tamanhoParte = tamanhoParte;
+            this.totalPartes = (int) ((tamanho + tamanhoParte - 1) / tamanhoParte);
+            this.recebidas = new BitSet(totalPartes);
+            this.crcs = new int[totalPartes];
+        }
+    }
+}
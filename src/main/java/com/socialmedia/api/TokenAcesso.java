@@ -0,0 +1,35 @@
+package com.socialmedia.api;
+
+/**
+ * Token de acesso emitido por uma API simulada ao autenticar
+ * Pode ser instalado em outras instâncias da mesma API, que passam a usar a sessão sem
+ * autenticar de novo. A expiração segue ValidadeSessao no momento da emissão
+ */
+public final class TokenAcesso {
+    private final String emissor;
+    private final long expiraEm;
+
+    private TokenAcesso(String emissor, long expiraEm) {
+        this.emissor = emissor;
+        this.expiraEm = expiraEm;
+    }
+
+    // Usado pelas APIs simuladas ao autenticar
+    public static TokenAcesso emitir(String emissor) {
+        return new TokenAcesso(emissor, ValidadeSessao.expiracao());
+    }
+
+    // API que emitiu o token; outras APIs o recusam
+    public String getEmissor() {
+        return emissor;
+    }
+
+    // Instante (System.nanoTime) da expiração, ou ValidadeSessao.SEM_EXPIRACAO
+    public long getExpiraEm() {
+        return expiraEm;
+    }
+
+    public boolean isExpirado() {
+        return ValidadeSessao.expirada(expiraEm);
+    }
+}
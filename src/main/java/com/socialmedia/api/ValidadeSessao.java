@@ -0,0 +1,37 @@
+package com.socialmedia.api;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validade das sessões nas APIs simuladas, para reproduzir tokens que expiram
+ * Padrão: sem expiração. Vale para as autenticações feitas depois da alteração
+ */
+public final class ValidadeSessao {
+    public static final long SEM_EXPIRACAO = Long.MAX_VALUE;
+
+    private static volatile long validadeNanos = SEM_EXPIRACAO;
+
+    private ValidadeSessao() {
+    }
+
+    public static void setValidade(long validade, TimeUnit unidade) {
+        if (validade <= 0) {
+            throw new IllegalArgumentException("Validade deve ser positiva");
+        }
+        validadeNanos = unidade.toNanos(validade);
+    }
+
+    public static void semExpiracao() {
+        validadeNanos = SEM_EXPIRACAO;
+    }
+
+    // Instante (System.nanoTime) em que uma sessão autenticada agora expira
+    public static long expiracao() {
+        long validade = validadeNanos;
+        return validade == SEM_EXPIRACAO ? SEM_EXPIRACAO : System.nanoTime() + validade;
+    }
+
+    public static boolean expirada(long expiracao) {
+        return expiracao != SEM_EXPIRACAO && System.nanoTime() - expiracao >= 0;
+    }
+}
@@ -1,44 +1,70 @@
 package com.socialmedia.api.instagram;
 
+import com.socialmedia.api.ApiException;
+import com.socialmedia.api.ServidorUploads;
+import com.socialmedia.api.TokenAcesso;
+import com.socialmedia.api.ValidadeSessao;
+import com.socialmedia.id.GeradorIds;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.tempo.RelogioAproximado;
+
 import java.time.LocalDateTime;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * API simulada do Instagram
  * Simula a Graph API do Instagram
  */
 public class InstagramAPI {
-    private boolean authenticated = false;
+    private static final String EMISSOR = "Instagram API";
+    // Voláteis: a sessão pode ser renovada por outra thread enquanto a API é usada
+    private volatile boolean authenticated = false;
+    private volatile long sessaoExpiraEm;
     private final Map<String, InstagramMedia> medias = new HashMap<>();
+    // Upload retomável: partes endereçadas pelo deslocamento, de 256 KB a 64 MB, arquivos de até 4 GB
+    private final ServidorUploads uploads = new ServidorUploads("Instagram API", "ig_", 256 << 10, 64 << 20, 4L << 30);
 
-    public void login(String accessToken) throws Exception {
+    public TokenAcesso login(String accessToken) throws ApiException {
         if (accessToken == null || accessToken.isEmpty()) {
-            throw new Exception("Instagram API: Access token inválido");
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "Instagram API: Access token inválido");
+        }
+        TokenAcesso token = TokenAcesso.emitir(EMISSOR);
+        this.sessaoExpiraEm = token.getExpiraEm();
+        this.authenticated = true;
+        return token;
+    }
+
+    // Usa a sessão de um token emitido por outra instância, sem autenticar de novo
+    public void useToken(TokenAcesso token) throws ApiException {
+        if (token == null || !EMISSOR.equals(token.getEmissor())) {
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "Instagram API: Token inválido");
         }
+        this.sessaoExpiraEm = token.getExpiraEm();
         this.authenticated = true;
     }
 
-    public InstagramMedia createMediaPost(MediaRequest request) throws Exception {
+    public InstagramMedia createMediaPost(MediaRequest request) throws ApiException {
         validarAutenticacao();
         
         if (request.caption != null && request.caption.length() > 2200) {
-            throw new Exception("Caption excede o limite de 2200 caracteres");
+            throw new ApiException(CategoriaErro.INVALIDO, "Caption excede o limite de 2200 caracteres");
         }
         
         if (request.mediaType == null) {
-            throw new Exception("Tipo de mídia é obrigatório");
+            throw new ApiException(CategoriaErro.INVALIDO, "Tipo de mídia é obrigatório");
         }
 
-        String mediaId = "ig_" + UUID.randomUUID().toString().substring(0, 8);
+        String mediaId = GeradorIds.proximoIdTexto("ig_");
         InstagramMedia media = new InstagramMedia();
         media.id = mediaId;
         media.caption = request.caption;
         media.mediaType = request.mediaType;
         media.mediaUrl = request.mediaUrl;
         media.permalink = "https://instagram.com/p/" + mediaId;
-        media.timestamp = LocalDateTime.now();
+        media.timestamp = RelogioAproximado.agora();
         media.likeCount = 0;
         media.commentCount = 0;
         
@@ -46,38 +72,38 @@ public class InstagramAPI {
         return media;
     }
 
-    public InstagramMedia createStory(String imageUrl, String videoUrl) throws Exception {
+    public InstagramMedia createStory(String imageUrl, String videoUrl) throws ApiException {
         validarAutenticacao();
         
-        String storyId = "ig_story_" + UUID.randomUUID().toString().substring(0, 8);
+        String storyId = GeradorIds.proximoIdTexto("ig_story_");
         InstagramMedia story = new InstagramMedia();
         story.id = storyId;
         story.mediaType = videoUrl != null ? "VIDEO" : "IMAGE";
         story.mediaUrl = videoUrl != null ? videoUrl : imageUrl;
-        story.timestamp = LocalDateTime.now();
+        story.timestamp = RelogioAproximado.agora();
         story.isStory = true;
         
         medias.put(storyId, story);
         return story;
     }
 
-    public boolean deleteMedia(String mediaId) throws Exception {
+    public boolean deleteMedia(String mediaId) throws ApiException {
         validarAutenticacao();
         
         if (!medias.containsKey(mediaId)) {
-            throw new Exception("Mídia não encontrada: " + mediaId);
+            throw new ApiException(CategoriaErro.NAO_ENCONTRADO, "Mídia não encontrada: " + mediaId);
         }
         
         medias.remove(mediaId);
         return true;
     }
 
-    public InstagramInsights getMediaInsights(String mediaId) throws Exception {
+    public InstagramInsights getMediaInsights(String mediaId) throws ApiException {
         validarAutenticacao();
         
         InstagramMedia media = medias.get(mediaId);
         if (media == null) {
-            throw new Exception("Mídia não encontrada: " + mediaId);
+            throw new ApiException(CategoriaErro.NAO_ENCONTRADO, "Mídia não encontrada: " + mediaId);
         }
 
         InstagramInsights insights = new InstagramInsights();
@@ -93,13 +119,37 @@ public class InstagramAPI {
         return insights;
     }
 
+    public ServidorUploads.Upload createUploadSession(long fileSize, int chunkSize) throws ApiException {
+        validarAutenticacao();
+        return uploads.iniciar(fileSize, chunkSize);
+    }
+
+    public void uploadChunk(String uploadId, long offset, ByteBuffer chunk) throws ApiException {
+        validarAutenticacao();
+        uploads.receberNoDeslocamento(uploadId, offset, chunk);
+    }
+
+    public BitSet getUploadStatus(String uploadId) throws ApiException {
+        validarAutenticacao();
+        return uploads.recebidas(uploadId);
+    }
+
+    // Retorna a URL da mídia enviada, para usar em MediaRequest
+    public String finishUpload(String uploadId) throws ApiException {
+        validarAutenticacao();
+        return "https://scontent.cdninstagram.com/" + uploads.concluir(uploadId);
+    }
+
     public boolean isAuthenticated() {
-        return authenticated;
+        return authenticated && !ValidadeSessao.expirada(sessaoExpiraEm);
     }
 
-    private void validarAutenticacao() throws Exception {
+    private void validarAutenticacao() throws ApiException {
         if (!authenticated) {
-            throw new Exception("Instagram API: Não autenticado");
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "Instagram API: Não autenticado");
+        }
+        if (ValidadeSessao.expirada(sessaoExpiraEm)) {
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "Instagram API: Sessão expirada");
         }
     }
 
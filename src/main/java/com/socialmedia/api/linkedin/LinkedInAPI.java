@@ -1,84 +1,110 @@
 package com.socialmedia.api.linkedin;
 
+import com.socialmedia.api.ApiException;
+import com.socialmedia.api.ServidorUploads;
+import com.socialmedia.api.TokenAcesso;
+import com.socialmedia.api.ValidadeSessao;
+import com.socialmedia.id.GeradorIds;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.tempo.RelogioAproximado;
+
 import java.time.LocalDateTime;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * API simulada do LinkedIn
  * Simula a API REST do LinkedIn
  */
 public class LinkedInAPI {
-    private boolean authenticated = false;
+    private static final String EMISSOR = "LinkedIn API";
+    // Voláteis: a sessão pode ser renovada por outra thread enquanto a API é usada
+    private volatile boolean authenticated = false;
+    private volatile long sessaoExpiraEm;
     private final Map<String, LinkedInShare> shares = new HashMap<>();
+    // Upload em partes de exatamente 4 MB (definido pelo servidor), arquivos de até 5 GB
+    private final ServidorUploads uploads = new ServidorUploads("LinkedIn API", "D4", 4 << 20, 4 << 20, 5L << 30);
 
-    public void authorize(String clientId, String clientSecret, String redirectUri) throws Exception {
+    public TokenAcesso authorize(String clientId, String clientSecret, String redirectUri) throws ApiException {
         if (clientId == null || clientSecret == null) {
-            throw new Exception("LinkedIn API: Credenciais OAuth inválidas");
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "LinkedIn API: Credenciais OAuth inválidas");
+        }
+        TokenAcesso token = TokenAcesso.emitir(EMISSOR);
+        this.sessaoExpiraEm = token.getExpiraEm();
+        this.authenticated = true;
+        return token;
+    }
+
+    // Usa a sessão de um token emitido por outra instância, sem autenticar de novo
+    public void useToken(TokenAcesso token) throws ApiException {
+        if (token == null || !EMISSOR.equals(token.getEmissor())) {
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "LinkedIn API: Token inválido");
         }
+        this.sessaoExpiraEm = token.getExpiraEm();
         this.authenticated = true;
     }
 
-    public LinkedInShare createShare(ShareRequest request) throws Exception {
+    public LinkedInShare createShare(ShareRequest request) throws ApiException {
         validarAutenticacao();
         
         if (request.commentary != null && request.commentary.length() > 3000) {
-            throw new Exception("Comentário excede o limite de 3000 caracteres");
+            throw new ApiException(CategoriaErro.INVALIDO, "Comentário excede o limite de 3000 caracteres");
         }
 
-        String shareId = "urn:li:share:" + UUID.randomUUID().toString().substring(0, 8);
+        String shareId = GeradorIds.proximoIdTexto("urn:li:share:");
         LinkedInShare share = new LinkedInShare();
         share.shareUrn = shareId;
         share.commentary = request.commentary;
         share.visibility = request.visibility != null ? request.visibility : "PUBLIC";
         share.mediaCategory = request.mediaCategory;
         share.mediaUrl = request.mediaUrl;
-        share.created = LocalDateTime.now();
+        share.created = RelogioAproximado.agora();
         share.lifecycleState = "PUBLISHED";
         
         shares.put(shareId, share);
         return share;
     }
 
-    public LinkedInShare createArticle(ArticleRequest request) throws Exception {
+    public LinkedInShare createArticle(ArticleRequest request) throws ApiException {
         validarAutenticacao();
         
         if (request.title == null || request.title.isEmpty()) {
-            throw new Exception("Título do artigo é obrigatório");
+            throw new ApiException(CategoriaErro.INVALIDO, "Título do artigo é obrigatório");
         }
 
-        String articleId = "urn:li:article:" + UUID.randomUUID().toString().substring(0, 8);
+        String articleId = GeradorIds.proximoIdTexto("urn:li:article:");
         LinkedInShare article = new LinkedInShare();
         article.shareUrn = articleId;
         article.commentary = request.title;
         article.articleTitle = request.title;
         article.articleContent = request.content;
         article.visibility = "PUBLIC";
-        article.created = LocalDateTime.now();
+        article.created = RelogioAproximado.agora();
         article.lifecycleState = "PUBLISHED";
         
         shares.put(articleId, article);
         return article;
     }
 
-    public boolean deleteShare(String shareUrn) throws Exception {
+    public boolean deleteShare(String shareUrn) throws ApiException {
         validarAutenticacao();
         
         if (!shares.containsKey(shareUrn)) {
-            throw new Exception("Share não encontrado: " + shareUrn);
+            throw new ApiException(CategoriaErro.NAO_ENCONTRADO, "Share não encontrado: " + shareUrn);
         }
         
         shares.remove(shareUrn);
         return true;
     }
 
-    public LinkedInAnalytics getShareStatistics(String shareUrn) throws Exception {
+    public LinkedInAnalytics getShareStatistics(String shareUrn) throws ApiException {
         validarAutenticacao();
         
         LinkedInShare share = shares.get(shareUrn);
         if (share == null) {
-            throw new Exception("Share não encontrado: " + shareUrn);
+            throw new ApiException(CategoriaErro.NAO_ENCONTRADO, "Share não encontrado: " + shareUrn);
         }
 
         LinkedInAnalytics analytics = new LinkedInAnalytics();
@@ -93,13 +119,38 @@ public class LinkedInAPI {
         return analytics;
     }
 
+    // O tamanho das partes é sempre 4 MB; use o retornado na sessão
+    public ServidorUploads.Upload initializeUpload(long fileSizeBytes) throws ApiException {
+        validarAutenticacao();
+        return uploads.iniciar(fileSizeBytes, 4 << 20);
+    }
+
+    public void uploadPart(String uploadId, int partIndex, ByteBuffer part) throws ApiException {
+        validarAutenticacao();
+        uploads.receber(uploadId, partIndex, part);
+    }
+
+    public BitSet getUploadStatus(String uploadId) throws ApiException {
+        validarAutenticacao();
+        return uploads.recebidas(uploadId);
+    }
+
+    // Retorna o URN do ativo enviado
+    public String finalizeUpload(String uploadId) throws ApiException {
+        validarAutenticacao();
+        return "urn:li:digitalmediaAsset:" + uploads.concluir(uploadId);
+    }
+
     public boolean isAuthenticated() {
-        return authenticated;
+        return authenticated && !ValidadeSessao.expirada(sessaoExpiraEm);
     }
 
-    private void validarAutenticacao() throws Exception {
+    private void validarAutenticacao() throws ApiException {
         if (!authenticated) {
-            throw new Exception("LinkedIn API: Não autenticado");
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "LinkedIn API: Não autenticado");
+        }
+        if (ValidadeSessao.expirada(sessaoExpiraEm)) {
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "LinkedIn API: Sessão expirada");
         }
     }
 
@@ -1,37 +1,63 @@
 package com.socialmedia.api.tiktok;
 
+import com.socialmedia.api.ApiException;
+import com.socialmedia.api.ServidorUploads;
+import com.socialmedia.api.TokenAcesso;
+import com.socialmedia.api.ValidadeSessao;
+import com.socialmedia.id.GeradorIds;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.tempo.RelogioAproximado;
+
 import java.time.LocalDateTime;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * API simulada do TikTok
  * Simula a TikTok for Developers API
  */
 public class TikTokAPI {
-    private boolean authenticated = false;
+    private static final String EMISSOR = "TikTok API";
+    // Voláteis: a sessão pode ser renovada por outra thread enquanto a API é usada
+    private volatile boolean authenticated = false;
+    private volatile long sessaoExpiraEm;
     private final Map<String, TikTokVideo> videos = new HashMap<>();
+    // Upload em partes: de 5 a 64 MB por parte, vídeos de até 4 GB
+    private final ServidorUploads uploads = new ServidorUploads("TikTok API", "v_", 5 << 20, 64 << 20, 4L << 30);
 
-    public void authenticate(String appId, String appSecret, String code) throws Exception {
+    public TokenAcesso authenticate(String appId, String appSecret, String code) throws ApiException {
         if (appId == null || appSecret == null) {
-            throw new Exception("TikTok API: Credenciais inválidas");
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "TikTok API: Credenciais inválidas");
+        }
+        TokenAcesso token = TokenAcesso.emitir(EMISSOR);
+        this.sessaoExpiraEm = token.getExpiraEm();
+        this.authenticated = true;
+        return token;
+    }
+
+    // Usa a sessão de um token emitido por outra instância, sem autenticar de novo
+    public void useToken(TokenAcesso token) throws ApiException {
+        if (token == null || !EMISSOR.equals(token.getEmissor())) {
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "TikTok API: Token inválido");
         }
+        this.sessaoExpiraEm = token.getExpiraEm();
         this.authenticated = true;
     }
 
-    public TikTokVideo uploadVideo(VideoUploadRequest request) throws Exception {
+    public TikTokVideo uploadVideo(VideoUploadRequest request) throws ApiException {
         validarAutenticacao();
         
         if (request.videoUrl == null || request.videoUrl.isEmpty()) {
-            throw new Exception("URL do vídeo é obrigatória");
+            throw new ApiException(CategoriaErro.INVALIDO, "URL do vídeo é obrigatória");
         }
         
         if (request.caption != null && request.caption.length() > 2200) {
-            throw new Exception("Caption excede o limite de 2200 caracteres");
+            throw new ApiException(CategoriaErro.INVALIDO, "Caption excede o limite de 2200 caracteres");
         }
 
-        String videoId = "tk_" + UUID.randomUUID().toString().substring(0, 8);
+        String videoId = GeradorIds.proximoIdTexto("tk_");
         TikTokVideo video = new TikTokVideo();
         video.videoId = videoId;
         video.caption = request.caption;
@@ -39,30 +65,30 @@ public class TikTokAPI {
         video.coverImageUrl = request.coverImageUrl;
         video.hashtags = request.hashtags;
         video.privacyLevel = request.privacyLevel != null ? request.privacyLevel : "PUBLIC_TO_EVERYONE";
-        video.createTime = LocalDateTime.now();
+        video.createTime = RelogioAproximado.agora();
         video.shareUrl = "https://tiktok.com/@user/video/" + videoId;
         
         videos.put(videoId, video);
         return video;
     }
 
-    public boolean deleteVideo(String videoId) throws Exception {
+    public boolean deleteVideo(String videoId) throws ApiException {
         validarAutenticacao();
         
         if (!videos.containsKey(videoId)) {
-            throw new Exception("Vídeo não encontrado: " + videoId);
+            throw new ApiException(CategoriaErro.NAO_ENCONTRADO, "Vídeo não encontrado: " + videoId);
         }
         
         videos.remove(videoId);
         return true;
     }
 
-    public TikTokVideoInfo getVideoInfo(String videoId) throws Exception {
+    public TikTokVideoInfo getVideoInfo(String videoId) throws ApiException {
         validarAutenticacao();
         
         TikTokVideo video = videos.get(videoId);
         if (video == null) {
-            throw new Exception("Vídeo não encontrado: " + videoId);
+            throw new ApiException(CategoriaErro.NAO_ENCONTRADO, "Vídeo não encontrado: " + videoId);
         }
 
         TikTokVideoInfo info = new TikTokVideoInfo();
@@ -77,13 +103,37 @@ public class TikTokAPI {
         return info;
     }
 
+    public ServidorUploads.Upload initVideoUpload(long videoSize, int chunkSize) throws ApiException {
+        validarAutenticacao();
+        return uploads.iniciar(videoSize, chunkSize);
+    }
+
+    public void uploadVideoChunk(String uploadId, int chunkIndex, ByteBuffer chunk) throws ApiException {
+        validarAutenticacao();
+        uploads.receber(uploadId, chunkIndex, chunk);
+    }
+
+    public BitSet getUploadedChunks(String uploadId) throws ApiException {
+        validarAutenticacao();
+        return uploads.recebidas(uploadId);
+    }
+
+    // Retorna a URL do vídeo enviado, para usar em VideoUploadRequest.videoUrl
+    public String completeVideoUpload(String uploadId) throws ApiException {
+        validarAutenticacao();
+        return "https://v16.tiktokcdn.com/" + uploads.concluir(uploadId) + ".mp4";
+    }
+
     public boolean isAuthenticated() {
-        return authenticated;
+        return authenticated && !ValidadeSessao.expirada(sessaoExpiraEm);
     }
 
-    private void validarAutenticacao() throws Exception {
+    private void validarAutenticacao() throws ApiException {
         if (!authenticated) {
-            throw new Exception("TikTok API: Não autenticado");
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "TikTok API: Não autenticado");
+        }
+        if (ValidadeSessao.expirada(sessaoExpiraEm)) {
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "TikTok API: Sessão expirada");
         }
     }
 
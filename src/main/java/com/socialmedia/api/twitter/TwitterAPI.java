@@ -1,39 +1,62 @@
 package com.socialmedia.api.twitter;
 
+import com.socialmedia.api.ApiException;
+import com.socialmedia.api.TokenAcesso;
+import com.socialmedia.api.ValidadeSessao;
+import com.socialmedia.id.GeradorIds;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.tempo.RelogioAproximado;
+import com.socialmedia.validacao.ContadorCaracteres;
+
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * API simulada do Twitter (X)
  * Simula a API real com suas características específicas
  */
 public class TwitterAPI {
+    private static final String EMISSOR = "Twitter API";
     private static final int MAX_CARACTERES = 280;
-    private boolean authenticated = false;
+    // Voláteis: a sessão pode ser renovada por outra thread enquanto a API é usada
+    private volatile boolean authenticated = false;
+    private volatile long sessaoExpiraEm;
     private final Map<String, TwitterPost> posts = new HashMap<>();
 
-    public void authenticate(String apiKey, String apiSecret) throws Exception {
+    public TokenAcesso authenticate(String apiKey, String apiSecret) throws ApiException {
         if (apiKey == null || apiKey.isEmpty() || apiSecret == null || apiSecret.isEmpty()) {
-            throw new Exception("Twitter API: Credenciais inválidas");
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "Twitter API: Credenciais inválidas");
+        }
+        TokenAcesso token = TokenAcesso.emitir(EMISSOR);
+        this.sessaoExpiraEm = token.getExpiraEm();
+        this.authenticated = true;
+        return token;
+    }
+
+    // Usa a sessão de um token emitido por outra instância, sem autenticar de novo
+    public void useToken(TokenAcesso token) throws ApiException {
+        if (token == null || !EMISSOR.equals(token.getEmissor())) {
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "Twitter API: Token inválido");
         }
+        this.sessaoExpiraEm = token.getExpiraEm();
         this.authenticated = true;
     }
 
-    public TwitterPost tweet(String text, String[] mediaUrls) throws Exception {
+    public TwitterPost tweet(String text, String[] mediaUrls) throws ApiException {
         validarAutenticacao();
         
-        if (text.length() > MAX_CARACTERES) {
-            throw new Exception("Tweet excede o limite de " + MAX_CARACTERES + " caracteres");
+        // O Twitter conta caracteres ponderados (CJK/emoji valem 2, URLs valem 23)
+        if (ContadorCaracteres.contarPonderadoTwitter(text, 0, text.length()) > MAX_CARACTERES) {
+            throw new ApiException(CategoriaErro.INVALIDO, "Tweet excede o limite de " + MAX_CARACTERES + " caracteres");
         }
 
-        String tweetId = "tw_" + UUID.randomUUID().toString().substring(0, 8);
+        String tweetId = GeradorIds.proximoIdTexto("tw_");
         TwitterPost post = new TwitterPost();
         post.id = tweetId;
         post.text = text;
         post.mediaUrls = mediaUrls;
-        post.createdAt = LocalDateTime.now();
+        post.createdAt = RelogioAproximado.agora();
         post.likes = 0;
         post.retweets = 0;
         post.replies = 0;
@@ -42,23 +65,23 @@ public class TwitterAPI {
         return post;
     }
 
-    public boolean deleteTweet(String tweetId) throws Exception {
+    public boolean deleteTweet(String tweetId) throws ApiException {
         validarAutenticacao();
         
         if (!posts.containsKey(tweetId)) {
-            throw new Exception("Tweet não encontrado: " + tweetId);
+            throw new ApiException(CategoriaErro.NAO_ENCONTRADO, "Tweet não encontrado: " + tweetId);
         }
         
         posts.remove(tweetId);
         return true;
     }
 
-    public TwitterMetrics getTweetMetrics(String tweetId) throws Exception {
+    public TwitterMetrics getTweetMetrics(String tweetId) throws ApiException {
         validarAutenticacao();
         
         TwitterPost post = posts.get(tweetId);
         if (post == null) {
-            throw new Exception("Tweet não encontrado: " + tweetId);
+            throw new ApiException(CategoriaErro.NAO_ENCONTRADO, "Tweet não encontrado: " + tweetId);
         }
 
         TwitterMetrics metrics = new TwitterMetrics();
@@ -73,12 +96,15 @@ public class TwitterAPI {
     }
 
     public boolean isAuthenticated() {
-        return authenticated;
+        return authenticated && !ValidadeSessao.expirada(sessaoExpiraEm);
     }
 
-    private void validarAutenticacao() throws Exception {
+    private void validarAutenticacao() throws ApiException {
         if (!authenticated) {
-            throw new Exception("Twitter API: Não autenticado");
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "Twitter API: Não autenticado");
+        }
+        if (ValidadeSessao.expirada(sessaoExpiraEm)) {
+            throw new ApiException(CategoriaErro.AUTENTICACAO, "Twitter API: Sessão expirada");
         }
     }
 
@@ -0,0 +1,161 @@
+package com.socialmedia.busca;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consulta booleana ao índice de conteúdo
+ * Documentos retornados contêm todos os termos de 'todos' e todas as frases,
+ * ao menos um termo de 'algum' (se informado) e nenhum termo de 'nenhum'
+ * Termos iniciados por '#' casam apenas com hashtags
+ */
+public class ConsultaTexto {
+    public static final int LIMITE_PADRAO = 100;
+
+    private final List<String> todos;
+    private final List<String> algum;
+    private final List<String> nenhum;
+    private final List<List<String>> frases;
+    private final String plataforma;
+    private final LocalDateTime desde;
+    private final LocalDateTime ate;
+    private final int cursor;
+    private final int limite;
+
+    private ConsultaTexto(Builder builder) {
+        this.todos = List.copyOf(builder.todos);
+        this.algum = List.copyOf(builder.algum);
+        this.nenhum = List.copyOf(builder.nenhum);
+        this.frases = List.copyOf(builder.frases);
+        this.plataforma = builder.plataforma;
+        this.desde = builder.desde;
+        this.ate = builder.ate;
+        this.cursor = builder.cursor;
+        this.limite = builder.limite;
+    }
+
+    public List<String> getTodos() {
+        return todos;
+    }
+
+    public List<String> getAlgum() {
+        return algum;
+    }
+
+    public List<String> getNenhum() {
+        return nenhum;
+    }
+
+    public List<List<String>> getFrases() {
+        return frases;
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    public LocalDateTime getDesde() {
+        return desde;
+    }
+
+    public LocalDateTime getAte() {
+        return ate;
+    }
+
+    public int getCursor() {
+        return cursor;
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public static class Builder {
+        private final List<String> todos = new ArrayList<>();
+        private final List<String> algum = new ArrayList<>();
+        private final List<String> nenhum = new ArrayList<>();
+        private final List<List<String>> frases = new ArrayList<>();
+        private String plataforma;
+        private LocalDateTime desde;
+        private LocalDateTime ate;
+        private int cursor = -1;
+        private int limite = LIMITE_PADRAO;
+
+        // E: todos os termos devem aparecer
+        public Builder todos(String... termos) {
+            adicionarTermos(todos, termos);
+            return this;
+        }
+
+        // OU: ao menos um dos termos deve aparecer
+        public Builder algum(String... termos) {
+            adicionarTermos(algum, termos);
+            return this;
+        }
+
+        // NÃO: nenhum dos termos pode aparecer
+        public Builder nenhum(String... termos) {
+            adicionarTermos(nenhum, termos);
+            return this;
+        }
+
+        // Termos consecutivos, na ordem informada
+        public Builder frase(String frase) {
+            List<String> termos = Tokenizador.termos(frase);
+            if (termos.size() == 1) {
+                todos.add(termos.get(0));
+            } else if (!termos.isEmpty()) {
+                frases.add(List.copyOf(termos));
+            }
+            return this;
+        }
+
+        public Builder plataforma(String plataforma) {
+            this.plataforma = plataforma;
+            return this;
+        }
+
+        // Início do intervalo (inclusivo)
+        public Builder desde(LocalDateTime desde) {
+            this.desde = desde;
+            return this;
+        }
+
+        // Fim do intervalo (exclusivo)
+        public Builder ate(LocalDateTime ate) {
+            this.ate = ate;
+            return this;
+        }
+
+        // Cursor retornado pela página anterior (PaginaBusca.getProximoCursor)
+        public Builder cursor(int cursor) {
+            this.cursor = cursor;
+            return this;
+        }
+
+        public Builder limite(int limite) {
+            this.limite = limite;
+            return this;
+        }
+
+        public ConsultaTexto build() {
+            if (todos.isEmpty() && algum.isEmpty() && frases.isEmpty()) {
+                throw new IllegalArgumentException("Consulta precisa de ao menos um termo ou frase");
+            }
+            if (limite <= 0) {
+                throw new IllegalArgumentException("Limite deve ser positivo");
+            }
+            if (desde != null && ate != null && ate.isBefore(desde)) {
+                throw new IllegalArgumentException("Fim do intervalo não pode ser anterior ao início");
+            }
+            return new ConsultaTexto(this);
+        }
+
+        private static void adicionarTermos(List<String> destino, String... termos) {
+            for (String termo : termos) {
+                destino.addAll(Tokenizador.termos(termo));
+            }
+        }
+    }
+}
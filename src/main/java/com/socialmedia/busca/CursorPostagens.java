@@ -0,0 +1,103 @@
+package com.socialmedia.busca;
+
+import com.socialmedia.util.ListaInts;
+
+/**
+ * Leitura sequencial de uma ListaPostagens, com avanço por pontos de salto
+ */
+final class CursorPostagens {
+    static final int FIM = Integer.MAX_VALUE;
+
+    private final ListaPostagens lista;
+    private final byte[] dados;
+    private final int tamanho;
+    private int offset;
+    private int doc = -1;
+    private int frequencia;
+    private int offsetPosicoes;
+    private boolean posicoesPendentes;
+
+    CursorPostagens(ListaPostagens lista) {
+        this.lista = lista;
+        this.dados = lista.dados();
+        this.tamanho = lista.tamanho();
+    }
+
+    int doc() {
+        return doc;
+    }
+
+    /**
+     * Avança para o próximo documento; retorna FIM ao esgotar a lista
+     */
+    int proximo() {
+        if (posicoesPendentes) {
+            pularPosicoes();
+        }
+        if (offset >= tamanho) {
+            doc = FIM;
+            return doc;
+        }
+        doc += ler();
+        frequencia = ler();
+        offsetPosicoes = offset;
+        posicoesPendentes = true;
+        return doc;
+    }
+
+    /**
+     * Avança até o primeiro documento >= alvo; retorna FIM se não houver
+     */
+    int avancar(int alvo) {
+        if (doc >= alvo) {
+            return doc;
+        }
+        int salto = lista.saltoAntes(alvo);
+        if (salto >= 0 && lista.offsetDoSalto(salto) > offset) {
+            offset = lista.offsetDoSalto(salto);
+            doc = lista.docDoSalto(salto);
+            posicoesPendentes = false;
+        }
+        while (doc < alvo) {
+            proximo();
+        }
+        return doc;
+    }
+
+    /**
+     * Posições do termo no documento atual
+     */
+    ListaInts posicoes() {
+        ListaInts posicoes = new ListaInts(frequencia);
+        offset = offsetPosicoes;
+        int posicao = 0;
+        for (int i = 0; i < frequencia; i++) {
+            posicao += ler();
+            posicoes.adicionar(posicao);
+        }
+        posicoesPendentes = false;
+        return posicoes;
+    }
+
+    private void pularPosicoes() {
+        offset = offsetPosicoes;
+        for (int i = 0; i < frequencia; i++) {
+            while ((dados[offset++] & 0x80) != 0) {
+                // continua até o último byte do varint
+            }
+        }
+        posicoesPendentes = false;
+    }
+
+    private int ler() {
+        int valor = 0;
+        int deslocamento = 0;
+        byte b;
+        do {
+            b = dados[offset++];
+            valor |= (b & 0x7F) << deslocamento;
+            deslocamento += 7;
+        } while ((b & 0x80) != 0);
+        return valor;
+    }
+}
@@ -0,0 +1,382 @@
+package com.socialmedia.busca;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.service.OuvintePublicacao;
+import com.socialmedia.util.ListaInts;
+import com.socialmedia.util.ListaLongs;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido sobre o texto e as hashtags das publicações
+ * Cada publicação PUBLICADO vira um documento (docId crescente) e cada termo aponta para
+ * uma lista de postagens comprimida com posições, o que permite consultas booleanas e por frase
+ *
+ * Registrado como OuvintePublicacao no GerenciadorMidiaSocial, indexa as publicações
+ * conforme são feitas; remoções marcam o documento como removido e são descartadas
+ * das listas em compactar()
+ */
+public class IndiceConteudo implements OuvintePublicacao {
+    private static final long SEM_DATA = Long.MIN_VALUE;
+
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+    private final Map<String, ListaPostagens> postagens = new HashMap<>();
+
+    // Metadados por docId
+    private final List<String> publicacaoIds = new ArrayList<>();
+    private final ListaInts plataformas = new ListaInts(1024);
+    private final ListaLongs tempos = new ListaLongs(1024);
+    private final BitSet removidos = new BitSet();
+    private int totalRemovidos;
+
+    private final Map<String, Integer> documentoPorId = new HashMap<>();
+    private final Map<String, Integer> codigosPlataforma = new HashMap<>();
+    private final List<String> nomesPlataforma = new ArrayList<>();
+
+    @Override
+    public void aoProcessar(Publicacao publicacao) {
+        if (publicacao.getStatus() == StatusPublicacao.PUBLICADO) {
+            indexar(publicacao);
+        }
+    }
+
+    @Override
+    public void aoRemover(String plataforma, String publicacaoId) {
+        remover(publicacaoId);
+    }
+
+    /**
+     * Indexa o texto e as hashtags da publicação e retorna o docId
+     * Reindexar o mesmo ID substitui o documento anterior
+     */
+    public int indexar(Publicacao publicacao) {
+        Map<String, ListaInts> posicoesPorTermo = new HashMap<>();
+        Tokenizador.ConsumidorTermo consumidor = (termo, posicao) ->
+            posicoesPorTermo.computeIfAbsent(termo, t -> new ListaInts(2)).adicionar(posicao);
+
+        Conteudo conteudo = publicacao.getConteudo();
+        int posicao = Tokenizador.tokenizar(conteudo.getTexto(), 0, consumidor);
+        // Lacuna entre texto e hashtags: uma frase não atravessa os dois
+        posicao++;
+        for (String hashtag : conteudo.getHashtags()) {
+            posicao = Tokenizador.tokenizarHashtag(hashtag, posicao, consumidor);
+        }
+
+        LocalDateTime data = publicacao.getDataPublicacao();
+        trava.writeLock().lock();
+        try {
+            Integer anterior = documentoPorId.get(publicacao.getId());
+            if (anterior != null) {
+                marcarRemovido(anterior);
+            }
+
+            int doc = publicacaoIds.size();
+            publicacaoIds.add(publicacao.getId());
+            plataformas.adicionar(codigoPlataforma(publicacao.getPlataforma()));
+            tempos.adicionar(data != null ? paraMillis(data) : SEM_DATA);
+            for (Map.Entry<String, ListaInts> entrada : posicoesPorTermo.entrySet()) {
+                postagens.computeIfAbsent(entrada.getKey(), termo -> new ListaPostagens())
+                    .adicionar(doc, entrada.getValue());
+            }
+            if (publicacao.getId() != null) {
+                documentoPorId.put(publicacao.getId(), doc);
+            }
+            return doc;
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marca a publicação como removida; retorna false se o ID não está indexado
+     */
+    public boolean remover(String publicacaoId) {
+        trava.writeLock().lock();
+        try {
+            Integer doc = documentoPorId.remove(publicacaoId);
+            if (doc == null) {
+                return false;
+            }
+            marcarRemovido(doc);
+            return true;
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reescreve as listas de postagens sem os documentos removidos
+     * Os docIds são mantidos, então cursores de paginação continuam válidos
+     */
+    public void compactar() {
+        trava.writeLock().lock();
+        try {
+            List<String> vazios = new ArrayList<>();
+            for (Map.Entry<String, ListaPostagens> entrada : postagens.entrySet()) {
+                CursorPostagens cursor = new CursorPostagens(entrada.getValue());
+                ListaPostagens compactada = new ListaPostagens();
+                for (int doc = cursor.proximo(); doc != CursorPostagens.FIM; doc = cursor.proximo()) {
+                    if (!removidos.get(doc)) {
+                        compactada.adicionar(doc, cursor.posicoes());
+                    }
+                }
+                if (compactada.getDocumentos() == 0) {
+                    vazios.add(entrada.getKey());
+                } else {
+                    entrada.setValue(compactada);
+                }
+            }
+            for (String termo : vazios) {
+                postagens.remove(termo);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Executa a consulta em ordem de indexação, a partir do cursor
+     * O termo obrigatório mais raro conduz a interseção; os demais avançam por salto
+     */
+    public PaginaBusca buscar(ConsultaTexto consulta) {
+        trava.readLock().lock();
+        try {
+            return executar(consulta);
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documentos ativos (indexados e não removidos)
+     */
+    public int getDocumentos() {
+        trava.readLock().lock();
+        try {
+            return publicacaoIds.size() - totalRemovidos;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    public int getTermos() {
+        trava.readLock().lock();
+        try {
+            return postagens.size();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tamanho total das listas de postagens comprimidas
+     */
+    public long getTamanhoPostagensBytes() {
+        trava.readLock().lock();
+        try {
+            long total = 0;
+            for (ListaPostagens lista : postagens.values()) {
+                total += lista.getTamanhoBytes();
+            }
+            return total;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    // Métodos privados auxiliares
+
+    private PaginaBusca executar(ConsultaTexto consulta) {
+        int plataforma = -1;
+        if (consulta.getPlataforma() != null) {
+            Integer codigo = codigosPlataforma.get(consulta.getPlataforma().toUpperCase());
+            if (codigo == null) {
+                return new PaginaBusca(List.of(), PaginaBusca.SEM_PROXIMA);
+            }
+            plataforma = codigo;
+        }
+        boolean filtraTempo = consulta.getDesde() != null || consulta.getAte() != null;
+        long desde = consulta.getDesde() != null ? paraMillis(consulta.getDesde()) : Long.MIN_VALUE + 1;
+        long ate = consulta.getAte() != null ? paraMillis(consulta.getAte()) : Long.MAX_VALUE;
+
+        // Termos obrigatórios: 'todos' e os termos das frases, cada um com um único cursor
+        Set<String> termosObrigatorios = new LinkedHashSet<>(consulta.getTodos());
+        for (List<String> frase : consulta.getFrases()) {
+            termosObrigatorios.addAll(frase);
+        }
+        List<String> ordenados = new ArrayList<>(termosObrigatorios);
+        for (String termo : ordenados) {
+            if (!postagens.containsKey(termo)) {
+                return new PaginaBusca(List.of(), PaginaBusca.SEM_PROXIMA);
+            }
+        }
+        ordenados.sort(Comparator.comparingInt(termo -> postagens.get(termo).getDocumentos()));
+        Map<String, CursorPostagens> cursorPorTermo = new HashMap<>();
+        List<CursorPostagens> obrigatorios = new ArrayList<>(ordenados.size());
+        for (String termo : ordenados) {
+            CursorPostagens cursor = new CursorPostagens(postagens.get(termo));
+            cursorPorTermo.put(termo, cursor);
+            obrigatorios.add(cursor);
+        }
+
+        List<CursorPostagens> opcionais = cursores(consulta.getAlgum());
+        if (!consulta.getAlgum().isEmpty() && opcionais.isEmpty()) {
+            return new PaginaBusca(List.of(), PaginaBusca.SEM_PROXIMA);
+        }
+        List<CursorPostagens> proibidos = cursores(consulta.getNenhum());
+
+        List<ResultadoBusca> resultados = new ArrayList<>(Math.min(consulta.getLimite(), 64));
+        int doc = Math.max(0, consulta.getCursor() + 1);
+        while (true) {
+            doc = obrigatorios.isEmpty() ? proximoDeAlgum(opcionais, doc) : proximoDeTodos(obrigatorios, doc);
+            if (doc == CursorPostagens.FIM) {
+                return new PaginaBusca(resultados, PaginaBusca.SEM_PROXIMA);
+            }
+            if (aceita(doc, plataforma, filtraTempo, desde, ate)
+                    && (obrigatorios.isEmpty() || opcionais.isEmpty() || contemAlgum(opcionais, doc))
+                    && !contemAlgum(proibidos, doc)
+                    && contemFrases(consulta.getFrases(), cursorPorTermo)) {
+                if (resultados.size() == consulta.getLimite()) {
+                    return new PaginaBusca(resultados, resultados.get(resultados.size() - 1).getDocumento());
+                }
+                resultados.add(new ResultadoBusca(doc, publicacaoIds.get(doc),
+                    nomesPlataforma.get(plataformas.get(doc)), dataDe(doc)));
+            }
+            doc++;
+        }
+    }
+
+    private List<CursorPostagens> cursores(List<String> termos) {
+        List<CursorPostagens> cursores = new ArrayList<>(termos.size());
+        for (String termo : termos) {
+            ListaPostagens lista = postagens.get(termo);
+            if (lista != null) {
+                cursores.add(new CursorPostagens(lista));
+            }
+        }
+        return cursores;
+    }
+
+    // Primeiro doc >= alvo presente em todos os cursores (leapfrog)
+    private static int proximoDeTodos(List<CursorPostagens> cursores, int alvo) {
+        int candidato = alvo;
+        int alinhados = 0;
+        int i = 0;
+        while (alinhados < cursores.size()) {
+            int doc = cursores.get(i).avancar(candidato);
+            if (doc == CursorPostagens.FIM) {
+                return CursorPostagens.FIM;
+            }
+            if (doc == candidato) {
+                alinhados++;
+            } else {
+                candidato = doc;
+                alinhados = 1;
+            }
+            i = (i + 1) % cursores.size();
+        }
+        return candidato;
+    }
+
+    // Primeiro doc >= alvo presente em qualquer cursor
+    private static int proximoDeAlgum(List<CursorPostagens> cursores, int alvo) {
+        int menor = CursorPostagens.FIM;
+        for (CursorPostagens cursor : cursores) {
+            menor = Math.min(menor, cursor.avancar(alvo));
+        }
+        return menor;
+    }
+
+    private static boolean contemAlgum(List<CursorPostagens> cursores, int doc) {
+        for (CursorPostagens cursor : cursores) {
+            if (cursor.avancar(doc) == doc) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Os cursores dos termos das frases já estão alinhados no doc atual
+    private static boolean contemFrases(List<List<String>> frases, Map<String, CursorPostagens> cursorPorTermo) {
+        for (List<String> frase : frases) {
+            ListaInts[] posicoes = new ListaInts[frase.size()];
+            for (int i = 0; i < frase.size(); i++) {
+                posicoes[i] = cursorPorTermo.get(frase.get(i)).posicoes();
+            }
+            if (!contemSequencia(posicoes)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contemSequencia(ListaInts[] posicoes) {
+        for (int k = 0; k < posicoes[0].tamanho(); k++) {
+            int inicio = posicoes[0].get(k);
+            boolean casou = true;
+            for (int i = 1; i < posicoes.length && casou; i++) {
+                int indice = posicoes[i].primeiroMaiorQue(inicio + i - 1);
+                casou = indice < posicoes[i].tamanho() && posicoes[i].get(indice) == inicio + i;
+            }
+            if (casou) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean aceita(int doc, int plataforma, boolean filtraTempo, long desde, long ate) {
+        if (removidos.get(doc)) {
+            return false;
+        }
+        if (plataforma >= 0 && plataformas.get(doc) != plataforma) {
+            return false;
+        }
+        if (filtraTempo) {
+            long tempo = tempos.get(doc);
+            return tempo != SEM_DATA && tempo >= desde && tempo < ate;
+        }
+        return true;
+    }
+
+    private void marcarRemovido(int doc) {
+        if (!removidos.get(doc)) {
+            removidos.set(doc);
+            totalRemovidos++;
+        }
+    }
+
+    private int codigoPlataforma(String plataforma) {
+        String chave = plataforma != null ? plataforma.toUpperCase() : "";
+        Integer codigo = codigosPlataforma.get(chave);
+        if (codigo == null) {
+            codigo = nomesPlataforma.size();
+            codigosPlataforma.put(chave, codigo);
+            nomesPlataforma.add(plataforma);
+        }
+        return codigo;
+    }
+
+    private LocalDateTime dataDe(int doc) {
+        long tempo = tempos.get(doc);
+        return tempo != SEM_DATA ? LocalDateTime.ofEpochSecond(Math.floorDiv(tempo, 1000L),
+            (int) Math.floorMod(tempo, 1000L) * 1_000_000, ZoneOffset.UTC) : null;
+    }
+
+    private static long paraMillis(LocalDateTime data) {
+        return data.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,95 @@
+package com.socialmedia.busca;
+
+import com.socialmedia.util.ListaInts;
+
+import java.util.Arrays;
+
+/**
+ * Lista de postagens de um termo, comprimida com deltas em variable-byte
+ * Por documento: delta do docId, frequência e deltas das posições
+ * A cada INTERVALO_SALTO documentos guarda um ponto de salto (último doc, offset)
+ * para que a interseção avance sem decodificar a lista inteira
+ */
+final class ListaPostagens {
+    static final int INTERVALO_SALTO = 64;
+
+    private byte[] dados = new byte[8];
+    private int tamanho;
+    private int ultimoDoc = -1;
+    private int documentos;
+    private ListaInts saltosDoc;
+    private ListaInts saltosOffset;
+
+    /**
+     * Anexa um documento; os docIds devem ser crescentes
+     */
+    void adicionar(int doc, ListaInts posicoes) {
+        if (doc <= ultimoDoc) {
+            throw new IllegalArgumentException("DocId fora de ordem: " + doc + " <= " + ultimoDoc);
+        }
+        if (documentos > 0 && documentos % INTERVALO_SALTO == 0) {
+            if (saltosDoc == null) {
+                saltosDoc = new ListaInts();
+                saltosOffset = new ListaInts();
+            }
+            saltosDoc.adicionar(ultimoDoc);
+            saltosOffset.adicionar(tamanho);
+        }
+
+        escrever(doc - ultimoDoc);
+        escrever(posicoes.tamanho());
+        int anterior = 0;
+        for (int i = 0; i < posicoes.tamanho(); i++) {
+            int posicao = posicoes.get(i);
+            escrever(posicao - anterior);
+            anterior = posicao;
+        }
+        ultimoDoc = doc;
+        documentos++;
+    }
+
+    int getDocumentos() {
+        return documentos;
+    }
+
+    int getTamanhoBytes() {
+        return tamanho;
+    }
+
+    byte[] dados() {
+        return dados;
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Índice do último ponto de salto com doc < alvo, ou -1
+     */
+    int saltoAntes(int alvo) {
+        if (saltosDoc == null) {
+            return -1;
+        }
+        return saltosDoc.primeiroMaiorQue(alvo - 1) - 1;
+    }
+
+    int docDoSalto(int indice) {
+        return saltosDoc.get(indice);
+    }
+
+    int offsetDoSalto(int indice) {
+        return saltosOffset.get(indice);
+    }
+
+    private void escrever(int valor) {
+        if (tamanho + 5 > dados.length) {
+            dados = Arrays.copyOf(dados, Math.max(dados.length * 2, tamanho + 5));
+        }
+        while ((valor & ~0x7F) != 0) {
+            dados[tamanho++] = (byte) ((valor & 0x7F) | 0x80);
+            valor >>>= 7;
+        }
+        dados[tamanho++] = (byte) valor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.socialmedia.busca;
+
+import java.util.List;
+
+// Página de resultados de uma consulta ao índice de conteúdo
+public class PaginaBusca {
+    public static final int SEM_PROXIMA = -1;
+
+    private final List<ResultadoBusca> resultados;
+    private final int proximoCursor;
+
+    PaginaBusca(List<ResultadoBusca> resultados, int proximoCursor) {
+        this.resultados = List.copyOf(resultados);
+        this.proximoCursor = proximoCursor;
+    }
+
+    public List<ResultadoBusca> getResultados() {
+        return resultados;
+    }
+
+    // Cursor para a próxima página ou SEM_PROXIMA
+    public int getProximoCursor() {
+        return proximoCursor;
+    }
+
+    public boolean temProxima() {
+        return proximoCursor != SEM_PROXIMA;
+    }
+}
@@ -0,0 +1,44 @@
+package com.socialmedia.busca;
+
+import java.time.LocalDateTime;
+
+// Publicação encontrada pelo índice de conteúdo
+public class ResultadoBusca {
+    private final int documento;
+    private final String publicacaoId;
+    private final String plataforma;
+    private final LocalDateTime dataPublicacao;
+
+    ResultadoBusca(int documento, String publicacaoId, String plataforma, LocalDateTime dataPublicacao) {
+        this.documento = documento;
+        this.publicacaoId = publicacaoId;
+        this.plataforma = plataforma;
+        this.dataPublicacao = dataPublicacao;
+    }
+
+    // Identificador interno no índice (ordem de indexação)
+    public int getDocumento() {
+        return documento;
+    }
+
+    public String getPublicacaoId() {
+        return publicacaoId;
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    public LocalDateTime getDataPublicacao() {
+        return dataPublicacao;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoBusca{" +
+                "publicacaoId='" + publicacaoId + '\'' +
+                ", plataforma='" + plataforma + '\'' +
+                ", dataPublicacao=" + dataPublicacao +
+                '}';
+    }
+}
@@ -0,0 +1,101 @@
+package com.socialmedia.busca;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Quebra textos em termos normalizados (minúsculas, sem acentos)
+ * Palavras precedidas de '#' geram também o termo de hashtag ("#promo" e "promo" na mesma posição)
+ */
+public final class Tokenizador {
+    public static final char CERQUILHA = '#';
+
+    private Tokenizador() {
+    }
+
+    // Recebe cada termo com a sua posição no documento
+    @FunctionalInterface
+    public interface ConsumidorTermo {
+        void aceitar(String termo, int posicao);
+    }
+
+    /**
+     * Emite os termos do texto a partir da posição inicial e retorna a próxima posição livre
+     */
+    public static int tokenizar(String texto, int posicaoInicial, ConsumidorTermo consumidor) {
+        String normalizado = normalizar(texto);
+        int posicao = posicaoInicial;
+        int i = 0;
+        int tamanho = normalizado.length();
+        while (i < tamanho) {
+            char c = normalizado.charAt(i);
+            if (!isCaractereTermo(c)) {
+                i++;
+                continue;
+            }
+            int inicio = i;
+            while (i < tamanho && isCaractereTermo(normalizado.charAt(i))) {
+                i++;
+            }
+            String termo = normalizado.substring(inicio, i);
+            if (inicio > 0 && normalizado.charAt(inicio - 1) == CERQUILHA) {
+                consumidor.aceitar(CERQUILHA + termo, posicao);
+            }
+            consumidor.aceitar(termo, posicao);
+            posicao++;
+        }
+        return posicao;
+    }
+
+    /**
+     * Termos de uma hashtag de Conteudo.getHashtags() ("#Promoção" -> "#promocao", "promocao")
+     */
+    public static int tokenizarHashtag(String hashtag, int posicao, ConsumidorTermo consumidor) {
+        String termo = normalizar(hashtag).replaceAll("[^\\p{L}\\p{N}_]+", "");
+        if (termo.isEmpty()) {
+            return posicao;
+        }
+        consumidor.aceitar(CERQUILHA + termo, posicao);
+        return tokenizar(termo, posicao, consumidor);
+    }
+
+    /**
+     * Termos de uma expressão de consulta, na ordem em que aparecem (para frases)
+     */
+    public static List<String> termos(String texto) {
+        List<String> termos = new ArrayList<>();
+        int[] ultimaPosicao = {-1};
+        tokenizar(texto, 0, (termo, posicao) -> {
+            // Na consulta, "#promo" vale só como hashtag
+            if (posicao == ultimaPosicao[0]) {
+                return;
+            }
+            ultimaPosicao[0] = posicao;
+            termos.add(termo);
+        });
+        return termos;
+    }
+
+    /**
+     * Minúsculas e remoção de diacríticos; textos ASCII não passam pelo Normalizer
+     */
+    public static String normalizar(String texto) {
+        boolean ascii = true;
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) > 0x7F) {
+                ascii = false;
+                break;
+            }
+        }
+        if (!ascii) {
+            texto = Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+        }
+        return texto.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isCaractereTermo(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,155 @@
+package com.socialmedia.cache;
+
+import com.socialmedia.model.Conteudo;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Cache de renderizações de conteúdo por plataforma
+ * A chave é a identidade do Conteudo (não o equals) junto com o nome da plataforma, mantida por
+ * referência fraca. Leituras e escritas não usam lock global (ConcurrentHashMap) e o renderizador
+ * roda fora de qualquer lock: duas threads com o mesmo conteúdo novo podem renderizar em dobro, e
+ * a primeira a gravar vence. Ao passar da capacidade, o despejo segue o algoritmo do relógio
+ * (segunda chance), uma aproximação do LRU. Os valores são compartilhados entre threads e devem
+ * ser imutáveis
+ */
+public class CacheRenderizacao<T> {
+    public static final int CAPACIDADE_PADRAO = 1024;
+
+    private final int capacidade;
+    private final ReferenceQueue<Conteudo> referenciasLiberadas = new ReferenceQueue<>();
+    private final Map<Chave, Entrada<T>> entradas = new ConcurrentHashMap<>();
+    // Só uma thread despeja por vez; as outras seguem sem esperar
+    private final AtomicBoolean despejando = new AtomicBoolean();
+
+    public CacheRenderizacao() {
+        this(CAPACIDADE_PADRAO);
+    }
+
+    public CacheRenderizacao(int capacidade) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade do cache deve ser positiva");
+        }
+        this.capacidade = capacidade;
+    }
+
+    /**
+     * Retorna a renderização em cache ou executa o renderizador e armazena o resultado
+     */
+    public T obter(Conteudo conteudo, String plataforma, Function<Conteudo, T> renderizador) {
+        Entrada<T> entrada = entradas.get(new Chave(conteudo, plataforma, null));
+        if (entrada != null) {
+            if (!entrada.usada) {
+                entrada.usada = true;
+            }
+            return entrada.valor;
+        }
+
+        T valor = renderizador.apply(conteudo);
+        Entrada<T> existente = entradas.putIfAbsent(new Chave(conteudo, plataforma, referenciasLiberadas),
+            new Entrada<>(valor));
+        if (existente != null) {
+            return existente.valor;
+        }
+        if (entradas.size() > capacidade) {
+            despejar();
+        }
+        return valor;
+    }
+
+    /**
+     * Remove todas as renderizações de um conteúdo para a plataforma
+     */
+    public void invalidar(Conteudo conteudo, String plataforma) {
+        entradas.remove(new Chave(conteudo, plataforma, null));
+    }
+
+    public void limpar() {
+        entradas.clear();
+    }
+
+    public int tamanho() {
+        expurgarLiberadas();
+        return entradas.size();
+    }
+
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    // Relógio: entradas usadas desde a última volta ganham outra chance, as demais saem
+    private void despejar() {
+        if (!despejando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            expurgarLiberadas();
+            Iterator<Entrada<T>> iterador = entradas.values().iterator();
+            while (entradas.size() > capacidade) {
+                if (!iterador.hasNext()) {
+                    iterador = entradas.values().iterator();
+                }
+                Entrada<T> entrada = iterador.next();
+                if (entrada.usada) {
+                    entrada.usada = false;
+                } else {
+                    iterador.remove();
+                }
+            }
+        } finally {
+            despejando.set(false);
+        }
+    }
+
+    private void expurgarLiberadas() {
+        Reference<? extends Conteudo> ref;
+        while ((ref = referenciasLiberadas.poll()) != null) {
+            entradas.remove(ref);
+        }
+    }
+
+    private static final class Entrada<T> {
+        private final T valor;
+        // Marca de uso do relógio; uma escrita perdida entre threads só adianta ou atrasa um despejo
+        private volatile boolean usada;
+
+        private Entrada(T valor) {
+            this.valor = valor;
+        }
+    }
+
+    // Chave por identidade: compara o referente com == e usa identityHashCode
+    private static final class Chave extends WeakReference<Conteudo> {
+        private final String plataforma;
+        private final int hash;
+
+        Chave(Conteudo conteudo, String plataforma, ReferenceQueue<Conteudo> fila) {
+            super(conteudo, fila);
+            this.plataforma = plataforma;
+            this.hash = 31 * System.identityHashCode(conteudo) + Objects.hashCode(plataforma);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Chave)) return false;
+            Chave that = (Chave) o;
+            Conteudo referente = get();
+            return referente != null && referente == that.get() &&
+                   Objects.equals(plataforma, that.plataforma);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
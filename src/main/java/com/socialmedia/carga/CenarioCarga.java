@@ -0,0 +1,296 @@
+package com.socialmedia.carga;
+
+import com.socialmedia.model.TipoConteudo;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Cenário de carga: taxa alvo, duração, perfil de rajadas e mix de operações,
+ * tipos de conteúdo e plataformas. A semente torna a sequência de requisições reproduzível
+ */
+public class CenarioCarga {
+    // Credenciais aceitas pelas APIs simuladas, usadas quando o cenário não informa outras
+    private static final Map<String, String> CREDENCIAIS_PADRAO = Map.of(
+        "TWITTER", "carga-api-key:carga-api-secret",
+        "INSTAGRAM", "carga-access-token",
+        "LINKEDIN", "carga-client-id:carga-client-secret",
+        "TIKTOK", "carga-app-id:carga-app-secret:carga-auth-code");
+
+    private final String nome;
+    private final double taxaPorSegundo;
+    private final long duracaoSegundos;
+    private final long aquecimentoSegundos;
+    private final int threads;
+    private final boolean chegadaPoisson;
+    private final PerfilCarga perfil;
+    private final String descricaoPerfil;
+    private final Distribuicao<OperacaoCarga> operacoes;
+    private final Distribuicao<TipoConteudo> tipos;
+    private final Distribuicao<String> plataformas;
+    private final Map<String, String> credenciais;
+    private final long semente;
+
+    private CenarioCarga(Builder builder) {
+        this.nome = builder.nome;
+        this.taxaPorSegundo = builder.taxaPorSegundo;
+        this.duracaoSegundos = builder.duracaoSegundos;
+        this.aquecimentoSegundos = builder.aquecimentoSegundos;
+        this.threads = builder.threads;
+        this.chegadaPoisson = builder.chegadaPoisson;
+        this.perfil = builder.perfil;
+        this.descricaoPerfil = builder.descricaoPerfil;
+        this.operacoes = new Distribuicao<>(builder.operacoes);
+        this.tipos = new Distribuicao<>(builder.tipos);
+        this.plataformas = new Distribuicao<>(builder.plataformas);
+        this.credenciais = Collections.unmodifiableMap(new LinkedHashMap<>(builder.credenciais));
+        this.semente = builder.semente;
+    }
+
+    /**
+     * Lê o cenário de um arquivo .properties:
+     * nome, taxa, duracao, aquecimento, threads, chegada (poisson|constante), perfil,
+     * operacoes, tipos, plataformas (no formato "A:peso,B:peso"), semente e credenciais.PLATAFORMA
+     */
+    public static CenarioCarga deProperties(Properties propriedades) {
+        Builder builder = new Builder();
+        String valor;
+        if ((valor = propriedades.getProperty("nome")) != null) {
+            builder.nome(valor.trim());
+        }
+        if ((valor = propriedades.getProperty("taxa")) != null) {
+            builder.taxaPorSegundo(lerNumero("taxa", valor));
+        }
+        if ((valor = propriedades.getProperty("duracao")) != null) {
+            builder.duracaoSegundos((long) lerNumero("duracao", valor));
+        }
+        if ((valor = propriedades.getProperty("aquecimento")) != null) {
+            builder.aquecimentoSegundos((long) lerNumero("aquecimento", valor));
+        }
+        if ((valor = propriedades.getProperty("threads")) != null) {
+            builder.threads((int) lerNumero("threads", valor));
+        }
+        if ((valor = propriedades.getProperty("chegada")) != null) {
+            switch (valor.trim().toLowerCase()) {
+                case "poisson":
+                    builder.chegadaPoisson(true);
+                    break;
+                case "constante":
+                    builder.chegadaPoisson(false);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Chegada inválida: " + valor + ". Use poisson ou constante");
+            }
+        }
+        if ((valor = propriedades.getProperty("perfil")) != null) {
+            builder.perfil(valor.trim());
+        }
+        if ((valor = propriedades.getProperty("operacoes")) != null) {
+            builder.operacoes(Distribuicao.lerPesos(valor, OperacaoCarga::porNome));
+        }
+        if ((valor = propriedades.getProperty("tipos")) != null) {
+            builder.tipos(Distribuicao.lerPesos(valor, tipo -> TipoConteudo.valueOf(tipo.toUpperCase())));
+        }
+        if ((valor = propriedades.getProperty("plataformas")) != null) {
+            builder.plataformas(Distribuicao.lerPesos(valor, String::toUpperCase));
+        }
+        if ((valor = propriedades.getProperty("semente")) != null) {
+            builder.semente((long) lerNumero("semente", valor));
+        }
+        for (String chave : propriedades.stringPropertyNames()) {
+            if (chave.startsWith("credenciais.")) {
+                builder.credenciais(chave.substring("credenciais.".length()), propriedades.getProperty(chave).trim());
+            }
+        }
+        return builder.build();
+    }
+
+    private static double lerNumero(String chave, String valor) {
+        try {
+            return Double.parseDouble(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + chave + ": " + valor, e);
+        }
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public double getTaxaPorSegundo() {
+        return taxaPorSegundo;
+    }
+
+    public long getDuracaoSegundos() {
+        return duracaoSegundos;
+    }
+
+    public long getAquecimentoSegundos() {
+        return aquecimentoSegundos;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public boolean isChegadaPoisson() {
+        return chegadaPoisson;
+    }
+
+    public PerfilCarga getPerfil() {
+        return perfil;
+    }
+
+    public Map<OperacaoCarga, Integer> getOperacoes() {
+        return operacoes.getPesos();
+    }
+
+    public Map<TipoConteudo, Integer> getTipos() {
+        return tipos.getPesos();
+    }
+
+    public Map<String, Integer> getPlataformas() {
+        return plataformas.getPesos();
+    }
+
+    // Credenciais da plataforma: as do cenário ou as padrão das APIs simuladas
+    public String getCredenciais(String plataforma) {
+        String valor = credenciais.get(plataforma);
+        return valor != null ? valor : CREDENCIAIS_PADRAO.get(plataforma);
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+
+    Distribuicao<OperacaoCarga> distribuicaoOperacoes() {
+        return operacoes;
+    }
+
+    Distribuicao<TipoConteudo> distribuicaoTipos() {
+        return tipos;
+    }
+
+    Distribuicao<String> distribuicaoPlataformas() {
+        return plataformas;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+            "CenarioCarga{nome='%s', taxa=%.1f/s, duracao=%ds, aquecimento=%ds, threads=%d, chegada=%s, perfil=%s, "
+                + "operacoes=%s, tipos=%s, plataformas=%s, semente=%d}",
+            nome, taxaPorSegundo, duracaoSegundos, aquecimentoSegundos, threads,
+            chegadaPoisson ? "poisson" : "constante", descricaoPerfil,
+            operacoes.getPesos(), tipos.getPesos(), plataformas.getPesos(), semente);
+    }
+
+    public static class Builder {
+        private String nome = "padrao";
+        private double taxaPorSegundo = 1000;
+        private long duracaoSegundos = 30;
+        private long aquecimentoSegundos = 5;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private boolean chegadaPoisson = true;
+        private PerfilCarga perfil = PerfilCarga.constante();
+        private String descricaoPerfil = "constante";
+        private Map<OperacaoCarga, Integer> operacoes = Map.of(OperacaoCarga.PUBLICAR, 1);
+        private Map<TipoConteudo, Integer> tipos = Map.of(TipoConteudo.VIDEO, 1);
+        private Map<String, Integer> plataformas = Map.of("TWITTER", 1, "INSTAGRAM", 1, "LINKEDIN", 1, "TIKTOK", 1);
+        private final Map<String, String> credenciais = new LinkedHashMap<>();
+        private long semente = 42;
+
+        public Builder nome(String nome) {
+            this.nome = nome;
+            return this;
+        }
+
+        // Requisições por segundo iniciadas pelo gerador, independente das respostas (carga em malha aberta)
+        public Builder taxaPorSegundo(double taxa) {
+            this.taxaPorSegundo = taxa;
+            return this;
+        }
+
+        public Builder duracaoSegundos(long duracao) {
+            this.duracaoSegundos = duracao;
+            return this;
+        }
+
+        // Período inicial executado mas fora do relatório
+        public Builder aquecimentoSegundos(long aquecimento) {
+            this.aquecimentoSegundos = aquecimento;
+            return this;
+        }
+
+        public Builder threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        // true: intervalos exponenciais (chegadas de Poisson); false: intervalos fixos
+        public Builder chegadaPoisson(boolean poisson) {
+            this.chegadaPoisson = poisson;
+            return this;
+        }
+
+        public Builder perfil(PerfilCarga perfil, String descricao) {
+            this.perfil = perfil;
+            this.descricaoPerfil = descricao;
+            return this;
+        }
+
+        public Builder perfil(String descricao) {
+            return perfil(PerfilCarga.porDescricao(descricao), descricao);
+        }
+
+        public Builder operacoes(Map<OperacaoCarga, Integer> operacoes) {
+            this.operacoes = operacoes;
+            return this;
+        }
+
+        public Builder tipos(Map<TipoConteudo, Integer> tipos) {
+            this.tipos = tipos;
+            return this;
+        }
+
+        public Builder plataformas(Map<String, Integer> plataformas) {
+            this.plataformas = plataformas;
+            return this;
+        }
+
+        public Builder credenciais(String plataforma, String credenciais) {
+            this.credenciais.put(plataforma.toUpperCase(), credenciais);
+            return this;
+        }
+
+        public Builder semente(long semente) {
+            this.semente = semente;
+            return this;
+        }
+
+        public CenarioCarga build() {
+            if (nome == null || nome.isBlank()) {
+                throw new IllegalArgumentException("Nome do cenário não pode ser vazio");
+            }
+            if (!(taxaPorSegundo > 0)) {
+                throw new IllegalArgumentException("Taxa deve ser positiva");
+            }
+            if (duracaoSegundos <= 0) {
+                throw new IllegalArgumentException("Duração deve ser positiva");
+            }
+            if (aquecimentoSegundos < 0 || aquecimentoSegundos >= duracaoSegundos) {
+                throw new IllegalArgumentException("Aquecimento deve ser menor que a duração");
+            }
+            if (threads <= 0) {
+                throw new IllegalArgumentException("Quantidade de threads deve ser positiva");
+            }
+            if (perfil == null) {
+                throw new IllegalArgumentException("Perfil de carga não pode ser nulo");
+            }
+            return new CenarioCarga(this);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.socialmedia.carga;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+// Escolha ponderada entre opções (mix de operações, tipos de conteúdo e plataformas)
+final class Distribuicao<T> {
+    private final List<T> opcoes;
+    private final int[] pesosAcumulados;
+    private final Map<T, Integer> pesos;
+
+    Distribuicao(Map<T, Integer> pesos) {
+        if (pesos == null || pesos.isEmpty()) {
+            throw new IllegalArgumentException("Distribuição precisa de pelo menos uma opção");
+        }
+        this.opcoes = new ArrayList<>(pesos.size());
+        this.pesosAcumulados = new int[pesos.size()];
+        int acumulado = 0;
+        for (Map.Entry<T, Integer> entrada : pesos.entrySet()) {
+            if (entrada.getValue() == null || entrada.getValue() < 0) {
+                throw new IllegalArgumentException("Peso inválido para " + entrada.getKey());
+            }
+            acumulado += entrada.getValue();
+            pesosAcumulados[opcoes.size()] = acumulado;
+            opcoes.add(entrada.getKey());
+        }
+        if (acumulado == 0) {
+            throw new IllegalArgumentException("A soma dos pesos deve ser positiva");
+        }
+        this.pesos = Collections.unmodifiableMap(new LinkedHashMap<>(pesos));
+    }
+
+    T escolher(SplittableRandom aleatorio) {
+        int sorteio = aleatorio.nextInt(pesosAcumulados[pesosAcumulados.length - 1]);
+        for (int i = 0; i < pesosAcumulados.length; i++) {
+            if (sorteio < pesosAcumulados[i]) {
+                return opcoes.get(i);
+            }
+        }
+        return opcoes.get(opcoes.size() - 1);
+    }
+
+    Map<T, Integer> getPesos() {
+        return pesos;
+    }
+
+    // Lê "A:3,B:1"; opção sem peso vale 1
+    static <T> Map<T, Integer> lerPesos(String texto, Function<String, T> conversor) {
+        Map<T, Integer> pesos = new LinkedHashMap<>();
+        for (String item : texto.split(",")) {
+            if (item.isBlank()) {
+                continue;
+            }
+            int separador = item.indexOf(':');
+            String chave = separador < 0 ? item.trim() : item.substring(0, separador).trim();
+            int peso;
+            try {
+                peso = separador < 0 ? 1 : Integer.parseInt(item.substring(separador + 1).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Peso inválido em: " + item.trim(), e);
+            }
+            pesos.merge(conversor.apply(chave), peso, Integer::sum);
+        }
+        return pesos;
+    }
+}
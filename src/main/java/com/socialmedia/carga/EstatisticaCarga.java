@@ -0,0 +1,55 @@
+package com.socialmedia.carga;
+
+import com.socialmedia.metricas.HistogramaLatencia;
+import com.socialmedia.resultado.CategoriaErro;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula as requisições de uma operação em uma plataforma. A latência de resposta é medida a
+ * partir do instante previsto de chegada, não do início real: quando o sistema atrasa, o tempo
+ * na fila entra na medição (correção de coordinated omission); o tempo de serviço é medido à parte
+ */
+final class EstatisticaCarga {
+    private static final CategoriaErro[] CATEGORIAS = CategoriaErro.values();
+
+    private final OperacaoCarga operacao;
+    private final String plataforma;
+    private final HistogramaLatencia resposta = new HistogramaLatencia();
+    private final HistogramaLatencia servico = new HistogramaLatencia();
+    private final LongAdder sucessos = new LongAdder();
+    // Índice CATEGORIAS.length guarda as falhas não classificadas
+    private final AtomicLongArray falhas = new AtomicLongArray(CATEGORIAS.length + 1);
+
+    EstatisticaCarga(OperacaoCarga operacao, String plataforma) {
+        this.operacao = operacao;
+        this.plataforma = plataforma;
+    }
+
+    void registrar(long previsto, long inicio, long fim, boolean sucesso, CategoriaErro categoria) {
+        resposta.registrar(fim - previsto);
+        servico.registrar(fim - inicio);
+        if (sucesso) {
+            sucessos.increment();
+        } else {
+            falhas.incrementAndGet(categoria != null ? categoria.ordinal() : CATEGORIAS.length);
+        }
+    }
+
+    LinhaCarga instantaneo(long janelaNanos) {
+        Map<CategoriaErro, Long> porCategoria = new EnumMap<>(CategoriaErro.class);
+        long totalFalhas = 0;
+        for (int i = 0; i < falhas.length(); i++) {
+            long quantidade = falhas.get(i);
+            totalFalhas += quantidade;
+            if (quantidade > 0 && i < CATEGORIAS.length) {
+                porCategoria.put(CATEGORIAS[i], quantidade);
+            }
+        }
+        return new LinhaCarga(operacao, plataforma, sucessos.sum(), totalFalhas, porCategoria,
+            resposta.instantaneo(), servico.instantaneo(), janelaNanos);
+    }
+}
@@ -0,0 +1,314 @@
+package com.socialmedia.carga;
+
+import com.socialmedia.config.ConfiguracaoPlataforma;
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.model.TipoConteudo;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.resultado.ErroPlataforma;
+import com.socialmedia.service.GerenciadorMidiaSocial;
+import com.socialmedia.strategy.RespostaSumarizadaStrategy;
+import com.socialmedia.strategy.RespostaUnificada;
+import com.socialmedia.strategy.ResumoPublicacao;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga em malha aberta sobre o GerenciadorMidiaSocial
+ * As requisições são disparadas nos instantes definidos pela taxa do cenário, sem esperar as
+ * anteriores terminarem; se as threads não dão conta, a fila cresce e a espera entra na latência.
+ * Cada thread usa o próprio gerenciador, porque os adapters e as APIs simuladas não são thread-safe
+ */
+public class GeradorCarga {
+    private static final String TODAS = "TODAS";
+    private static final List<String> HASHTAGS = List.of("carga", "#desempenho", "novidade");
+    // Abaixo disso o agendador gira em vez de dormir (parkNanos não tem resolução melhor)
+    private static final long ESPERA_ATIVA_NANOS = 100_000;
+
+    private final CenarioCarga cenario;
+    private final Map<String, EstatisticaCarga> estatisticas = new HashMap<>();
+    private final EstatisticaCarga total = new EstatisticaCarga(null, "TOTAL");
+    private final AtomicLong ultimoFim = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger contadorThreads = new AtomicInteger();
+    // Trabalhador montado em executar() para validar as credenciais; vira o da primeira thread do pool
+    private final AtomicReference<Trabalhador> primeiroTrabalhador = new AtomicReference<>();
+    private final ThreadLocal<Trabalhador> trabalhadores;
+
+    public GeradorCarga(CenarioCarga cenario) {
+        if (cenario == null) {
+            throw new IllegalArgumentException("Cenário não pode ser nulo");
+        }
+        this.cenario = cenario;
+        this.trabalhadores = ThreadLocal.withInitial(() -> {
+            Trabalhador primeiro = primeiroTrabalhador.getAndSet(null);
+            if (primeiro != null) {
+                return primeiro;
+            }
+            try {
+                return new Trabalhador(cenario);
+            } catch (AutenticacaoException e) {
+                throw new IllegalStateException("Falha ao autenticar as plataformas do cenário: " + e.getMessage(), e);
+            }
+        });
+        for (OperacaoCarga operacao : cenario.getOperacoes().keySet()) {
+            if (operacao == OperacaoCarga.FAN_OUT) {
+                estatisticas.put(chave(operacao, TODAS), new EstatisticaCarga(operacao, TODAS));
+                continue;
+            }
+            for (String plataforma : cenario.getPlataformas().keySet()) {
+                estatisticas.put(chave(operacao, plataforma), new EstatisticaCarga(operacao, plataforma));
+            }
+        }
+    }
+
+    /**
+     * Executa o cenário na thread atual (que faz o papel de agendador) e devolve o relatório
+     * Falha antes de disparar qualquer requisição se alguma plataforma não autenticar
+     */
+    public RelatorioCarga executar() throws AutenticacaoException {
+        primeiroTrabalhador.set(new Trabalhador(cenario));
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(cenario.getThreads(), cenario.getThreads(),
+            0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), tarefa -> {
+                Thread thread = new Thread(tarefa, "carga-" + contadorThreads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.prestartAllCoreThreads();
+
+        SplittableRandom aleatorio = new SplittableRandom(cenario.getSemente());
+        long duracao = TimeUnit.SECONDS.toNanos(cenario.getDuracaoSegundos());
+        long inicio = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+        long inicioMedicao = inicio + TimeUnit.SECONDS.toNanos(cenario.getAquecimentoSegundos());
+        double deslocamento = 0;
+        long sequencia = 0;
+        long atrasoMaximo = 0;
+        int pendentesMaximo = 0;
+
+        while (deslocamento < duracao) {
+            long previsto = inicio + (long) deslocamento;
+            Requisicao requisicao = new Requisicao(sequencia++, previsto, previsto >= inicioMedicao,
+                cenario.distribuicaoOperacoes().escolher(aleatorio),
+                cenario.distribuicaoPlataformas().escolher(aleatorio),
+                cenario.distribuicaoTipos().escolher(aleatorio));
+
+            atrasoMaximo = Math.max(atrasoMaximo, esperarAte(previsto));
+            executor.execute(() -> executar(requisicao));
+            pendentesMaximo = Math.max(pendentesMaximo, executor.getQueue().size());
+
+            double taxa = cenario.getTaxaPorSegundo() * cenario.getPerfil().multiplicador(previsto - inicio);
+            double intervalo = 1_000_000_000.0 / taxa;
+            if (cenario.isChegadaPoisson()) {
+                intervalo *= -Math.log(1.0 - aleatorio.nextDouble());
+            }
+            deslocamento += intervalo;
+        }
+
+        executor.shutdown();
+        long naoConcluidas = 0;
+        try {
+            if (!executor.awaitTermination(Math.max(10, cenario.getDuracaoSegundos()), TimeUnit.SECONDS)) {
+                naoConcluidas = executor.shutdownNow().size();
+            }
+        } catch (InterruptedException e) {
+            naoConcluidas = executor.shutdownNow().size();
+            Thread.currentThread().interrupt();
+        }
+
+        long janela = Math.max(0, ultimoFim.get() - inicioMedicao);
+        List<LinhaCarga> linhas = new ArrayList<>(estatisticas.size());
+        for (EstatisticaCarga estatistica : estatisticas.values()) {
+            LinhaCarga linha = estatistica.instantaneo(janela);
+            if (linha.getTotal() > 0) {
+                linhas.add(linha);
+            }
+        }
+        linhas.sort((a, b) -> a.getOperacao() != b.getOperacao()
+            ? a.getOperacao().compareTo(b.getOperacao())
+            : a.getPlataforma().compareTo(b.getPlataforma()));
+        return new RelatorioCarga(cenario, linhas, total.instantaneo(janela), sequencia, naoConcluidas,
+            atrasoMaximo, pendentesMaximo, janela);
+    }
+
+    // Espera até o instante previsto e devolve o atraso com que o agendador chegou nele
+    private static long esperarAte(long previsto) {
+        long restante;
+        while ((restante = previsto - System.nanoTime()) > 0) {
+            if (restante > ESPERA_ATIVA_NANOS) {
+                LockSupport.parkNanos(restante - ESPERA_ATIVA_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        return -restante;
+    }
+
+    private void executar(Requisicao requisicao) {
+        Trabalhador trabalhador = trabalhadores.get();
+        GerenciadorMidiaSocial gerenciador = trabalhador.gerenciador;
+        String plataforma = requisicao.plataforma;
+        boolean sucesso;
+        CategoriaErro categoria = null;
+
+        long inicio = System.nanoTime();
+        try {
+            switch (requisicao.operacao) {
+                case PUBLICAR: {
+                    ResumoPublicacao publicacao = unica(gerenciador.publicarEmMultiplasPlataformas(
+                        conteudo(requisicao, false), List.of(plataforma)));
+                    sucesso = publicacao.getStatus() == StatusPublicacao.PUBLICADO;
+                    categoria = publicacao.getCategoriaErro();
+                    if (sucesso) {
+                        trabalhador.ultimasPublicacoes.put(plataforma, publicacao.getId());
+                    }
+                    break;
+                }
+                case AGENDAR: {
+                    ResumoPublicacao publicacao = unica(gerenciador.agendarEmMultiplasPlataformas(
+                        conteudo(requisicao, true), List.of(plataforma)));
+                    sucesso = publicacao.getStatus() == StatusPublicacao.AGENDADO;
+                    categoria = publicacao.getCategoriaErro();
+                    break;
+                }
+                case FAN_OUT: {
+                    plataforma = TODAS;
+                    RespostaUnificada resposta = gerenciador.publicarEmTodasPlataformas(conteudo(requisicao, false));
+                    sucesso = resposta.isTodasSucesso();
+                    categoria = primeiraCategoria(resposta);
+                    break;
+                }
+                default:
+                    gerenciador.obterEstatisticas(plataforma, trabalhador.ultimasPublicacoes.get(plataforma));
+                    sucesso = true;
+                    break;
+            }
+        } catch (PublicacaoException e) {
+            sucesso = false;
+            categoria = e.getCategoria();
+        } catch (RuntimeException e) {
+            sucesso = false;
+        }
+        long fim = System.nanoTime();
+
+        if (requisicao.medida) {
+            estatisticas.get(chave(requisicao.operacao, plataforma))
+                .registrar(requisicao.previsto, inicio, fim, sucesso, categoria);
+            total.registrar(requisicao.previsto, inicio, fim, sucesso, categoria);
+            ultimoFim.accumulateAndGet(fim, Math::max);
+        }
+    }
+
+    private static ResumoPublicacao unica(RespostaUnificada resposta) {
+        return resposta.getResumos().get(0);
+    }
+
+    private static CategoriaErro primeiraCategoria(RespostaUnificada resposta) {
+        for (ResumoPublicacao publicacao : resposta.getResumos()) {
+            if (publicacao.getStatus() == StatusPublicacao.FALHOU) {
+                return publicacao.getCategoriaErro();
+            }
+        }
+        return null;
+    }
+
+    // Conteúdo do tipo sorteado; o texto muda a cada requisição para não repetir o cache de renderização
+    private static Conteudo conteudo(Requisicao requisicao, boolean agendado) {
+        Conteudo.Builder builder = new Conteudo.Builder()
+            .texto("Publicação de carga " + requisicao.sequencia + ": novidades da semana para você")
+            .tipo(requisicao.tipo)
+            .hashtags(HASHTAGS);
+        switch (requisicao.tipo) {
+            case IMAGEM:
+            case STORY:
+                builder.midias(List.of("https://cdn.exemplo.com/carga/" + requisicao.sequencia + ".jpg"));
+                break;
+            case CARROSSEL:
+                builder.midias(List.of("https://cdn.exemplo.com/carga/" + requisicao.sequencia + "-1.jpg",
+                    "https://cdn.exemplo.com/carga/" + requisicao.sequencia + "-2.jpg",
+                    "https://cdn.exemplo.com/carga/" + requisicao.sequencia + "-3.jpg"));
+                break;
+            case VIDEO:
+            case REEL:
+                builder.midias(List.of("https://cdn.exemplo.com/carga/" + requisicao.sequencia + ".mp4"));
+                break;
+            default:
+                break;
+        }
+        if (agendado) {
+            builder.dataAgendamento(LocalDateTime.now().plusHours(1));
+        }
+        return builder.build();
+    }
+
+    private static String chave(OperacaoCarga operacao, String plataforma) {
+        return operacao.getNome() + "/" + plataforma;
+    }
+
+    private static final class Requisicao {
+        final long sequencia;
+        final long previsto;
+        final boolean medida;
+        final OperacaoCarga operacao;
+        final String plataforma;
+        final TipoConteudo tipo;
+
+        Requisicao(long sequencia, long previsto, boolean medida, OperacaoCarga operacao,
+                   String plataforma, TipoConteudo tipo) {
+            this.sequencia = sequencia;
+            this.previsto = previsto;
+            this.medida = medida;
+            this.operacao = operacao;
+            this.plataforma = plataforma;
+            this.tipo = tipo;
+        }
+    }
+
+    // Gerenciador próprio da thread, com uma publicação inicial por plataforma para as consultas de estatísticas
+    private static final class Trabalhador {
+        final GerenciadorMidiaSocial gerenciador = new GerenciadorMidiaSocial(new RespostaSumarizadaStrategy());
+        final Map<String, String> ultimasPublicacoes = new HashMap<>();
+
+        Trabalhador(CenarioCarga cenario) throws AutenticacaoException {
+            List<ConfiguracaoPlataforma> configs = new ArrayList<>();
+            for (String plataforma : cenario.getPlataformas().keySet()) {
+                String credenciais = cenario.getCredenciais(plataforma);
+                if (credenciais == null) {
+                    throw new AutenticacaoException("Cenário sem credenciais para a plataforma " + plataforma);
+                }
+                configs.add(new ConfiguracaoPlataforma.Builder()
+                    .plataforma(plataforma)
+                    .credenciais(credenciais)
+                    .build());
+            }
+            List<ErroPlataforma> falhas = gerenciador.adicionarPlataformas(configs);
+            if (!falhas.isEmpty()) {
+                throw new AutenticacaoException("Falha ao autenticar o trabalhador: " + falhas);
+            }
+            Conteudo inicial = new Conteudo.Builder()
+                .texto("Publicação inicial da carga")
+                .tipo(TipoConteudo.VIDEO)
+                .midias(List.of("https://cdn.exemplo.com/carga/inicial.mp4"))
+                .build();
+            for (String plataforma : cenario.getPlataformas().keySet()) {
+                ResumoPublicacao publicacao = unica(gerenciador.publicarEmMultiplasPlataformas(inicial, List.of(plataforma)));
+                if (publicacao.getStatus() == StatusPublicacao.PUBLICADO) {
+                    ultimasPublicacoes.put(plataforma, publicacao.getId());
+                }
+            }
+        }
+    }
+}
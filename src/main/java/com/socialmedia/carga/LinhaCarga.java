@@ -0,0 +1,72 @@
+package com.socialmedia.carga;
+
+import com.socialmedia.metricas.InstantaneoHistograma;
+import com.socialmedia.resultado.CategoriaErro;
+
+import java.util.Collections;
+import java.util.Map;
+
+// Resultado de uma operação em uma plataforma (ou do total, com operação null)
+public final class LinhaCarga {
+    private final OperacaoCarga operacao;
+    private final String plataforma;
+    private final long sucessos;
+    private final long falhas;
+    private final Map<CategoriaErro, Long> falhasPorCategoria;
+    private final InstantaneoHistograma resposta;
+    private final InstantaneoHistograma servico;
+    private final long janelaNanos;
+
+    LinhaCarga(OperacaoCarga operacao, String plataforma, long sucessos, long falhas,
+               Map<CategoriaErro, Long> falhasPorCategoria, InstantaneoHistograma resposta,
+               InstantaneoHistograma servico, long janelaNanos) {
+        this.operacao = operacao;
+        this.plataforma = plataforma;
+        this.sucessos = sucessos;
+        this.falhas = falhas;
+        this.falhasPorCategoria = Collections.unmodifiableMap(falhasPorCategoria);
+        this.resposta = resposta;
+        this.servico = servico;
+        this.janelaNanos = janelaNanos;
+    }
+
+    public OperacaoCarga getOperacao() {
+        return operacao;
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    public long getTotal() {
+        return sucessos + falhas;
+    }
+
+    public long getSucessos() {
+        return sucessos;
+    }
+
+    public long getFalhas() {
+        return falhas;
+    }
+
+    // Falhas classificadas; as não classificadas só entram em getFalhas()
+    public Map<CategoriaErro, Long> getFalhasPorCategoria() {
+        return falhasPorCategoria;
+    }
+
+    // Requisições concluídas por segundo na janela de medição
+    public double getVazao() {
+        return janelaNanos <= 0 ? 0.0 : getTotal() * 1_000_000_000.0 / janelaNanos;
+    }
+
+    // Latência desde o instante previsto de chegada (corrigida para coordinated omission)
+    public InstantaneoHistograma getResposta() {
+        return resposta;
+    }
+
+    // Latência desde o início real da execução
+    public InstantaneoHistograma getServico() {
+        return servico;
+    }
+}
@@ -0,0 +1,29 @@
+package com.socialmedia.carga;
+
+// Operações que um cenário de carga pode misturar
+public enum OperacaoCarga {
+    PUBLICAR("publicar"),
+    AGENDAR("agendar"),
+    FAN_OUT("fanout"),
+    ESTATISTICAS("estatisticas");
+
+    private final String nome;
+
+    OperacaoCarga(String nome) {
+        this.nome = nome;
+    }
+
+    // Nome usado nos arquivos de cenário e no relatório
+    public String getNome() {
+        return nome;
+    }
+
+    public static OperacaoCarga porNome(String nome) {
+        for (OperacaoCarga operacao : values()) {
+            if (operacao.nome.equalsIgnoreCase(nome.trim())) {
+                return operacao;
+            }
+        }
+        throw new IllegalArgumentException("Operação de carga desconhecida: " + nome);
+    }
+}
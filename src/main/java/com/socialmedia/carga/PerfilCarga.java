@@ -0,0 +1,76 @@
+package com.socialmedia.carga;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Variação da taxa de chegada ao longo do cenário: multiplicador aplicado à taxa alvo
+ * em função do tempo decorrido desde o início da carga
+ */
+@FunctionalInterface
+public interface PerfilCarga {
+
+    double multiplicador(long nanosDecorridos);
+
+    static PerfilCarga constante() {
+        return nanos -> 1.0;
+    }
+
+    /**
+     * Rajadas periódicas: a cada período a taxa fica multiplicada por fator durante a duração
+     * da rajada e volta à taxa alvo no restante
+     */
+    static PerfilCarga rajadas(long periodo, long duracao, double fator, TimeUnit unidade) {
+        if (periodo <= 0 || duracao <= 0 || duracao > periodo) {
+            throw new IllegalArgumentException("Rajada deve durar entre 0 e o período");
+        }
+        if (fator <= 0) {
+            throw new IllegalArgumentException("Fator da rajada deve ser positivo");
+        }
+        long periodoNanos = unidade.toNanos(periodo);
+        long duracaoNanos = unidade.toNanos(duracao);
+        return nanos -> nanos % periodoNanos < duracaoNanos ? fator : 1.0;
+    }
+
+    // Rampa linear de 0 até a taxa alvo; depois mantém a taxa alvo
+    static PerfilCarga rampa(long duracao, TimeUnit unidade) {
+        if (duracao <= 0) {
+            throw new IllegalArgumentException("Duração da rampa deve ser positiva");
+        }
+        long duracaoNanos = unidade.toNanos(duracao);
+        return nanos -> nanos >= duracaoNanos ? 1.0 : Math.max(0.01, (double) nanos / duracaoNanos);
+    }
+
+    /**
+     * Lê o perfil do formato usado nos cenários (tempos em segundos):
+     * "constante", "rajadas:periodo,duracao,fator" ou "rampa:duracao"
+     */
+    static PerfilCarga porDescricao(String descricao) {
+        String texto = descricao.trim();
+        int separador = texto.indexOf(':');
+        String tipo = separador < 0 ? texto : texto.substring(0, separador);
+        String[] argumentos = separador < 0 ? new String[0] : texto.substring(separador + 1).split(",");
+        try {
+            switch (tipo.toLowerCase()) {
+                case "constante":
+                    return constante();
+                case "rajadas":
+                    if (argumentos.length != 3) {
+                        break;
+                    }
+                    return rajadas(Long.parseLong(argumentos[0].trim()), Long.parseLong(argumentos[1].trim()),
+                        Double.parseDouble(argumentos[2].trim()), TimeUnit.SECONDS);
+                case "rampa":
+                    if (argumentos.length != 1) {
+                        break;
+                    }
+                    return rampa(Long.parseLong(argumentos[0].trim()), TimeUnit.SECONDS);
+                default:
+                    break;
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Perfil de carga inválido: " + descricao, e);
+        }
+        throw new IllegalArgumentException(
+            "Perfil de carga inválido: " + descricao + ". Use constante, rajadas:periodo,duracao,fator ou rampa:duracao");
+    }
+}
@@ -0,0 +1,131 @@
+package com.socialmedia.carga;
+
+import com.socialmedia.metricas.InstantaneoHistograma;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+// Resultado de uma execução do GeradorCarga
+public final class RelatorioCarga {
+    private static final double[] PERCENTIS = {50, 75, 90, 95, 99, 99.9, 99.99, 100};
+
+    private final CenarioCarga cenario;
+    private final List<LinhaCarga> linhas;
+    private final LinhaCarga total;
+    private final long agendadas;
+    private final long naoConcluidas;
+    private final long atrasoMaximoAgendadorNanos;
+    private final int pendentesMaximo;
+    private final long janelaNanos;
+
+    RelatorioCarga(CenarioCarga cenario, List<LinhaCarga> linhas, LinhaCarga total, long agendadas,
+                   long naoConcluidas, long atrasoMaximoAgendadorNanos, int pendentesMaximo, long janelaNanos) {
+        this.cenario = cenario;
+        this.linhas = Collections.unmodifiableList(linhas);
+        this.total = total;
+        this.agendadas = agendadas;
+        this.naoConcluidas = naoConcluidas;
+        this.atrasoMaximoAgendadorNanos = atrasoMaximoAgendadorNanos;
+        this.pendentesMaximo = pendentesMaximo;
+        this.janelaNanos = janelaNanos;
+    }
+
+    public CenarioCarga getCenario() {
+        return cenario;
+    }
+
+    // Uma linha por operação e plataforma com requisições medidas
+    public List<LinhaCarga> getLinhas() {
+        return linhas;
+    }
+
+    public LinhaCarga getTotal() {
+        return total;
+    }
+
+    // Requisições disparadas, incluindo o aquecimento
+    public long getAgendadas() {
+        return agendadas;
+    }
+
+    // Requisições ainda na fila quando o prazo de encerramento acabou
+    public long getNaoConcluidas() {
+        return naoConcluidas;
+    }
+
+    // Maior atraso do agendador em relação ao instante previsto (o gerador não acompanhou a taxa)
+    public long getAtrasoMaximoAgendadorNanos() {
+        return atrasoMaximoAgendadorNanos;
+    }
+
+    // Maior fila de requisições aguardando uma thread livre
+    public int getPendentesMaximo() {
+        return pendentesMaximo;
+    }
+
+    // Do fim do aquecimento até a última requisição medida concluída
+    public long getJanelaNanos() {
+        return janelaNanos;
+    }
+
+    public String formatar() {
+        StringBuilder texto = new StringBuilder();
+        texto.append(cenario).append(System.lineSeparator());
+        texto.append(String.format(Locale.ROOT,
+            "janela=%.1fs agendadas=%d nao-concluidas=%d atraso-max-agendador=%.2fms fila-max=%d%n%n",
+            janelaNanos / 1e9, agendadas, naoConcluidas, atrasoMaximoAgendadorNanos / 1e6, pendentesMaximo));
+        texto.append(String.format(Locale.ROOT, "%-24s %9s %9s %7s %9s %9s %9s %9s %9s | %9s %9s%n",
+            "operação/plataforma", "ops", "ops/s", "falhas", "p50", "p90", "p99", "p99.9", "max",
+            "serv p50", "serv p99"));
+        for (LinhaCarga linha : linhas) {
+            formatarLinha(texto, linha.getOperacao().getNome() + "/" + linha.getPlataforma(), linha);
+        }
+        formatarLinha(texto, "total", total);
+        texto.append(System.lineSeparator()).append("latências de resposta em ms, corrigidas a partir do instante ")
+            .append("previsto de chegada; serv = tempo de serviço").append(System.lineSeparator());
+        for (LinhaCarga linha : linhas) {
+            if (!linha.getFalhasPorCategoria().isEmpty()) {
+                texto.append(String.format("falhas %s/%s: %s%n", linha.getOperacao().getNome(),
+                    linha.getPlataforma(), linha.getFalhasPorCategoria()));
+            }
+        }
+        return texto.toString();
+    }
+
+    /**
+     * Distribuição de percentis de cada linha em texto separado por tabulação
+     * (operacao, plataforma, percentil, resposta_ns, servico_ns), para comparar execuções
+     */
+    public String exportarDistribuicao() {
+        StringBuilder texto = new StringBuilder("operacao\tplataforma\tpercentil\tresposta_ns\tservico_ns\n");
+        for (LinhaCarga linha : linhas) {
+            exportarLinha(texto, linha.getOperacao().getNome(), linha);
+        }
+        exportarLinha(texto, "total", total);
+        return texto.toString();
+    }
+
+    @Override
+    public String toString() {
+        return formatar();
+    }
+
+    private static void formatarLinha(StringBuilder texto, String rotulo, LinhaCarga linha) {
+        InstantaneoHistograma resposta = linha.getResposta();
+        InstantaneoHistograma servico = linha.getServico();
+        texto.append(String.format(Locale.ROOT, "%-24s %9d %9.1f %7d %9.3f %9.3f %9.3f %9.3f %9.3f | %9.3f %9.3f%n",
+            rotulo, linha.getTotal(), linha.getVazao(), linha.getFalhas(),
+            resposta.percentil(50) / 1e6, resposta.percentil(90) / 1e6, resposta.percentil(99) / 1e6,
+            resposta.percentil(99.9) / 1e6, resposta.getMaximoNanos() / 1e6,
+            servico.percentil(50) / 1e6, servico.percentil(99) / 1e6));
+    }
+
+    private static void exportarLinha(StringBuilder texto, String operacao, LinhaCarga linha) {
+        for (double percentil : PERCENTIS) {
+            texto.append(operacao).append('\t').append(linha.getPlataforma()).append('\t')
+                .append(percentil).append('\t').append(linha.getResposta().percentil(percentil)).append('\t')
+                .append(linha.getServico().percentil(percentil)).append('\n');
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.socialmedia.config;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Leitura das configurações de plataforma de um arquivo .properties (UTF-8):
+ * <pre>
+ * twitter.credenciais=api-key:api-secret
+ * linkedin.credenciais=client-id:client-secret:https://exemplo.com/callback
+ * linkedin.ativa=false
+ * </pre>
+ * "ativa" é opcional (padrão true); uma plataforma inativa pode omitir as credenciais
+ */
+public final class ArquivoConfiguracao {
+    private static final String CREDENCIAIS = "credenciais";
+    private static final String ATIVA = "ativa";
+
+    private ArquivoConfiguracao() {
+    }
+
+    public static List<ConfiguracaoPlataforma> ler(Path arquivo) throws IOException {
+        try (Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            return ler(leitor);
+        }
+    }
+
+    public static List<ConfiguracaoPlataforma> ler(Reader leitor) throws IOException {
+        Properties propriedades = new Properties();
+        propriedades.load(leitor);
+        return deProperties(propriedades);
+    }
+
+    // Configurações em ordem alfabética de plataforma
+    public static List<ConfiguracaoPlataforma> deProperties(Properties propriedades) {
+        Map<String, String> credenciais = new TreeMap<>();
+        Map<String, Boolean> ativas = new TreeMap<>();
+        for (String chave : propriedades.stringPropertyNames()) {
+            int ponto = chave.lastIndexOf('.');
+            String plataforma = ponto > 0 ? chave.substring(0, ponto).trim().toUpperCase() : "";
+            if (plataforma.isEmpty()) {
+                throw new IllegalArgumentException("Chave inválida: " + chave
+                    + ". Use <plataforma>.credenciais ou <plataforma>.ativa");
+            }
+            String valor = propriedades.getProperty(chave).trim();
+            switch (chave.substring(ponto + 1)) {
+                case CREDENCIAIS:
+                    credenciais.put(plataforma, valor);
+                    break;
+                case ATIVA:
+                    ativas.put(plataforma, lerAtiva(chave, valor));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Chave inválida: " + chave
+                        + ". Use <plataforma>.credenciais ou <plataforma>.ativa");
+            }
+        }
+
+        for (String plataforma : ativas.keySet()) {
+            credenciais.putIfAbsent(plataforma, null);
+        }
+        List<ConfiguracaoPlataforma> configs = new ArrayList<>(credenciais.size());
+        for (Map.Entry<String, String> entrada : credenciais.entrySet()) {
+            boolean ativa = ativas.getOrDefault(entrada.getKey(), true);
+            if (entrada.getValue() == null && !ativa) {
+                continue;
+            }
+            try {
+                configs.add(new ConfiguracaoPlataforma.Builder()
+                    .plataforma(entrada.getKey())
+                    .credenciais(entrada.getValue())
+                    .ativa(ativa)
+                    .build());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(entrada.getKey() + ": " + e.getMessage(), e);
+            }
+        }
+        return configs;
+    }
+
+    private static boolean lerAtiva(String chave, String valor) {
+        if ("true".equalsIgnoreCase(valor)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(valor)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Valor inválido para " + chave + ": " + valor + ". Use true ou false");
+    }
+}
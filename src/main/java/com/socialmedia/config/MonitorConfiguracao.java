@@ -0,0 +1,193 @@
+package com.socialmedia.config;
+
+import com.socialmedia.resultado.ErroPlataforma;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Recarrega as configurações de plataforma quando o arquivo muda (WatchService)
+ * Cada versão nova do arquivo é entregue inteira ao destino, normalmente
+ * GerenciadorMidiaSocial::aplicarConfiguracoes. Um arquivo ilegível ou inválido não altera
+ * nada: o erro vai para aoFalhar e a configuração anterior continua valendo
+ */
+public final class MonitorConfiguracao implements AutoCloseable {
+    private final Path arquivo;
+    private final Function<List<ConfiguracaoPlataforma>, List<ErroPlataforma>> destino;
+    private final Consumer<Exception> aoFalhar;
+    private final long agrupamentoNanos;
+    private final LongAdder recargas = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private volatile List<ErroPlataforma> ultimasFalhas = List.of();
+    // Conteúdo aplicado por último; só a thread do monitor usa depois de iniciar
+    private byte[] ultimoConteudo;
+    private WatchService watchService;
+    private Thread thread;
+
+    private MonitorConfiguracao(Builder builder) {
+        this.arquivo = builder.arquivo.toAbsolutePath();
+        this.destino = builder.destino;
+        this.aoFalhar = builder.aoFalhar;
+        this.agrupamentoNanos = builder.agrupamentoNanos;
+    }
+
+    /**
+     * Aplica o arquivo atual e passa a acompanhá-lo
+     * Aqui um arquivo inválido lança exceção, para a inicialização não seguir sem configuração;
+     * retorna as falhas de autenticação por plataforma da primeira aplicação
+     */
+    public synchronized List<ErroPlataforma> iniciar() throws IOException {
+        if (thread != null) {
+            throw new IllegalStateException("Monitor já iniciado");
+        }
+        byte[] conteudo = Files.readAllBytes(arquivo);
+        aplicar(conteudo);
+
+        watchService = arquivo.getFileSystem().newWatchService();
+        // Editores que salvam num temporário e renomeiam geram CREATE em vez de MODIFY
+        arquivo.getParent().register(watchService,
+            StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        thread = new Thread(this::monitorar, "monitor-configuracao");
+        thread.setDaemon(true);
+        thread.start();
+        return ultimasFalhas;
+    }
+
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    // Versões do arquivo entregues ao destino, incluindo a inicial; contada antes da entrega
+    public long getRecargas() {
+        return recargas.sum();
+    }
+
+    // Leituras descartadas por erro de E/S ou conteúdo inválido
+    public long getFalhas() {
+        return falhas.sum();
+    }
+
+    // Falhas por plataforma da última versão aplicada; atualizada quando o destino termina
+    public List<ErroPlataforma> getUltimasFalhas() {
+        return ultimasFalhas;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void monitorar() {
+        Path nome = arquivo.getFileName();
+        try {
+            while (true) {
+                if (!alterouArquivo(watchService.take(), nome)) {
+                    continue;
+                }
+                // Um salvamento costuma gerar vários eventos; espera as gravações pararem
+                WatchKey proxima;
+                while ((proxima = watchService.poll(agrupamentoNanos, TimeUnit.NANOSECONDS)) != null) {
+                    alterouArquivo(proxima, nome);
+                }
+                recarregar();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Monitor encerrado
+        }
+    }
+
+    private static boolean alterouArquivo(WatchKey chave, Path nome) {
+        boolean alterou = false;
+        for (WatchEvent<?> evento : chave.pollEvents()) {
+            if (evento.kind() == StandardWatchEventKinds.OVERFLOW || nome.equals(evento.context())) {
+                alterou = true;
+            }
+        }
+        chave.reset();
+        return alterou;
+    }
+
+    private void recarregar() {
+        try {
+            byte[] conteudo = Files.readAllBytes(arquivo);
+            if (!Arrays.equals(conteudo, ultimoConteudo)) {
+                aplicar(conteudo);
+            }
+        } catch (IOException | RuntimeException e) {
+            falhas.increment();
+            aoFalhar.accept(e);
+        }
+    }
+
+    private void aplicar(byte[] conteudo) throws IOException {
+        List<ConfiguracaoPlataforma> configs = ArquivoConfiguracao.ler(
+            new InputStreamReader(new ByteArrayInputStream(conteudo), StandardCharsets.UTF_8));
+        // Conta a versão antes de entregá-la, para getRecargas() nunca ficar atrás do que o destino já viu;
+        // o conteúdo só é guardado depois, para uma falha do destino não impedir a nova tentativa
+        recargas.increment();
+        ultimasFalhas = List.copyOf(destino.apply(configs));
+        ultimoConteudo = conteudo;
+    }
+
+    public static class Builder {
+        private Path arquivo;
+        private Function<List<ConfiguracaoPlataforma>, List<ErroPlataforma>> destino;
+        private Consumer<Exception> aoFalhar = erro -> { };
+        private long agrupamentoNanos = TimeUnit.MILLISECONDS.toNanos(200);
+
+        public Builder arquivo(Path arquivo) {
+            this.arquivo = arquivo;
+            return this;
+        }
+
+        // Recebe cada versão do arquivo e retorna as falhas por plataforma
+        public Builder destino(Function<List<ConfiguracaoPlataforma>, List<ErroPlataforma>> destino) {
+            this.destino = destino;
+            return this;
+        }
+
+        public Builder aoFalhar(Consumer<Exception> aoFalhar) {
+            if (aoFalhar == null) {
+                throw new IllegalArgumentException("Tratador de falhas não pode ser nulo");
+            }
+            this.aoFalhar = aoFalhar;
+            return this;
+        }
+
+        // Tempo sem novos eventos antes de recarregar (agrupa as gravações de um salvamento)
+        public Builder agrupamento(long tempo, TimeUnit unidade) {
+            if (tempo < 0) {
+                throw new IllegalArgumentException("Agrupamento não pode ser negativo");
+            }
+            this.agrupamentoNanos = unidade.toNanos(tempo);
+            return this;
+        }
+
+        public MonitorConfiguracao build() {
+            if (arquivo == null) {
+                throw new IllegalArgumentException("Arquivo de configuração não pode ser nulo");
+            }
+            if (destino == null) {
+                throw new IllegalArgumentException("Destino das configurações não pode ser nulo");
+            }
+            return new MonitorConfiguracao(this);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.socialmedia.conta;
+
+import java.util.Objects;
+
+// Identifica uma conta: tenant (cliente/marca), plataforma e conta dentro da plataforma
+public final class ChaveConta {
+    private final String tenant;
+    private final String plataforma;
+    private final String conta;
+    private final int hash;
+
+    public ChaveConta(String tenant, String plataforma, String conta) {
+        if (tenant == null || tenant.trim().isEmpty()) {
+            throw new IllegalArgumentException("Tenant não pode ser vazio");
+        }
+        if (plataforma == null || plataforma.trim().isEmpty()) {
+            throw new IllegalArgumentException("Plataforma não pode ser vazia");
+        }
+        if (conta == null || conta.trim().isEmpty()) {
+            throw new IllegalArgumentException("Conta não pode ser vazia");
+        }
+        this.tenant = tenant;
+        this.plataforma = plataforma.toUpperCase().trim();
+        this.conta = conta;
+        this.hash = Objects.hash(tenant, this.plataforma, conta);
+    }
+
+    public String getTenant() {
+        return tenant;
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    public String getConta() {
+        return conta;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ChaveConta that = (ChaveConta) o;
+        return hash == that.hash && tenant.equals(that.tenant) && plataforma.equals(that.plataforma)
+            && conta.equals(that.conta);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return tenant + "/" + plataforma + "/" + conta;
+    }
+}
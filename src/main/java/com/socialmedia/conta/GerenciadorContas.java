@@ -0,0 +1,191 @@
+package com.socialmedia.conta;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Estatisticas;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.resultado.ErroPlataforma;
+import com.socialmedia.resultado.Resultado;
+import com.socialmedia.service.OuvintePublicacao;
+import com.socialmedia.service.RedeSocialService;
+import com.socialmedia.strategy.RespostaStrategy;
+import com.socialmedia.strategy.RespostaUnificada;
+import com.socialmedia.validacao.ResultadoValidacao;
+import com.socialmedia.validacao.ValidadorConteudo;
+import com.socialmedia.validacao.ViolacaoValidacao;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fan-out sobre o RegistroContas: publica em todas as contas de um tenant ou em uma lista de contas
+ * Strategy, validador e ouvintes são compartilhados por todos os tenants, então um único gerenciador
+ * atende o processo inteiro. Pode ser usado por várias threads ao mesmo tempo
+ */
+public class GerenciadorContas {
+    private final RegistroContas registro;
+    private volatile RespostaStrategy respostaStrategy;
+    private volatile ValidadorConteudo validadorConteudo;
+    private final List<OuvintePublicacao> ouvintes = new CopyOnWriteArrayList<>();
+
+    public GerenciadorContas(RegistroContas registro, RespostaStrategy respostaStrategy) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro de contas não pode ser nulo");
+        }
+        if (respostaStrategy == null) {
+            throw new IllegalArgumentException("Strategy não pode ser nula");
+        }
+        this.registro = registro;
+        this.respostaStrategy = respostaStrategy;
+    }
+
+    public RegistroContas getRegistro() {
+        return registro;
+    }
+
+    // Publica em todas as contas do tenant; getResumos() da resposta segue a ordem de getContas(tenant)
+    public RespostaUnificada publicar(String tenant, Conteudo conteudo) {
+        return publicar(conteudo, registro.getContas(tenant));
+    }
+
+    // Publica nas contas informadas; getResumos() da resposta segue a ordem da lista
+    public RespostaUnificada publicar(Conteudo conteudo, List<ChaveConta> contas) {
+        return executarFanOut(conteudo, contas, RedeSocialService::tentarPublicar);
+    }
+
+    public RespostaUnificada agendar(String tenant, Conteudo conteudo) {
+        return agendar(conteudo, registro.getContas(tenant));
+    }
+
+    public RespostaUnificada agendar(Conteudo conteudo, List<ChaveConta> contas) {
+        if (conteudo.getDataAgendamento() == null) {
+            throw new IllegalArgumentException("Data de agendamento é obrigatória");
+        }
+        return executarFanOut(conteudo, contas, RedeSocialService::tentarAgendar);
+    }
+
+    public Resultado<Estatisticas> obterEstatisticas(ChaveConta conta, String publicacaoId) {
+        return registro.executar(conta, service -> service.tentarObterEstatisticas(publicacaoId));
+    }
+
+    public Resultado<Boolean> remover(ChaveConta conta, String publicacaoId) {
+        Resultado<Boolean> resultado = registro.executar(conta, service -> service.tentarRemover(publicacaoId));
+        if (resultado.isSucesso() && resultado.getValor()) {
+            for (OuvintePublicacao ouvinte : ouvintes) {
+                ouvinte.aoRemover(conta.getPlataforma(), publicacaoId);
+            }
+        }
+        return resultado;
+    }
+
+    public void setRespostaStrategy(RespostaStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy não pode ser nula");
+        }
+        this.respostaStrategy = strategy;
+    }
+
+    // Validação prévia do fan-out (null desativa)
+    public void setValidadorConteudo(ValidadorConteudo validador) {
+        this.validadorConteudo = validador;
+    }
+
+    public void adicionarOuvinte(OuvintePublicacao ouvinte) {
+        if (ouvinte == null) {
+            throw new IllegalArgumentException("Ouvinte não pode ser nulo");
+        }
+        ouvintes.add(ouvinte);
+    }
+
+    public boolean removerOuvinte(OuvintePublicacao ouvinte) {
+        return ouvintes.remove(ouvinte);
+    }
+
+    private RespostaUnificada executarFanOut(Conteudo conteudo, List<ChaveConta> contas,
+                                             BiFunction<RedeSocialService, Conteudo, Resultado<Publicacao>> operacao) {
+        List<Publicacao> rejeitadas = validarFanOut(conteudo, contas);
+        if (rejeitadas != null) {
+            return responder(rejeitadas);
+        }
+
+        Function<RedeSocialService, Resultado<Publicacao>> chamada = service -> operacao.apply(service, conteudo);
+        List<Publicacao> resultados = new ArrayList<>(contas.size());
+        for (ChaveConta conta : contas) {
+            long inicio = System.nanoTime();
+            Resultado<Publicacao> resultado = registro.executar(conta, chamada);
+            resultados.add(paraPublicacao(resultado, conteudo, inicio));
+        }
+        return responder(resultados);
+    }
+
+    // Mesmo contrato do GerenciadorMidiaSocial: FALHOU nas contas de plataformas com violações e CANCELADO nas demais,
+    // com o nome de plataforma dos adapters
+    private List<Publicacao> validarFanOut(Conteudo conteudo, List<ChaveConta> contas) {
+        ValidadorConteudo validador = validadorConteudo;
+        if (validador == null || contas.isEmpty()) {
+            return null;
+        }
+
+        Set<String> plataformas = new LinkedHashSet<>();
+        for (ChaveConta conta : contas) {
+            plataformas.add(conta.getPlataforma());
+        }
+        ResultadoValidacao resultado = validador.validar(conteudo, plataformas);
+        if (resultado.isValido()) {
+            return null;
+        }
+
+        List<Publicacao> rejeitadas = new ArrayList<>(contas.size());
+        for (ChaveConta conta : contas) {
+            List<ViolacaoValidacao> violacoes = resultado.getViolacoes(conta.getPlataforma());
+            Publicacao.Builder builder = new Publicacao.Builder()
+                .plataforma(registro.getNomePlataforma(conta))
+                .conteudo(conteudo);
+            if (violacoes.isEmpty()) {
+                builder.status(StatusPublicacao.CANCELADO)
+                    .mensagemErro("Fan-out cancelado: conteúdo inválido para outras plataformas");
+            } else {
+                builder.status(StatusPublicacao.FALHOU)
+                    .categoriaErro(CategoriaErro.INVALIDO)
+                    .mensagemErro(violacoes.stream()
+                        .map(ViolacaoValidacao::getMensagem)
+                        .collect(Collectors.joining("; ")));
+            }
+            rejeitadas.add(builder.build());
+        }
+        return rejeitadas;
+    }
+
+    private Publicacao paraPublicacao(Resultado<Publicacao> resultado, Conteudo conteudo, long inicio) {
+        long fim = System.nanoTime();
+        if (!resultado.isSucesso()) {
+            ErroPlataforma erro = resultado.getErro();
+            return new Publicacao.Builder()
+                .plataforma(erro.getPlataforma())
+                .conteudo(conteudo)
+                .status(StatusPublicacao.FALHOU)
+                .mensagemErro(erro.getMensagem())
+                .categoriaErro(erro.getCategoria())
+                .tempos(inicio, fim)
+                .build();
+        }
+        Publicacao publicacao = resultado.getValor();
+        return publicacao.isTemporizada() ? publicacao : publicacao.comTempos(inicio, fim);
+    }
+
+    private RespostaUnificada responder(List<Publicacao> publicacoes) {
+        for (OuvintePublicacao ouvinte : ouvintes) {
+            for (Publicacao publicacao : publicacoes) {
+                ouvinte.aoProcessar(publicacao);
+            }
+        }
+        return respostaStrategy.processar(publicacoes);
+    }
+}
@@ -0,0 +1,302 @@
+package com.socialmedia.conta;
+
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.factory.RedeSocialFactory;
+import com.socialmedia.jfr.RedeSocialServiceRastreado;
+import com.socialmedia.metricas.RedeSocialServiceMonitorado;
+import com.socialmedia.metricas.RegistroMetricas;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.resultado.ErroPlataforma;
+import com.socialmedia.resultado.Resultado;
+import com.socialmedia.service.RedeSocialService;
+import com.socialmedia.sessao.GerenciadorSessoes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Registro de contas de vários tenants, particionado em shards pelo tenant
+ * Registrar uma conta só guarda as credenciais: o adapter é criado e autenticado no primeiro uso
+ * e descartado depois de um período ocioso, então milhares de contas cadastradas custam pouca
+ * memória e só as contas em uso mantêm sessão. Cada shard tem o próprio lock e as contas de um
+ * tenant ficam no mesmo shard, o que permite listar o tenant sem percorrer o registro inteiro
+ */
+public class RegistroContas {
+    private final Shard[] shards;
+    private final int mascara;
+    private final long tempoOciosoNanos;
+    private final RegistroMetricas registroMetricas;
+    private final GerenciadorSessoes gerenciadorSessoes;
+    private final AtomicInteger sessoesAtivas = new AtomicInteger();
+    // Nome de exibição por plataforma (getNomePlataforma() do adapter), para não autenticar só para obtê-lo
+    private final Map<String, String> nomesPlataforma = new ConcurrentHashMap<>();
+    private ScheduledExecutorService agendador;
+
+    private RegistroContas(Builder builder) {
+        this.shards = new Shard[builder.shards];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard();
+        }
+        this.mascara = builder.shards - 1;
+        this.tempoOciosoNanos = builder.tempoOciosoNanos;
+        this.registroMetricas = builder.registroMetricas;
+        this.gerenciadorSessoes = builder.gerenciadorSessoes;
+    }
+
+    /**
+     * Registra (ou substitui) as credenciais de uma conta, sem autenticar
+     * Ao substituir, a sessão anterior é descartada
+     */
+    public void registrar(ChaveConta chave, String credenciais) {
+        if (chave == null) {
+            throw new IllegalArgumentException("Chave da conta não pode ser nula");
+        }
+        if (credenciais == null || credenciais.trim().isEmpty()) {
+            throw new IllegalArgumentException("Credenciais não podem ser vazias");
+        }
+        if (!RedeSocialFactory.isPlataformaSuportada(chave.getPlataforma())) {
+            throw new IllegalArgumentException("Plataforma não suportada: " + chave.getPlataforma());
+        }
+
+        SessaoConta nova = new SessaoConta(chave, credenciais);
+        SessaoConta anterior;
+        Shard shard = shard(chave.getTenant());
+        synchronized (shard) {
+            anterior = shard.contas.put(chave, nova);
+            List<SessaoConta> doTenant = shard.porTenant.computeIfAbsent(chave.getTenant(), t -> new ArrayList<>());
+            if (anterior != null) {
+                doTenant.remove(anterior);
+            }
+            doTenant.add(nova);
+        }
+        encerrar(anterior);
+    }
+
+    public boolean remover(ChaveConta chave) {
+        SessaoConta removida;
+        Shard shard = shard(chave.getTenant());
+        synchronized (shard) {
+            removida = shard.contas.remove(chave);
+            if (removida != null) {
+                List<SessaoConta> doTenant = shard.porTenant.get(chave.getTenant());
+                doTenant.remove(removida);
+                if (doTenant.isEmpty()) {
+                    shard.porTenant.remove(chave.getTenant());
+                }
+            }
+        }
+        encerrar(removida);
+        return removida != null;
+    }
+
+    // Remove todas as contas do tenant e devolve quantas eram
+    public int removerTenant(String tenant) {
+        List<SessaoConta> removidas;
+        Shard shard = shard(tenant);
+        synchronized (shard) {
+            removidas = shard.porTenant.remove(tenant);
+            if (removidas == null) {
+                return 0;
+            }
+            for (SessaoConta sessao : removidas) {
+                shard.contas.remove(sessao.getChave());
+            }
+        }
+        for (SessaoConta sessao : removidas) {
+            encerrar(sessao);
+        }
+        return removidas.size();
+    }
+
+    public boolean contem(ChaveConta chave) {
+        Shard shard = shard(chave.getTenant());
+        synchronized (shard) {
+            return shard.contas.containsKey(chave);
+        }
+    }
+
+    // Contas do tenant na ordem de registro
+    public List<ChaveConta> getContas(String tenant) {
+        Shard shard = shard(tenant);
+        synchronized (shard) {
+            List<SessaoConta> doTenant = shard.porTenant.get(tenant);
+            if (doTenant == null) {
+                return List.of();
+            }
+            List<ChaveConta> chaves = new ArrayList<>(doTenant.size());
+            for (SessaoConta sessao : doTenant) {
+                chaves.add(sessao.getChave());
+            }
+            return chaves;
+        }
+    }
+
+    public int getTotalContas() {
+        int total = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                total += shard.contas.size();
+            }
+        }
+        return total;
+    }
+
+    // Contas com adapter autenticado em memória
+    public int getSessoesAtivas() {
+        return sessoesAtivas.get();
+    }
+
+    /**
+     * Nome da plataforma da conta como os adapters o informam (ex.: "Twitter"), sem abrir sessão
+     * Plataformas que a factory não conhece mantêm o nome da chave
+     */
+    public String getNomePlataforma(ChaveConta chave) {
+        String plataforma = chave.getPlataforma();
+        String nome = nomesPlataforma.get(plataforma);
+        if (nome != null) {
+            return nome;
+        }
+        try {
+            nome = RedeSocialFactory.criar(plataforma).getNomePlataforma();
+        } catch (IllegalArgumentException e) {
+            return plataforma;
+        }
+        nomesPlataforma.putIfAbsent(plataforma, nome);
+        return nome;
+    }
+
+    /**
+     * Executa a operação no adapter da conta, autenticando se preciso
+     * Conta não registrada resulta em falha NAO_ENCONTRADO; autenticação recusada, em AUTENTICACAO
+     */
+    public <T> Resultado<T> executar(ChaveConta chave, Function<RedeSocialService, Resultado<T>> operacao) {
+        SessaoConta sessao;
+        Shard shard = shard(chave.getTenant());
+        synchronized (shard) {
+            sessao = shard.contas.get(chave);
+        }
+        if (sessao == null) {
+            return Resultado.falha(new ErroPlataforma(chave.getPlataforma(), CategoriaErro.NAO_ENCONTRADO,
+                "Conta não registrada: " + chave));
+        }
+        return sessao.executar(this::abrirSessao, sessoesAtivas::incrementAndGet, operacao);
+    }
+
+    /**
+     * Descarta os adapters das contas sem uso há mais que o tempo ocioso
+     * Contas em uso no momento são ignoradas; devolve quantas sessões foram descartadas
+     */
+    public int despejarOciosas() {
+        long limite = System.nanoTime() - tempoOciosoNanos;
+        int despejadas = 0;
+        List<SessaoConta> candidatas = new ArrayList<>();
+        for (Shard shard : shards) {
+            candidatas.clear();
+            synchronized (shard) {
+                candidatas.addAll(shard.contas.values());
+            }
+            for (SessaoConta sessao : candidatas) {
+                if (sessao.despejarSeOciosa(limite)) {
+                    despejadas++;
+                }
+            }
+        }
+        sessoesAtivas.addAndGet(-despejadas);
+        return despejadas;
+    }
+
+    /**
+     * Executa despejarOciosas() periodicamente em uma thread daemon; cancele pelo ScheduledFuture
+     */
+    public synchronized ScheduledFuture<?> iniciarDespejoPeriodico(long intervalo, TimeUnit unidade) {
+        if (agendador == null) {
+            agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+                Thread thread = new Thread(tarefa, "despejo-contas");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return agendador.scheduleWithFixedDelay(this::despejarOciosas, intervalo, intervalo, unidade);
+    }
+
+    // Service da conta com os mesmos decoradores do GerenciadorMidiaSocial; métricas compartilhadas por plataforma
+    private RedeSocialService abrirSessao(ChaveConta chave, String credenciais) throws AutenticacaoException {
+        GerenciadorSessoes sessoes = gerenciadorSessoes;
+        RedeSocialService base = sessoes != null
+            ? sessoes.obter(chave.getPlataforma(), credenciais)
+            : RedeSocialFactory.criar(chave.getPlataforma());
+        RedeSocialService service = new RedeSocialServiceRastreado(base);
+        if (registroMetricas != null) {
+            service = new RedeSocialServiceMonitorado(service, registroMetricas);
+        }
+        if (sessoes == null) {
+            service.autenticar(credenciais);
+        }
+        return service;
+    }
+
+    private void encerrar(SessaoConta sessao) {
+        if (sessao != null && sessao.encerrar()) {
+            sessoesAtivas.decrementAndGet();
+        }
+    }
+
+    private Shard shard(String tenant) {
+        int h = tenant.hashCode();
+        return shards[(h ^ (h >>> 16)) & mascara];
+    }
+
+    private static final class Shard {
+        private final Map<ChaveConta, SessaoConta> contas = new HashMap<>();
+        private final Map<String, List<SessaoConta>> porTenant = new HashMap<>();
+    }
+
+    public static class Builder {
+        private int shards = 64;
+        private long tempoOciosoNanos = TimeUnit.MINUTES.toNanos(10);
+        private RegistroMetricas registroMetricas;
+        private GerenciadorSessoes gerenciadorSessoes;
+
+        // Quantidade de shards, arredondada para a próxima potência de 2
+        public Builder shards(int shards) {
+            if (shards <= 0 || shards > (1 << 16)) {
+                throw new IllegalArgumentException("Quantidade de shards deve estar entre 1 e 65536");
+            }
+            this.shards = shards == 1 ? 1 : Integer.highestOneBit(shards - 1) << 1;
+            return this;
+        }
+
+        // Tempo sem uso depois do qual a sessão da conta pode ser descartada
+        public Builder tempoOcioso(long tempo, TimeUnit unidade) {
+            if (tempo <= 0) {
+                throw new IllegalArgumentException("Tempo ocioso deve ser positivo");
+            }
+            this.tempoOciosoNanos = unidade.toNanos(tempo);
+            return this;
+        }
+
+        public Builder registroMetricas(RegistroMetricas registroMetricas) {
+            this.registroMetricas = registroMetricas;
+            return this;
+        }
+
+        // Sessões compartilhadas e renovadas em segundo plano; o despejo só descarta a referência local
+        public Builder gerenciadorSessoes(GerenciadorSessoes gerenciadorSessoes) {
+            this.gerenciadorSessoes = gerenciadorSessoes;
+            return this;
+        }
+
+        public RegistroContas build() {
+            return new RegistroContas(this);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.socialmedia.conta;
+
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.resultado.ErroPlataforma;
+import com.socialmedia.resultado.Resultado;
+import com.socialmedia.service.RedeSocialService;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Conta registrada e, quando em uso, o seu adapter autenticado
+ * As operações de uma conta são serializadas pelo lock (os adapters não são thread-safe);
+ * contas diferentes seguem em paralelo
+ */
+final class SessaoConta {
+    private final ChaveConta chave;
+    private final String credenciais;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile RedeSocialService service;
+    private boolean removida;
+    private volatile long ultimoUsoNanos = System.nanoTime();
+
+    SessaoConta(ChaveConta chave, String credenciais) {
+        this.chave = chave;
+        this.credenciais = credenciais;
+    }
+
+    ChaveConta getChave() {
+        return chave;
+    }
+
+    // Abre o service autenticado da conta; chamado com o lock da conta
+    @FunctionalInterface
+    interface AberturaSessao {
+        RedeSocialService abrir(ChaveConta chave, String credenciais) throws AutenticacaoException;
+    }
+
+    // Executa a operação com o service da conta, abrindo a sessão na primeira vez (ou após o despejo)
+    <T> Resultado<T> executar(AberturaSessao abertura, Runnable aoAutenticar,
+                              Function<RedeSocialService, Resultado<T>> operacao) {
+        lock.lock();
+        try {
+            if (removida) {
+                return Resultado.falha(new ErroPlataforma(chave.getPlataforma(), CategoriaErro.NAO_ENCONTRADO,
+                    "Conta removida: " + chave));
+            }
+            RedeSocialService atual = service;
+            if (atual == null) {
+                try {
+                    atual = abertura.abrir(chave, credenciais);
+                } catch (AutenticacaoException e) {
+                    return Resultado.falha(ErroPlataforma.autenticacao(chave.getPlataforma(),
+                        "Conta " + chave + ": " + e.getMessage()));
+                }
+                service = atual;
+                aoAutenticar.run();
+            }
+            return operacao.apply(atual);
+        } finally {
+            ultimoUsoNanos = System.nanoTime();
+            lock.unlock();
+        }
+    }
+
+    boolean isAutenticada() {
+        return service != null;
+    }
+
+    /**
+     * Descarta o adapter se a conta está ociosa desde antes do limite e não está em uso
+     * Mantém o registro: o próximo uso autentica de novo
+     */
+    boolean despejarSeOciosa(long limiteNanos) {
+        if (ultimoUsoNanos - limiteNanos > 0 || !lock.tryLock()) {
+            return false;
+        }
+        try {
+            if (service == null || ultimoUsoNanos - limiteNanos > 0) {
+                return false;
+            }
+            service = null;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Descarta o adapter (conta removida do registro)
+    boolean encerrar() {
+        lock.lock();
+        try {
+            boolean autenticada = service != null;
+            service = null;
+            removida = true;
+            return autenticada;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
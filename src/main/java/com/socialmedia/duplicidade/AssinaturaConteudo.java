@@ -0,0 +1,140 @@
+package com.socialmedia.duplicidade;
+
+import com.socialmedia.busca.Tokenizador;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.util.Hash64;
+
+import java.util.Arrays;
+
+/**
+ * Assinatura MinHash do conteúdo renderizado (texto, hashtags e mídias)
+ * As características são os termos normalizados e os pares de termos consecutivos,
+ * então mudanças de caixa, acentuação, pontuação ou separadores não alteram a assinatura
+ * A fração de componentes iguais entre duas assinaturas estima a similaridade de Jaccard
+ */
+public final class AssinaturaConteudo {
+    public static final int COMPONENTES = 64;
+
+    private static final long SEMENTE_PASSO = 0x9e3779b97f4a7c15L;
+
+    private final int[] valores;
+    private final boolean vazia;
+
+    private AssinaturaConteudo(int[] valores, boolean vazia) {
+        this.valores = valores;
+        this.vazia = vazia;
+    }
+
+    public static AssinaturaConteudo de(Conteudo conteudo) {
+        Acumulador acumulador = new Acumulador();
+        int posicao = Tokenizador.tokenizar(conteudo.getTexto(), 0, acumulador);
+        for (String hashtag : conteudo.getHashtags()) {
+            posicao = Tokenizador.tokenizarHashtag(hashtag, posicao, acumulador);
+        }
+        for (String midia : conteudo.getMidias()) {
+            acumulador.adicionar(Hash64.de(midia));
+        }
+        if (!acumulador.alterado) {
+            adicionarCodePoints(conteudo.getTexto(), acumulador);
+        }
+        return new AssinaturaConteudo(acumulador.minimos, !acumulador.alterado);
+    }
+
+    /**
+     * Texto sem termos (só emoji ou pontuação): usa os code points e os pares consecutivos,
+     * ignorando espaços, para esses textos não compartilharem a mesma assinatura vazia
+     */
+    private static void adicionarCodePoints(String texto, Acumulador acumulador) {
+        if (texto == null) {
+            return;
+        }
+        long anterior = 0;
+        boolean temAnterior = false;
+        for (int i = 0; i < texto.length(); ) {
+            int codePoint = texto.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isWhitespace(codePoint)) {
+                continue;
+            }
+            long hash = Hash64.misturar(codePoint);
+            acumulador.adicionar(hash);
+            if (temAnterior) {
+                acumulador.adicionar(Hash64.misturar(anterior ^ Long.rotateLeft(hash, 17)));
+            }
+            anterior = hash;
+            temAnterior = true;
+        }
+    }
+
+    /**
+     * Conteúdo sem nenhuma característica (sem texto, hashtags ou mídias); não é comparável
+     */
+    public boolean isVazia() {
+        return vazia;
+    }
+
+    /**
+     * Similaridade de Jaccard estimada (0 a 1)
+     */
+    public double similaridade(AssinaturaConteudo outra) {
+        return iguais(outra) / (double) COMPONENTES;
+    }
+
+    int iguais(AssinaturaConteudo outra) {
+        int iguais = 0;
+        for (int i = 0; i < COMPONENTES; i++) {
+            if (valores[i] == outra.valores[i]) {
+                iguais++;
+            }
+        }
+        return iguais;
+    }
+
+    /**
+     * Hash de uma banda de componentes (chave do LSH)
+     */
+    long banda(int indice, int componentesPorBanda) {
+        long h = indice;
+        int inicio = indice * componentesPorBanda;
+        for (int i = inicio; i < inicio + componentesPorBanda; i++) {
+            h = h * 0x100000001b3L + valores[i];
+        }
+        return Hash64.misturar(h);
+    }
+
+    // Acumula o mínimo de cada função de hash sobre as características
+    private static final class Acumulador implements Tokenizador.ConsumidorTermo {
+        private final int[] minimos = new int[COMPONENTES];
+        private boolean alterado;
+        private int ultimaPosicao = -1;
+        private long hashAnterior;
+
+        Acumulador() {
+            Arrays.fill(minimos, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void aceitar(String termo, int posicao) {
+            long hash = Hash64.de(termo);
+            adicionar(hash);
+            if (posicao != ultimaPosicao) {
+                if (ultimaPosicao >= 0) {
+                    adicionar(Hash64.misturar(hashAnterior ^ Long.rotateLeft(hash, 17)));
+                }
+                ultimaPosicao = posicao;
+                hashAnterior = hash;
+            }
+        }
+
+        // Família de hashes h_i = h1 + i * h2 (duplo hashing)
+        void adicionar(long caracteristica) {
+            long h = caracteristica;
+            long passo = Hash64.misturar(caracteristica ^ SEMENTE_PASSO) | 1L;
+            alterado = true;
+            for (int i = 0; i < COMPONENTES; i++) {
+                minimos[i] = Math.min(minimos[i], (int) (h >>> 32));
+                h += passo;
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.socialmedia.duplicidade;
+
+import com.socialmedia.cache.CacheRenderizacao;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.service.OuvintePublicacao;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Detecção de conteúdo quase duplicado antes do fan-out
+ * Mantém, por plataforma, um índice LSH das assinaturas MinHash das publicações recentes;
+ * a verificação custa uma assinatura (calculada uma vez por Conteudo) e algumas
+ * consultas em tabela hash, então pode rodar em toda publicação
+ *
+ * Registrado no GerenciadorMidiaSocial via setDetectorDuplicidade, aprende com as
+ * publicações PUBLICADO/AGENDADO e esquece as removidas
+ */
+public class DetectorDuplicidade implements OuvintePublicacao {
+    public static final double LIMIAR_PADRAO = 0.7;
+    public static final Duration JANELA_PADRAO = Duration.ofHours(24);
+    public static final int CAPACIDADE_PADRAO = 10_000;
+    public static final int BANDAS_PADRAO = 16;
+
+    private static final String CHAVE_CACHE = "MINHASH";
+
+    private final double limiar;
+    private final int minimoIguais;
+    private final long janelaMs;
+    private final int capacidadePorPlataforma;
+    private final int bandas;
+    private final ModoDuplicidade modo;
+    private final Map<String, IndiceLsh> indices = new ConcurrentHashMap<>();
+    private final CacheRenderizacao<AssinaturaConteudo> assinaturas = new CacheRenderizacao<>();
+    private final List<OuvinteDuplicidade> ouvintes = new CopyOnWriteArrayList<>();
+
+    private DetectorDuplicidade(Builder builder) {
+        this.limiar = builder.limiar;
+        this.minimoIguais = (int) Math.ceil(builder.limiar * AssinaturaConteudo.COMPONENTES);
+        this.janelaMs = builder.janela.toMillis();
+        this.capacidadePorPlataforma = builder.capacidadePorPlataforma;
+        this.bandas = builder.bandas;
+        this.modo = builder.modo;
+    }
+
+    /**
+     * Verifica o conteúdo contra as publicações recentes da plataforma
+     * Retorna a duplicidade mais próxima (já notificada aos ouvintes) ou null;
+     * conteúdo sem nenhuma característica nunca é duplicado
+     */
+    public Duplicidade verificar(Conteudo conteudo, String plataforma) {
+        IndiceLsh indice = indices.get(plataforma.toUpperCase());
+        if (indice == null) {
+            return null;
+        }
+        AssinaturaConteudo assinatura = assinar(conteudo);
+        if (assinatura.isVazia()) {
+            return null;
+        }
+        Duplicidade duplicidade = indice.buscar(assinatura, minimoIguais, System.currentTimeMillis() - janelaMs);
+        if (duplicidade != null) {
+            for (OuvinteDuplicidade ouvinte : ouvintes) {
+                ouvinte.aoDetectar(duplicidade);
+            }
+        }
+        return duplicidade;
+    }
+
+    /**
+     * Registra o conteúdo publicado na janela da plataforma
+     */
+    public void registrar(Conteudo conteudo, String plataforma, String publicacaoId) {
+        AssinaturaConteudo assinatura = assinar(conteudo);
+        if (assinatura.isVazia()) {
+            return;
+        }
+        indices.computeIfAbsent(plataforma.toUpperCase(),
+                chave -> new IndiceLsh(plataforma, capacidadePorPlataforma, bandas))
+            .adicionar(assinatura, publicacaoId, System.currentTimeMillis());
+    }
+
+    @Override
+    public void aoProcessar(Publicacao publicacao) {
+        StatusPublicacao status = publicacao.getStatus();
+        if (status == StatusPublicacao.PUBLICADO || status == StatusPublicacao.AGENDADO) {
+            registrar(publicacao.getConteudo(), publicacao.getPlataforma(), publicacao.getId());
+        }
+    }
+
+    @Override
+    public void aoRemover(String plataforma, String publicacaoId) {
+        IndiceLsh indice = indices.get(plataforma.toUpperCase());
+        if (indice != null) {
+            indice.remover(publicacaoId);
+        }
+    }
+
+    public void adicionarOuvinte(OuvinteDuplicidade ouvinte) {
+        if (ouvinte == null) {
+            throw new IllegalArgumentException("Ouvinte não pode ser nulo");
+        }
+        ouvintes.add(ouvinte);
+    }
+
+    public ModoDuplicidade getModo() {
+        return modo;
+    }
+
+    public double getLimiar() {
+        return limiar;
+    }
+
+    // A assinatura é calculada uma vez por instância de Conteudo (verificação + registro)
+    private AssinaturaConteudo assinar(Conteudo conteudo) {
+        return assinaturas.obter(conteudo, CHAVE_CACHE, AssinaturaConteudo::de);
+    }
+
+    public static class Builder {
+        private double limiar = LIMIAR_PADRAO;
+        private Duration janela = JANELA_PADRAO;
+        private int capacidadePorPlataforma = CAPACIDADE_PADRAO;
+        private int bandas = BANDAS_PADRAO;
+        private ModoDuplicidade modo = ModoDuplicidade.BLOQUEAR;
+
+        // Similaridade de Jaccard a partir da qual o conteúdo é considerado duplicado
+        public Builder limiar(double limiar) {
+            this.limiar = limiar;
+            return this;
+        }
+
+        // Por quanto tempo uma publicação é considerada recente
+        public Builder janela(Duration janela) {
+            this.janela = janela;
+            return this;
+        }
+
+        // Publicações recentes mantidas por plataforma
+        public Builder capacidadePorPlataforma(int capacidade) {
+            this.capacidadePorPlataforma = capacidade;
+            return this;
+        }
+
+        // Bandas do LSH (mais bandas: mais candidatos e maior sensibilidade)
+        public Builder bandas(int bandas) {
+            this.bandas = bandas;
+            return this;
+        }
+
+        public Builder modo(ModoDuplicidade modo) {
+            this.modo = modo;
+            return this;
+        }
+
+        public DetectorDuplicidade build() {
+            if (limiar <= 0 || limiar > 1) {
+                throw new IllegalArgumentException("Limiar deve estar entre 0 (exclusivo) e 1");
+            }
+            if (janela == null || janela.isNegative() || janela.isZero()) {
+                throw new IllegalArgumentException("Janela deve ser positiva");
+            }
+            if (capacidadePorPlataforma <= 0) {
+                throw new IllegalArgumentException("Capacidade deve ser positiva");
+            }
+            if (bandas <= 0 || AssinaturaConteudo.COMPONENTES % bandas != 0) {
+                throw new IllegalArgumentException("Bandas deve dividir " + AssinaturaConteudo.COMPONENTES);
+            }
+            if (modo == null) {
+                throw new IllegalArgumentException("Modo não pode ser nulo");
+            }
+            return new DetectorDuplicidade(this);
+        }
+    }
+}
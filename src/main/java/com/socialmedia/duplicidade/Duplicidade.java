@@ -0,0 +1,36 @@
+package com.socialmedia.duplicidade;
+
+// Conteúdo considerado quase duplicado de uma publicação recente da mesma plataforma
+public class Duplicidade {
+    private final String plataforma;
+    private final String publicacaoOriginalId;
+    private final double similaridade;
+
+    Duplicidade(String plataforma, String publicacaoOriginalId, double similaridade) {
+        this.plataforma = plataforma;
+        this.publicacaoOriginalId = publicacaoOriginalId;
+        this.similaridade = similaridade;
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    public String getPublicacaoOriginalId() {
+        return publicacaoOriginalId;
+    }
+
+    // Similaridade de Jaccard estimada (0 a 1)
+    public double getSimilaridade() {
+        return similaridade;
+    }
+
+    @Override
+    public String toString() {
+        return "Duplicidade{" +
+                "plataforma='" + plataforma + '\'' +
+                ", publicacaoOriginalId='" + publicacaoOriginalId + '\'' +
+                ", similaridade=" + similaridade +
+                '}';
+    }
+}
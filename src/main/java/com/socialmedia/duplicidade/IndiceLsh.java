@@ -0,0 +1,125 @@
+package com.socialmedia.duplicidade;
+
+import com.socialmedia.util.ListaInts;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Índice LSH das publicações recentes de uma plataforma
+ * Buffer circular de capacidade fixa: a entrada mais antiga é sobrescrita
+ * e retirada das bandas; cada banda agrupa assinaturas com a mesma fatia de componentes
+ */
+final class IndiceLsh {
+    private final String plataforma;
+    private final int bandas;
+    private final int componentesPorBanda;
+    private final AssinaturaConteudo[] assinaturas;
+    private final String[] ids;
+    private final long[] instantes;
+    private final Map<Long, ListaInts> baldes = new HashMap<>();
+    private final Map<String, Integer> slotPorId = new HashMap<>();
+    // Marca dos slots já comparados na consulta atual (evita comparar duas vezes)
+    private final int[] marcas;
+    private int consultaAtual;
+    private int proximo;
+
+    IndiceLsh(String plataforma, int capacidade, int bandas) {
+        this.plataforma = plataforma;
+        this.bandas = bandas;
+        this.componentesPorBanda = AssinaturaConteudo.COMPONENTES / bandas;
+        this.assinaturas = new AssinaturaConteudo[capacidade];
+        this.ids = new String[capacidade];
+        this.instantes = new long[capacidade];
+        this.marcas = new int[capacidade];
+    }
+
+    synchronized void adicionar(AssinaturaConteudo assinatura, String publicacaoId, long instante) {
+        int slot = proximo;
+        proximo = (proximo + 1) % assinaturas.length;
+        liberar(slot);
+
+        assinaturas[slot] = assinatura;
+        ids[slot] = publicacaoId;
+        instantes[slot] = instante;
+        for (int b = 0; b < bandas; b++) {
+            baldes.computeIfAbsent(assinatura.banda(b, componentesPorBanda), chave -> new ListaInts(2))
+                .adicionar(slot);
+        }
+        if (publicacaoId != null) {
+            Integer anterior = slotPorId.put(publicacaoId, slot);
+            if (anterior != null && anterior != slot) {
+                liberar(anterior);
+            }
+        }
+    }
+
+    synchronized boolean remover(String publicacaoId) {
+        Integer slot = slotPorId.get(publicacaoId);
+        if (slot == null) {
+            return false;
+        }
+        liberar(slot);
+        return true;
+    }
+
+    /**
+     * Entrada mais parecida com ao menos 'minimoIguais' componentes iguais e registrada
+     * a partir de 'desde', ou null
+     */
+    synchronized Duplicidade buscar(AssinaturaConteudo assinatura, int minimoIguais, long desde) {
+        if (++consultaAtual == 0) {
+            Arrays.fill(marcas, 0);
+            consultaAtual = 1;
+        }
+        int melhor = -1;
+        int melhorIguais = minimoIguais - 1;
+        for (int b = 0; b < bandas; b++) {
+            ListaInts candidatos = baldes.get(assinatura.banda(b, componentesPorBanda));
+            if (candidatos == null) {
+                continue;
+            }
+            for (int i = 0; i < candidatos.tamanho(); i++) {
+                int slot = candidatos.get(i);
+                if (marcas[slot] == consultaAtual) {
+                    continue;
+                }
+                marcas[slot] = consultaAtual;
+                if (instantes[slot] < desde) {
+                    continue;
+                }
+                int iguais = assinatura.iguais(assinaturas[slot]);
+                if (iguais > melhorIguais) {
+                    melhorIguais = iguais;
+                    melhor = slot;
+                }
+            }
+        }
+        return melhor >= 0
+            ? new Duplicidade(plataforma, ids[melhor], melhorIguais / (double) AssinaturaConteudo.COMPONENTES)
+            : null;
+    }
+
+    private void liberar(int slot) {
+        AssinaturaConteudo antiga = assinaturas[slot];
+        if (antiga == null) {
+            return;
+        }
+        for (int b = 0; b < bandas; b++) {
+            long chave = antiga.banda(b, componentesPorBanda);
+            ListaInts balde = baldes.get(chave);
+            if (balde != null) {
+                balde.remover(slot);
+                if (balde.isVazia()) {
+                    baldes.remove(chave);
+                }
+            }
+        }
+        if (ids[slot] != null) {
+            slotPorId.remove(ids[slot], slot);
+        }
+        assinaturas[slot] = null;
+        ids[slot] = null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.socialmedia.duplicidade;
+
+// O que fazer quando um conteúdo quase duplicado é detectado
+public enum ModoDuplicidade {
+    SINALIZAR,  // Notifica os ouvintes e publica normalmente
+    BLOQUEAR    // Notifica os ouvintes e não publica na plataforma (FALHOU / DUPLICADO)
+}
@@ -0,0 +1,9 @@
+package com.socialmedia.duplicidade;
+
+/**
+ * Notificado a cada conteúdo quase duplicado detectado
+ */
+@FunctionalInterface
+public interface OuvinteDuplicidade {
+    void aoDetectar(Duplicidade duplicidade);
+}
@@ -1,15 +1,49 @@
 package com.socialmedia.exception;
 
+import com.socialmedia.resultado.CategoriaErro;
+
 /**
  * Exceção para erros relacionados a publicações
  */
 public class PublicacaoException extends Exception {
+    private final CategoriaErro categoria;
+
     public PublicacaoException(String mensagem) {
         super(mensagem);
+        this.categoria = null;
     }
 
     public PublicacaoException(String mensagem, Throwable causa) {
         super(mensagem, causa);
+        this.categoria = null;
+    }
+
+    public PublicacaoException(String mensagem, CategoriaErro categoria) {
+        super(mensagem);
+        this.categoria = categoria;
+    }
+
+    /**
+     * Cria uma exceção sem stack trace, para erros esperados (ex.: validação)
+     * em que o rastreamento não agrega diagnóstico e só custa CPU
+     */
+    public static PublicacaoException semStackTrace(String mensagem) {
+        return new PublicacaoException(mensagem, null, null, false);
+    }
+
+    public static PublicacaoException semStackTrace(String mensagem, CategoriaErro categoria) {
+        return new PublicacaoException(mensagem, null, categoria, false);
     }
-}
 
+    protected PublicacaoException(String mensagem, Throwable causa, CategoriaErro categoria, boolean comStackTrace) {
+        super(mensagem, causa, false, comStackTrace);
+        this.categoria = categoria;
+    }
+
+    /**
+     * Categoria da falha, ou null quando não classificada
+     */
+    public CategoriaErro getCategoria() {
+        return categoria;
+    }
+}
@@ -0,0 +1,17 @@
+package com.socialmedia.factory;
+
+import com.socialmedia.service.RedeSocialService;
+
+/**
+ * Ponto de extensão para novas plataformas, descoberto via java.util.ServiceLoader
+ * Implementações são declaradas em META-INF/services/com.socialmedia.factory.ProvedorPlataforma
+ * e precisam de construtor público sem argumentos. O provedor deve ser leve: a classe do adapter
+ * só é carregada quando criar() é chamado pela primeira vez
+ */
+public interface ProvedorPlataforma {
+
+    // Nome da plataforma (comparado sem diferenciar maiúsculas, ex.: "TWITTER")
+    String getNome();
+
+    RedeSocialService criar();
+}
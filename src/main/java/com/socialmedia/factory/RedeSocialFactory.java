@@ -1,27 +1,44 @@
 package com.socialmedia.factory;
 
-import com.socialmedia.adapter.*;
 import com.socialmedia.service.RedeSocialService;
 import com.socialmedia.exception.AutenticacaoException;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.function.Supplier;
 
 
-// Factory para criar instâncias de RedeSocialService
-// Implementa o padrão Factory Method com registro dinâmico
+/**
+ * Factory para criar instâncias de RedeSocialService
+ * Implementa o padrão Factory Method com registro dinâmico. As plataformas são descobertas
+ * via ServiceLoader (ProvedorPlataforma) no primeiro uso da factory; os adapters só são
+ * carregados quando criados. O registro é um mapa imutável publicado por referência volátil:
+ * a leitura não usa lock e registrar/removerRegistro trocam o mapa inteiro (copy-on-write)
+ */
 public class RedeSocialFactory {
-    private static final Map<String, Supplier<RedeSocialService>> registry = new HashMap<>();
-    
-    static {
-        // Registro das plataformas suportadas
-        registrar("TWITTER", TwitterAdapter::new);
-        registrar("INSTAGRAM", InstagramAdapter::new);
-        registrar("LINKEDIN", LinkedInAdapter::new);
-        registrar("TIKTOK", TikTokAdapter::new);
-    }
+    private static volatile Map<String, ProvedorPlataforma> registry = descobrirProvedores();
 
+    // Provedores declarados em META-INF/services; em nomes repetidos vale o primeiro do classpath
+    private static Map<String, ProvedorPlataforma> descobrirProvedores() {
+        Map<String, ProvedorPlataforma> encontrados = new HashMap<>();
+        Iterator<ProvedorPlataforma> provedores = ServiceLoader.load(
+            ProvedorPlataforma.class, RedeSocialFactory.class.getClassLoader()).iterator();
+        try {
+            while (provedores.hasNext()) {
+                ProvedorPlataforma provedor = provedores.next();
+                if (provedor.getNome() == null || provedor.getNome().trim().isEmpty()) {
+                    throw new IllegalStateException("Provedor sem nome de plataforma: " + provedor.getClass().getName());
+                }
+                encontrados.putIfAbsent(normalizar(provedor.getNome()), provedor);
+            }
+        } catch (ServiceConfigurationError e) {
+            throw new IllegalStateException("Provedor de plataforma inválido: " + e.getMessage(), e);
+        }
+        return Map.copyOf(encontrados);
+    }
 
     // Cria uma instância de RedeSocialService para a plataforma especificada
     public static RedeSocialService criar(String plataforma) {
@@ -29,17 +46,17 @@ public class RedeSocialFactory {
             throw new IllegalArgumentException("Nome da plataforma não pode ser vazio");
         }
         
-        String plataformaNormalizada = plataforma.toUpperCase().trim();
+        String plataformaNormalizada = normalizar(plataforma);
         
-        Supplier<RedeSocialService> supplier = registry.get(plataformaNormalizada);
-        if (supplier == null) {
+        ProvedorPlataforma provedor = registry.get(plataformaNormalizada);
+        if (provedor == null) {
             throw new IllegalArgumentException(
                 "Plataforma não suportada: " + plataforma + 
                 ". Plataformas disponíveis: " + String.join(", ", registry.keySet())
             );
         }
         
-        return supplier.get();
+        return provedor.criar();
     }
 
     // Cria e autentica uma instância de RedeSocialService
@@ -50,9 +67,9 @@ public class RedeSocialFactory {
         return service;
     }
 
-    // Registra uma nova plataforma na factory
+    // Registra uma nova plataforma na factory (ou substitui a descoberta via ServiceLoader)
     // Permite extensibilidade para adicionar novas plataformas dinamicamente
-    public static void registrar(String nome, Supplier<RedeSocialService> supplier) {
+    public static synchronized void registrar(String nome, Supplier<RedeSocialService> supplier) {
         if (nome == null || nome.trim().isEmpty()) {
             throw new IllegalArgumentException("Nome da plataforma não pode ser vazio");
         }
@@ -60,16 +77,24 @@ public class RedeSocialFactory {
             throw new IllegalArgumentException("Supplier não pode ser nulo");
         }
         
-        registry.put(nome.toUpperCase().trim(), supplier);
+        Map<String, ProvedorPlataforma> novo = new HashMap<>(registry);
+        String nomeNormalizado = normalizar(nome);
+        novo.put(nomeNormalizado, new ProvedorRegistrado(nomeNormalizado, supplier));
+        registry = Map.copyOf(novo);
     }
 
     // Remove uma plataforma do registro
-    public static boolean removerRegistro(String nome) {
+    public static synchronized boolean removerRegistro(String nome) {
         if (nome == null || nome.trim().isEmpty()) {
             return false;
         }
         
-        return registry.remove(nome.toUpperCase().trim()) != null;
+        Map<String, ProvedorPlataforma> novo = new HashMap<>(registry);
+        if (novo.remove(normalizar(nome)) == null) {
+            return false;
+        }
+        registry = Map.copyOf(novo);
+        return true;
     }
 
     // Verifica se uma plataforma está registrada
@@ -78,12 +103,36 @@ public class RedeSocialFactory {
             return false;
         }
         
-        return registry.containsKey(nome.toUpperCase().trim());
+        return registry.containsKey(normalizar(nome));
     }
 
     // Retorna todas as plataformas suportadas
     public static String[] getPlataformasSuportadas() {
         return registry.keySet().toArray(new String[0]);
     }
-}
 
+    // Provedor vindo de registrar(); os do ServiceLoader são guardados como estão, sem lambdas no bootstrap
+    private static final class ProvedorRegistrado implements ProvedorPlataforma {
+        private final String nome;
+        private final Supplier<RedeSocialService> supplier;
+
+        ProvedorRegistrado(String nome, Supplier<RedeSocialService> supplier) {
+            this.nome = nome;
+            this.supplier = supplier;
+        }
+
+        @Override
+        public String getNome() {
+            return nome;
+        }
+
+        @Override
+        public RedeSocialService criar() {
+            return supplier.get();
+        }
+    }
+
+    private static String normalizar(String nome) {
+        return nome.toUpperCase().trim();
+    }
+}
@@ -0,0 +1,102 @@
+package com.socialmedia.historico;
+
+import com.socialmedia.model.StatusPublicacao;
+
+import java.time.LocalDateTime;
+
+// Filtros e paginação de uma consulta ao histórico
+public class ConsultaHistorico {
+    public static final int LIMITE_PADRAO = 100;
+
+    private final String plataforma;
+    private final StatusPublicacao status;
+    private final LocalDateTime desde;
+    private final LocalDateTime ate;
+    private final long cursor;
+    private final int limite;
+
+    private ConsultaHistorico(Builder builder) {
+        this.plataforma = builder.plataforma;
+        this.status = builder.status;
+        this.desde = builder.desde;
+        this.ate = builder.ate;
+        this.cursor = builder.cursor;
+        this.limite = builder.limite;
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    public StatusPublicacao getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getDesde() {
+        return desde;
+    }
+
+    public LocalDateTime getAte() {
+        return ate;
+    }
+
+    public long getCursor() {
+        return cursor;
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public static class Builder {
+        private String plataforma;
+        private StatusPublicacao status;
+        private LocalDateTime desde;
+        private LocalDateTime ate;
+        private long cursor = -1;
+        private int limite = LIMITE_PADRAO;
+
+        public Builder plataforma(String plataforma) {
+            this.plataforma = plataforma;
+            return this;
+        }
+
+        public Builder status(StatusPublicacao status) {
+            this.status = status;
+            return this;
+        }
+
+        // Início do intervalo (inclusivo)
+        public Builder desde(LocalDateTime desde) {
+            this.desde = desde;
+            return this;
+        }
+
+        // Fim do intervalo (exclusivo)
+        public Builder ate(LocalDateTime ate) {
+            this.ate = ate;
+            return this;
+        }
+
+        // Cursor retornado pela página anterior (PaginaHistorico.getProximoCursor)
+        public Builder cursor(long cursor) {
+            this.cursor = cursor;
+            return this;
+        }
+
+        public Builder limite(int limite) {
+            this.limite = limite;
+            return this;
+        }
+
+        public ConsultaHistorico build() {
+            if (limite <= 0) {
+                throw new IllegalArgumentException("Limite deve ser positivo");
+            }
+            if (desde != null && ate != null && ate.isBefore(desde)) {
+                throw new IllegalArgumentException("Fim do intervalo não pode ser anterior ao início");
+            }
+            return new ConsultaHistorico(this);
+        }
+    }
+}
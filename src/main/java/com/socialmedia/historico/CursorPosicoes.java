@@ -0,0 +1,115 @@
+package com.socialmedia.historico;
+
+import java.util.List;
+
+/**
+ * Percorre posições crescentes de um segmento sem visitar as que não casam
+ * proxima(p) devolve a menor posição >= p ou FIM; as chamadas devem usar p não decrescente.
+ * Uma lista avança por galope (busca exponencial + binária), a união de baldes de tempo pega o menor
+ * e a interseção salta entre as listas até todas concordarem (leapfrog), então o custo depende do
+ * tamanho das listas e não do segmento
+ */
+abstract class CursorPosicoes {
+    static final int FIM = Integer.MAX_VALUE;
+
+    abstract int proxima(int posicao);
+
+    static CursorPosicoes de(ListaPosicoes lista) {
+        return new Lista(lista);
+    }
+
+    static CursorPosicoes uniao(List<CursorPosicoes> cursores) {
+        return cursores.size() == 1 ? cursores.get(0) : new Uniao(cursores.toArray(new CursorPosicoes[0]));
+    }
+
+    static CursorPosicoes intersecao(List<CursorPosicoes> cursores) {
+        return cursores.size() == 1 ? cursores.get(0) : new Intersecao(cursores.toArray(new CursorPosicoes[0]));
+    }
+
+    private static final class Lista extends CursorPosicoes {
+        private final ListaPosicoes lista;
+        private int indice;
+
+        private Lista(ListaPosicoes lista) {
+            this.lista = lista;
+        }
+
+        @Override
+        int proxima(int posicao) {
+            int tamanho = lista.tamanho();
+            if (indice >= tamanho) {
+                return FIM;
+            }
+            if (lista.get(indice) >= posicao) {
+                return lista.get(indice);
+            }
+            // Galope: lista.get(baixo) < posicao; dobra o passo até passar da posição
+            int baixo = indice;
+            int passo = 1;
+            int alto = baixo + passo;
+            while (alto < tamanho && lista.get(alto) < posicao) {
+                baixo = alto;
+                passo <<= 1;
+                alto = baixo + passo;
+            }
+            alto = Math.min(alto, tamanho);
+            // Primeiro índice em (baixo, alto] com valor >= posicao
+            baixo++;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (lista.get(meio) < posicao) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            indice = baixo;
+            return indice < tamanho ? lista.get(indice) : FIM;
+        }
+    }
+
+    private static final class Uniao extends CursorPosicoes {
+        private final CursorPosicoes[] cursores;
+
+        private Uniao(CursorPosicoes[] cursores) {
+            this.cursores = cursores;
+        }
+
+        @Override
+        int proxima(int posicao) {
+            int menor = FIM;
+            for (CursorPosicoes cursor : cursores) {
+                menor = Math.min(menor, cursor.proxima(posicao));
+            }
+            return menor;
+        }
+    }
+
+    private static final class Intersecao extends CursorPosicoes {
+        private final CursorPosicoes[] cursores;
+
+        private Intersecao(CursorPosicoes[] cursores) {
+            this.cursores = cursores;
+        }
+
+        @Override
+        int proxima(int posicao) {
+            int candidata = posicao;
+            boolean estavel = false;
+            while (!estavel) {
+                estavel = true;
+                for (CursorPosicoes cursor : cursores) {
+                    int proxima = cursor.proxima(candidata);
+                    if (proxima == FIM) {
+                        return FIM;
+                    }
+                    if (proxima != candidata) {
+                        candidata = proxima;
+                        estavel = false;
+                    }
+                }
+            }
+            return candidata;
+        }
+    }
+}
@@ -0,0 +1,859 @@
+package com.socialmedia.historico;
+
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.service.OuvintePublicacao;
+import com.socialmedia.tempo.RelogioAproximado;
+import com.socialmedia.util.ListaInts;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Histórico de publicações persistido em um log segmentado só de anexação
+ * Cada publicação processada vira um registro com sequência própria, gravada no registro e
+ * protegida pelo CRC; remoções são anexadas como um novo registro CANCELADO do mesmo ID
+ *
+ * Gravação: uma thread escritora dedicada consome uma fila e grava os pedidos em lotes (group
+ * commit), com uma escrita e um fsync por lote. aoProcessar só enfileira; registrar espera o lote
+ * do seu registro ficar no disco
+ *
+ * Contrapressão: a fila é limitada. aoProcessar e aoRemover rodam na thread que publica e nunca
+ * esperam: com a fila cheia (disco ou fsync lentos) o registro é descartado e contado em
+ * getRegistrosDescartados e getFalhasGravacao. registrar, registrarRemocao e sincronizar esperam
+ * vaga na fila
+ *
+ * Leitura: a cada lote o escritor publica um Estado imutável com a visão de cada segmento. As
+ * consultas usam essa visão sem lock. Segmentos cheios são selados com um índice .idx mapeado em
+ * memória, então o heap guarda colunas por registro só do segmento ativo
+ *
+ * Recuperação: um trecho corrompido é copiado para um arquivo .corrompido e a varredura continua no
+ * próximo registro íntegro; as sequências vêm do próprio registro e nunca são renumeradas
+ */
+public class HistoricoPublicacoes implements OuvintePublicacao, Closeable {
+    public static final long TAMANHO_SEGMENTO_PADRAO = 64L * 1024 * 1024;
+
+    private static final String EXTENSAO = ".log";
+    private static final String EXTENSAO_INDICE = ".idx";
+    private static final String EXTENSAO_QUARENTENA = ".corrompido";
+    private static final int CAPACIDADE_FILA = 16 * 1024;
+    private static final int LOTE_MAXIMO = 1024;
+    // Cabeçalho de cada registro: tamanho do payload + CRC32 do payload
+    private static final int CABECALHO = 8;
+    // Sequência, quatro textos vazios, status e data
+    private static final int PAYLOAD_MINIMO = Long.BYTES + 4 * Integer.BYTES + 1 + Long.BYTES;
+    private static final int TAMANHO_MAXIMO_REGISTRO = 1 << 20;
+    private static final int LEITURA_INICIAL = 512;
+    private static final StatusPublicacao[] STATUS = StatusPublicacao.values();
+    private static final Pedido ENCERRAR = new Pedido(TipoPedido.ENCERRAR, null);
+
+    private final Path diretorio;
+    private final long tamanhoMaximoSegmento;
+    private final boolean sincronizarLotes;
+    private final BlockingQueue<Pedido> fila = new ArrayBlockingQueue<>(CAPACIDADE_FILA);
+    private final Thread escritor;
+
+    // Estado da thread escritora (a recuperação roda antes de ela iniciar)
+    private final List<IndiceSelado> selados = new ArrayList<>();
+    private long registrosSelados;
+    private SegmentoLog ativo;
+    private IndiceAtivo indiceAtivo;
+    private long proximaSequencia;
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer bufferLote = ByteBuffer.allocate(64 * 1024);
+    private final List<Pedido> pendentes = new ArrayList<>();
+    private final List<Pedido> gravados = new ArrayList<>();
+
+    // Publicado a cada lote para as leituras sem lock
+    private volatile Estado estado;
+
+    private final AtomicLong falhasGravacao = new AtomicLong();
+    private final AtomicLong registrosDescartados = new AtomicLong();
+    // Registros examinados pelas consultas (diagnóstico do uso das listas de postagem)
+    private final LongAdder registrosExaminados = new LongAdder();
+    private volatile IOException ultimaFalhaGravacao;
+    private long trechosEmQuarentena;
+    private final AtomicBoolean fechado = new AtomicBoolean();
+    private volatile boolean escritorEncerrado;
+
+    public HistoricoPublicacoes(Path diretorio) throws IOException {
+        this(diretorio, TAMANHO_SEGMENTO_PADRAO, true);
+    }
+
+    public HistoricoPublicacoes(Path diretorio, long tamanhoMaximoSegmento) throws IOException {
+        this(diretorio, tamanhoMaximoSegmento, true);
+    }
+
+    /**
+     * @param sincronizarLotes fsync ao fim de cada lote; sem ele, só em sincronizar(), ao selar e ao fechar
+     */
+    public HistoricoPublicacoes(Path diretorio, long tamanhoMaximoSegmento, boolean sincronizarLotes) throws IOException {
+        if (tamanhoMaximoSegmento <= CABECALHO || tamanhoMaximoSegmento > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tamanho de segmento inválido: " + tamanhoMaximoSegmento);
+        }
+        this.diretorio = diretorio;
+        this.tamanhoMaximoSegmento = tamanhoMaximoSegmento;
+        this.sincronizarLotes = sincronizarLotes;
+        recuperar();
+        publicar();
+        this.escritor = new Thread(this::executarEscritor, "historico-escritor-" + diretorio.getFileName());
+        escritor.setDaemon(true);
+        escritor.start();
+    }
+
+    @Override
+    public void aoProcessar(Publicacao publicacao) {
+        enfileirarSemEsperar(new Pedido(TipoPedido.REGISTRO, null).com(publicacao.getId(), publicacao.getPlataforma(),
+            publicacao.getStatus(), publicacao.getDataPublicacao(), publicacao.getUrlPublicacao(),
+            publicacao.getMensagemErro()));
+    }
+
+    @Override
+    public void aoRemover(String plataforma, String publicacaoId) {
+        enfileirarSemEsperar(new Pedido(TipoPedido.REGISTRO, null).com(publicacaoId, plataforma,
+            StatusPublicacao.CANCELADO, RelogioAproximado.agora(), null, null));
+    }
+
+    /**
+     * Anexa uma publicação ao log e retorna sua sequência depois que o lote foi gravado
+     */
+    public long registrar(Publicacao publicacao) throws IOException {
+        return aguardar(new Pedido(TipoPedido.REGISTRO, new CompletableFuture<>()).com(publicacao.getId(),
+            publicacao.getPlataforma(), publicacao.getStatus(), publicacao.getDataPublicacao(),
+            publicacao.getUrlPublicacao(), publicacao.getMensagemErro()));
+    }
+
+    /**
+     * Anexa a remoção de uma publicação (registro CANCELADO com a data da remoção)
+     */
+    public long registrarRemocao(String plataforma, String publicacaoId) throws IOException {
+        return aguardar(new Pedido(TipoPedido.REGISTRO, new CompletableFuture<>()).com(publicacaoId, plataforma,
+            StatusPublicacao.CANCELADO, RelogioAproximado.agora(), null, null));
+    }
+
+    /**
+     * Registro mais recente do ID, ou null se o ID nunca foi registrado
+     */
+    public RegistroPublicacao buscarPorId(String publicacaoId) throws IOException {
+        verificarAberto();
+        VisaoSegmento[] segmentos = estado.segmentos;
+        long hash = TabelaIds.hash(publicacaoId);
+        for (int s = segmentos.length - 1; s >= 0; s--) {
+            ListaInts candidatos = new ListaInts(4);
+            segmentos[s].candidatos(hash, candidatos);
+            RegistroPublicacao maisRecente = null;
+            int posicaoMaisRecente = -1;
+            for (int i = 0; i < candidatos.tamanho(); i++) {
+                int posicao = candidatos.get(i);
+                if (posicao <= posicaoMaisRecente) {
+                    continue;
+                }
+                RegistroPublicacao registro = lerRegistro(segmentos[s], posicao);
+                if (publicacaoId.equals(registro.getId())) {
+                    maisRecente = registro;
+                    posicaoMaisRecente = posicao;
+                }
+            }
+            if (maisRecente != null) {
+                return maisRecente;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lê o registro de uma sequência
+     */
+    public RegistroPublicacao ler(long sequencia) throws IOException {
+        verificarAberto();
+        VisaoSegmento[] segmentos = estado.segmentos;
+        for (int s = segmentos.length - 1; s >= 0; s--) {
+            VisaoSegmento segmento = segmentos[s];
+            if (segmento.quantidade() == 0 || segmento.sequencia(0) > sequencia) {
+                continue;
+            }
+            int posicao = segmento.primeiraPosicaoApos(sequencia) - 1;
+            if (posicao >= 0 && segmento.sequencia(posicao) == sequencia) {
+                return lerRegistro(segmento, posicao);
+            }
+            break;
+        }
+        throw new IllegalArgumentException("Sequência inexistente: " + sequencia);
+    }
+
+    /**
+     * Consulta paginada em ordem de gravação
+     * Segmentos sem a plataforma, o status ou a faixa de tempo pedidos são pulados pelo resumo do
+     * índice; nos demais, as listas de postagem da plataforma, do status e dos baldes de hora da
+     * faixa são intersectadas, então só os registros que casam são examinados. O tempo exato só é
+     * conferido nos baldes das pontas da faixa
+     */
+    public PaginaHistorico consultar(ConsultaHistorico consulta) throws IOException {
+        verificarAberto();
+        VisaoSegmento[] segmentos = estado.segmentos;
+
+        String plataforma = consulta.getPlataforma() != null ? chave(consulta.getPlataforma()) : null;
+        int status = consulta.getStatus() != null ? consulta.getStatus().ordinal() : -1;
+        boolean filtraTempo = consulta.getDesde() != null || consulta.getAte() != null;
+        long desde = consulta.getDesde() != null ? paraMillis(consulta.getDesde()) : Long.MIN_VALUE + 1;
+        long ate = consulta.getAte() != null ? paraMillis(consulta.getAte()) : Long.MAX_VALUE;
+        long apos = consulta.getCursor();
+
+        List<RegistroPublicacao> registros = new ArrayList<>(Math.min(consulta.getLimite(), 64));
+        for (VisaoSegmento segmento : segmentos) {
+            int quantidade = segmento.quantidade();
+            if (quantidade == 0 || segmento.ultimaSequencia() <= apos) {
+                continue;
+            }
+            int codigo = -1;
+            if (plataforma != null && (codigo = segmento.codigoPlataforma(plataforma)) < 0) {
+                continue;
+            }
+            if (status >= 0 && segmento.quantidadeStatus(status) == 0) {
+                continue;
+            }
+            if (filtraTempo && (segmento.tempoMaximo() < desde || segmento.tempoMinimo() >= ate)) {
+                continue;
+            }
+            List<CursorPosicoes> filtros = new ArrayList<>(3);
+            if (codigo >= 0) {
+                filtros.add(CursorPosicoes.de(segmento.posicoesPlataforma(codigo)));
+            }
+            if (status >= 0) {
+                filtros.add(CursorPosicoes.de(segmento.posicoesStatus(status)));
+            }
+            boolean conferirTempo = false;
+            if (filtraTempo) {
+                long primeiroBalde = Math.floorDiv(desde, IndiceAtivo.MILLIS_POR_BALDE);
+                long ultimoBalde = Math.floorDiv(ate - 1, IndiceAtivo.MILLIS_POR_BALDE);
+                List<CursorPosicoes> baldes = new ArrayList<>();
+                for (int b = 0; b < segmento.quantidadeBaldes(); b++) {
+                    long balde = segmento.balde(b);
+                    if (balde >= primeiroBalde && balde <= ultimoBalde) {
+                        baldes.add(CursorPosicoes.de(segmento.posicoesBalde(b)));
+                        conferirTempo |= balde == primeiroBalde || balde == ultimoBalde;
+                    }
+                }
+                if (baldes.isEmpty()) {
+                    continue;
+                }
+                filtros.add(CursorPosicoes.uniao(baldes));
+            }
+            CursorPosicoes cursor = filtros.isEmpty() ? null : CursorPosicoes.intersecao(filtros);
+            for (int posicao = segmento.primeiraPosicaoApos(apos); posicao < quantidade; posicao++) {
+                if (cursor != null && (posicao = cursor.proxima(posicao)) >= quantidade) {
+                    break;
+                }
+                registrosExaminados.increment();
+                if (conferirTempo) {
+                    long tempo = segmento.tempo(posicao);
+                    if (tempo < desde || tempo >= ate) {
+                        continue;
+                    }
+                }
+                if (registros.size() == consulta.getLimite()) {
+                    return new PaginaHistorico(registros, registros.get(registros.size() - 1).getSequencia());
+                }
+                registros.add(lerRegistro(segmento, posicao));
+            }
+        }
+        return new PaginaHistorico(registros, PaginaHistorico.SEM_PROXIMA);
+    }
+
+    /**
+     * Total de registros visíveis no histórico
+     */
+    public long tamanho() {
+        return estado.total;
+    }
+
+    /**
+     * Espera a gravação de tudo o que foi enfileirado até agora e força o segmento ativo no disco (fsync)
+     */
+    public void sincronizar() throws IOException {
+        aguardar(new Pedido(TipoPedido.SINCRONIZAR, new CompletableFuture<>()));
+    }
+
+    /**
+     * Falhas de gravação dos registros enfileirados por aoProcessar e aoRemover
+     * (os callbacks de OuvintePublicacao não podem propagar IOException)
+     */
+    public long getFalhasGravacao() {
+        return falhasGravacao.get();
+    }
+
+    /**
+     * Registros de aoProcessar e aoRemover descartados por fila cheia (também contados em getFalhasGravacao)
+     */
+    public long getRegistrosDescartados() {
+        return registrosDescartados.get();
+    }
+
+    long getRegistrosExaminados() {
+        return registrosExaminados.sum();
+    }
+
+    public IOException getUltimaFalhaGravacao() {
+        return ultimaFalhaGravacao;
+    }
+
+    /**
+     * Trechos corrompidos copiados para arquivos .corrompido na última recuperação
+     */
+    public long getTrechosEmQuarentena() {
+        return trechosEmQuarentena;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!fechado.compareAndSet(false, true)) {
+            return;
+        }
+        boolean interrompida = false;
+        while (true) {
+            try {
+                fila.put(ENCERRAR);
+                escritor.join();
+                break;
+            } catch (InterruptedException e) {
+                interrompida = true;
+            }
+        }
+        if (interrompida) {
+            Thread.currentThread().interrupt();
+        }
+
+        IOException falha = null;
+        List<SegmentoLog> segmentos = new ArrayList<>();
+        for (IndiceSelado selado : selados) {
+            segmentos.add(selado.segmento());
+        }
+        segmentos.add(ativo);
+        for (SegmentoLog segmento : segmentos) {
+            try {
+                segmento.sincronizar();
+                segmento.close();
+            } catch (IOException e) {
+                if (falha == null) {
+                    falha = e;
+                }
+            }
+        }
+        if (falha != null) {
+            throw falha;
+        }
+    }
+
+    // Enfileiramento
+
+    // Caminho dos ouvintes: não bloqueia a thread que publica; com a fila cheia o registro é descartado
+    private void enfileirarSemEsperar(Pedido pedido) {
+        if (fechado.get()) {
+            registrarFalha(new IOException("Histórico de publicações fechado"));
+            return;
+        }
+        if (!fila.offer(pedido)) {
+            registrosDescartados.incrementAndGet();
+            registrarFalha(new IOException("Fila do histórico cheia: registro de " + pedido.id + " descartado"));
+            return;
+        }
+        if (escritorEncerrado) {
+            falharRestantes();
+        }
+    }
+
+    private long aguardar(Pedido pedido) throws IOException {
+        enfileirar(pedido);
+        try {
+            return pedido.conclusao.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrompido aguardando a gravação do histórico");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void enfileirar(Pedido pedido) throws IOException {
+        verificarAberto();
+        try {
+            fila.put(pedido);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrompido enfileirando no histórico");
+        }
+        // Corrida com close(): o escritor já saiu e não vai consumir o que entrou depois
+        if (escritorEncerrado) {
+            falharRestantes();
+        }
+    }
+
+    private void falharRestantes() {
+        Pedido pedido;
+        while ((pedido = fila.poll()) != null) {
+            falhar(pedido, new IOException("Histórico de publicações fechado"));
+        }
+    }
+
+    // Thread escritora
+
+    private void executarEscritor() {
+        List<Pedido> lote = new ArrayList<>(LOTE_MAXIMO);
+        boolean continuar = true;
+        while (continuar) {
+            try {
+                lote.add(fila.take());
+            } catch (InterruptedException e) {
+                // Só close() encerra o escritor, via ENCERRAR
+                continue;
+            }
+            fila.drainTo(lote, LOTE_MAXIMO - 1);
+            try {
+                continuar = processarLote(lote);
+            } catch (RuntimeException e) {
+                // Falha inesperada não pode matar o escritor: quem espera recebe o erro
+                for (Pedido pedido : lote) {
+                    if (pedido != ENCERRAR) {
+                        falhar(pedido, new IOException("Falha ao gravar o lote do histórico", e));
+                    }
+                }
+                pendentes.clear();
+                gravados.clear();
+                bufferLote.clear();
+                continuar = !lote.contains(ENCERRAR);
+            }
+            lote.clear();
+        }
+        escritorEncerrado = true;
+        falharRestantes();
+    }
+
+    private boolean processarLote(List<Pedido> lote) {
+        boolean continuar = true;
+        boolean sincronizar = sincronizarLotes;
+        List<Pedido> barreiras = null;
+        for (Pedido pedido : lote) {
+            if (pedido.tipo == TipoPedido.REGISTRO) {
+                acumular(pedido);
+            } else if (pedido.tipo == TipoPedido.SINCRONIZAR) {
+                sincronizar = true;
+                if (barreiras == null) {
+                    barreiras = new ArrayList<>(1);
+                }
+                barreiras.add(pedido);
+            } else {
+                continuar = false;
+            }
+        }
+        descarregar();
+
+        IOException falhaSincronizacao = null;
+        if (sincronizar && (!gravados.isEmpty() || barreiras != null)) {
+            try {
+                ativo.sincronizar();
+            } catch (IOException e) {
+                falhaSincronizacao = e;
+            }
+        }
+        publicar();
+        for (Pedido pedido : gravados) {
+            if (falhaSincronizacao != null) {
+                falhar(pedido, falhaSincronizacao);
+            } else if (pedido.conclusao != null) {
+                pedido.conclusao.complete(pedido.sequencia);
+            }
+        }
+        gravados.clear();
+        if (barreiras != null) {
+            for (Pedido barreira : barreiras) {
+                if (falhaSincronizacao != null) {
+                    barreira.conclusao.completeExceptionally(falhaSincronizacao);
+                } else {
+                    barreira.conclusao.complete(-1L);
+                }
+            }
+        }
+        return continuar;
+    }
+
+    // Codifica o registro no buffer do lote; sela o segmento antes se o registro não couber
+    private void acumular(Pedido pedido) {
+        byte[] idBytes = bytes(pedido.id);
+        byte[] plataformaBytes = bytes(pedido.plataforma);
+        byte[] urlBytes = bytes(pedido.url);
+        byte[] erroBytes = bytes(pedido.erro);
+        int tamanhoPayload = PAYLOAD_MINIMO
+            + comprimento(idBytes) + comprimento(plataformaBytes) + comprimento(urlBytes) + comprimento(erroBytes);
+        if (tamanhoPayload > TAMANHO_MAXIMO_REGISTRO) {
+            falhar(pedido, new IllegalArgumentException("Registro excede " + TAMANHO_MAXIMO_REGISTRO + " bytes"));
+            return;
+        }
+        int tamanhoRegistro = CABECALHO + tamanhoPayload;
+
+        long ocupado = ativo.getTamanho() + bufferLote.position();
+        if (ocupado > 0 && ocupado + tamanhoRegistro > tamanhoMaximoSegmento) {
+            descarregar();
+            try {
+                selarAtivo();
+            } catch (IOException e) {
+                falhar(pedido, e);
+                return;
+            }
+        }
+        if (bufferLote.remaining() < tamanhoRegistro) {
+            ByteBuffer maior = ByteBuffer.allocate(Math.max(bufferLote.capacity() * 2, bufferLote.position() + tamanhoRegistro));
+            bufferLote.flip();
+            bufferLote = maior.put(bufferLote);
+        }
+
+        pedido.sequencia = proximaSequencia++;
+        pedido.posicaoNoLote = bufferLote.position();
+        ByteBuffer buffer = bufferLote;
+        int inicio = buffer.position();
+        buffer.putInt(tamanhoPayload).putInt(0);
+        buffer.putLong(pedido.sequencia);
+        colocarTexto(buffer, idBytes);
+        colocarTexto(buffer, plataformaBytes);
+        buffer.put((byte) (pedido.status != null ? pedido.status.ordinal() : IndiceAtivo.SEM_STATUS));
+        buffer.putLong(pedido.tempo);
+        colocarTexto(buffer, urlBytes);
+        colocarTexto(buffer, erroBytes);
+        crc.reset();
+        crc.update(buffer.array(), inicio + CABECALHO, tamanhoPayload);
+        buffer.putInt(inicio + 4, (int) crc.getValue());
+        pendentes.add(pedido);
+    }
+
+    // Uma escrita para todos os registros acumulados, depois indexa
+    private void descarregar() {
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        bufferLote.flip();
+        try {
+            long base = ativo.anexar(bufferLote);
+            for (Pedido pedido : pendentes) {
+                indiceAtivo.adicionar(pedido.sequencia, (int) (base + pedido.posicaoNoLote), pedido.id,
+                    chave(pedido.plataforma), pedido.status != null ? pedido.status.ordinal() : IndiceAtivo.SEM_STATUS,
+                    pedido.tempo);
+            }
+            gravados.addAll(pendentes);
+        } catch (IOException e) {
+            for (Pedido pedido : pendentes) {
+                falhar(pedido, e);
+            }
+        } finally {
+            pendentes.clear();
+            bufferLote.clear();
+        }
+    }
+
+    private void selarAtivo() throws IOException {
+        ativo.sincronizar();
+        IndiceSelado selado = IndiceSelado.gravar(arquivoIndice(ativo), indiceAtivo.visao(ativo));
+        int numero = ativo.getNumero() + 1;
+        SegmentoLog novo = new SegmentoLog(arquivoSegmento(numero), numero);
+        selados.add(selado);
+        registrosSelados += selado.quantidade();
+        ativo = novo;
+        indiceAtivo = new IndiceAtivo();
+    }
+
+    private void publicar() {
+        VisaoSegmento[] segmentos = selados.toArray(new VisaoSegmento[selados.size() + 1]);
+        segmentos[selados.size()] = indiceAtivo.visao(ativo);
+        estado = new Estado(segmentos, registrosSelados + indiceAtivo.quantidade());
+    }
+
+    private void falhar(Pedido pedido, Exception e) {
+        if (pedido.conclusao != null) {
+            pedido.conclusao.completeExceptionally(e);
+        } else {
+            registrarFalha(e instanceof IOException ? (IOException) e : new IOException(e));
+        }
+    }
+
+    // Recuperação
+
+    private void recuperar() throws IOException {
+        Files.createDirectories(diretorio);
+        List<Path> arquivos;
+        try (Stream<Path> listagem = Files.list(diretorio)) {
+            arquivos = listagem
+                .filter(arquivo -> arquivo.getFileName().toString().endsWith(EXTENSAO))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+
+        for (int i = 0; i < arquivos.size(); i++) {
+            Path arquivo = arquivos.get(i);
+            String nome = arquivo.getFileName().toString();
+            int numero = Integer.parseInt(nome.substring(0, nome.length() - EXTENSAO.length()));
+            SegmentoLog segmento = new SegmentoLog(arquivo, numero);
+            boolean ultimo = i == arquivos.size() - 1;
+
+            if (!ultimo) {
+                IndiceSelado selado = IndiceSelado.abrir(arquivoIndice(segmento), segmento);
+                if (selado != null) {
+                    adicionarSelado(selado);
+                    continue;
+                }
+            }
+            IndiceAtivo indice = new IndiceAtivo();
+            varrer(segmento, indice, ultimo);
+            if (ultimo) {
+                ativo = segmento;
+                indiceAtivo = indice;
+            } else {
+                adicionarSelado(IndiceSelado.gravar(arquivoIndice(segmento), indice.visao(segmento)));
+            }
+        }
+        if (ativo == null) {
+            ativo = new SegmentoLog(arquivoSegmento(1), 1);
+            indiceAtivo = new IndiceAtivo();
+        }
+    }
+
+    private void adicionarSelado(IndiceSelado selado) {
+        selados.add(selado);
+        registrosSelados += selado.quantidade();
+        if (selado.quantidade() > 0) {
+            proximaSequencia = Math.max(proximaSequencia, selado.ultimaSequencia() + 1);
+        }
+    }
+
+    // Indexa os registros íntegros; um trecho corrompido vai para quarentena e a varredura segue no próximo registro íntegro
+    private void varrer(SegmentoLog segmento, IndiceAtivo indice, boolean ultimo) throws IOException {
+        MappedByteBuffer mapa = segmento.mapear();
+        int offset = 0;
+        while (offset < mapa.limit()) {
+            int tamanhoRegistro = tamanhoSeIntegro(mapa, offset);
+            if (tamanhoRegistro > 0) {
+                RegistroPublicacao registro = decodificar(mapa.slice(offset + CABECALHO, tamanhoRegistro - CABECALHO));
+                indice.adicionar(registro.getSequencia(), offset, registro.getId(), chave(registro.getPlataforma()),
+                    registro.getStatus() != null ? registro.getStatus().ordinal() : IndiceAtivo.SEM_STATUS,
+                    registro.getDataPublicacao() != null ? paraMillis(registro.getDataPublicacao()) : IndiceAtivo.SEM_DATA);
+                proximaSequencia = registro.getSequencia() + 1;
+                offset += tamanhoRegistro;
+                continue;
+            }
+
+            int retomada = offset + 1;
+            while (retomada < mapa.limit() && tamanhoSeIntegro(mapa, retomada) < 0) {
+                retomada++;
+            }
+            quarentenar(segmento, mapa, offset, retomada);
+            if (retomada == mapa.limit() && ultimo) {
+                // Final do segmento ativo sem registro íntegro depois (escrita interrompida): as próximas anexações começam aqui
+                segmento.truncar(offset);
+            }
+            offset = retomada;
+        }
+    }
+
+    // Tamanho total do registro em offset, ou -1 se não há ali um registro íntegro posterior aos já lidos
+    private int tamanhoSeIntegro(MappedByteBuffer mapa, int offset) {
+        int restante = mapa.limit() - offset;
+        if (restante < CABECALHO + PAYLOAD_MINIMO) {
+            return -1;
+        }
+        int tamanhoPayload = mapa.getInt(offset);
+        if (tamanhoPayload < PAYLOAD_MINIMO || tamanhoPayload > TAMANHO_MAXIMO_REGISTRO
+                || tamanhoPayload > restante - CABECALHO
+                || mapa.getLong(offset + CABECALHO) < proximaSequencia) {
+            return -1;
+        }
+        crc.reset();
+        crc.update(mapa.slice(offset + CABECALHO, tamanhoPayload));
+        return (int) crc.getValue() == mapa.getInt(offset + 4) ? CABECALHO + tamanhoPayload : -1;
+    }
+
+    private void quarentenar(SegmentoLog segmento, MappedByteBuffer mapa, int inicio, int fim) throws IOException {
+        Path arquivo = segmento.getArquivo().resolveSibling(
+            segmento.getArquivo().getFileName() + "." + inicio + EXTENSAO_QUARENTENA);
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer trecho = mapa.slice(inicio, fim - inicio);
+            while (trecho.hasRemaining()) {
+                canal.write(trecho);
+            }
+        }
+        trechosEmQuarentena++;
+    }
+
+    // Leitura e codificação
+
+    // Uma única leitura posicional cobre cabeçalho e payload no caso comum (registro < LEITURA_INICIAL)
+    private static RegistroPublicacao lerRegistro(VisaoSegmento visao, int posicao) throws IOException {
+        SegmentoLog segmento = visao.segmento();
+        long offset = visao.offset(posicao);
+        ByteBuffer buffer = ByteBuffer.allocate(LEITURA_INICIAL);
+        int lidos = segmento.lerDisponivel(offset, buffer);
+        int tamanhoRegistro = CABECALHO + buffer.getInt(0);
+        if (tamanhoRegistro > lidos) {
+            ByteBuffer maior = ByteBuffer.allocate(tamanhoRegistro);
+            buffer.flip();
+            maior.put(buffer);
+            segmento.ler(offset + maior.position(), maior);
+            buffer = maior;
+        }
+        buffer.position(CABECALHO).limit(tamanhoRegistro);
+        return decodificar(buffer);
+    }
+
+    // Layout do payload: sequência, id, plataforma, status, data (epoch millis), url, erro
+    private static RegistroPublicacao decodificar(ByteBuffer payload) {
+        long sequencia = payload.getLong();
+        String id = lerTexto(payload);
+        String plataforma = lerTexto(payload);
+        int status = payload.get() & 0xFF;
+        long tempo = payload.getLong();
+        String url = lerTexto(payload);
+        String erro = lerTexto(payload);
+        return new RegistroPublicacao(
+            sequencia,
+            id,
+            plataforma,
+            status != IndiceAtivo.SEM_STATUS ? STATUS[status] : null,
+            tempo != IndiceAtivo.SEM_DATA ? deMillis(tempo) : null,
+            url,
+            erro
+        );
+    }
+
+    private static byte[] bytes(String texto) {
+        return texto != null ? texto.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int comprimento(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private static void colocarTexto(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String lerTexto(ByteBuffer buffer) {
+        int comprimento = buffer.getInt();
+        if (comprimento < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[comprimento];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // LocalDateTime é gravado como epoch millis em UTC (apenas como escala, sem conversão de fuso)
+    private static long paraMillis(LocalDateTime data) {
+        return data.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime deMillis(long millis) {
+        return LocalDateTime.ofEpochSecond(
+            Math.floorDiv(millis, 1000L), (int) Math.floorMod(millis, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    private static String chave(String plataforma) {
+        return plataforma != null ? plataforma.toUpperCase() : "";
+    }
+
+    private Path arquivoSegmento(int numero) {
+        return diretorio.resolve(String.format("%010d", numero) + EXTENSAO);
+    }
+
+    private static Path arquivoIndice(SegmentoLog segmento) {
+        String nome = segmento.getArquivo().getFileName().toString();
+        return segmento.getArquivo().resolveSibling(nome.substring(0, nome.length() - EXTENSAO.length()) + EXTENSAO_INDICE);
+    }
+
+    private void registrarFalha(IOException e) {
+        falhasGravacao.incrementAndGet();
+        ultimaFalhaGravacao = e;
+    }
+
+    private void verificarAberto() throws IOException {
+        if (fechado.get()) {
+            throw new IOException("Histórico de publicações fechado");
+        }
+    }
+
+    // Segmentos visíveis às leituras: selados + prefixo publicado do ativo
+    private static final class Estado {
+        private final VisaoSegmento[] segmentos;
+        private final long total;
+
+        private Estado(VisaoSegmento[] segmentos, long total) {
+            this.segmentos = segmentos;
+            this.total = total;
+        }
+    }
+
+    private enum TipoPedido {
+        REGISTRO,
+        SINCRONIZAR,
+        ENCERRAR
+    }
+
+    private static final class Pedido {
+        private final TipoPedido tipo;
+        // Nulo quando ninguém espera o resultado (aoProcessar, aoRemover)
+        private final CompletableFuture<Long> conclusao;
+        private String id;
+        private String plataforma;
+        private StatusPublicacao status;
+        private long tempo = IndiceAtivo.SEM_DATA;
+        private String url;
+        private String erro;
+        // Preenchidos pela thread escritora
+        private long sequencia;
+        private int posicaoNoLote;
+
+        private Pedido(TipoPedido tipo, CompletableFuture<Long> conclusao) {
+            this.tipo = tipo;
+            this.conclusao = conclusao;
+        }
+
+        private Pedido com(String id, String plataforma, StatusPublicacao status, LocalDateTime data,
+                           String url, String erro) {
+            this.id = id;
+            this.plataforma = plataforma;
+            this.status = status;
+            this.tempo = data != null ? paraMillis(data) : IndiceAtivo.SEM_DATA;
+            this.url = url;
+            this.erro = erro;
+            return this;
+        }
+    }
+}
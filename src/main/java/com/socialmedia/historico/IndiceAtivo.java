@@ -0,0 +1,283 @@
+package com.socialmedia.historico;
+
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.util.ListaInts;
+
+import java.util.Arrays;
+
+/**
+ * Índice em memória do segmento ativo: colunas primitivas só de anexação e listas de postagem
+ * (posições locais crescentes) por plataforma, por status e por balde de uma hora
+ * O tamanho é limitado pelo do segmento; ao selar, tudo vai para um IndiceSelado em disco
+ *
+ * Só a thread escritora anexa. visao() captura os arrays atuais e a quantidade: como o escritor
+ * nunca altera posições já publicadas (crescer gera arrays novos), a visão é um prefixo imutável.
+ * Só os vetores de listas e as chaves dos baldes (que podem receber inserções no meio) são copiados
+ */
+final class IndiceAtivo {
+    static final int SEM_STATUS = 0xFF;
+    static final long SEM_DATA = Long.MIN_VALUE;
+    static final long MILLIS_POR_BALDE = 3_600_000L;
+    private static final int STATUS = StatusPublicacao.values().length;
+
+    private long[] sequencias = new long[256];
+    private int[] offsets = new int[256];
+    private long[] tempos = new long[256];
+    private int[] atributos = new int[256];
+    private int quantidade;
+
+    private String[] plataformas = new String[4];
+    private Postagem[] porPlataforma = new Postagem[4];
+    private int quantidadePlataformas;
+    private long tempoMinimo = Long.MAX_VALUE;
+    private long tempoMaximo = Long.MIN_VALUE;
+    private final Postagem[] porStatus = new Postagem[STATUS];
+    // Baldes ordenados pela chave (tempo / MILLIS_POR_BALDE); registros sem data não entram
+    private long[] chavesBaldes = new long[8];
+    private Postagem[] baldes = new Postagem[8];
+    private int quantidadeBaldes;
+    private final TabelaIds ids = new TabelaIds();
+
+    void adicionar(long sequencia, int offset, String id, String chavePlataforma, int status, long tempo) {
+        if (quantidade == sequencias.length) {
+            int capacidade = quantidade + (quantidade >> 1);
+            sequencias = Arrays.copyOf(sequencias, capacidade);
+            offsets = Arrays.copyOf(offsets, capacidade);
+            tempos = Arrays.copyOf(tempos, capacidade);
+            atributos = Arrays.copyOf(atributos, capacidade);
+        }
+        int posicao = quantidade;
+        sequencias[posicao] = sequencia;
+        offsets[posicao] = offset;
+        tempos[posicao] = tempo;
+        int codigo = codigoPlataforma(chavePlataforma);
+        atributos[posicao] = codigo << 8 | status;
+        porPlataforma[codigo].adicionar(posicao);
+        if (id != null) {
+            ids.inserir(TabelaIds.hash(id), posicao);
+        }
+        if (status != SEM_STATUS) {
+            if (porStatus[status] == null) {
+                porStatus[status] = new Postagem();
+            }
+            porStatus[status].adicionar(posicao);
+        }
+        if (tempo != SEM_DATA) {
+            tempoMinimo = Math.min(tempoMinimo, tempo);
+            tempoMaximo = Math.max(tempoMaximo, tempo);
+            balde(Math.floorDiv(tempo, MILLIS_POR_BALDE)).adicionar(posicao);
+        }
+        quantidade++;
+    }
+
+    int quantidade() {
+        return quantidade;
+    }
+
+    Visao visao(SegmentoLog segmento) {
+        return new Visao(segmento, this);
+    }
+
+    private int codigoPlataforma(String chave) {
+        for (int i = 0; i < quantidadePlataformas; i++) {
+            if (plataformas[i].equals(chave)) {
+                return i;
+            }
+        }
+        if (quantidadePlataformas > 0xFFFFFF) {
+            throw new IllegalStateException("Limite de plataformas do segmento atingido");
+        }
+        if (quantidadePlataformas == plataformas.length) {
+            plataformas = Arrays.copyOf(plataformas, plataformas.length * 2);
+            porPlataforma = Arrays.copyOf(porPlataforma, porPlataforma.length * 2);
+        }
+        plataformas[quantidadePlataformas] = chave;
+        porPlataforma[quantidadePlataformas] = new Postagem();
+        return quantidadePlataformas++;
+    }
+
+    // Os tempos chegam quase sempre em ordem: o último balde é o caso comum
+    private Postagem balde(long chave) {
+        if (quantidadeBaldes > 0 && chavesBaldes[quantidadeBaldes - 1] == chave) {
+            return baldes[quantidadeBaldes - 1];
+        }
+        int indice = Arrays.binarySearch(chavesBaldes, 0, quantidadeBaldes, chave);
+        if (indice >= 0) {
+            return baldes[indice];
+        }
+        indice = -indice - 1;
+        if (quantidadeBaldes == chavesBaldes.length) {
+            chavesBaldes = Arrays.copyOf(chavesBaldes, quantidadeBaldes * 2);
+            baldes = Arrays.copyOf(baldes, quantidadeBaldes * 2);
+        }
+        System.arraycopy(chavesBaldes, indice, chavesBaldes, indice + 1, quantidadeBaldes - indice);
+        System.arraycopy(baldes, indice, baldes, indice + 1, quantidadeBaldes - indice);
+        chavesBaldes[indice] = chave;
+        baldes[indice] = new Postagem();
+        quantidadeBaldes++;
+        return baldes[indice];
+    }
+
+    private static ListaPosicoes[] capturar(Postagem[] postagens, int quantidade) {
+        ListaPosicoes[] listas = new ListaPosicoes[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            listas[i] = postagens[i] != null ? postagens[i].capturar() : ListaPosicoes.VAZIA;
+        }
+        return listas;
+    }
+
+    // Lista de postagem do escritor; crescer gera um array novo, como nas colunas
+    private static final class Postagem {
+        private int[] valores = new int[8];
+        private int tamanho;
+
+        void adicionar(int posicao) {
+            if (tamanho == valores.length) {
+                valores = Arrays.copyOf(valores, tamanho + (tamanho >> 1));
+            }
+            valores[tamanho++] = posicao;
+        }
+
+        ListaPosicoes capturar() {
+            return ListaPosicoes.de(valores, tamanho);
+        }
+    }
+
+    // Prefixo do índice no instante da captura
+    static final class Visao implements VisaoSegmento {
+        private final SegmentoLog segmento;
+        private final long[] sequencias;
+        private final int[] offsets;
+        private final long[] tempos;
+        private final int[] atributos;
+        private final int quantidade;
+        private final String[] plataformas;
+        private final int quantidadePlataformas;
+        private final ListaPosicoes[] porPlataforma;
+        private final long tempoMinimo;
+        private final long tempoMaximo;
+        private final ListaPosicoes[] porStatus;
+        private final long[] chavesBaldes;
+        private final ListaPosicoes[] baldes;
+        private final long[] hashesIds;
+        private final int[] posicoesIds;
+
+        private Visao(SegmentoLog segmento, IndiceAtivo indice) {
+            this.segmento = segmento;
+            this.sequencias = indice.sequencias;
+            this.offsets = indice.offsets;
+            this.tempos = indice.tempos;
+            this.atributos = indice.atributos;
+            this.quantidade = indice.quantidade;
+            this.plataformas = indice.plataformas;
+            this.quantidadePlataformas = indice.quantidadePlataformas;
+            this.porPlataforma = capturar(indice.porPlataforma, indice.quantidadePlataformas);
+            this.tempoMinimo = indice.tempoMinimo;
+            this.tempoMaximo = indice.tempoMaximo;
+            this.porStatus = capturar(indice.porStatus, STATUS);
+            this.chavesBaldes = Arrays.copyOf(indice.chavesBaldes, indice.quantidadeBaldes);
+            this.baldes = capturar(indice.baldes, indice.quantidadeBaldes);
+            this.hashesIds = indice.ids.hashes();
+            this.posicoesIds = indice.ids.posicoes();
+        }
+
+        @Override
+        public SegmentoLog segmento() {
+            return segmento;
+        }
+
+        @Override
+        public int quantidade() {
+            return quantidade;
+        }
+
+        @Override
+        public long sequencia(int posicao) {
+            return sequencias[posicao];
+        }
+
+        @Override
+        public int offset(int posicao) {
+            return offsets[posicao];
+        }
+
+        @Override
+        public long tempo(int posicao) {
+            return tempos[posicao];
+        }
+
+        @Override
+        public int atributo(int posicao) {
+            return atributos[posicao];
+        }
+
+        @Override
+        public int codigoPlataforma(String chave) {
+            for (int i = 0; i < quantidadePlataformas; i++) {
+                if (plataformas[i].equals(chave)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public long tempoMinimo() {
+            return tempoMinimo;
+        }
+
+        @Override
+        public long tempoMaximo() {
+            return tempoMaximo;
+        }
+
+        @Override
+        public ListaPosicoes posicoesPlataforma(int codigo) {
+            return porPlataforma[codigo];
+        }
+
+        @Override
+        public ListaPosicoes posicoesStatus(int status) {
+            return porStatus[status];
+        }
+
+        @Override
+        public int quantidadeBaldes() {
+            return chavesBaldes.length;
+        }
+
+        @Override
+        public long balde(int indice) {
+            return chavesBaldes[indice];
+        }
+
+        @Override
+        public ListaPosicoes posicoesBalde(int indice) {
+            return baldes[indice];
+        }
+
+        @Override
+        public void candidatos(long hashId, ListaInts destino) {
+            int slot = -1;
+            while ((slot = TabelaIds.proximoSlot(hashesIds, hashId, slot)) >= 0) {
+                int posicao = posicoesIds[slot];
+                if (posicao < quantidade) {
+                    destino.adicionar(posicao);
+                }
+            }
+        }
+
+        // Usado ao selar: grava o dicionário e a tabela de IDs completos
+        String[] plataformas() {
+            return Arrays.copyOf(plataformas, quantidadePlataformas);
+        }
+
+        long[] hashesIds() {
+            return hashesIds;
+        }
+
+        int[] posicoesIds() {
+            return posicoesIds;
+        }
+    }
+}
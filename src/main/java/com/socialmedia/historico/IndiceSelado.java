@@ -0,0 +1,320 @@
+package com.socialmedia.historico;
+
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.util.ListaInts;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Índice de um segmento selado, gravado ao lado do log (.idx) e mapeado em memória só para leitura
+ * As colunas por registro ficam fora do heap (no cache de páginas), então o heap cresce com o número
+ * de segmentos e não com o de registros. Ao reabrir o diretório, um .idx íntegro evita varrer o log
+ *
+ * Layout: cabeçalho (mágico, versão, tamanho do segmento coberto, quantidade, capacidade da tabela
+ * de IDs, tempo mínimo e máximo, dicionário de plataformas), colunas (sequências, tempos, offsets,
+ * atributos), tabela de IDs (hashes, posições), listas de postagem (tamanho + posições por
+ * plataforma, por status e, após a quantidade de baldes, chave + tamanho + posições por balde) e
+ * CRC32 de tudo. Só os inícios das listas vão para o heap; as posições são lidas do mapa
+ */
+final class IndiceSelado implements VisaoSegmento {
+    private static final int MAGICO = 0x48495358;
+    private static final int VERSAO = 2;
+    private static final int STATUS = StatusPublicacao.values().length;
+
+    private final SegmentoLog segmento;
+    private final MappedByteBuffer mapa;
+    private final int quantidade;
+    private final int capacidadeIds;
+    private final long tempoMinimo;
+    private final long tempoMaximo;
+    private final String[] plataformas;
+    private final int inicioSequencias;
+    private final int inicioTempos;
+    private final int inicioOffsets;
+    private final int inicioAtributos;
+    private final int inicioHashes;
+    private final int inicioPosicoes;
+    private final ListaPosicoes[] porPlataforma;
+    private final ListaPosicoes[] porStatus;
+    private final long[] chavesBaldes;
+    private final ListaPosicoes[] baldes;
+
+    private IndiceSelado(SegmentoLog segmento, MappedByteBuffer mapa) {
+        this.segmento = segmento;
+        this.mapa = mapa;
+        this.quantidade = mapa.getInt(16);
+        this.capacidadeIds = mapa.getInt(20);
+        this.tempoMinimo = mapa.getLong(24);
+        this.tempoMaximo = mapa.getLong(32);
+        int posicao = 40;
+        this.plataformas = new String[mapa.getInt(posicao)];
+        posicao += Integer.BYTES;
+        for (int i = 0; i < plataformas.length; i++) {
+            byte[] bytes = new byte[mapa.getInt(posicao)];
+            mapa.get(posicao + Integer.BYTES, bytes);
+            plataformas[i] = new String(bytes, StandardCharsets.UTF_8);
+            posicao += Integer.BYTES + bytes.length;
+        }
+        this.inicioSequencias = posicao;
+        this.inicioTempos = inicioSequencias + quantidade * Long.BYTES;
+        this.inicioOffsets = inicioTempos + quantidade * Long.BYTES;
+        this.inicioAtributos = inicioOffsets + quantidade * Integer.BYTES;
+        this.inicioHashes = inicioAtributos + quantidade * Integer.BYTES;
+        this.inicioPosicoes = inicioHashes + capacidadeIds * Long.BYTES;
+
+        posicao = inicioPosicoes + capacidadeIds * Integer.BYTES;
+        this.porPlataforma = new ListaPosicoes[plataformas.length];
+        for (int i = 0; i < porPlataforma.length; i++) {
+            porPlataforma[i] = new Trecho(posicao + Integer.BYTES, mapa.getInt(posicao));
+            posicao += Integer.BYTES * (1 + porPlataforma[i].tamanho());
+        }
+        this.porStatus = new ListaPosicoes[STATUS];
+        for (int i = 0; i < STATUS; i++) {
+            porStatus[i] = new Trecho(posicao + Integer.BYTES, mapa.getInt(posicao));
+            posicao += Integer.BYTES * (1 + porStatus[i].tamanho());
+        }
+        this.chavesBaldes = new long[mapa.getInt(posicao)];
+        this.baldes = new ListaPosicoes[chavesBaldes.length];
+        posicao += Integer.BYTES;
+        for (int i = 0; i < baldes.length; i++) {
+            chavesBaldes[i] = mapa.getLong(posicao);
+            baldes[i] = new Trecho(posicao + Long.BYTES + Integer.BYTES, mapa.getInt(posicao + Long.BYTES));
+            posicao += Long.BYTES + Integer.BYTES * (1 + baldes[i].tamanho());
+        }
+    }
+
+    /**
+     * Grava o índice do segmento (arquivo temporário + move atômico) e o abre
+     */
+    static IndiceSelado gravar(Path arquivo, IndiceAtivo.Visao visao) throws IOException {
+        String[] plataformas = visao.plataformas();
+        byte[][] nomes = new byte[plataformas.length][];
+        long tamanho = 40L + Integer.BYTES;
+        for (int i = 0; i < plataformas.length; i++) {
+            nomes[i] = plataformas[i].getBytes(StandardCharsets.UTF_8);
+            tamanho += Integer.BYTES + nomes[i].length;
+        }
+        int quantidade = visao.quantidade();
+        long[] hashes = visao.hashesIds();
+        int[] posicoes = visao.posicoesIds();
+        tamanho += (long) quantidade * (2 * Long.BYTES + 2 * Integer.BYTES)
+            + (long) hashes.length * (Long.BYTES + Integer.BYTES) + Integer.BYTES;
+        for (int i = 0; i < plataformas.length; i++) {
+            tamanho += Integer.BYTES * (1L + visao.posicoesPlataforma(i).tamanho());
+        }
+        for (int i = 0; i < STATUS; i++) {
+            tamanho += Integer.BYTES * (1L + visao.posicoesStatus(i).tamanho());
+        }
+        tamanho += Integer.BYTES;
+        for (int i = 0; i < visao.quantidadeBaldes(); i++) {
+            tamanho += Long.BYTES + Integer.BYTES * (1L + visao.posicoesBalde(i).tamanho());
+        }
+        if (tamanho > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Índice do segmento excede 2 GB: " + visao.segmento().getArquivo());
+        }
+
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer saida = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanho);
+            saida.putInt(MAGICO).putInt(VERSAO).putLong(visao.segmento().getTamanho())
+                .putInt(quantidade).putInt(hashes.length)
+                .putLong(visao.tempoMinimo()).putLong(visao.tempoMaximo());
+            saida.putInt(nomes.length);
+            for (byte[] nome : nomes) {
+                saida.putInt(nome.length).put(nome);
+            }
+            for (int i = 0; i < quantidade; i++) {
+                saida.putLong(visao.sequencia(i));
+            }
+            for (int i = 0; i < quantidade; i++) {
+                saida.putLong(visao.tempo(i));
+            }
+            for (int i = 0; i < quantidade; i++) {
+                saida.putInt(visao.offset(i));
+            }
+            for (int i = 0; i < quantidade; i++) {
+                saida.putInt(visao.atributo(i));
+            }
+            for (long hash : hashes) {
+                saida.putLong(hash);
+            }
+            for (int posicao : posicoes) {
+                saida.putInt(posicao);
+            }
+            for (int i = 0; i < plataformas.length; i++) {
+                gravarLista(saida, visao.posicoesPlataforma(i));
+            }
+            for (int i = 0; i < STATUS; i++) {
+                gravarLista(saida, visao.posicoesStatus(i));
+            }
+            saida.putInt(visao.quantidadeBaldes());
+            for (int i = 0; i < visao.quantidadeBaldes(); i++) {
+                saida.putLong(visao.balde(i));
+                gravarLista(saida, visao.posicoesBalde(i));
+            }
+            saida.putInt(crc(saida, (int) tamanho - Integer.BYTES));
+            saida.force();
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        IndiceSelado indice = abrir(arquivo, visao.segmento());
+        if (indice == null) {
+            throw new IOException("Índice recém-gravado inválido: " + arquivo);
+        }
+        return indice;
+    }
+
+    /**
+     * Abre o índice do segmento, ou null se não existir, estiver corrompido ou não cobrir o segmento inteiro
+     */
+    static IndiceSelado abrir(Path arquivo, SegmentoLog segmento) throws IOException {
+        if (!Files.isRegularFile(arquivo)) {
+            return null;
+        }
+        MappedByteBuffer mapa;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long tamanho = canal.size();
+            if (tamanho < 44 || tamanho > Integer.MAX_VALUE) {
+                return null;
+            }
+            mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+        }
+        int fim = mapa.limit() - Integer.BYTES;
+        if (mapa.getInt(0) != MAGICO || mapa.getInt(4) != VERSAO || mapa.getLong(8) != segmento.getTamanho()
+                || mapa.getInt(fim) != crc(mapa, fim)) {
+            return null;
+        }
+        return new IndiceSelado(segmento, mapa);
+    }
+
+    private static void gravarLista(MappedByteBuffer saida, ListaPosicoes lista) {
+        saida.putInt(lista.tamanho());
+        for (int i = 0; i < lista.tamanho(); i++) {
+            saida.putInt(lista.get(i));
+        }
+    }
+
+    private static int crc(MappedByteBuffer mapa, int tamanho) {
+        CRC32 crc = new CRC32();
+        crc.update(mapa.slice(0, tamanho));
+        return (int) crc.getValue();
+    }
+
+    @Override
+    public SegmentoLog segmento() {
+        return segmento;
+    }
+
+    @Override
+    public int quantidade() {
+        return quantidade;
+    }
+
+    @Override
+    public long sequencia(int posicao) {
+        return mapa.getLong(inicioSequencias + posicao * Long.BYTES);
+    }
+
+    @Override
+    public int offset(int posicao) {
+        return mapa.getInt(inicioOffsets + posicao * Integer.BYTES);
+    }
+
+    @Override
+    public long tempo(int posicao) {
+        return mapa.getLong(inicioTempos + posicao * Long.BYTES);
+    }
+
+    @Override
+    public int atributo(int posicao) {
+        return mapa.getInt(inicioAtributos + posicao * Integer.BYTES);
+    }
+
+    @Override
+    public int codigoPlataforma(String chave) {
+        for (int i = 0; i < plataformas.length; i++) {
+            if (plataformas[i].equals(chave)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public long tempoMinimo() {
+        return tempoMinimo;
+    }
+
+    @Override
+    public long tempoMaximo() {
+        return tempoMaximo;
+    }
+
+    @Override
+    public ListaPosicoes posicoesPlataforma(int codigo) {
+        return porPlataforma[codigo];
+    }
+
+    @Override
+    public ListaPosicoes posicoesStatus(int status) {
+        return porStatus[status];
+    }
+
+    @Override
+    public int quantidadeBaldes() {
+        return chavesBaldes.length;
+    }
+
+    @Override
+    public long balde(int indice) {
+        return chavesBaldes[indice];
+    }
+
+    @Override
+    public ListaPosicoes posicoesBalde(int indice) {
+        return baldes[indice];
+    }
+
+    @Override
+    public void candidatos(long hashId, ListaInts destino) {
+        int mascara = capacidadeIds - 1;
+        int slot = (int) hashId & mascara;
+        long hash;
+        while ((hash = mapa.getLong(inicioHashes + slot * Long.BYTES)) != TabelaIds.VAZIO) {
+            if (hash == hashId) {
+                destino.adicionar(mapa.getInt(inicioPosicoes + slot * Integer.BYTES));
+            }
+            slot = (slot + 1) & mascara;
+        }
+    }
+
+    // Lista de postagem gravada no mapa
+    private final class Trecho implements ListaPosicoes {
+        private final int inicio;
+        private final int tamanho;
+
+        private Trecho(int inicio, int tamanho) {
+            this.inicio = inicio;
+            this.tamanho = tamanho;
+        }
+
+        @Override
+        public int tamanho() {
+            return tamanho;
+        }
+
+        @Override
+        public int get(int indice) {
+            return mapa.getInt(inicio + indice * Integer.BYTES);
+        }
+    }
+}
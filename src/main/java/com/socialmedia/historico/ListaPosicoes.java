@@ -0,0 +1,29 @@
+package com.socialmedia.historico;
+
+/**
+ * Lista de postagem de um segmento: posições locais em ordem crescente dos registros com um atributo
+ * (plataforma, status ou balde de tempo). No segmento ativo é um prefixo de array em memória; no
+ * selado, um trecho do .idx mapeado
+ */
+interface ListaPosicoes {
+    ListaPosicoes VAZIA = de(new int[0], 0);
+
+    int tamanho();
+
+    int get(int indice);
+
+    // Prefixo imutável de um array que o escritor só estende depois da publicação
+    static ListaPosicoes de(int[] valores, int tamanho) {
+        return new ListaPosicoes() {
+            @Override
+            public int tamanho() {
+                return tamanho;
+            }
+
+            @Override
+            public int get(int indice) {
+                return valores[indice];
+            }
+        };
+    }
+}
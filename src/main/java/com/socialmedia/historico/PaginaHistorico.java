@@ -0,0 +1,29 @@
+package com.socialmedia.historico;
+
+import java.util.List;
+
+// Página de resultados de uma consulta ao histórico
+public class PaginaHistorico {
+    public static final long SEM_PROXIMA = -1;
+
+    private final List<RegistroPublicacao> registros;
+    private final long proximoCursor;
+
+    PaginaHistorico(List<RegistroPublicacao> registros, long proximoCursor) {
+        this.registros = List.copyOf(registros);
+        this.proximoCursor = proximoCursor;
+    }
+
+    public List<RegistroPublicacao> getRegistros() {
+        return registros;
+    }
+
+    // Cursor para a próxima página ou SEM_PROXIMA
+    public long getProximoCursor() {
+        return proximoCursor;
+    }
+
+    public boolean temProxima() {
+        return proximoCursor != SEM_PROXIMA;
+    }
+}
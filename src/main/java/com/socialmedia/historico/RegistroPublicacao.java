@@ -0,0 +1,82 @@
+package com.socialmedia.historico;
+
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+
+import java.time.LocalDateTime;
+
+// Entrada do histórico de publicações (o que é persistido no log em disco)
+public class RegistroPublicacao {
+    private final long sequencia;
+    private final String id;
+    private final String plataforma;
+    private final StatusPublicacao status;
+    private final LocalDateTime dataPublicacao;
+    private final String url;
+    private final String erro;
+
+    RegistroPublicacao(long sequencia, String id, String plataforma, StatusPublicacao status,
+                       LocalDateTime dataPublicacao, String url, String erro) {
+        this.sequencia = sequencia;
+        this.id = id;
+        this.plataforma = plataforma;
+        this.status = status;
+        this.dataPublicacao = dataPublicacao;
+        this.url = url;
+        this.erro = erro;
+    }
+
+    static RegistroPublicacao de(long sequencia, Publicacao publicacao) {
+        return new RegistroPublicacao(
+            sequencia,
+            publicacao.getId(),
+            publicacao.getPlataforma(),
+            publicacao.getStatus(),
+            publicacao.getDataPublicacao(),
+            publicacao.getUrlPublicacao(),
+            publicacao.getMensagemErro()
+        );
+    }
+
+    // Posição no log (ordem de gravação)
+    public long getSequencia() {
+        return sequencia;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    public StatusPublicacao getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getDataPublicacao() {
+        return dataPublicacao;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    @Override
+    public String toString() {
+        return "RegistroPublicacao{" +
+                "seq=" + sequencia +
+                ", id='" + id + '\'' +
+                ", plataforma='" + plataforma + '\'' +
+                ", status=" + status +
+                ", dataPublicacao=" + dataPublicacao +
+                (url != null ? ", url='" + url + '\'' : "") +
+                (erro != null ? ", erro='" + erro + '\'' : "") +
+                '}';
+    }
+}
@@ -0,0 +1,112 @@
+package com.socialmedia.historico;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Arquivo de segmento do log: registros anexados em sequência, nunca reescritos
+// Só a thread escritora anexa; as leituras posicionais do FileChannel podem ser concorrentes
+final class SegmentoLog implements Closeable {
+    private final Path arquivo;
+    private final int numero;
+    private final FileChannel canal;
+    private long tamanho;
+
+    SegmentoLog(Path arquivo, int numero) throws IOException {
+        this.arquivo = arquivo;
+        this.numero = numero;
+        this.canal = FileChannel.open(arquivo,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.tamanho = canal.size();
+    }
+
+    Path getArquivo() {
+        return arquivo;
+    }
+
+    int getNumero() {
+        return numero;
+    }
+
+    long getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Anexa o registro ao fim do segmento e retorna o offset em que foi gravado
+     */
+    long anexar(ByteBuffer registro) throws IOException {
+        long offset = tamanho;
+        long posicao = offset;
+        try {
+            while (registro.hasRemaining()) {
+                posicao += canal.write(registro, posicao);
+            }
+        } catch (IOException e) {
+            // Desfaz a escrita parcial para a próxima anexação não deixar lixo no meio do segmento
+            try {
+                canal.truncate(offset);
+            } catch (IOException suprimida) {
+                e.addSuppressed(suprimida);
+            }
+            throw e;
+        }
+        tamanho = posicao;
+        return offset;
+    }
+
+    /**
+     * Lê exatamente destino.remaining() bytes a partir do offset
+     */
+    void ler(long offset, ByteBuffer destino) throws IOException {
+        long posicao = offset;
+        while (destino.hasRemaining()) {
+            int lidos = canal.read(destino, posicao);
+            if (lidos < 0) {
+                throw new EOFException("Fim inesperado do segmento " + arquivo.getFileName());
+            }
+            posicao += lidos;
+        }
+    }
+
+    /**
+     * Lê a partir do offset até encher o destino ou chegar ao fim do arquivo; retorna os bytes lidos
+     */
+    int lerDisponivel(long offset, ByteBuffer destino) throws IOException {
+        int inicio = destino.position();
+        long posicao = offset;
+        while (destino.hasRemaining()) {
+            int lidos = canal.read(destino, posicao);
+            if (lidos < 0) {
+                break;
+            }
+            posicao += lidos;
+        }
+        return destino.position() - inicio;
+    }
+
+    // Mapeia o conteúdo atual para a varredura de recuperação
+    MappedByteBuffer mapear() throws IOException {
+        return canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+    }
+
+    // Descarta um trecho final incompleto ou corrompido (escrita interrompida)
+    void truncar(long novoTamanho) throws IOException {
+        canal.truncate(novoTamanho);
+        tamanho = novoTamanho;
+    }
+
+    void sincronizar() throws IOException {
+        canal.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+}
@@ -0,0 +1,95 @@
+package com.socialmedia.historico;
+
+import com.socialmedia.util.Hash64;
+
+/**
+ * Tabela hash de endereçamento aberto só de inserção: hash de 64 bits do ID -> posição no segmento
+ * Guarda só primitivos (12 bytes por slot) e aceita o mesmo hash várias vezes (um ID regravado
+ * ocupa um slot por registro); colisões são resolvidas pelo chamador comparando o ID gravado no log
+ *
+ * Uma única thread insere. Os leitores sondam os arrays capturados na visão publicada: slots
+ * preenchidos depois da publicação podem aparecer incompletos, por isso o chamador descarta
+ * posições fora da visão e confirma o ID lendo o registro
+ */
+final class TabelaIds {
+    static final long VAZIO = 0L;
+
+    private long[] hashes;
+    private int[] posicoes;
+    private int tamanho;
+
+    TabelaIds() {
+        this.hashes = new long[1024];
+        this.posicoes = new int[1024];
+    }
+
+    static long hash(String id) {
+        long h = Hash64.de(id);
+        return h == VAZIO ? 1L : h;
+    }
+
+    /**
+     * Próximo slot a partir de 'inicio' com o mesmo hash, ou -1 ao encontrar um slot vazio
+     * Use inicio = -1 para começar pelo slot ideal do hash
+     */
+    static int proximoSlot(long[] hashes, long hash, int inicio) {
+        int mascara = hashes.length - 1;
+        int slot = inicio < 0 ? (int) hash & mascara : (inicio + 1) & mascara;
+        while (hashes[slot] != VAZIO) {
+            if (hashes[slot] == hash) {
+                return slot;
+            }
+            slot = (slot + 1) & mascara;
+        }
+        return -1;
+    }
+
+    void inserir(long hash, int posicao) {
+        if ((tamanho + 1) * 4L > hashes.length * 3L) {
+            redimensionar();
+        }
+        int mascara = hashes.length - 1;
+        int slot = (int) hash & mascara;
+        while (hashes[slot] != VAZIO) {
+            slot = (slot + 1) & mascara;
+        }
+        posicoes[slot] = posicao;
+        hashes[slot] = hash;
+        tamanho++;
+    }
+
+    long[] hashes() {
+        return hashes;
+    }
+
+    int[] posicoes() {
+        return posicoes;
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    // Gera arrays novos: os antigos continuam intactos para as visões já publicadas
+    private void redimensionar() {
+        long[] antigosHashes = hashes;
+        int[] antigasPosicoes = posicoes;
+        long[] novosHashes = new long[antigosHashes.length * 2];
+        int[] novasPosicoes = new int[antigosHashes.length * 2];
+        int mascara = novosHashes.length - 1;
+        for (int i = 0; i < antigosHashes.length; i++) {
+            long hash = antigosHashes[i];
+            if (hash == VAZIO) {
+                continue;
+            }
+            int slot = (int) hash & mascara;
+            while (novosHashes[slot] != VAZIO) {
+                slot = (slot + 1) & mascara;
+            }
+            novosHashes[slot] = hash;
+            novasPosicoes[slot] = antigasPosicoes[i];
+        }
+        hashes = novosHashes;
+        posicoes = novasPosicoes;
+    }
+}
@@ -0,0 +1,78 @@
+package com.socialmedia.historico;
+
+import com.socialmedia.util.ListaInts;
+
+/**
+ * Visão imutável do índice de um segmento, usada pelas leituras sem lock
+ * Os registros do segmento são endereçados por posição local (0 a quantidade - 1), em ordem de gravação
+ */
+interface VisaoSegmento {
+
+    SegmentoLog segmento();
+
+    int quantidade();
+
+    long sequencia(int posicao);
+
+    int offset(int posicao);
+
+    long tempo(int posicao);
+
+    // Código local da plataforma << 8 | ordinal do status
+    int atributo(int posicao);
+
+    /**
+     * Código local da plataforma (chave em maiúsculas) ou -1 se o segmento não a contém
+     */
+    int codigoPlataforma(String chave);
+
+    long tempoMinimo();
+
+    long tempoMaximo();
+
+    // Listas de postagem: posições locais crescentes dos registros com o atributo
+    ListaPosicoes posicoesPlataforma(int codigo);
+
+    ListaPosicoes posicoesStatus(int status);
+
+    /**
+     * Baldes de tempo em ordem crescente de chave (tempo / MILLIS_POR_BALDE); registros sem data não
+     * estão em nenhum
+     */
+    int quantidadeBaldes();
+
+    long balde(int indice);
+
+    ListaPosicoes posicoesBalde(int indice);
+
+    /**
+     * Acrescenta ao destino as posições cujo ID tem o hash informado
+     * Pode incluir falsos candidatos: o chamador confirma comparando o ID gravado
+     */
+    void candidatos(long hashId, ListaInts destino);
+
+    default int quantidadeStatus(int status) {
+        return posicoesStatus(status).tamanho();
+    }
+
+    default long ultimaSequencia() {
+        return sequencia(quantidade() - 1);
+    }
+
+    /**
+     * Primeira posição com sequência maior que a informada (as sequências são crescentes)
+     */
+    default int primeiraPosicaoApos(long sequencia) {
+        int baixo = 0;
+        int alto = quantidade();
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (sequencia(meio) <= sequencia) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+}
@@ -0,0 +1,32 @@
+package com.socialmedia.id;
+
+/**
+ * Codifica IDs de 64 bits em base32 Crockford com largura fixa de 13 caracteres
+ * O alfabeto é crescente em ASCII, então a ordem do texto preserva a ordem numérica
+ */
+public final class CodificadorId {
+    public static final int TAMANHO = 13;
+
+    private static final char[] ALFABETO = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private CodificadorId() {
+    }
+
+    public static String codificar(long id) {
+        return codificar("", id);
+    }
+
+    // Monta prefixo + ID em um único array, sem concatenações intermediárias
+    public static String codificar(String prefixo, long id) {
+        int tamanhoPrefixo = prefixo.length();
+        char[] saida = new char[tamanhoPrefixo + TAMANHO];
+        prefixo.getChars(0, tamanhoPrefixo, saida, 0);
+
+        long restante = id;
+        for (int i = saida.length - 1; i >= tamanhoPrefixo; i--) {
+            saida[i] = ALFABETO[(int) (restante & 31)];
+            restante >>>= 5;
+        }
+        return new String(saida);
+    }
+}
@@ -0,0 +1,29 @@
+package com.socialmedia.id;
+
+/**
+ * Gerador de identificadores para publicações
+ * Implementações devem ser thread-safe
+ */
+public interface GeradorId {
+
+    /**
+     * Gera o próximo identificador numérico
+     * @return ID único, preferencialmente ordenado pelo tempo
+     */
+    long proximoId();
+
+    /**
+     * Gera o próximo identificador em texto (base32 Crockford, largura fixa)
+     * A ordenação lexicográfica do texto segue a ordenação numérica do ID
+     */
+    default String proximoIdTexto() {
+        return CodificadorId.codificar("", proximoId());
+    }
+
+    /**
+     * Gera o próximo identificador em texto com um prefixo (ex.: "tw_")
+     */
+    default String proximoIdTexto(String prefixo) {
+        return CodificadorId.codificar(prefixo, proximoId());
+    }
+}
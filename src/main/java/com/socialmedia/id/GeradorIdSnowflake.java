@@ -0,0 +1,96 @@
+package com.socialmedia.id;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de IDs no estilo Snowflake, ordenados pelo tempo
+ * Layout (63 bits úteis): 41 bits de milissegundos desde a época | 10 bits de nó | 12 bits de sequência
+ *
+ * O nó identifica a instância (0 a 1023) e deve ser único entre os processos que geram IDs ao
+ * mesmo tempo. Sem nó explícito, usa a propriedade de sistema socialmedia.id.no e, na falta dela,
+ * um nó sorteado, o que só evita colisão entre instâncias com boa probabilidade
+ *
+ * Milissegundo e sequência ficam num único AtomicLong por gerador, atualizado por CAS: qualquer
+ * número de threads (inclusive criadas e descartadas a cada chamada) recebe IDs distintos
+ * Ao esgotar a sequência, ou se o relógio voltar, o milissegundo lógico avança em vez de esperar
+ */
+public class GeradorIdSnowflake implements GeradorId {
+    public static final long EPOCA_PADRAO = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    public static final String PROPRIEDADE_NO = "socialmedia.id.no";
+    public static final int NO_MAXIMO = (1 << 10) - 1;
+
+    private static final int BITS_NO = 10;
+    private static final int BITS_SEQUENCIA = 12;
+    private static final long MASCARA_SEQUENCIA = (1L << BITS_SEQUENCIA) - 1;
+
+    private final long epoca;
+    private final int no;
+    // Milissegundo lógico << BITS_SEQUENCIA | sequência do último ID emitido
+    private final AtomicLong ultimo = new AtomicLong(-1);
+
+    public GeradorIdSnowflake() {
+        this(EPOCA_PADRAO, noPadrao());
+    }
+
+    public GeradorIdSnowflake(long epoca) {
+        this(epoca, noPadrao());
+    }
+
+    public GeradorIdSnowflake(long epoca, int no) {
+        if (no < 0 || no > NO_MAXIMO) {
+            throw new IllegalArgumentException("Nó deve estar entre 0 e " + NO_MAXIMO + ": " + no);
+        }
+        this.epoca = epoca;
+        this.no = no;
+    }
+
+    @Override
+    public long proximoId() {
+        long agora = System.currentTimeMillis() - epoca;
+        long anterior;
+        long proximo;
+        do {
+            anterior = ultimo.get();
+            long candidato = agora << BITS_SEQUENCIA;
+            // Mesmo milissegundo ou relógio atrasado: incrementa a sequência, que transborda para o milissegundo seguinte
+            proximo = candidato > anterior ? candidato : anterior + 1;
+        } while (!ultimo.compareAndSet(anterior, proximo));
+
+        long milissegundo = proximo >>> BITS_SEQUENCIA;
+        return (milissegundo << (BITS_NO + BITS_SEQUENCIA))
+            | ((long) no << BITS_SEQUENCIA)
+            | (proximo & MASCARA_SEQUENCIA);
+    }
+
+    public int getNo() {
+        return no;
+    }
+
+    /**
+     * Extrai o instante de geração de um ID
+     */
+    public Instant instanteDe(long id) {
+        return Instant.ofEpochMilli((id >>> (BITS_NO + BITS_SEQUENCIA)) + epoca);
+    }
+
+    /**
+     * Extrai o nó que gerou um ID
+     */
+    public static int noDe(long id) {
+        return (int) ((id >>> BITS_SEQUENCIA) & NO_MAXIMO);
+    }
+
+    private static int noPadrao() {
+        String configurado = System.getProperty(PROPRIEDADE_NO);
+        if (configurado == null || configurado.isBlank()) {
+            return new SecureRandom().nextInt(NO_MAXIMO + 1);
+        }
+        try {
+            return Integer.parseInt(configurado.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Propriedade " + PROPRIEDADE_NO + " inválida: " + configurado, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.socialmedia.id;
+
+/**
+ * Ponto de acesso ao gerador de IDs usado pelos builders e pelas APIs simuladas
+ * O gerador padrão pode ser substituído (ex.: por um gerador com ID de nó ou determinístico)
+ */
+public final class GeradorIds {
+    private static volatile GeradorId padrao = new GeradorIdSnowflake();
+
+    private GeradorIds() {
+    }
+
+    public static GeradorId getPadrao() {
+        return padrao;
+    }
+
+    public static void setPadrao(GeradorId gerador) {
+        if (gerador == null) {
+            throw new IllegalArgumentException("Gerador de ID não pode ser nulo");
+        }
+        padrao = gerador;
+    }
+
+    public static String proximoIdTexto() {
+        return padrao.proximoIdTexto();
+    }
+
+    public static String proximoIdTexto(String prefixo) {
+        return padrao.proximoIdTexto(prefixo);
+    }
+}
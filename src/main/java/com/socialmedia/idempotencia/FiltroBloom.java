@@ -0,0 +1,72 @@
+package com.socialmedia.idempotencia;
+
+import com.socialmedia.util.Hash64;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom sem locks (bits em AtomicLongArray)
+ * Dimensionado pelo número esperado de chaves e pela taxa de falso positivo desejada;
+ * as k posições vêm de duplo hashing sobre o Hash64 da chave
+ */
+public final class FiltroBloom {
+    private final AtomicLongArray bits;
+    private final long totalBits;
+    private final int funcoes;
+
+    public FiltroBloom(long chavesEsperadas, double taxaFalsoPositivo) {
+        if (chavesEsperadas <= 0) {
+            throw new IllegalArgumentException("Número de chaves esperadas deve ser positivo");
+        }
+        if (taxaFalsoPositivo <= 0 || taxaFalsoPositivo >= 1) {
+            throw new IllegalArgumentException("Taxa de falso positivo deve estar entre 0 e 1");
+        }
+        // m = -n ln p / (ln 2)^2 ; k = m/n ln 2
+        long m = (long) Math.ceil(-chavesEsperadas * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2)));
+        int palavras = (int) Math.min(Integer.MAX_VALUE - 8, (m + 63) / 64);
+        this.bits = new AtomicLongArray(palavras);
+        this.totalBits = palavras * 64L;
+        this.funcoes = Math.max(1, (int) Math.round((double) totalBits / chavesEsperadas * Math.log(2)));
+    }
+
+    public void adicionar(String chave) {
+        long h1 = Hash64.de(chave);
+        long h2 = segundoHash(h1);
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, totalBits);
+            int palavra = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            long atual = bits.get(palavra);
+            while ((atual & mascara) == 0 && !bits.compareAndSet(palavra, atual, atual | mascara)) {
+                atual = bits.get(palavra);
+            }
+        }
+    }
+
+    /**
+     * false: a chave com certeza nunca foi adicionada; true: provavelmente foi
+     */
+    public boolean talvezContenha(String chave) {
+        long h1 = Hash64.de(chave);
+        long h2 = segundoHash(h1);
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, totalBits);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getTotalBits() {
+        return totalBits;
+    }
+
+    public int getFuncoes() {
+        return funcoes;
+    }
+
+    private static long segundoHash(long h1) {
+        return Hash64.misturar(h1 ^ 0x9e3779b97f4a7c15L) | 1L;
+    }
+}
@@ -0,0 +1,268 @@
+package com.socialmedia.idempotencia;
+
+import com.socialmedia.strategy.RespostaUnificada;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicação de requisições por chave de idempotência
+ *
+ * Duas camadas com memória limitada:
+ * - filtro de Bloom na frente, em duas gerações que cobrem a validade das respostas; um "com
+ *   certeza não vista" dispensa a consulta à tabela e a chave vai direto para a inserção
+ * - tabela exata (chave -> resposta), a fonte autoritativa, com validade e capacidade máxima; uma
+ *   repetição dentro da validade recebe a RespostaUnificada original sem chamar as plataformas,
+ *   e repetições concorrentes aguardam a execução em andamento
+ *
+ * Um acerto do filtro só leva à consulta da tabela: falsos positivos custam uma consulta e nunca
+ * recusam uma chave nova. A inserção usa putIfAbsent, então a decisão final é sempre da tabela.
+ * Uma chave vencida ou expurgada por capacidade volta a ser tratada como nova
+ */
+public class RegistroIdempotencia {
+    public static final Duration VALIDADE_RESPOSTAS_PADRAO = Duration.ofMinutes(15);
+    public static final int CAPACIDADE_RESPOSTAS_PADRAO = 100_000;
+    public static final double TAXA_FALSO_POSITIVO_PADRAO = 0.01;
+
+    // Entradas expurgadas por chamada (custo amortizado, sem thread de limpeza)
+    private static final int EXPURGO_POR_CHAMADA = 64;
+
+    private final long validadeRespostasNanos;
+    private final int capacidadeRespostas;
+    private final long chavesEsperadas;
+    private final double taxaFalsoPositivo;
+
+    private final ConcurrentHashMap<String, Entrada> entradas = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entrada> ordemInsercao = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock travaExpurgo = new ReentrantLock();
+    private final AtomicReference<Geracoes> geracoes;
+
+    private final LongAdder respostasReaproveitadas = new LongAdder();
+    private final LongAdder consultasEvitadas = new LongAdder();
+
+    private RegistroIdempotencia(Builder builder) {
+        this.validadeRespostasNanos = builder.validadeRespostas.toNanos();
+        this.capacidadeRespostas = builder.capacidadeRespostas;
+        this.chavesEsperadas = builder.chavesEsperadas > 0 ? builder.chavesEsperadas : builder.capacidadeRespostas;
+        this.taxaFalsoPositivo = builder.taxaFalsoPositivo;
+        this.geracoes = new AtomicReference<>(new Geracoes(novoFiltro(), null, System.nanoTime()));
+    }
+
+    /**
+     * Executa a operação uma única vez por chave enquanto a resposta estiver na tabela
+     * Repetições recebem a resposta original (ou aguardam a execução em andamento);
+     * se a operação lançar exceção, a chave é liberada para uma nova tentativa
+     */
+    public RespostaUnificada executar(String chave, Supplier<RespostaUnificada> operacao) {
+        if (chave == null || chave.isBlank()) {
+            throw new IllegalArgumentException("Chave de idempotência não pode ser vazia");
+        }
+        long agora = System.nanoTime();
+        expurgar(agora);
+        Geracoes filtros = geracoesAtuais(agora);
+
+        boolean consultar = filtros.talvezContenha(chave);
+        if (!consultar) {
+            consultasEvitadas.increment();
+        }
+        while (true) {
+            if (consultar) {
+                Entrada existente = entradas.get(chave);
+                if (existente != null) {
+                    if (!existente.expirada(agora)) {
+                        respostasReaproveitadas.increment();
+                        return aguardar(existente);
+                    }
+                    entradas.remove(chave, existente);
+                }
+            }
+
+            Entrada nova = new Entrada(chave, agora + validadeRespostasNanos);
+            if (entradas.putIfAbsent(chave, nova) != null) {
+                // Outra thread inseriu a chave (ou o filtro já a tinha esquecido): decide pela tabela
+                consultar = true;
+                continue;
+            }
+            ordemInsercao.add(nova);
+            // Entra no filtro antes de executar, para as repetições concorrentes consultarem a tabela
+            filtros.adicionar(chave);
+            try {
+                RespostaUnificada resposta = operacao.get();
+                nova.resultado.complete(resposta);
+                return resposta;
+            } catch (RuntimeException | Error e) {
+                entradas.remove(chave, nova);
+                nova.resultado.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Repetições atendidas com a resposta original
+     */
+    public long getRespostasReaproveitadas() {
+        return respostasReaproveitadas.sum();
+    }
+
+    /**
+     * Chamadas em que o filtro de Bloom dispensou a consulta à tabela
+     */
+    public long getConsultasEvitadas() {
+        return consultasEvitadas.sum();
+    }
+
+    /**
+     * Respostas mantidas na tabela exata
+     */
+    public int getRespostasEmMemoria() {
+        return entradas.size();
+    }
+
+    // Métodos privados auxiliares
+
+    private RespostaUnificada aguardar(Entrada entrada) {
+        try {
+            return entrada.resultado.join();
+        } catch (CompletionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            if (causa instanceof Error) {
+                throw (Error) causa;
+            }
+            throw e;
+        }
+    }
+
+    // Remove respostas vencidas e as mais antigas acima da capacidade
+    // Entradas em andamento voltam para o fim da fila para não liberar a chave antes do fim
+    private void expurgar(long agora) {
+        if (!travaExpurgo.tryLock()) {
+            return;
+        }
+        try {
+            for (int i = 0; i < EXPURGO_POR_CHAMADA; i++) {
+                Entrada cabeca = ordemInsercao.peek();
+                if (cabeca == null) {
+                    return;
+                }
+                boolean excedeu = entradas.size() > capacidadeRespostas;
+                if (!excedeu && !cabeca.expirada(agora)) {
+                    return;
+                }
+                ordemInsercao.poll();
+                if (!cabeca.resultado.isDone()) {
+                    ordemInsercao.add(cabeca);
+                    continue;
+                }
+                entradas.remove(cabeca.chave, cabeca);
+            }
+        } finally {
+            travaExpurgo.unlock();
+        }
+    }
+
+    private Geracoes geracoesAtuais(long agora) {
+        Geracoes atuais = geracoes.get();
+        if (agora - atuais.inicio < validadeRespostasNanos) {
+            return atuais;
+        }
+        // Cada chave fica ao menos uma validade no filtro; sem chamadas por duas validades, a geração atual também venceu
+        FiltroBloom anterior = agora - atuais.inicio < 2 * validadeRespostasNanos ? atuais.atual : null;
+        Geracoes novas = new Geracoes(novoFiltro(), anterior, agora);
+        return geracoes.compareAndSet(atuais, novas) ? novas : geracoes.get();
+    }
+
+    private FiltroBloom novoFiltro() {
+        return new FiltroBloom(chavesEsperadas, taxaFalsoPositivo);
+    }
+
+    private static final class Entrada {
+        private final String chave;
+        private final long expiraEm;
+        private final CompletableFuture<RespostaUnificada> resultado = new CompletableFuture<>();
+
+        private Entrada(String chave, long expiraEm) {
+            this.chave = chave;
+            this.expiraEm = expiraEm;
+        }
+
+        private boolean expirada(long agora) {
+            return agora - expiraEm >= 0 && resultado.isDone();
+        }
+    }
+
+    // Geração atual recebe as chaves novas; a anterior só é consultada
+    private static final class Geracoes {
+        private final FiltroBloom atual;
+        private final FiltroBloom anterior;
+        private final long inicio;
+
+        private Geracoes(FiltroBloom atual, FiltroBloom anterior, long inicio) {
+            this.atual = atual;
+            this.anterior = anterior;
+            this.inicio = inicio;
+        }
+
+        private boolean talvezContenha(String chave) {
+            return atual.talvezContenha(chave) || (anterior != null && anterior.talvezContenha(chave));
+        }
+
+        private void adicionar(String chave) {
+            atual.adicionar(chave);
+        }
+    }
+
+    public static class Builder {
+        private Duration validadeRespostas = VALIDADE_RESPOSTAS_PADRAO;
+        private int capacidadeRespostas = CAPACIDADE_RESPOSTAS_PADRAO;
+        private long chavesEsperadas;
+        private double taxaFalsoPositivo = TAXA_FALSO_POSITIVO_PADRAO;
+
+        // Por quanto tempo a resposta original é devolvida às repetições
+        public Builder validadeRespostas(Duration validade) {
+            this.validadeRespostas = validade;
+            return this;
+        }
+
+        // Máximo de respostas mantidas na tabela exata
+        public Builder capacidadeRespostas(int capacidade) {
+            this.capacidadeRespostas = capacidade;
+            return this;
+        }
+
+        // Chaves novas esperadas por validade, para dimensionar cada geração do filtro (padrão: a capacidade)
+        public Builder chavesEsperadas(long chaves) {
+            this.chavesEsperadas = chaves;
+            return this;
+        }
+
+        // Um falso positivo só custa uma consulta à tabela
+        public Builder taxaFalsoPositivo(double taxa) {
+            this.taxaFalsoPositivo = taxa;
+            return this;
+        }
+
+        public RegistroIdempotencia build() {
+            if (validadeRespostas == null || validadeRespostas.isNegative() || validadeRespostas.isZero()) {
+                throw new IllegalArgumentException("Validade das respostas deve ser positiva");
+            }
+            if (capacidadeRespostas <= 0) {
+                throw new IllegalArgumentException("Capacidade deve ser positiva");
+            }
+            if (chavesEsperadas < 0) {
+                throw new IllegalArgumentException("Chaves esperadas não pode ser negativo");
+            }
+            return new RegistroIdempotencia(this);
+        }
+    }
+}
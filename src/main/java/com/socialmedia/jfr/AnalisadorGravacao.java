@@ -0,0 +1,244 @@
+package com.socialmedia.jfr;
+
+import com.socialmedia.metricas.HistogramaLatencia;
+import com.socialmedia.metricas.InstantaneoHistograma;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Lê uma gravação JFR e imprime latência e alocação por plataforma e operação
+ * A alocação vem das amostras jdk.ObjectAllocationSample, atribuídas à operação
+ * que estava em andamento na mesma thread no instante da amostra
+ *
+ * Uso: java -cp <classpath> com.socialmedia.jfr.AnalisadorGravacao gravacao.jfr
+ */
+public final class AnalisadorGravacao {
+    private static final String PREFIXO = "com.socialmedia.";
+    private static final String FAN_OUT = "com.socialmedia.FanOut";
+    private static final String AMOSTRA_ALOCACAO = "jdk.ObjectAllocationSample";
+    private static final int CLASSES_POR_OPERACAO = 3;
+
+    private final Map<String, Estatistica> operacoes = new TreeMap<>();
+    private final Map<String, Estatistica> fanOuts = new TreeMap<>();
+    private final Map<Long, List<Intervalo>> intervalosPorThread = new HashMap<>();
+    private final List<Amostra> amostras = new ArrayList<>();
+    private long bytesForaDasOperacoes;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Uso: AnalisadorGravacao <gravacao.jfr>");
+            System.exit(1);
+        }
+        Path arquivo = Paths.get(args[0]);
+        if (!Files.isRegularFile(arquivo)) {
+            System.err.println("Arquivo não encontrado: " + arquivo);
+            System.exit(1);
+        }
+        AnalisadorGravacao analisador = new AnalisadorGravacao();
+        analisador.ler(arquivo);
+        analisador.imprimir(System.out);
+    }
+
+    public void ler(Path arquivo) throws IOException {
+        try (RecordingFile gravacao = new RecordingFile(arquivo)) {
+            while (gravacao.hasMoreEvents()) {
+                RecordedEvent evento = gravacao.readEvent();
+                String tipo = evento.getEventType().getName();
+                if (tipo.equals(AMOSTRA_ALOCACAO)) {
+                    lerAmostra(evento);
+                } else if (tipo.equals(FAN_OUT)) {
+                    Estatistica estatistica = fanOuts.computeIfAbsent(evento.getString("operacao"), Estatistica::new);
+                    estatistica.registrar(evento, evento.getInt("falhas") > 0);
+                } else if (tipo.startsWith(PREFIXO)) {
+                    lerOperacao(evento);
+                }
+            }
+        }
+        atribuirAlocacoes();
+    }
+
+    public void imprimir(PrintStream saida) {
+        saida.println("== Latência por plataforma e operação ==");
+        imprimirLatencias(saida, "plataforma/operação", operacoes);
+
+        if (!fanOuts.isEmpty()) {
+            saida.println();
+            saida.println("== Fan-outs do gerenciador ==");
+            imprimirLatencias(saida, "operação", fanOuts);
+        }
+
+        saida.println();
+        saida.println("== Alocação por plataforma e operação (" + AMOSTRA_ALOCACAO + ") ==");
+        if (amostras.isEmpty()) {
+            saida.println("Nenhuma amostra de alocação na gravação (use o perfil midiasocial.jfc)");
+            return;
+        }
+        saida.printf("%-34s %14s %12s  %s%n", "plataforma/operação", "bytes", "bytes/op", "classes");
+        for (Estatistica estatistica : operacoes.values()) {
+            if (estatistica.bytesAlocados == 0) {
+                continue;
+            }
+            saida.printf("%-34s %14d %12d  %s%n", estatistica.chave, estatistica.bytesAlocados,
+                estatistica.bytesAlocados / estatistica.histograma.instantaneo().getTotal(),
+                estatistica.principaisClasses());
+        }
+        saida.printf("%-34s %14d%n", "(fora das operações)", bytesForaDasOperacoes);
+    }
+
+    private void imprimirLatencias(PrintStream saida, String titulo, Map<String, Estatistica> estatisticas) {
+        saida.printf("%-34s %8s %7s %10s %10s %10s %10s %10s%n",
+            titulo, "ops", "falhas", "média ms", "p50 ms", "p99 ms", "máx ms", "payload");
+        for (Estatistica estatistica : estatisticas.values()) {
+            InstantaneoHistograma instantaneo = estatistica.histograma.instantaneo();
+            saida.printf("%-34s %8d %7d %10.3f %10.3f %10.3f %10.3f %10d%n",
+                estatistica.chave, instantaneo.getTotal(), estatistica.falhas,
+                instantaneo.getMediaNanos() / 1e6, instantaneo.percentil(50) / 1e6,
+                instantaneo.percentil(99) / 1e6, instantaneo.getMaximoNanos() / 1e6,
+                estatistica.payloadTotal / instantaneo.getTotal());
+        }
+    }
+
+    private void lerOperacao(RecordedEvent evento) {
+        String chave = evento.getString("plataforma") + "/" + evento.getString("operacao");
+        Estatistica estatistica = operacoes.computeIfAbsent(chave, Estatistica::new);
+        String status = evento.getString("status");
+        boolean falhou = status != null && !status.equals("SUCESSO")
+            && !status.equals("PUBLICADO") && !status.equals("AGENDADO");
+        estatistica.registrar(evento, falhou);
+
+        RecordedThread thread = evento.getThread();
+        if (thread != null) {
+            intervalosPorThread.computeIfAbsent(thread.getJavaThreadId(), id -> new ArrayList<>())
+                .add(new Intervalo(nanos(evento.getStartTime()), nanos(evento.getEndTime()), estatistica));
+        }
+    }
+
+    private void lerAmostra(RecordedEvent evento) {
+        RecordedThread thread = evento.getThread();
+        RecordedClass classe = evento.getClass("objectClass");
+        amostras.add(new Amostra(
+            thread != null ? thread.getJavaThreadId() : -1,
+            nanos(evento.getStartTime()),
+            evento.getLong("weight"),
+            classe != null ? classe.getName() : "?"));
+    }
+
+    // Os eventos não chegam ordenados: ordena os intervalos de cada thread e busca cada amostra
+    private void atribuirAlocacoes() {
+        for (List<Intervalo> intervalos : intervalosPorThread.values()) {
+            intervalos.sort(Comparator.comparingLong(intervalo -> intervalo.inicio));
+        }
+        for (Amostra amostra : amostras) {
+            Intervalo intervalo = buscar(intervalosPorThread.get(amostra.thread), amostra.instante);
+            if (intervalo == null) {
+                bytesForaDasOperacoes += amostra.bytes;
+            } else {
+                intervalo.estatistica.bytesAlocados += amostra.bytes;
+                intervalo.estatistica.bytesPorClasse.merge(amostra.classe, amostra.bytes, Long::sum);
+            }
+        }
+    }
+
+    // Último intervalo iniciado até o instante, se ainda estava em andamento
+    private static Intervalo buscar(List<Intervalo> intervalos, long instante) {
+        if (intervalos == null) {
+            return null;
+        }
+        int baixo = 0;
+        int alto = intervalos.size() - 1;
+        int encontrado = -1;
+        while (baixo <= alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (intervalos.get(meio).inicio <= instante) {
+                encontrado = meio;
+                baixo = meio + 1;
+            } else {
+                alto = meio - 1;
+            }
+        }
+        if (encontrado < 0) {
+            return null;
+        }
+        Intervalo intervalo = intervalos.get(encontrado);
+        return instante <= intervalo.fim ? intervalo : null;
+    }
+
+    private static long nanos(Instant instante) {
+        return instante.getEpochSecond() * 1_000_000_000L + instante.getNano();
+    }
+
+    private static final class Estatistica {
+        private final String chave;
+        private final HistogramaLatencia histograma = new HistogramaLatencia();
+        private final Map<String, Long> bytesPorClasse = new HashMap<>();
+        private long falhas;
+        private long payloadTotal;
+        private long bytesAlocados;
+
+        private Estatistica(String chave) {
+            this.chave = chave;
+        }
+
+        void registrar(RecordedEvent evento, boolean falhou) {
+            histograma.registrar(evento.getDuration().toNanos());
+            if (evento.hasField("tamanhoPayload")) {
+                payloadTotal += evento.getLong("tamanhoPayload");
+            }
+            if (falhou) {
+                falhas++;
+            }
+        }
+
+        String principaisClasses() {
+            StringBuilder texto = new StringBuilder();
+            bytesPorClasse.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(CLASSES_POR_OPERACAO)
+                .forEach(entrada -> texto.append(texto.length() > 0 ? ", " : "")
+                    .append(entrada.getKey()).append(' ')
+                    .append(entrada.getValue() * 100 / bytesAlocados).append('%'));
+            return texto.toString();
+        }
+    }
+
+    private static final class Intervalo {
+        private final long inicio;
+        private final long fim;
+        private final Estatistica estatistica;
+
+        private Intervalo(long inicio, long fim, Estatistica estatistica) {
+            this.inicio = inicio;
+            this.fim = fim;
+            this.estatistica = estatistica;
+        }
+    }
+
+    private static final class Amostra {
+        private final long thread;
+        private final long instante;
+        private final long bytes;
+        private final String classe;
+
+        private Amostra(long thread, long instante, long bytes, String classe) {
+            this.thread = thread;
+            this.instante = instante;
+            this.bytes = bytes;
+            this.classe = classe;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.socialmedia.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Autenticação em uma plataforma
+@Name("com.socialmedia.Autenticacao")
+@Label("Autenticação em Plataforma")
+final class EventoAutenticacao extends EventoPlataforma {
+}
@@ -0,0 +1,13 @@
+package com.socialmedia.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Estatísticas ou remoção de uma publicação existente
+@Name("com.socialmedia.Consulta")
+@Label("Consulta em Plataforma")
+final class EventoConsulta extends EventoPlataforma {
+
+    @Label("Id da Publicação")
+    String publicacaoId;
+}
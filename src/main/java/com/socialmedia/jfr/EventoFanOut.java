@@ -0,0 +1,65 @@
+package com.socialmedia.jfr;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.strategy.RespostaUnificada;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Fan-out do GerenciadorMidiaSocial, da chamada pública até a resposta unificada
+ * (inclui validação, verificação de duplicidade, as chamadas aos adapters e os ouvintes)
+ */
+@Name("com.socialmedia.FanOut")
+@Label("Fan-out de Publicação")
+@Category({"Mídia Social", "Gerenciador"})
+@StackTrace(false)
+public final class EventoFanOut extends Event {
+
+    @Label("Operação")
+    String operacao;
+
+    @Label("Tipo de Conteúdo")
+    String tipoConteudo;
+
+    @Label("Tamanho do Payload")
+    @DataAmount
+    long tamanhoPayload;
+
+    @Label("Publicações")
+    int publicacoes;
+
+    @Label("Sucesso")
+    int sucesso;
+
+    @Label("Falhas")
+    int falhas;
+
+    @Label("Agendadas")
+    int agendadas;
+
+    public static EventoFanOut iniciar() {
+        EventoFanOut evento = new EventoFanOut();
+        evento.begin();
+        return evento;
+    }
+
+    // Encerra o evento e devolve a resposta, para uso direto no return
+    public RespostaUnificada concluir(String operacao, Conteudo conteudo, RespostaUnificada resposta) {
+        end();
+        if (shouldCommit()) {
+            this.operacao = operacao;
+            this.tipoConteudo = TamanhoPayload.tipo(conteudo);
+            this.tamanhoPayload = TamanhoPayload.bytes(conteudo);
+            this.publicacoes = resposta.getTotalPublicacoes();
+            this.sucesso = resposta.getSucesso();
+            this.falhas = resposta.getFalhas();
+            this.agendadas = resposta.getAgendadas();
+            commit();
+        }
+        return resposta;
+    }
+}
@@ -0,0 +1,26 @@
+package com.socialmedia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base dos eventos JFR de operações em uma plataforma
+ * A duração do evento é a da chamada ao adapter
+ */
+@Category({"Mídia Social", "Plataformas"})
+@StackTrace(false)
+abstract class EventoPlataforma extends Event {
+
+    @Label("Plataforma")
+    String plataforma;
+
+    @Label("Operação")
+    String operacao;
+
+    @Label("Status")
+    @Description("PUBLICADO, AGENDADO ou SUCESSO; em falhas, a categoria do erro")
+    String status;
+}
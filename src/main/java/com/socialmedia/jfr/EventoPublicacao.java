@@ -0,0 +1,21 @@
+package com.socialmedia.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Publicação ou agendamento em uma plataforma
+@Name("com.socialmedia.Publicacao")
+@Label("Publicação em Plataforma")
+final class EventoPublicacao extends EventoPlataforma {
+
+    @Label("Tipo de Conteúdo")
+    String tipoConteudo;
+
+    @Label("Tamanho do Payload")
+    @DataAmount
+    long tamanhoPayload;
+
+    @Label("Id da Publicação")
+    String publicacaoId;
+}
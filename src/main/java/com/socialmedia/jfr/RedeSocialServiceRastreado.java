@@ -0,0 +1,225 @@
+package com.socialmedia.jfr;
+
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Estatisticas;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.resultado.Resultado;
+import com.socialmedia.service.RedeSocialService;
+
+/**
+ * Decorator que emite eventos JFR para cada operação de um RedeSocialService
+ * Sem gravação ativa os eventos ficam desabilitados e o custo é desprezível;
+ * os campos só são preenchidos quando o evento vai ser gravado
+ */
+public class RedeSocialServiceRastreado implements RedeSocialService {
+    private static final String SUCESSO = "SUCESSO";
+
+    private final RedeSocialService delegado;
+
+    public RedeSocialServiceRastreado(RedeSocialService delegado) {
+        if (delegado == null) {
+            throw new IllegalArgumentException("Service não pode ser nulo");
+        }
+        this.delegado = delegado;
+    }
+
+    public RedeSocialService getDelegado() {
+        return delegado;
+    }
+
+    @Override
+    public void autenticar(String credenciais) throws AutenticacaoException {
+        EventoAutenticacao evento = new EventoAutenticacao();
+        evento.begin();
+        String status = CategoriaErro.AUTENTICACAO.name();
+        try {
+            delegado.autenticar(credenciais);
+            status = SUCESSO;
+        } finally {
+            evento.end();
+            if (evento.shouldCommit()) {
+                preencher(evento, "autenticar", status);
+                evento.commit();
+            }
+        }
+    }
+
+    @Override
+    public Publicacao publicar(Conteudo conteudo) throws PublicacaoException {
+        EventoPublicacao evento = new EventoPublicacao();
+        evento.begin();
+        Publicacao publicacao = null;
+        String status = CategoriaErro.TRANSITORIO.name();
+        try {
+            publicacao = delegado.publicar(conteudo);
+            status = status(publicacao);
+            return publicacao;
+        } catch (PublicacaoException e) {
+            status = status(e.getCategoria());
+            throw e;
+        } finally {
+            concluir(evento, "publicar", conteudo, publicacao, status);
+        }
+    }
+
+    @Override
+    public Publicacao agendar(Conteudo conteudo) throws PublicacaoException {
+        EventoPublicacao evento = new EventoPublicacao();
+        evento.begin();
+        Publicacao publicacao = null;
+        String status = CategoriaErro.TRANSITORIO.name();
+        try {
+            publicacao = delegado.agendar(conteudo);
+            status = status(publicacao);
+            return publicacao;
+        } catch (PublicacaoException e) {
+            status = status(e.getCategoria());
+            throw e;
+        } finally {
+            concluir(evento, "agendar", conteudo, publicacao, status);
+        }
+    }
+
+    @Override
+    public boolean remover(String publicacaoId) throws PublicacaoException {
+        EventoConsulta evento = new EventoConsulta();
+        evento.begin();
+        String status = CategoriaErro.TRANSITORIO.name();
+        try {
+            boolean removida = delegado.remover(publicacaoId);
+            status = SUCESSO;
+            return removida;
+        } catch (PublicacaoException e) {
+            status = status(e.getCategoria());
+            throw e;
+        } finally {
+            concluir(evento, "remover", publicacaoId, status);
+        }
+    }
+
+    @Override
+    public Estatisticas obterEstatisticas(String publicacaoId) throws PublicacaoException {
+        EventoConsulta evento = new EventoConsulta();
+        evento.begin();
+        String status = CategoriaErro.TRANSITORIO.name();
+        try {
+            Estatisticas estatisticas = delegado.obterEstatisticas(publicacaoId);
+            status = SUCESSO;
+            return estatisticas;
+        } catch (PublicacaoException e) {
+            status = status(e.getCategoria());
+            throw e;
+        } finally {
+            concluir(evento, "obterEstatisticas", publicacaoId, status);
+        }
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarPublicar(Conteudo conteudo) {
+        EventoPublicacao evento = new EventoPublicacao();
+        evento.begin();
+        Resultado<Publicacao> resultado = delegado.tentarPublicar(conteudo);
+        concluir(evento, "publicar", conteudo, resultado);
+        return resultado;
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarAgendar(Conteudo conteudo) {
+        EventoPublicacao evento = new EventoPublicacao();
+        evento.begin();
+        Resultado<Publicacao> resultado = delegado.tentarAgendar(conteudo);
+        concluir(evento, "agendar", conteudo, resultado);
+        return resultado;
+    }
+
+    @Override
+    public Resultado<Boolean> tentarRemover(String publicacaoId) {
+        EventoConsulta evento = new EventoConsulta();
+        evento.begin();
+        Resultado<Boolean> resultado = delegado.tentarRemover(publicacaoId);
+        concluir(evento, "remover", publicacaoId, status(resultado));
+        return resultado;
+    }
+
+    @Override
+    public Resultado<Estatisticas> tentarObterEstatisticas(String publicacaoId) {
+        EventoConsulta evento = new EventoConsulta();
+        evento.begin();
+        Resultado<Estatisticas> resultado = delegado.tentarObterEstatisticas(publicacaoId);
+        concluir(evento, "obterEstatisticas", publicacaoId, status(resultado));
+        return resultado;
+    }
+
+    @Override
+    public String getNomePlataforma() {
+        return delegado.getNomePlataforma();
+    }
+
+    @Override
+    public boolean isAutenticado() {
+        return delegado.isAutenticado();
+    }
+
+    private void concluir(EventoPublicacao evento, String operacao, Conteudo conteudo,
+                          Resultado<Publicacao> resultado) {
+        evento.end();
+        if (evento.shouldCommit()) {
+            Publicacao publicacao = resultado.isSucesso() ? resultado.getValor() : null;
+            String status = publicacao != null ? status(publicacao) : status(resultado);
+            preencherPublicacao(evento, operacao, conteudo, publicacao, status);
+            evento.commit();
+        }
+    }
+
+    private void concluir(EventoPublicacao evento, String operacao, Conteudo conteudo,
+                          Publicacao publicacao, String status) {
+        evento.end();
+        if (evento.shouldCommit()) {
+            preencherPublicacao(evento, operacao, conteudo, publicacao, status);
+            evento.commit();
+        }
+    }
+
+    private void concluir(EventoConsulta evento, String operacao, String publicacaoId, String status) {
+        evento.end();
+        if (evento.shouldCommit()) {
+            preencher(evento, operacao, status);
+            evento.publicacaoId = publicacaoId;
+            evento.commit();
+        }
+    }
+
+    private void preencherPublicacao(EventoPublicacao evento, String operacao, Conteudo conteudo,
+                                     Publicacao publicacao, String status) {
+        preencher(evento, operacao, status);
+        evento.tipoConteudo = TamanhoPayload.tipo(conteudo);
+        evento.tamanhoPayload = TamanhoPayload.bytes(conteudo);
+        evento.publicacaoId = publicacao != null ? publicacao.getId() : null;
+    }
+
+    private void preencher(EventoPlataforma evento, String operacao, String status) {
+        evento.plataforma = delegado.getNomePlataforma();
+        evento.operacao = operacao;
+        evento.status = status;
+    }
+
+    // Publicação bem-sucedida leva o próprio status (PUBLICADO, AGENDADO); falha leva a categoria
+    private static String status(Publicacao publicacao) {
+        if (publicacao.getStatus() == StatusPublicacao.FALHOU) {
+            return status(publicacao.getCategoriaErro());
+        }
+        return publicacao.getStatus().name();
+    }
+
+    private static String status(Resultado<?> resultado) {
+        return resultado.isSucesso() ? SUCESSO : resultado.getErro().getCategoria().name();
+    }
+
+    private static String status(CategoriaErro categoria) {
+        return (categoria != null ? categoria : CategoriaErro.TRANSITORIO).name();
+    }
+}
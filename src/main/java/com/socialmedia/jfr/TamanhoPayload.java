@@ -0,0 +1,55 @@
+package com.socialmedia.jfr;
+
+import com.socialmedia.model.Conteudo;
+
+import java.util.List;
+
+// Tamanho em bytes (UTF-8) do texto, hashtags e URLs de mídia, calculado sem alocar
+final class TamanhoPayload {
+
+    private TamanhoPayload() {
+    }
+
+    static long bytes(Conteudo conteudo) {
+        if (conteudo == null) {
+            return 0;
+        }
+        return utf8(conteudo.getTexto()) + utf8(conteudo.getHashtags()) + utf8(conteudo.getMidias());
+    }
+
+    static String tipo(Conteudo conteudo) {
+        return conteudo != null && conteudo.getTipo() != null ? conteudo.getTipo().name() : null;
+    }
+
+    private static long utf8(List<String> textos) {
+        long total = 0;
+        if (textos != null) {
+            for (int i = 0; i < textos.size(); i++) {
+                total += utf8(textos.get(i));
+            }
+        }
+        return total;
+    }
+
+    private static long utf8(String texto) {
+        if (texto == null) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c < 0x80) {
+                total++;
+            } else if (c < 0x800) {
+                total += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < texto.length()
+                    && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                total += 4;
+                i++;
+            } else {
+                total += 3;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,45 @@
+package com.socialmedia.metricas;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Leituras de bytes alocados e tempo de CPU da thread atual via ThreadMXBean
+ * Retornam -1 quando a JVM não mede a thread atual
+ *
+ * Virtual threads não são suportadas: no JDK 21 as duas leituras retornam -1 nelas, e a carrier
+ * thread não é acessível pela API pública (somar os contadores dela misturaria outras virtual
+ * threads montadas na mesma carrier). Essas operações entram como "sem medição", assim como as de
+ * um JDK que meça só uma das duas leituras na virtual thread; para a alocação delas, grave com JFR
+ * e use o AnalisadorGravacao, que atribui as amostras de alocação à operação em andamento na mesma
+ * virtual thread
+ */
+final class ContadorRecursos {
+    static final long NAO_MEDIDO = -1;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean THREADS_HOTSPOT =
+        THREADS instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) THREADS : null;
+
+    private ContadorRecursos() {
+    }
+
+    // Liga a medição na JVM; false se ela não oferece alocação e CPU por thread
+    static boolean ativar() {
+        if (THREADS_HOTSPOT == null || !THREADS_HOTSPOT.isThreadAllocatedMemorySupported()
+                || !THREADS.isCurrentThreadCpuTimeSupported()) {
+            return false;
+        }
+        THREADS_HOTSPOT.setThreadAllocatedMemoryEnabled(true);
+        THREADS.setThreadCpuTimeEnabled(true);
+        return true;
+    }
+
+    static long bytesAlocados() {
+        return THREADS_HOTSPOT.getCurrentThreadAllocatedBytes();
+    }
+
+    static long tempoCpu() {
+        return THREADS.getCurrentThreadCpuTime();
+    }
+}
@@ -0,0 +1,71 @@
+package com.socialmedia.metricas;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latências em nanossegundos no estilo HDR: faixas lineares dentro de cada
+ * potência de dois, com erro relativo de no máximo 1/32 (~3%)
+ * Registrar não aloca nem bloqueia: é um incremento atômico no balde e na soma
+ */
+public final class HistogramaLatencia {
+    private static final int BITS_SUBFAIXA = 5;
+    private static final int SUBFAIXAS = 1 << BITS_SUBFAIXA;
+    // Valores abaixo deste limite têm balde próprio (precisão de 1 ns)
+    private static final int LINEAR = SUBFAIXAS * 2;
+    // 2^43 ns ≈ 2,4 h; valores maiores caem no último balde
+    private static final int EXPOENTE_MAXIMO = 43;
+    static final int TOTAL_BALDES = LINEAR + (EXPOENTE_MAXIMO - BITS_SUBFAIXA) * SUBFAIXAS;
+
+    private final AtomicLongArray baldes = new AtomicLongArray(TOTAL_BALDES);
+    private final AtomicLong soma = new AtomicLong();
+    private final AtomicLong maximo = new AtomicLong();
+
+    public void registrar(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        baldes.getAndIncrement(indice(nanos));
+        soma.getAndAdd(nanos);
+        long atual = maximo.get();
+        while (nanos > atual && !maximo.compareAndSet(atual, nanos)) {
+            atual = maximo.get();
+        }
+    }
+
+    // Cópia dos contadores; registros concorrentes podem ou não aparecer, mas nada é perdido
+    public InstantaneoHistograma instantaneo() {
+        long[] contagens = new long[TOTAL_BALDES];
+        long total = 0;
+        for (int i = 0; i < TOTAL_BALDES; i++) {
+            long contagem = baldes.get(i);
+            contagens[i] = contagem;
+            total += contagem;
+        }
+        return new InstantaneoHistograma(contagens, total, soma.get(), maximo.get());
+    }
+
+    static int indice(long nanos) {
+        if (nanos < LINEAR) {
+            return (int) nanos;
+        }
+        int expoente = 63 - Long.numberOfLeadingZeros(nanos);
+        if (expoente > EXPOENTE_MAXIMO) {
+            return TOTAL_BALDES - 1;
+        }
+        int deslocamento = expoente - BITS_SUBFAIXA;
+        int subfaixa = (int) (nanos >>> deslocamento) - SUBFAIXAS;
+        return LINEAR + (expoente - BITS_SUBFAIXA - 1) * SUBFAIXAS + subfaixa;
+    }
+
+    // Maior valor que cai no balde
+    static long limiteSuperior(int indice) {
+        if (indice < LINEAR) {
+            return indice;
+        }
+        int faixa = (indice - LINEAR) / SUBFAIXAS;
+        int subfaixa = (indice - LINEAR) % SUBFAIXAS;
+        int deslocamento = faixa + 1;
+        return ((long) (SUBFAIXAS + subfaixa) << deslocamento) + (1L << deslocamento) - 1;
+    }
+}
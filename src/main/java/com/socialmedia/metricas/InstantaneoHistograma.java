@@ -0,0 +1,51 @@
+package com.socialmedia.metricas;
+
+// Cópia imutável de um HistogramaLatencia para cálculo de percentis
+public final class InstantaneoHistograma {
+    private final long[] contagens;
+    private final long total;
+    private final long soma;
+    private final long maximo;
+
+    InstantaneoHistograma(long[] contagens, long total, long soma, long maximo) {
+        this.contagens = contagens;
+        this.total = total;
+        this.soma = soma;
+        this.maximo = maximo;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getSomaNanos() {
+        return soma;
+    }
+
+    public long getMaximoNanos() {
+        return maximo;
+    }
+
+    public double getMediaNanos() {
+        return total == 0 ? 0.0 : (double) soma / total;
+    }
+
+    /**
+     * Valor no percentil informado (0 a 100), pelo limite superior do balde
+     * e nunca acima do máximo registrado; 0 se não há registros
+     */
+    public long percentil(double percentil) {
+        if (total == 0) {
+            return 0;
+        }
+        long posicao = Math.max(1, (long) Math.ceil(percentil / 100.0 * total));
+        long acumulado = 0;
+        for (int i = 0; i < contagens.length; i++) {
+            acumulado += contagens[i];
+            if (acumulado >= posicao) {
+                return Math.min(HistogramaLatencia.limiteSuperior(i), maximo);
+            }
+        }
+        return maximo;
+    }
+}
@@ -0,0 +1,166 @@
+package com.socialmedia.metricas;
+
+import com.socialmedia.resultado.CategoriaErro;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latência e contadores de uma operação em uma plataforma
+ * Os getters do MBean calculam a partir de um instantâneo do histograma a cada leitura
+ */
+public final class MetricasOperacao implements MetricasOperacaoMBean {
+    private static final CategoriaErro[] CATEGORIAS = CategoriaErro.values();
+    private static final double NANOS_POR_MS = 1_000_000.0;
+
+    private final String plataforma;
+    private final Operacao operacao;
+    private final HistogramaLatencia histograma = new HistogramaLatencia();
+    private final AtomicLong sucessos = new AtomicLong();
+    private final AtomicLongArray errosPorCategoria = new AtomicLongArray(CATEGORIAS.length);
+    private final AtomicLong contabilizadas = new AtomicLong();
+    private final AtomicLong naoContabilizadas = new AtomicLong();
+    private final AtomicLong bytesAlocados = new AtomicLong();
+    private final AtomicLong cpuNanos = new AtomicLong();
+    private final long criadaEmNanos = System.nanoTime();
+
+    MetricasOperacao(String plataforma, Operacao operacao) {
+        this.plataforma = plataforma;
+        this.operacao = operacao;
+    }
+
+    // erro null indica sucesso
+    public void registrar(long duracaoNanos, CategoriaErro erro) {
+        histograma.registrar(duracaoNanos);
+        if (erro == null) {
+            sucessos.getAndIncrement();
+        } else {
+            errosPorCategoria.getAndIncrement(erro.ordinal());
+        }
+    }
+
+    // Bytes alocados e CPU de uma operação; valores negativos indicam thread sem medição
+    void registrarRecursos(long bytes, long cpu) {
+        if (bytes < 0 || cpu < 0) {
+            naoContabilizadas.getAndIncrement();
+            return;
+        }
+        contabilizadas.getAndIncrement();
+        bytesAlocados.getAndAdd(bytes);
+        cpuNanos.getAndAdd(cpu);
+    }
+
+    public Operacao getTipoOperacao() {
+        return operacao;
+    }
+
+    public InstantaneoHistograma instantaneo() {
+        return histograma.instantaneo();
+    }
+
+    public long getErros(CategoriaErro categoria) {
+        return errosPorCategoria.get(categoria.ordinal());
+    }
+
+    @Override
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    @Override
+    public String getOperacao() {
+        return operacao.getNome();
+    }
+
+    @Override
+    public long getContagem() {
+        return getSucessos() + getErros();
+    }
+
+    @Override
+    public long getSucessos() {
+        return sucessos.get();
+    }
+
+    @Override
+    public long getErros() {
+        long total = 0;
+        for (int i = 0; i < CATEGORIAS.length; i++) {
+            total += errosPorCategoria.get(i);
+        }
+        return total;
+    }
+
+    @Override
+    public long getLimitacoes() {
+        return getErros(CategoriaErro.LIMITADO);
+    }
+
+    @Override
+    public double getVazaoMediaPorSegundo() {
+        long decorrido = System.nanoTime() - criadaEmNanos;
+        return decorrido <= 0 ? 0.0 : getContagem() * 1e9 / decorrido;
+    }
+
+    @Override
+    public long getOperacoesContabilizadas() {
+        return contabilizadas.get();
+    }
+
+    @Override
+    public long getOperacoesNaoContabilizadas() {
+        return naoContabilizadas.get();
+    }
+
+    @Override
+    public long getBytesAlocados() {
+        return bytesAlocados.get();
+    }
+
+    @Override
+    public long getBytesPorOperacao() {
+        long operacoes = contabilizadas.get();
+        return operacoes == 0 ? 0 : bytesAlocados.get() / operacoes;
+    }
+
+    @Override
+    public long getCpuNanos() {
+        return cpuNanos.get();
+    }
+
+    @Override
+    public long getCpuNanosPorOperacao() {
+        long operacoes = contabilizadas.get();
+        return operacoes == 0 ? 0 : cpuNanos.get() / operacoes;
+    }
+
+    @Override
+    public double getLatenciaMediaMs() {
+        return instantaneo().getMediaNanos() / NANOS_POR_MS;
+    }
+
+    @Override
+    public double getLatenciaP50Ms() {
+        return instantaneo().percentil(50) / NANOS_POR_MS;
+    }
+
+    @Override
+    public double getLatenciaP90Ms() {
+        return instantaneo().percentil(90) / NANOS_POR_MS;
+    }
+
+    @Override
+    public double getLatenciaP99Ms() {
+        return instantaneo().percentil(99) / NANOS_POR_MS;
+    }
+
+    @Override
+    public double getLatenciaP999Ms() {
+        return instantaneo().percentil(99.9) / NANOS_POR_MS;
+    }
+
+    @Override
+    public double getLatenciaMaximaMs() {
+        return instantaneo().getMaximoNanos() / NANOS_POR_MS;
+    }
+}
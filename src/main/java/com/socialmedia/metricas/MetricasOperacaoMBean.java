@@ -0,0 +1,46 @@
+package com.socialmedia.metricas;
+
+// Interface de gerenciamento (JMX) das métricas de uma operação em uma plataforma
+public interface MetricasOperacaoMBean {
+
+    String getPlataforma();
+
+    String getOperacao();
+
+    long getContagem();
+
+    long getSucessos();
+
+    long getErros();
+
+    // Falhas por limite de requisições (CategoriaErro.LIMITADO)
+    long getLimitacoes();
+
+    // Operações por segundo desde a criação das métricas
+    double getVazaoMediaPorSegundo();
+
+    // Contabilização de recursos (RegistroMetricas.setContabilizacaoRecursos)
+    long getOperacoesContabilizadas();
+
+    long getOperacoesNaoContabilizadas();
+
+    long getBytesAlocados();
+
+    long getBytesPorOperacao();
+
+    long getCpuNanos();
+
+    long getCpuNanosPorOperacao();
+
+    double getLatenciaMediaMs();
+
+    double getLatenciaP50Ms();
+
+    double getLatenciaP90Ms();
+
+    double getLatenciaP99Ms();
+
+    double getLatenciaP999Ms();
+
+    double getLatenciaMaximaMs();
+}
@@ -0,0 +1,21 @@
+package com.socialmedia.metricas;
+
+// Operações medidas em cada plataforma
+public enum Operacao {
+    PUBLICAR("publicar"),
+    AGENDAR("agendar"),
+    REMOVER("remover"),
+    OBTER_ESTATISTICAS("obterEstatisticas"),
+    AUTENTICAR("autenticar");
+
+    private final String nome;
+
+    Operacao(String nome) {
+        this.nome = nome;
+    }
+
+    // Nome usado nos rótulos do Prometheus e nos ObjectNames do JMX
+    public String getNome() {
+        return nome;
+    }
+}
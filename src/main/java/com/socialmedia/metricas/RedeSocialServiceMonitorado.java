@@ -0,0 +1,205 @@
+package com.socialmedia.metricas;
+
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Estatisticas;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.resultado.Resultado;
+import com.socialmedia.service.RedeSocialService;
+
+/**
+ * Decorator que mede latência e resultado de cada operação de um RedeSocialService
+ * e, com a contabilização de recursos ligada, os bytes alocados e a CPU da operação
+ * Delega também as variantes tentar*, preservando os caminhos sem exceção dos adapters
+ */
+public class RedeSocialServiceMonitorado implements RedeSocialService {
+    private final RedeSocialService delegado;
+    // Contabilização de recursos desligada no início da operação
+    private static final long DESLIGADA = Long.MIN_VALUE;
+
+    private final RegistroMetricas metricas;
+
+    public RedeSocialServiceMonitorado(RedeSocialService delegado, RegistroMetricas metricas) {
+        if (delegado == null || metricas == null) {
+            throw new IllegalArgumentException("Service e registro de métricas não podem ser nulos");
+        }
+        this.delegado = delegado;
+        this.metricas = metricas;
+    }
+
+    public RedeSocialService getDelegado() {
+        return delegado;
+    }
+
+    @Override
+    public void autenticar(String credenciais) throws AutenticacaoException {
+        long bytes = bytesAlocados();
+        long cpu = tempoCpu();
+        long inicio = System.nanoTime();
+        CategoriaErro erro = CategoriaErro.AUTENTICACAO;
+        try {
+            delegado.autenticar(credenciais);
+            erro = null;
+        } finally {
+            registrar(Operacao.AUTENTICAR, inicio, bytes, cpu, erro);
+        }
+    }
+
+    @Override
+    public Publicacao publicar(Conteudo conteudo) throws PublicacaoException {
+        long bytes = bytesAlocados();
+        long cpu = tempoCpu();
+        long inicio = System.nanoTime();
+        CategoriaErro erro = CategoriaErro.TRANSITORIO;
+        try {
+            Publicacao publicacao = delegado.publicar(conteudo);
+            erro = categoria(publicacao);
+            return publicacao;
+        } catch (PublicacaoException e) {
+            erro = categoria(e);
+            throw e;
+        } finally {
+            registrar(Operacao.PUBLICAR, inicio, bytes, cpu, erro);
+        }
+    }
+
+    @Override
+    public Publicacao agendar(Conteudo conteudo) throws PublicacaoException {
+        long bytes = bytesAlocados();
+        long cpu = tempoCpu();
+        long inicio = System.nanoTime();
+        CategoriaErro erro = CategoriaErro.TRANSITORIO;
+        try {
+            Publicacao publicacao = delegado.agendar(conteudo);
+            erro = categoria(publicacao);
+            return publicacao;
+        } catch (PublicacaoException e) {
+            erro = categoria(e);
+            throw e;
+        } finally {
+            registrar(Operacao.AGENDAR, inicio, bytes, cpu, erro);
+        }
+    }
+
+    @Override
+    public boolean remover(String publicacaoId) throws PublicacaoException {
+        long bytes = bytesAlocados();
+        long cpu = tempoCpu();
+        long inicio = System.nanoTime();
+        CategoriaErro erro = CategoriaErro.TRANSITORIO;
+        try {
+            boolean removida = delegado.remover(publicacaoId);
+            erro = null;
+            return removida;
+        } catch (PublicacaoException e) {
+            erro = categoria(e);
+            throw e;
+        } finally {
+            registrar(Operacao.REMOVER, inicio, bytes, cpu, erro);
+        }
+    }
+
+    @Override
+    public Estatisticas obterEstatisticas(String publicacaoId) throws PublicacaoException {
+        long bytes = bytesAlocados();
+        long cpu = tempoCpu();
+        long inicio = System.nanoTime();
+        CategoriaErro erro = CategoriaErro.TRANSITORIO;
+        try {
+            Estatisticas estatisticas = delegado.obterEstatisticas(publicacaoId);
+            erro = null;
+            return estatisticas;
+        } catch (PublicacaoException e) {
+            erro = categoria(e);
+            throw e;
+        } finally {
+            registrar(Operacao.OBTER_ESTATISTICAS, inicio, bytes, cpu, erro);
+        }
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarPublicar(Conteudo conteudo) {
+        long bytes = bytesAlocados();
+        long cpu = tempoCpu();
+        long inicio = System.nanoTime();
+        return registrar(Operacao.PUBLICAR, inicio, bytes, cpu, delegado.tentarPublicar(conteudo));
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarAgendar(Conteudo conteudo) {
+        long bytes = bytesAlocados();
+        long cpu = tempoCpu();
+        long inicio = System.nanoTime();
+        return registrar(Operacao.AGENDAR, inicio, bytes, cpu, delegado.tentarAgendar(conteudo));
+    }
+
+    @Override
+    public Resultado<Boolean> tentarRemover(String publicacaoId) {
+        long bytes = bytesAlocados();
+        long cpu = tempoCpu();
+        long inicio = System.nanoTime();
+        return registrar(Operacao.REMOVER, inicio, bytes, cpu, delegado.tentarRemover(publicacaoId));
+    }
+
+    @Override
+    public Resultado<Estatisticas> tentarObterEstatisticas(String publicacaoId) {
+        long bytes = bytesAlocados();
+        long cpu = tempoCpu();
+        long inicio = System.nanoTime();
+        return registrar(Operacao.OBTER_ESTATISTICAS, inicio, bytes, cpu, delegado.tentarObterEstatisticas(publicacaoId));
+    }
+
+    @Override
+    public String getNomePlataforma() {
+        return delegado.getNomePlataforma();
+    }
+
+    @Override
+    public boolean isAutenticado() {
+        return delegado.isAutenticado();
+    }
+
+    private <T> Resultado<T> registrar(Operacao operacao, long inicio, long bytes, long cpu, Resultado<T> resultado) {
+        registrar(operacao, inicio, bytes, cpu, resultado.isSucesso() ? null : resultado.getErro().getCategoria());
+        return resultado;
+    }
+
+    // Lê o relógio antes dos contadores de recursos para não somar o custo das leituras à latência
+    private void registrar(Operacao operacao, long inicio, long bytes, long cpu, CategoriaErro erro) {
+        long duracao = System.nanoTime() - inicio;
+        String plataforma = delegado.getNomePlataforma();
+        if (bytes != DESLIGADA) {
+            long cpuFim = tempoCpu();
+            long bytesFim = bytesAlocados();
+            metricas.registrarRecursos(plataforma, operacao,
+                diferenca(bytes, bytesFim), diferenca(cpu, cpuFim));
+        }
+        metricas.registrar(plataforma, operacao, duracao, erro);
+    }
+
+    private long bytesAlocados() {
+        return metricas.isContabilizacaoRecursos() ? ContadorRecursos.bytesAlocados() : DESLIGADA;
+    }
+
+    private long tempoCpu() {
+        return metricas.isContabilizacaoRecursos() ? ContadorRecursos.tempoCpu() : DESLIGADA;
+    }
+
+    private static long diferenca(long inicio, long fim) {
+        return inicio < 0 || fim < 0 ? ContadorRecursos.NAO_MEDIDO : fim - inicio;
+    }
+
+    private static CategoriaErro categoria(Publicacao publicacao) {
+        if (publicacao.getStatus() != StatusPublicacao.FALHOU) {
+            return null;
+        }
+        return publicacao.getCategoriaErro() != null ? publicacao.getCategoriaErro() : CategoriaErro.TRANSITORIO;
+    }
+
+    private static CategoriaErro categoria(PublicacaoException e) {
+        return e.getCategoria() != null ? e.getCategoria() : CategoriaErro.TRANSITORIO;
+    }
+}
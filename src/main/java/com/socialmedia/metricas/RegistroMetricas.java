@@ -0,0 +1,385 @@
+package com.socialmedia.metricas;
+
+import com.socialmedia.resultado.CategoriaErro;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Registro das métricas por plataforma e operação
+ * Publica cada par plataforma/operação como MBean (após registrarJmx) e exporta
+ * um instantâneo no formato de texto do Prometheus
+ */
+public final class RegistroMetricas {
+    public static final String DOMINIO_PADRAO = "com.socialmedia";
+
+    private static final Operacao[] OPERACOES = Operacao.values();
+    private static final CategoriaErro[] CATEGORIAS = CategoriaErro.values();
+    private static final double[] QUANTIS = {0.5, 0.9, 0.99, 0.999};
+    private static final String TODAS_PLATAFORMAS = "*";
+
+    private final ConcurrentHashMap<String, MetricasOperacao[]> porPlataforma = new ConcurrentHashMap<>();
+    private final String dominioJmx;
+    // Quando definido, as métricas de novas plataformas também são registradas no servidor
+    private volatile MBeanServer servidorJmx;
+    private volatile boolean contabilizacaoRecursos;
+    // Bytes por operação permitidos, por "plataforma/operacao" ou "*/operacao"
+    private final ConcurrentHashMap<String, Long> orcamentosAlocacao = new ConcurrentHashMap<>();
+    // Nanos do início do gerenciador até a primeira publicação com sucesso, por plataforma
+    private final ConcurrentHashMap<String, Long> primeirasPublicacoes = new ConcurrentHashMap<>();
+    private ScheduledExecutorService agendador;
+
+    public RegistroMetricas() {
+        this(DOMINIO_PADRAO);
+    }
+
+    public RegistroMetricas(String dominioJmx) {
+        if (dominioJmx == null || dominioJmx.trim().isEmpty()) {
+            throw new IllegalArgumentException("Domínio JMX não pode ser vazio");
+        }
+        this.dominioJmx = dominioJmx;
+    }
+
+    /**
+     * Registra uma operação; erro null indica sucesso
+     * Depois da primeira operação da plataforma, não aloca
+     */
+    public void registrar(String plataforma, Operacao operacao, long duracaoNanos, CategoriaErro erro) {
+        metricas(plataforma)[operacao.ordinal()].registrar(duracaoNanos, erro);
+    }
+
+    /**
+     * Registra o tempo até a primeira publicação com sucesso da plataforma (time-to-first-publish);
+     * só o primeiro registro de cada plataforma vale
+     */
+    public void registrarPrimeiraPublicacao(String plataforma, long nanosDesdeInicio) {
+        primeirasPublicacoes.putIfAbsent(plataforma, nanosDesdeInicio);
+    }
+
+    // Tempo (ns) até a primeira publicação da plataforma; -1 se ainda não houve nenhuma
+    public long getTempoAtePrimeiraPublicacao(String plataforma) {
+        Long nanos = primeirasPublicacoes.get(plataforma);
+        return nanos != null ? nanos : -1;
+    }
+
+    /**
+     * Liga a contabilização de bytes alocados e CPU por operação (ThreadMXBean)
+     * Custa duas leituras extras por medição no início e no fim, por isso é opcional;
+     * pensada para testes de desempenho e investigações
+     */
+    public void setContabilizacaoRecursos(boolean ativa) {
+        if (ativa && !ContadorRecursos.ativar()) {
+            throw new IllegalStateException("A JVM não suporta medição de alocação e CPU por thread");
+        }
+        this.contabilizacaoRecursos = ativa;
+    }
+
+    public boolean isContabilizacaoRecursos() {
+        return contabilizacaoRecursos;
+    }
+
+    // Bytes alocados e CPU (ns) de uma operação; -1 indica thread sem medição
+    public void registrarRecursos(String plataforma, Operacao operacao, long bytes, long cpuNanos) {
+        metricas(plataforma)[operacao.ordinal()].registrarRecursos(bytes, cpuNanos);
+    }
+
+    /**
+     * Define o máximo de bytes alocados por operação, em média, para todas as plataformas
+     */
+    public void definirOrcamentoAlocacao(Operacao operacao, long bytesPorOperacao) {
+        definirOrcamentoAlocacao(TODAS_PLATAFORMAS, operacao, bytesPorOperacao);
+    }
+
+    // Orçamento de uma plataforma; tem precedência sobre o orçamento geral da operação
+    public void definirOrcamentoAlocacao(String plataforma, Operacao operacao, long bytesPorOperacao) {
+        if (bytesPorOperacao < 0) {
+            throw new IllegalArgumentException("Orçamento não pode ser negativo");
+        }
+        orcamentosAlocacao.put(plataforma + "/" + operacao.getNome(), bytesPorOperacao);
+    }
+
+    /**
+     * Compara a média de bytes por operação com os orçamentos definidos
+     * @return mensagens das operações acima do orçamento (vazia se todas estão dentro)
+     */
+    public List<String> verificarOrcamentos() {
+        List<String> violacoes = new ArrayList<>();
+        for (MetricasOperacao metrica : getMetricas()) {
+            if (metrica.getOperacoesContabilizadas() == 0) {
+                continue;
+            }
+            Long orcamento = orcamentosAlocacao.get(metrica.getPlataforma() + "/" + metrica.getOperacao());
+            if (orcamento == null) {
+                orcamento = orcamentosAlocacao.get(TODAS_PLATAFORMAS + "/" + metrica.getOperacao());
+            }
+            if (orcamento != null && metrica.getBytesPorOperacao() > orcamento) {
+                violacoes.add(metrica.getPlataforma() + "/" + metrica.getOperacao() + ": "
+                    + metrica.getBytesPorOperacao() + " bytes/op acima do orçamento de " + orcamento);
+            }
+        }
+        return violacoes;
+    }
+
+    /**
+     * Relatório em texto de alocação e CPU acumulados por plataforma e operação
+     */
+    public String relatorioRecursos() {
+        StringBuilder texto = new StringBuilder(String.format(Locale.ROOT, "%-34s %10s %12s %14s %10s%n",
+            "plataforma/operação", "ops", "bytes/op", "cpu us/op", "sem medição"));
+        for (MetricasOperacao metrica : getMetricas()) {
+            if (metrica.getOperacoesContabilizadas() == 0 && metrica.getOperacoesNaoContabilizadas() == 0) {
+                continue;
+            }
+            texto.append(String.format(Locale.ROOT, "%-34s %10d %12d %14.1f %10d%n",
+                metrica.getPlataforma() + "/" + metrica.getOperacao(), metrica.getOperacoesContabilizadas(),
+                metrica.getBytesPorOperacao(), metrica.getCpuNanosPorOperacao() / 1000.0,
+                metrica.getOperacoesNaoContabilizadas()));
+        }
+        return texto.toString();
+    }
+
+    /**
+     * Entrega o relatório de recursos periodicamente (ex.: para o log); cancele pelo ScheduledFuture
+     */
+    public synchronized ScheduledFuture<?> iniciarRelatorioPeriodico(long intervalo, TimeUnit unidade,
+                                                                    Consumer<String> destino) {
+        if (destino == null) {
+            throw new IllegalArgumentException("Destino do relatório não pode ser nulo");
+        }
+        if (agendador == null) {
+            agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+                Thread thread = new Thread(tarefa, "relatorio-metricas");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return agendador.scheduleAtFixedRate(() -> destino.accept(relatorioRecursos()),
+            intervalo, intervalo, unidade);
+    }
+
+    // Métricas da operação na plataforma (null se a plataforma nunca foi registrada)
+    public MetricasOperacao obter(String plataforma, Operacao operacao) {
+        MetricasOperacao[] metricas = porPlataforma.get(plataforma);
+        return metricas != null ? metricas[operacao.ordinal()] : null;
+    }
+
+    public List<MetricasOperacao> getMetricas() {
+        List<MetricasOperacao> todas = new ArrayList<>(porPlataforma.size() * OPERACOES.length);
+        for (MetricasOperacao[] metricas : porPlataforma.values()) {
+            for (MetricasOperacao metrica : metricas) {
+                todas.add(metrica);
+            }
+        }
+        return todas;
+    }
+
+    /**
+     * Registra as métricas no servidor de MBeans da plataforma Java
+     */
+    public void registrarJmx() {
+        registrarJmx(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public void registrarJmx(MBeanServer servidor) {
+        if (servidor == null) {
+            throw new IllegalArgumentException("Servidor de MBeans não pode ser nulo");
+        }
+        servidorJmx = servidor;
+        for (MetricasOperacao metrica : getMetricas()) {
+            registrarMBean(servidor, metrica);
+        }
+    }
+
+    public void removerJmx() {
+        MBeanServer servidor = servidorJmx;
+        if (servidor == null) {
+            return;
+        }
+        servidorJmx = null;
+        for (MetricasOperacao metrica : getMetricas()) {
+            try {
+                servidor.unregisterMBean(nomeJmx(metrica));
+            } catch (InstanceNotFoundException e) {
+                // Já removido
+            } catch (JMException e) {
+                throw new IllegalStateException("Erro ao remover MBean de métricas: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Instantâneo de todas as métricas no formato de texto do Prometheus (versão 0.0.4)
+     */
+    public String exportarPrometheus() {
+        List<MetricasOperacao> metricas = getMetricas();
+        StringBuilder texto = new StringBuilder(256 + metricas.size() * 1024);
+
+        texto.append("# HELP midiasocial_latencia_segundos Latência das operações nas plataformas\n")
+             .append("# TYPE midiasocial_latencia_segundos summary\n");
+        for (MetricasOperacao metrica : metricas) {
+            InstantaneoHistograma instantaneo = metrica.instantaneo();
+            if (instantaneo.getTotal() == 0) {
+                continue;
+            }
+            for (double quantil : QUANTIS) {
+                amostra(texto, "midiasocial_latencia_segundos", metrica, "quantile", formatar(quantil),
+                    segundos(instantaneo.percentil(quantil * 100)));
+            }
+            amostra(texto, "midiasocial_latencia_segundos_sum", metrica, null, null,
+                segundos(instantaneo.getSomaNanos()));
+            amostra(texto, "midiasocial_latencia_segundos_count", metrica, null, null,
+                Long.toString(instantaneo.getTotal()));
+        }
+
+        texto.append("# HELP midiasocial_operacoes_total Operações concluídas por resultado\n")
+             .append("# TYPE midiasocial_operacoes_total counter\n");
+        for (MetricasOperacao metrica : metricas) {
+            if (metrica.getContagem() == 0) {
+                continue;
+            }
+            amostra(texto, "midiasocial_operacoes_total", metrica, "resultado", "sucesso",
+                Long.toString(metrica.getSucessos()));
+            amostra(texto, "midiasocial_operacoes_total", metrica, "resultado", "erro",
+                Long.toString(metrica.getErros()));
+        }
+
+        texto.append("# HELP midiasocial_erros_total Falhas por categoria de erro\n")
+             .append("# TYPE midiasocial_erros_total counter\n");
+        for (MetricasOperacao metrica : metricas) {
+            for (CategoriaErro categoria : CATEGORIAS) {
+                long erros = metrica.getErros(categoria);
+                if (erros > 0) {
+                    amostra(texto, "midiasocial_erros_total", metrica, "categoria", categoria.name(),
+                        Long.toString(erros));
+                }
+            }
+        }
+
+        texto.append("# HELP midiasocial_limitacoes_total Operações recusadas por limite de requisições\n")
+             .append("# TYPE midiasocial_limitacoes_total counter\n");
+        for (MetricasOperacao metrica : metricas) {
+            if (metrica.getContagem() > 0) {
+                amostra(texto, "midiasocial_limitacoes_total", metrica, null, null,
+                    Long.toString(metrica.getLimitacoes()));
+            }
+        }
+
+        texto.append("# HELP midiasocial_alocacao_bytes_total Bytes alocados pelas operações contabilizadas\n")
+             .append("# TYPE midiasocial_alocacao_bytes_total counter\n");
+        for (MetricasOperacao metrica : metricas) {
+            if (metrica.getOperacoesContabilizadas() > 0) {
+                amostra(texto, "midiasocial_alocacao_bytes_total", metrica, null, null,
+                    Long.toString(metrica.getBytesAlocados()));
+            }
+        }
+
+        texto.append("# HELP midiasocial_cpu_segundos_total Tempo de CPU das operações contabilizadas\n")
+             .append("# TYPE midiasocial_cpu_segundos_total counter\n");
+        for (MetricasOperacao metrica : metricas) {
+            if (metrica.getOperacoesContabilizadas() > 0) {
+                amostra(texto, "midiasocial_cpu_segundos_total", metrica, null, null,
+                    segundos(metrica.getCpuNanos()));
+            }
+        }
+
+        texto.append("# HELP midiasocial_primeira_publicacao_segundos Tempo do início até a primeira publicação\n")
+             .append("# TYPE midiasocial_primeira_publicacao_segundos gauge\n");
+        for (Map.Entry<String, Long> entrada : primeirasPublicacoes.entrySet()) {
+            texto.append("midiasocial_primeira_publicacao_segundos{plataforma=\"");
+            escapar(texto, entrada.getKey());
+            texto.append("\"} ").append(segundos(entrada.getValue())).append('\n');
+        }
+        return texto.toString();
+    }
+
+    private MetricasOperacao[] metricas(String plataforma) {
+        MetricasOperacao[] metricas = porPlataforma.get(plataforma);
+        return metricas != null ? metricas : porPlataforma.computeIfAbsent(plataforma, this::criar);
+    }
+
+    private MetricasOperacao[] criar(String plataforma) {
+        MetricasOperacao[] metricas = new MetricasOperacao[OPERACOES.length];
+        for (Operacao operacao : OPERACOES) {
+            metricas[operacao.ordinal()] = new MetricasOperacao(plataforma, operacao);
+        }
+        MBeanServer servidor = servidorJmx;
+        if (servidor != null) {
+            for (MetricasOperacao metrica : metricas) {
+                registrarMBean(servidor, metrica);
+            }
+        }
+        return metricas;
+    }
+
+    private void registrarMBean(MBeanServer servidor, MetricasOperacao metrica) {
+        try {
+            servidor.registerMBean(metrica, nomeJmx(metrica));
+        } catch (InstanceAlreadyExistsException e) {
+            // Registrado por uma chamada concorrente
+        } catch (JMException e) {
+            throw new IllegalStateException("Erro ao registrar MBean de métricas: " + e.getMessage(), e);
+        }
+    }
+
+    private ObjectName nomeJmx(MetricasOperacao metrica) throws MalformedObjectNameException {
+        return new ObjectName(dominioJmx + ":type=Metricas,plataforma=" + valorJmx(metrica.getPlataforma())
+            + ",operacao=" + metrica.getOperacao());
+    }
+
+    private static String valorJmx(String valor) {
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == ',' || c == '=' || c == ':' || c == '"' || c == '*' || c == '?' || c == '\n') {
+                return ObjectName.quote(valor);
+            }
+        }
+        return valor;
+    }
+
+    private static void amostra(StringBuilder texto, String nome, MetricasOperacao metrica,
+                                String rotuloExtra, String valorExtra, String valor) {
+        texto.append(nome).append("{plataforma=\"");
+        escapar(texto, metrica.getPlataforma());
+        texto.append("\",operacao=\"").append(metrica.getOperacao()).append('"');
+        if (rotuloExtra != null) {
+            texto.append(',').append(rotuloExtra).append("=\"").append(valorExtra).append('"');
+        }
+        texto.append("} ").append(valor).append('\n');
+    }
+
+    private static void escapar(StringBuilder texto, String valor) {
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '\\' || c == '"') {
+                texto.append('\\').append(c);
+            } else if (c == '\n') {
+                texto.append("\\n");
+            } else {
+                texto.append(c);
+            }
+        }
+    }
+
+    private static String segundos(long nanos) {
+        return formatar(nanos / 1e9);
+    }
+
+    private static String formatar(double valor) {
+        return String.format(Locale.ROOT, "%.9g", valor).replaceFirst("\\.?0+(e|$)", "$1");
+    }
+}
@@ -0,0 +1,45 @@
+package com.socialmedia.midia;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Resumos já calculados por (caminho, tamanho, modificação), em LRU, para não reler arquivos inalterados
+ */
+final class CacheResumos {
+    private static final int CAPACIDADE = 1024;
+
+    private final int janela;
+    private final Map<String, ResumoMidia> resumos = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ResumoMidia> eldest) {
+            return size() > CAPACIDADE;
+        }
+    };
+
+    CacheResumos(int janela) {
+        this.janela = janela;
+    }
+
+    ResumoMidia resumir(Path arquivo) throws IOException {
+        Path caminho = arquivo.toAbsolutePath().normalize();
+        BasicFileAttributes atributos = Files.readAttributes(caminho, BasicFileAttributes.class);
+        String chave = caminho + "\n" + atributos.size() + "\n" + atributos.lastModifiedTime().toMillis();
+        synchronized (resumos) {
+            ResumoMidia resumo = resumos.get(chave);
+            if (resumo != null) {
+                return resumo;
+            }
+        }
+        // Calculado fora do lock; duas chamadas simultâneas para um arquivo novo calculam em dobro
+        ResumoMidia resumo = ResumoMidia.calcular(caminho, janela);
+        synchronized (resumos) {
+            resumos.put(chave, resumo);
+        }
+        return resumo;
+    }
+}
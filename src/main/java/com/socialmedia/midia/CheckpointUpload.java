@@ -0,0 +1,76 @@
+package com.socialmedia.midia;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Properties;
+
+/**
+ * Progresso persistido de um upload: a sessão na plataforma e as partes já confirmadas
+ * Regravado por inteiro a cada parte (arquivo temporário + move atômico), então uma queda no meio
+ * da gravação deixa a versão anterior. Acesso sincronizado pelo EnviadorMidia
+ */
+final class CheckpointUpload {
+    private final Path arquivo;
+    final SessaoUpload sessao;
+    // Data de modificação do arquivo local: se mudou, o checkpoint não vale mais
+    final long modificadoEm;
+    final BitSet concluidas;
+
+    CheckpointUpload(Path arquivo, SessaoUpload sessao, long modificadoEm, BitSet concluidas) {
+        this.arquivo = arquivo;
+        this.sessao = sessao;
+        this.modificadoEm = modificadoEm;
+        this.concluidas = concluidas;
+    }
+
+    // null se não há checkpoint ou ele está ilegível
+    static CheckpointUpload ler(Path arquivo) throws IOException {
+        Properties propriedades = new Properties();
+        try (Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            propriedades.load(leitor);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        try {
+            SessaoUpload sessao = new SessaoUpload(propriedades.getProperty("uploadId"),
+                Long.parseLong(propriedades.getProperty("tamanho")),
+                Integer.parseInt(propriedades.getProperty("tamanhoParte")));
+            return new CheckpointUpload(arquivo, sessao, Long.parseLong(propriedades.getProperty("modificadoEm")),
+                BitSet.valueOf(Base64.getDecoder().decode(propriedades.getProperty("partes"))));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    void gravar() throws IOException {
+        Properties propriedades = new Properties();
+        propriedades.setProperty("uploadId", sessao.getUploadId());
+        propriedades.setProperty("tamanho", Long.toString(sessao.getTamanho()));
+        propriedades.setProperty("tamanhoParte", Integer.toString(sessao.getTamanhoParte()));
+        propriedades.setProperty("modificadoEm", Long.toString(modificadoEm));
+        propriedades.setProperty("partes", Base64.getEncoder().encodeToString(concluidas.toByteArray()));
+
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (Writer escritor = Files.newBufferedWriter(temporario, StandardCharsets.UTF_8)) {
+            propriedades.store(escritor, null);
+        }
+        try {
+            Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    void apagar() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+}
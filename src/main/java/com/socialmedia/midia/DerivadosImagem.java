@@ -0,0 +1,97 @@
+package com.socialmedia.midia;
+
+import com.socialmedia.model.Conteudo;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Variantes geradas (ou encontradas no cache) para uma imagem de origem
+ */
+public final class DerivadosImagem {
+    private final ResumoMidia resumo;
+    private final Map<VarianteImagem, Path> arquivos;
+    private final int gerados;
+
+    DerivadosImagem(ResumoMidia resumo, Map<VarianteImagem, Path> arquivos, int gerados) {
+        this.resumo = resumo;
+        this.arquivos = Collections.unmodifiableMap(arquivos);
+        this.gerados = gerados;
+    }
+
+    // SHA-256 da imagem de origem
+    public ResumoMidia getResumo() {
+        return resumo;
+    }
+
+    // Arquivos por variante, na ordem em que as variantes foram configuradas
+    public Map<VarianteImagem, Path> getArquivos() {
+        return arquivos;
+    }
+
+    public Path get(VarianteImagem variante) {
+        return arquivos.get(variante);
+    }
+
+    // Primeira variante da plataforma, ou null se nenhuma foi configurada para ela
+    public Path getPrincipal(String plataforma) {
+        String chave = plataforma.toUpperCase();
+        for (Map.Entry<VarianteImagem, Path> entry : arquivos.entrySet()) {
+            if (entry.getKey().getPlataforma().equals(chave)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    // Variantes geradas nesta chamada; as demais vieram do cache
+    public int getGerados() {
+        return gerados;
+    }
+
+    public int getReaproveitados() {
+        return arquivos.size() - gerados;
+    }
+
+    /**
+     * Conteúdo com a imagem trocada pela variante principal da plataforma
+     * No TikTok a variante é a capa: vai na segunda mídia, que o adapter envia como coverImageUrl
+     */
+    public Conteudo aplicar(Conteudo conteudo, String plataforma) {
+        Path variante = getPrincipal(plataforma);
+        if (variante == null) {
+            return conteudo;
+        }
+        List<String> midias = new ArrayList<>(conteudo.getMidias());
+        String caminho = variante.toAbsolutePath().toString();
+        if ("TIKTOK".equalsIgnoreCase(plataforma)) {
+            if (midias.size() > 1) {
+                midias.set(1, caminho);
+            } else {
+                midias.add(caminho);
+            }
+        } else {
+            int indice = GeradorDerivados.indiceImagem(midias);
+            if (indice >= 0) {
+                midias.set(indice, caminho);
+            } else {
+                midias.add(0, caminho);
+            }
+        }
+        return new Conteudo.Builder()
+            .texto(conteudo.getTexto())
+            .midias(midias)
+            .hashtags(conteudo.getHashtags())
+            .dataAgendamento(conteudo.getDataAgendamento())
+            .tipo(conteudo.getTipo())
+            .build();
+    }
+
+    @Override
+    public String toString() {
+        return "DerivadosImagem{" + resumo + ", " + arquivos.size() + " variantes, " + gerados + " geradas}";
+    }
+}
@@ -0,0 +1,36 @@
+package com.socialmedia.midia;
+
+import com.socialmedia.exception.PublicacaoException;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+/**
+ * Upload de mídia em partes numa plataforma
+ * Implementado pelos adapters que convertem o protocolo de upload de cada API (TikTok, Instagram,
+ * LinkedIn). As partes de uma sessão podem ser enviadas em paralelo, por várias threads
+ */
+public interface DestinoUpload {
+
+    String getNomePlataforma();
+
+    /**
+     * Abre uma sessão de upload; a plataforma pode ajustar o tamanho de parte pedido
+     */
+    SessaoUpload iniciarUpload(long tamanho, int tamanhoParte) throws PublicacaoException;
+
+    /**
+     * Envia uma parte (do position ao limit do buffer); o tamanho deve ser o da sessão, exceto na última
+     */
+    void enviarParte(SessaoUpload sessao, int indice, ByteBuffer dados) throws PublicacaoException;
+
+    /**
+     * Partes que a plataforma já recebeu; NAO_ENCONTRADO se a sessão não existe mais
+     */
+    BitSet partesRecebidas(SessaoUpload sessao) throws PublicacaoException;
+
+    /**
+     * Conclui o upload e retorna a referência da mídia na plataforma (URL ou URN)
+     */
+    String concluirUpload(SessaoUpload sessao) throws PublicacaoException;
+}
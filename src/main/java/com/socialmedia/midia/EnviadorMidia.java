@@ -0,0 +1,301 @@
+package com.socialmedia.midia;
+
+import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.util.Hash64;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Upload de arquivos locais em partes, em paralelo e retomável
+ * As partes são lidas com leituras posicionais do FileChannel para buffers diretos reaproveitados,
+ * ou mapeadas em memória (modo mapeado), e enviadas por várias threads. A memória fica limitada:
+ * no máximo {@code paralelismo} buffers de uma parte por enviador, mesmo com vários uploads ao mesmo
+ * tempo. Com um diretório de checkpoints, o progresso é persistido a cada parte e um novo enviar()
+ * do mesmo arquivo para a mesma plataforma continua de onde parou. Não envie o mesmo arquivo para
+ * a mesma plataforma em duas chamadas simultâneas
+ */
+public final class EnviadorMidia {
+    private final int tamanhoParte;
+    private final int paralelismo;
+    private final boolean mapeado;
+    private final int tentativas;
+    private final long esperaInicialNanos;
+    private final Path diretorioCheckpoints;
+    // Buffers de leitura compartilhados pelos uploads; criados sob demanda no tamanho da parte
+    private final BlockingQueue<ByteBuffer> buffers;
+
+    private EnviadorMidia(Builder builder) {
+        this.tamanhoParte = builder.tamanhoParte;
+        this.paralelismo = builder.paralelismo;
+        this.mapeado = builder.mapeado;
+        this.tentativas = builder.tentativas;
+        this.esperaInicialNanos = builder.esperaInicialNanos;
+        this.diretorioCheckpoints = builder.diretorioCheckpoints;
+        this.buffers = new ArrayBlockingQueue<>(paralelismo);
+        for (int i = 0; i < paralelismo; i++) {
+            buffers.add(ByteBuffer.allocateDirect(0));
+        }
+    }
+
+    /**
+     * Envia o arquivo e retorna a referência da mídia na plataforma
+     * Em caso de falha, o checkpoint (se configurado) guarda as partes já confirmadas
+     */
+    public ResultadoUpload enviar(Path arquivo, DestinoUpload destino) throws IOException, PublicacaoException {
+        long inicio = System.nanoTime();
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long tamanho = canal.size();
+            long modificadoEm = Files.getLastModifiedTime(arquivo).toMillis();
+
+            CheckpointUpload checkpoint = retomar(arquivo, destino, tamanho, modificadoEm);
+            if (checkpoint == null) {
+                SessaoUpload sessao = destino.iniciarUpload(tamanho, tamanhoParte);
+                checkpoint = new CheckpointUpload(arquivoCheckpoint(arquivo, destino), sessao, modificadoEm, new BitSet());
+                gravar(checkpoint);
+            }
+            int retomadas = checkpoint.concluidas.cardinality();
+
+            enviarPartes(canal, destino, checkpoint);
+            String midiaId = destino.concluirUpload(checkpoint.sessao);
+            if (diretorioCheckpoints != null) {
+                checkpoint.apagar();
+            }
+            return new ResultadoUpload(destino.getNomePlataforma(), midiaId, tamanho,
+                checkpoint.sessao.getTotalPartes(), retomadas, System.nanoTime() - inicio);
+        }
+    }
+
+    // Checkpoint válido para o arquivo, já conferido com as partes que a plataforma tem; senão null
+    private CheckpointUpload retomar(Path arquivo, DestinoUpload destino, long tamanho, long modificadoEm)
+            throws IOException, PublicacaoException {
+        if (diretorioCheckpoints == null) {
+            return null;
+        }
+        Files.createDirectories(diretorioCheckpoints);
+        Path caminho = arquivoCheckpoint(arquivo, destino);
+        CheckpointUpload checkpoint = CheckpointUpload.ler(caminho);
+        if (checkpoint == null) {
+            return null;
+        }
+        if (checkpoint.sessao.getTamanho() != tamanho || checkpoint.modificadoEm != modificadoEm) {
+            checkpoint.apagar();
+            return null;
+        }
+        try {
+            // Só conta como enviada a parte que os dois lados confirmam
+            checkpoint.concluidas.and(destino.partesRecebidas(checkpoint.sessao));
+        } catch (PublicacaoException e) {
+            if (e.getCategoria() != CategoriaErro.NAO_ENCONTRADO) {
+                throw e;
+            }
+            // A sessão expirou na plataforma: recomeça do zero
+            checkpoint.apagar();
+            return null;
+        }
+        return checkpoint;
+    }
+
+    private void enviarPartes(FileChannel canal, DestinoUpload destino, CheckpointUpload checkpoint)
+            throws IOException, PublicacaoException {
+        SessaoUpload sessao = checkpoint.sessao;
+        int[] pendentes = new int[sessao.getTotalPartes() - checkpoint.concluidas.cardinality()];
+        for (int i = checkpoint.concluidas.nextClearBit(0), n = 0; i < sessao.getTotalPartes();
+                i = checkpoint.concluidas.nextClearBit(i + 1)) {
+            pendentes[n++] = i;
+        }
+        if (pendentes.length == 0) {
+            return;
+        }
+
+        AtomicInteger proxima = new AtomicInteger();
+        AtomicReference<Exception> falha = new AtomicReference<>();
+        int trabalhadores = Math.min(paralelismo, pendentes.length);
+        AtomicInteger contador = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(trabalhadores, tarefa -> {
+            Thread thread = new Thread(tarefa, "envio-midia-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> tarefas = new ArrayList<>(trabalhadores);
+            for (int i = 0; i < trabalhadores; i++) {
+                tarefas.add(executor.submit(() -> trabalhar(canal, destino, checkpoint, pendentes, proxima, falha)));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            falha.compareAndSet(null, new InterruptedIOException("Upload interrompido"));
+        } catch (ExecutionException e) {
+            falha.compareAndSet(null, new IOException("Erro inesperado no upload: " + e.getCause(), e.getCause()));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Exception erro = falha.get();
+        if (erro instanceof PublicacaoException) {
+            throw (PublicacaoException) erro;
+        }
+        if (erro instanceof RuntimeException) {
+            throw (RuntimeException) erro;
+        }
+        if (erro != null) {
+            throw (IOException) erro;
+        }
+    }
+
+    // Cada trabalhador pega a próxima parte pendente até acabarem ou alguma falhar
+    private void trabalhar(FileChannel canal, DestinoUpload destino, CheckpointUpload checkpoint, int[] pendentes,
+                           AtomicInteger proxima, AtomicReference<Exception> falha) {
+        SessaoUpload sessao = checkpoint.sessao;
+        ByteBuffer buffer = null;
+        try {
+            if (!mapeado) {
+                buffer = buffers.take();
+            }
+            int i;
+            while (falha.get() == null && (i = proxima.getAndIncrement()) < pendentes.length) {
+                int indice = pendentes[i];
+                ByteBuffer dados;
+                if (mapeado) {
+                    dados = canal.map(FileChannel.MapMode.READ_ONLY, sessao.getPosicao(indice), sessao.getTamanho(indice));
+                } else {
+                    if (buffer.capacity() < sessao.getTamanhoParte()) {
+                        buffer = ByteBuffer.allocateDirect(sessao.getTamanhoParte());
+                    }
+                    dados = ler(canal, buffer, sessao.getPosicao(indice), sessao.getTamanho(indice));
+                }
+                enviarComTentativas(destino, sessao, indice, dados);
+                synchronized (checkpoint) {
+                    checkpoint.concluidas.set(indice);
+                    gravar(checkpoint);
+                }
+            }
+        } catch (InterruptedException e) {
+            falha.compareAndSet(null, new InterruptedIOException("Upload interrompido"));
+        } catch (IOException | PublicacaoException | RuntimeException e) {
+            falha.compareAndSet(null, e);
+        } finally {
+            if (buffer != null) {
+                buffers.add(buffer);
+            }
+        }
+    }
+
+    private static ByteBuffer ler(FileChannel canal, ByteBuffer buffer, long posicao, int tamanho) throws IOException {
+        buffer.clear().limit(tamanho);
+        while (buffer.hasRemaining()) {
+            if (canal.read(buffer, posicao + buffer.position()) < 0) {
+                throw new IOException("Arquivo diminuiu durante o upload");
+            }
+        }
+        return buffer.flip();
+    }
+
+    // Falhas transitórias e limites de requisição são repetidos com espera exponencial
+    private void enviarComTentativas(DestinoUpload destino, SessaoUpload sessao, int indice, ByteBuffer dados)
+            throws PublicacaoException, InterruptedException {
+        long espera = esperaInicialNanos;
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                destino.enviarParte(sessao, indice, dados.duplicate());
+                return;
+            } catch (PublicacaoException e) {
+                boolean repetivel = e.getCategoria() == CategoriaErro.TRANSITORIO || e.getCategoria() == CategoriaErro.LIMITADO;
+                if (!repetivel || tentativa >= tentativas) {
+                    throw e;
+                }
+                TimeUnit.NANOSECONDS.sleep(espera);
+                espera *= 2;
+            }
+        }
+    }
+
+    private void gravar(CheckpointUpload checkpoint) throws IOException {
+        if (diretorioCheckpoints != null) {
+            checkpoint.gravar();
+        }
+    }
+
+    private Path arquivoCheckpoint(Path arquivo, DestinoUpload destino) {
+        if (diretorioCheckpoints == null) {
+            return null;
+        }
+        long hash = Hash64.de(destino.getNomePlataforma() + '\n' + arquivo.toAbsolutePath().normalize());
+        return diretorioCheckpoints.resolve(destino.getNomePlataforma().toLowerCase() + "-"
+            + Long.toHexString(hash) + ".upload");
+    }
+
+    public static class Builder {
+        private int tamanhoParte = 8 << 20;
+        private int paralelismo = 4;
+        private boolean mapeado;
+        private int tentativas = 3;
+        private long esperaInicialNanos = TimeUnit.MILLISECONDS.toNanos(100);
+        private Path diretorioCheckpoints;
+
+        // Tamanho de parte pedido às plataformas (padrão 8 MB); cada uma pode ajustá-lo aos seus limites
+        public Builder tamanhoParte(int bytes) {
+            if (bytes <= 0) {
+                throw new IllegalArgumentException("Tamanho de parte deve ser positivo");
+            }
+            this.tamanhoParte = bytes;
+            return this;
+        }
+
+        // Partes enviadas ao mesmo tempo, que é também o número de buffers de leitura
+        public Builder paralelismo(int paralelismo) {
+            if (paralelismo <= 0) {
+                throw new IllegalArgumentException("Paralelismo deve ser positivo");
+            }
+            this.paralelismo = paralelismo;
+            return this;
+        }
+
+        // Mapeia as partes em memória em vez de copiá-las para buffers (sem cópia, usa o cache de páginas)
+        public Builder mapeado(boolean mapeado) {
+            this.mapeado = mapeado;
+            return this;
+        }
+
+        // Tentativas por parte para falhas TRANSITORIO e LIMITADO
+        public Builder tentativas(int tentativas, long esperaInicial, TimeUnit unidade) {
+            if (tentativas <= 0 || esperaInicial < 0) {
+                throw new IllegalArgumentException("Tentativas devem ser positivas e a espera não negativa");
+            }
+            this.tentativas = tentativas;
+            this.esperaInicialNanos = unidade.toNanos(esperaInicial);
+            return this;
+        }
+
+        // Onde guardar o progresso para retomar uploads interrompidos (sem diretório, não há retomada)
+        public Builder diretorioCheckpoints(Path diretorio) {
+            this.diretorioCheckpoints = diretorio;
+            return this;
+        }
+
+        public EnviadorMidia build() {
+            return new EnviadorMidia(this);
+        }
+    }
+}
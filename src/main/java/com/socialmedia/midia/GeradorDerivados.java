@@ -0,0 +1,326 @@
+package com.socialmedia.midia;
+
+import com.socialmedia.model.Conteudo;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gera as variantes de imagem de cada plataforma a partir de uma imagem de origem
+ * A origem é decodificada uma vez e as variantes que faltam são recortadas, redimensionadas e
+ * codificadas em JPEG em paralelo, uma tarefa por variante no pool fork/join. O resultado fica em
+ * disco com o SHA-256 da origem e a chave da variante no nome do arquivo, então a mesma imagem em
+ * outra campanha (ou outra execução) não é processada de novo. Chamadas simultâneas com a mesma
+ * imagem esperam uma única geração
+ */
+public final class GeradorDerivados {
+    private static final String[] EXTENSOES_IMAGEM = {".jpg", ".jpeg", ".png", ".gif", ".bmp"};
+
+    private final List<VarianteImagem> variantes;
+    private final Path diretorio;
+    private final ForkJoinPool pool;
+    private final float qualidade;
+    private final CacheResumos resumos;
+    // Gerações em andamento por imagem de origem; o cache de verdade são os arquivos
+    private final Map<ResumoMidia, CompletableFuture<DerivadosImagem>> emAndamento = new ConcurrentHashMap<>();
+    private final LongAdder gerados = new LongAdder();
+    private final LongAdder reaproveitados = new LongAdder();
+
+    private GeradorDerivados(Builder builder) {
+        this.variantes = List.copyOf(builder.variantes);
+        this.diretorio = builder.diretorio;
+        this.pool = builder.pool != null ? builder.pool : ForkJoinPool.commonPool();
+        this.qualidade = builder.qualidade;
+        this.resumos = new CacheResumos(ResumoMidia.JANELA_PADRAO);
+    }
+
+    /**
+     * Gera as variantes da primeira imagem local do conteúdo (caminho ou URI file:)
+     */
+    public DerivadosImagem gerar(Conteudo conteudo) throws IOException {
+        int indice = indiceImagem(conteudo.getMidias());
+        if (indice < 0) {
+            throw new IllegalArgumentException("Conteúdo não tem imagem para gerar variantes");
+        }
+        String midia = conteudo.getMidias().get(indice);
+        if (midia.startsWith("file:")) {
+            return gerar(Paths.get(URI.create(midia)));
+        }
+        if (midia.contains("://")) {
+            throw new IllegalArgumentException("Variantes só são geradas para imagens locais: " + midia);
+        }
+        return gerar(Paths.get(midia));
+    }
+
+    public DerivadosImagem gerar(Path imagem) throws IOException {
+        ResumoMidia resumo = resumos.resumir(imagem);
+        DerivadosImagem existentes = doCache(resumo);
+        if (existentes != null) {
+            reaproveitados.add(existentes.getReaproveitados());
+            return existentes;
+        }
+
+        CompletableFuture<DerivadosImagem> geracao = new CompletableFuture<>();
+        CompletableFuture<DerivadosImagem> outra = emAndamento.putIfAbsent(resumo, geracao);
+        if (outra != null) {
+            DerivadosImagem derivados = aguardar(outra);
+            reaproveitados.add(derivados.getArquivos().size());
+            return new DerivadosImagem(resumo, derivados.getArquivos(), 0);
+        }
+        try {
+            DerivadosImagem derivados = gerarFaltantes(imagem, resumo);
+            gerados.add(derivados.getGerados());
+            reaproveitados.add(derivados.getReaproveitados());
+            geracao.complete(derivados);
+            return derivados;
+        } catch (IOException | RuntimeException e) {
+            geracao.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(resumo, geracao);
+        }
+    }
+
+    // Variantes geradas desde a criação do gerador
+    public long getGerados() {
+        return gerados.sum();
+    }
+
+    // Variantes atendidas pelo cache (em disco ou por uma geração simultânea)
+    public long getReaproveitados() {
+        return reaproveitados.sum();
+    }
+
+    public List<VarianteImagem> getVariantes() {
+        return variantes;
+    }
+
+    // Todas as variantes já em disco, ou null se alguma falta
+    private DerivadosImagem doCache(ResumoMidia resumo) {
+        Map<VarianteImagem, Path> arquivos = new LinkedHashMap<>();
+        for (VarianteImagem variante : variantes) {
+            Path arquivo = arquivo(resumo, variante);
+            if (!Files.isRegularFile(arquivo)) {
+                return null;
+            }
+            arquivos.put(variante, arquivo);
+        }
+        return new DerivadosImagem(resumo, arquivos, 0);
+    }
+
+    private DerivadosImagem gerarFaltantes(Path imagem, ResumoMidia resumo) throws IOException {
+        Map<VarianteImagem, Path> arquivos = new LinkedHashMap<>();
+        List<ForkJoinTask<?>> tarefas = new ArrayList<>();
+        BufferedImage origem = null;
+        for (VarianteImagem variante : variantes) {
+            Path arquivo = arquivo(resumo, variante);
+            arquivos.put(variante, arquivo);
+            if (Files.isRegularFile(arquivo)) {
+                continue;
+            }
+            if (origem == null) {
+                origem = ImageIO.read(imagem.toFile());
+                if (origem == null) {
+                    throw new IOException("Formato de imagem não suportado: " + imagem);
+                }
+                Files.createDirectories(diretorio);
+            }
+            BufferedImage decodificada = origem;
+            tarefas.add(pool.submit(() -> gerarVariante(decodificada, variante, arquivo)));
+        }
+
+        // Espera todas antes de propagar a primeira falha, para nenhuma gravação ficar pela metade
+        RuntimeException falha = null;
+        for (ForkJoinTask<?> tarefa : tarefas) {
+            try {
+                tarefa.join();
+            } catch (RuntimeException e) {
+                if (falha == null) {
+                    falha = e;
+                }
+            }
+        }
+        if (falha instanceof UncheckedIOException) {
+            throw ((UncheckedIOException) falha).getCause();
+        }
+        if (falha != null) {
+            throw falha;
+        }
+        return new DerivadosImagem(resumo, arquivos, tarefas.size());
+    }
+
+    private Path arquivo(ResumoMidia resumo, VarianteImagem variante) {
+        return diretorio.resolve(resumo.getHex() + "-" + variante.getChave() + "-q"
+            + Math.round(qualidade * 100) + ".jpg");
+    }
+
+    // Recorta, redimensiona, codifica e grava uma variante (arquivo temporário + move atômico)
+    private void gerarVariante(BufferedImage origem, VarianteImagem variante, Path arquivo) {
+        try {
+            BufferedImage imagem = redimensionar(origem, variante.getLargura(), variante.getAltura());
+            Path temporario = Files.createTempFile(diretorio, arquivo.getFileName().toString(), ".tmp");
+            try {
+                gravarJpeg(imagem, temporario, qualidade);
+                try {
+                    Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporario);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Recorte central na proporção do destino e redução em etapas pela metade antes da final,
+     * para a interpolação bilinear não perder detalhes em reduções grandes. Em proporções extremas
+     * o recorte fica com ao menos 1 pixel em cada lado
+     */
+    static BufferedImage redimensionar(BufferedImage origem, int largura, int altura) {
+        int larguraRecorte = origem.getWidth();
+        int alturaRecorte = origem.getHeight();
+        if ((long) larguraRecorte * altura > (long) alturaRecorte * largura) {
+            larguraRecorte = (int) Math.max(1, (long) alturaRecorte * largura / altura);
+        } else {
+            alturaRecorte = (int) Math.max(1, (long) larguraRecorte * altura / largura);
+        }
+        BufferedImage atual = origem.getSubimage((origem.getWidth() - larguraRecorte) / 2,
+            (origem.getHeight() - alturaRecorte) / 2, larguraRecorte, alturaRecorte);
+
+        while (larguraRecorte / 2 >= largura && alturaRecorte / 2 >= altura) {
+            larguraRecorte /= 2;
+            alturaRecorte /= 2;
+            atual = desenhar(atual, larguraRecorte, alturaRecorte);
+        }
+        return desenhar(atual, largura, altura);
+    }
+
+    // RGB sobre fundo branco: o JPEG não tem transparência
+    private static BufferedImage desenhar(BufferedImage origem, int largura, int altura) {
+        BufferedImage destino = new BufferedImage(largura, altura, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = destino.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, largura, altura);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(origem, 0, 0, largura, altura, null);
+        } finally {
+            g.dispose();
+        }
+        return destino;
+    }
+
+    private static void gravarJpeg(BufferedImage imagem, Path arquivo, float qualidade) throws IOException {
+        ImageWriter escritor = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream saida = ImageIO.createImageOutputStream(arquivo.toFile())) {
+            ImageWriteParam parametros = escritor.getDefaultWriteParam();
+            parametros.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parametros.setCompressionQuality(qualidade);
+            escritor.setOutput(saida);
+            escritor.write(null, new IIOImage(imagem, null, null), parametros);
+        } finally {
+            escritor.dispose();
+        }
+    }
+
+    // Índice da primeira mídia com extensão de imagem, ou -1
+    static int indiceImagem(List<String> midias) {
+        for (int i = 0; i < midias.size(); i++) {
+            String midia = midias.get(i).toLowerCase(Locale.ROOT);
+            for (String extensao : EXTENSOES_IMAGEM) {
+                if (midia.endsWith(extensao)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static DerivadosImagem aguardar(CompletableFuture<DerivadosImagem> geracao) throws IOException {
+        try {
+            return geracao.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrompido aguardando a geração das variantes");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    public static class Builder {
+        private List<VarianteImagem> variantes = VarianteImagem.PADRAO;
+        private Path diretorio;
+        private ForkJoinPool pool;
+        private float qualidade = 0.9f;
+
+        // Variantes geradas para cada imagem (padrão: VarianteImagem.PADRAO)
+        public Builder variantes(List<VarianteImagem> variantes) {
+            if (variantes == null || variantes.isEmpty()) {
+                throw new IllegalArgumentException("Informe ao menos uma variante");
+            }
+            this.variantes = variantes;
+            return this;
+        }
+
+        // Onde as variantes ficam guardadas; é o cache entre campanhas e execuções
+        public Builder diretorio(Path diretorio) {
+            this.diretorio = diretorio;
+            return this;
+        }
+
+        // Pool fork/join das gerações (padrão: o pool comum)
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        // Qualidade do JPEG, de 0 a 1 (padrão 0.9); faz parte da chave do cache
+        public Builder qualidade(float qualidade) {
+            if (qualidade <= 0 || qualidade > 1) {
+                throw new IllegalArgumentException("Qualidade deve estar entre 0 e 1");
+            }
+            this.qualidade = qualidade;
+            return this;
+        }
+
+        public GeradorDerivados build() {
+            if (diretorio == null) {
+                throw new IllegalStateException("Diretório das variantes é obrigatório");
+            }
+            return new GeradorDerivados(this);
+        }
+    }
+}
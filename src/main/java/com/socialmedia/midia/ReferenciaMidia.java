@@ -0,0 +1,46 @@
+package com.socialmedia.midia;
+
+/**
+ * Mídia disponível numa plataforma, enviada agora ou reaproveitada do RepositorioMidia
+ */
+public final class ReferenciaMidia {
+    private final ResumoMidia resumo;
+    private final String plataforma;
+    private final String midiaId;
+    private final ResultadoUpload upload;
+
+    ReferenciaMidia(ResumoMidia resumo, String plataforma, String midiaId, ResultadoUpload upload) {
+        this.resumo = resumo;
+        this.plataforma = plataforma;
+        this.midiaId = midiaId;
+        this.upload = upload;
+    }
+
+    public ResumoMidia getResumo() {
+        return resumo;
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    // Referência da mídia na plataforma (URL ou URN), para usar nas publicações
+    public String getMidiaId() {
+        return midiaId;
+    }
+
+    // Upload feito por esta chamada; null quando a mídia foi reaproveitada
+    public ResultadoUpload getUpload() {
+        return upload;
+    }
+
+    // A plataforma já tinha a mídia, ou outra chamada simultânea a enviou
+    public boolean isReaproveitada() {
+        return upload == null;
+    }
+
+    @Override
+    public String toString() {
+        return "ReferenciaMidia{" + plataforma + ", " + midiaId + (upload == null ? ", reaproveitada" : "") + "}";
+    }
+}
@@ -0,0 +1,231 @@
+package com.socialmedia.midia;
+
+import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.resultado.CategoriaErro;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Repositório de mídia endereçado pelo conteúdo: cada arquivo é enviado uma vez por plataforma
+ * A chave é o SHA-256 do arquivo (ResumoMidia), então a mesma imagem ou vídeo em outro caminho, em
+ * outra campanha ou em outra execução (com índice em disco) reaproveita a referência já existente.
+ * Chamadas simultâneas com o mesmo conteúdo para a mesma plataforma fazem um único upload e as
+ * demais esperam por ele. Um repositório representa uma conta por plataforma
+ */
+public final class RepositorioMidia {
+    // Marca, no índice, uma referência invalidada
+    private static final String REMOVIDA = "-";
+
+    private final EnviadorMidia enviador;
+    private final Path indice;
+    // Referência em cada plataforma por conteúdo; um futuro pendente é um upload em andamento
+    private final Map<ResumoMidia, Map<String, CompletableFuture<String>>> remotas = new ConcurrentHashMap<>();
+    private final CacheResumos resumos;
+    private final LongAdder uploads = new LongAdder();
+    private final LongAdder reaproveitamentos = new LongAdder();
+    private final LongAdder bytesEvitados = new LongAdder();
+
+    private RepositorioMidia(Builder builder) throws IOException {
+        this.enviador = builder.enviador;
+        this.indice = builder.indice;
+        this.resumos = new CacheResumos(builder.janelaResumo);
+        if (indice != null) {
+            carregarIndice();
+        }
+    }
+
+    /**
+     * Envia o arquivo para a plataforma, a menos que ela já tenha o mesmo conteúdo
+     * Se outra chamada estiver enviando o mesmo conteúdo para a plataforma, espera por ela e
+     * compartilha o resultado (inclusive a falha)
+     */
+    public ReferenciaMidia enviar(Path arquivo, DestinoUpload destino) throws IOException, PublicacaoException {
+        ResumoMidia resumo = resumir(arquivo);
+        String plataforma = destino.getNomePlataforma().toUpperCase();
+        Map<String, CompletableFuture<String>> porPlataforma = remotas.computeIfAbsent(resumo, r -> new ConcurrentHashMap<>());
+
+        CompletableFuture<String> envio = new CompletableFuture<>();
+        CompletableFuture<String> existente = porPlataforma.putIfAbsent(plataforma, envio);
+        if (existente != null) {
+            String midiaId = aguardar(existente, plataforma);
+            reaproveitamentos.increment();
+            bytesEvitados.add(Files.size(arquivo));
+            return new ReferenciaMidia(resumo, plataforma, midiaId, null);
+        }
+
+        try {
+            ResultadoUpload resultado = enviador.enviar(arquivo, destino);
+            gravarIndice(resumo, plataforma, resultado.getMidiaId());
+            envio.complete(resultado.getMidiaId());
+            uploads.increment();
+            return new ReferenciaMidia(resumo, plataforma, resultado.getMidiaId(), resultado);
+        } catch (IOException | PublicacaoException | RuntimeException e) {
+            // Libera a vaga antes de avisar quem espera: a próxima chamada tenta de novo
+            porPlataforma.remove(plataforma, envio);
+            envio.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * SHA-256 do arquivo, recalculado só se o tamanho ou a data de modificação mudaram
+     */
+    public ResumoMidia resumir(Path arquivo) throws IOException {
+        return resumos.resumir(arquivo);
+    }
+
+    // Referência do conteúdo na plataforma, ou null se ela ainda não o tem
+    public String getMidiaId(ResumoMidia resumo, String plataforma) {
+        Map<String, CompletableFuture<String>> porPlataforma = remotas.get(resumo);
+        CompletableFuture<String> envio = porPlataforma != null ? porPlataforma.get(plataforma.toUpperCase()) : null;
+        return envio != null && envio.isDone() && !envio.isCompletedExceptionally() ? envio.join() : null;
+    }
+
+    // Plataformas (em maiúsculas) que já têm o conteúdo; uploads em andamento não contam
+    public Set<String> getPlataformas(ResumoMidia resumo) {
+        Map<String, CompletableFuture<String>> porPlataforma = remotas.get(resumo);
+        if (porPlataforma == null) {
+            return Collections.emptySet();
+        }
+        Set<String> plataformas = new TreeSet<>();
+        porPlataforma.forEach((plataforma, envio) -> {
+            if (envio.isDone() && !envio.isCompletedExceptionally()) {
+                plataformas.add(plataforma);
+            }
+        });
+        return Collections.unmodifiableSet(plataformas);
+    }
+
+    /**
+     * Esquece a referência (ex.: a plataforma apagou a mídia); o próximo enviar faz um novo upload
+     */
+    public boolean invalidar(ResumoMidia resumo, String plataforma) throws IOException {
+        String chave = plataforma.toUpperCase();
+        Map<String, CompletableFuture<String>> porPlataforma = remotas.get(resumo);
+        CompletableFuture<String> envio = porPlataforma != null ? porPlataforma.get(chave) : null;
+        if (envio == null || !envio.isDone() || !porPlataforma.remove(chave, envio)) {
+            return false;
+        }
+        gravarIndice(resumo, chave, REMOVIDA);
+        return true;
+    }
+
+    public long getUploads() {
+        return uploads.sum();
+    }
+
+    public long getReaproveitamentos() {
+        return reaproveitamentos.sum();
+    }
+
+    // Bytes que deixaram de ser enviados por reaproveitamento
+    public long getBytesEvitados() {
+        return bytesEvitados.sum();
+    }
+
+    private static String aguardar(CompletableFuture<String> envio, String plataforma)
+            throws IOException, PublicacaoException {
+        try {
+            return envio.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw PublicacaoException.semStackTrace("Interrompido aguardando o upload da mídia em " + plataforma,
+                CategoriaErro.TRANSITORIO);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof PublicacaoException) {
+                throw (PublicacaoException) causa;
+            }
+            if (causa instanceof IOException) {
+                throw (IOException) causa;
+            }
+            throw (RuntimeException) causa;
+        }
+    }
+
+    // Índice em disco: uma linha "<sha256> <plataforma> <midiaId>" por upload, a última vale
+    private void carregarIndice() throws IOException {
+        try (BufferedReader leitor = Files.newBufferedReader(indice, StandardCharsets.UTF_8)) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                int primeiro = linha.indexOf(' ');
+                int segundo = primeiro < 0 ? -1 : linha.indexOf(' ', primeiro + 1);
+                if (primeiro != 64 || segundo < 0 || segundo == linha.length() - 1) {
+                    // Linha incompleta (ex.: queda durante a gravação)
+                    continue;
+                }
+                ResumoMidia resumo = ResumoMidia.deHex(linha.substring(0, primeiro));
+                String plataforma = linha.substring(primeiro + 1, segundo);
+                String midiaId = linha.substring(segundo + 1);
+                Map<String, CompletableFuture<String>> porPlataforma = remotas.computeIfAbsent(resumo, r -> new ConcurrentHashMap<>());
+                if (REMOVIDA.equals(midiaId)) {
+                    porPlataforma.remove(plataforma);
+                } else {
+                    porPlataforma.put(plataforma, CompletableFuture.completedFuture(midiaId));
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // Primeira execução: o índice é criado no primeiro upload
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Índice de mídia inválido: " + indice, e);
+        }
+    }
+
+    private void gravarIndice(ResumoMidia resumo, String plataforma, String midiaId) throws IOException {
+        if (indice == null) {
+            return;
+        }
+        String linha = resumo.getHex() + ' ' + plataforma + ' ' + midiaId + '\n';
+        synchronized (this) {
+            Files.writeString(indice, linha, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+    public static class Builder {
+        private EnviadorMidia enviador;
+        private Path indice;
+        private int janelaResumo = ResumoMidia.JANELA_PADRAO;
+
+        public Builder enviador(EnviadorMidia enviador) {
+            this.enviador = enviador;
+            return this;
+        }
+
+        // Arquivo onde as referências são guardadas entre execuções (sem ele, só em memória)
+        public Builder indice(Path indice) {
+            this.indice = indice;
+            return this;
+        }
+
+        // Tamanho das janelas mapeadas no cálculo do SHA-256 (padrão 64 MB)
+        public Builder janelaResumo(int bytes) {
+            if (bytes <= 0) {
+                throw new IllegalArgumentException("Janela do resumo deve ser positiva");
+            }
+            this.janelaResumo = bytes;
+            return this;
+        }
+
+        // Lê o índice, se houver
+        public RepositorioMidia build() throws IOException {
+            if (enviador == null) {
+                throw new IllegalStateException("Enviador de mídia é obrigatório");
+            }
+            return new RepositorioMidia(this);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.socialmedia.midia;
+
+import java.util.Locale;
+
+/**
+ * Resultado de um upload concluído
+ */
+public final class ResultadoUpload {
+    private final String plataforma;
+    private final String midiaId;
+    private final long bytes;
+    private final int totalPartes;
+    private final int partesRetomadas;
+    private final long duracaoNanos;
+
+    ResultadoUpload(String plataforma, String midiaId, long bytes, int totalPartes, int partesRetomadas,
+                    long duracaoNanos) {
+        this.plataforma = plataforma;
+        this.midiaId = midiaId;
+        this.bytes = bytes;
+        this.totalPartes = totalPartes;
+        this.partesRetomadas = partesRetomadas;
+        this.duracaoNanos = duracaoNanos;
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    // Referência da mídia na plataforma (URL ou URN), para usar nas publicações
+    public String getMidiaId() {
+        return midiaId;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public int getTotalPartes() {
+        return totalPartes;
+    }
+
+    // Partes que já estavam na plataforma de uma tentativa anterior e não foram reenviadas
+    public int getPartesRetomadas() {
+        return partesRetomadas;
+    }
+
+    public long getDuracaoNanos() {
+        return duracaoNanos;
+    }
+
+    // Vazão desta chamada, sobre os bytes de todas as partes
+    public double getMegabytesPorSegundo() {
+        return duracaoNanos > 0 ? bytes / (1024.0 * 1024.0) / (duracaoNanos / 1e9) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "ResultadoUpload{%s, %s, %d bytes, %d partes (%d retomadas), %.1f MB/s}",
+            plataforma, midiaId, bytes, totalPartes, partesRetomadas, getMegabytesPorSegundo());
+    }
+}
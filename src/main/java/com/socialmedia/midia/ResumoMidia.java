@@ -0,0 +1,97 @@
+package com.socialmedia.midia;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 do conteúdo de um arquivo de mídia, usado como endereço no RepositorioMidia
+ * O cálculo é incremental sobre janelas mapeadas do arquivo: os bytes vão do cache de páginas
+ * direto para o MessageDigest, sem leituras para buffers no heap, e a memória não depende do
+ * tamanho do arquivo
+ */
+public final class ResumoMidia {
+    public static final int JANELA_PADRAO = 64 << 20;
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final byte[] bytes;
+
+    private ResumoMidia(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public static ResumoMidia calcular(Path arquivo) throws IOException {
+        return calcular(arquivo, JANELA_PADRAO);
+    }
+
+    public static ResumoMidia calcular(Path arquivo, int janela) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            return calcular(canal, janela);
+        }
+    }
+
+    /**
+     * Mapeia o canal em janelas de até {@code janela} bytes e atualiza o resumo com cada uma
+     */
+    public static ResumoMidia calcular(FileChannel canal, int janela) throws IOException {
+        if (janela <= 0) {
+            throw new IllegalArgumentException("Janela de leitura deve ser positiva");
+        }
+        MessageDigest sha256 = novoSha256();
+        long tamanho = canal.size();
+        for (long posicao = 0; posicao < tamanho; posicao += janela) {
+            MappedByteBuffer trecho = canal.map(FileChannel.MapMode.READ_ONLY, posicao, Math.min(janela, tamanho - posicao));
+            sha256.update(trecho);
+        }
+        return new ResumoMidia(sha256.digest());
+    }
+
+    public static ResumoMidia deHex(String hex) {
+        if (hex == null || hex.length() != 64) {
+            throw new IllegalArgumentException("Resumo SHA-256 deve ter 64 dígitos hexadecimais: " + hex);
+        }
+        return new ResumoMidia(HEX.parseHex(hex));
+    }
+
+    public String getHex() {
+        return HEX.formatHex(bytes);
+    }
+
+    public byte[] getBytes() {
+        return bytes.clone();
+    }
+
+    private static MessageDigest novoSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Todo JRE é obrigado a oferecer SHA-256
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ResumoMidia)) return false;
+        return Arrays.equals(bytes, ((ResumoMidia) o).bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        // Os bytes já são uniformes: os quatro primeiros bastam
+        return (bytes[0] & 0xff) << 24 | (bytes[1] & 0xff) << 16 | (bytes[2] & 0xff) << 8 | (bytes[3] & 0xff);
+    }
+
+    @Override
+    public String toString() {
+        return "sha256:" + getHex();
+    }
+}
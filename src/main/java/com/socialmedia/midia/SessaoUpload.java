@@ -0,0 +1,52 @@
+package com.socialmedia.midia;
+
+/**
+ * Sessão de upload aberta numa plataforma, com o tamanho de parte que ela aceitou
+ */
+public final class SessaoUpload {
+    private final String uploadId;
+    private final long tamanho;
+    private final int tamanhoParte;
+
+    public SessaoUpload(String uploadId, long tamanho, int tamanhoParte) {
+        if (uploadId == null || uploadId.isEmpty()) {
+            throw new IllegalArgumentException("Id do upload não pode ser vazio");
+        }
+        if (tamanho <= 0 || tamanhoParte <= 0) {
+            throw new IllegalArgumentException("Tamanhos do upload devem ser positivos");
+        }
+        this.uploadId = uploadId;
+        this.tamanho = tamanho;
+        this.tamanhoParte = tamanhoParte;
+    }
+
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    public long getTamanho() {
+        return tamanho;
+    }
+
+    public int getTamanhoParte() {
+        return tamanhoParte;
+    }
+
+    public int getTotalPartes() {
+        return (int) ((tamanho + tamanhoParte - 1) / tamanhoParte);
+    }
+
+    public long getPosicao(int indice) {
+        return (long) indice * tamanhoParte;
+    }
+
+    // Bytes da parte; só a última pode ser menor que tamanhoParte
+    public int getTamanho(int indice) {
+        return (int) Math.min(tamanhoParte, tamanho - getPosicao(indice));
+    }
+
+    @Override
+    public String toString() {
+        return "SessaoUpload{" + uploadId + ", " + tamanho + " bytes, " + getTotalPartes() + " partes}";
+    }
+}
@@ -0,0 +1,86 @@
+package com.socialmedia.midia;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Tamanho e proporção de imagem que uma plataforma espera
+ * A imagem de origem é recortada no centro até a proporção da variante e então redimensionada
+ */
+public final class VarianteImagem {
+    public static final VarianteImagem INSTAGRAM_QUADRADO = new VarianteImagem("INSTAGRAM", "quadrado", 1080, 1080);
+    public static final VarianteImagem INSTAGRAM_RETRATO = new VarianteImagem("INSTAGRAM", "retrato", 1080, 1350);
+    public static final VarianteImagem LINKEDIN_PAISAGEM = new VarianteImagem("LINKEDIN", "paisagem", 1200, 627);
+    public static final VarianteImagem TWITTER_PAISAGEM = new VarianteImagem("TWITTER", "paisagem", 1600, 900);
+    // Capa do vídeo (VideoUploadRequest.coverImageUrl), na proporção 9:16 do próprio vídeo
+    public static final VarianteImagem TIKTOK_CAPA = new VarianteImagem("TIKTOK", "capa", 1080, 1920);
+
+    // A primeira variante de cada plataforma é a usada nas publicações
+    public static final List<VarianteImagem> PADRAO = List.of(INSTAGRAM_QUADRADO, INSTAGRAM_RETRATO,
+        LINKEDIN_PAISAGEM, TWITTER_PAISAGEM, TIKTOK_CAPA);
+
+    private final String plataforma;
+    private final String nome;
+    private final int largura;
+    private final int altura;
+
+    public VarianteImagem(String plataforma, String nome, int largura, int altura) {
+        if (plataforma == null || plataforma.isEmpty() || nome == null || nome.isEmpty()) {
+            throw new IllegalArgumentException("Plataforma e nome da variante são obrigatórios");
+        }
+        // O nome entra no nome do arquivo gerado
+        for (int i = 0; i < nome.length(); i++) {
+            char c = nome.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '-') {
+                throw new IllegalArgumentException("Nome da variante aceita só letras, dígitos e '-': " + nome);
+            }
+        }
+        if (largura <= 0 || altura <= 0) {
+            throw new IllegalArgumentException("Dimensões da variante devem ser positivas");
+        }
+        this.plataforma = plataforma.toUpperCase();
+        this.nome = nome;
+        this.largura = largura;
+        this.altura = altura;
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public int getLargura() {
+        return largura;
+    }
+
+    public int getAltura() {
+        return altura;
+    }
+
+    // Identifica a especificação no cache: variantes com a mesma chave geram a mesma imagem
+    public String getChave() {
+        return plataforma.toLowerCase() + "-" + nome + "-" + largura + "x" + altura;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof VarianteImagem)) return false;
+        VarianteImagem that = (VarianteImagem) o;
+        return largura == that.largura && altura == that.altura && plataforma.equals(that.plataforma)
+            && nome.equals(that.nome);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(plataforma, nome, largura, altura);
+    }
+
+    @Override
+    public String toString() {
+        return "VarianteImagem{" + getChave() + "}";
+    }
+}
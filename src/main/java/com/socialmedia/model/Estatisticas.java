@@ -1,5 +1,7 @@
 package com.socialmedia.model;
 
+import com.socialmedia.tempo.RelogioAproximado;
+
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -22,7 +24,7 @@ public class Estatisticas {
         this.compartilhamentos = builder.compartilhamentos;
         this.comentarios = builder.comentarios;
         this.taxaEngajamento = builder.taxaEngajamento;
-        this.dataColeta = builder.dataColeta;
+        this.dataColeta = builder.dataColeta != null ? builder.dataColeta : RelogioAproximado.agora();
     }
 
     public String getPublicacaoId() {
@@ -92,7 +94,7 @@ public class Estatisticas {
         private long compartilhamentos = 0;
         private long comentarios = 0;
         private double taxaEngajamento = 0.0;
-        private LocalDateTime dataColeta = LocalDateTime.now();
+        private LocalDateTime dataColeta;
 
         public Builder publicacaoId(String publicacaoId) {
             this.publicacaoId = publicacaoId;
@@ -1,8 +1,11 @@
 package com.socialmedia.model;
 
+import com.socialmedia.id.GeradorIds;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.tempo.RelogioAproximado;
+
 import java.time.LocalDateTime;
 import java.util.Objects;
-import java.util.UUID;
 
 // Representa uma publicação realizada em uma rede social
 public class Publicacao {
@@ -13,15 +16,35 @@ public class Publicacao {
     private final StatusPublicacao status;
     private final String urlPublicacao;
     private final String mensagemErro;
+    private final CategoriaErro categoriaErro;
+    // Instantes de System.nanoTime() da chamada à plataforma; 0 quando não medida
+    private final long inicioNanos;
+    private final long fimNanos;
 
     private Publicacao(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID().toString();
+        this.id = builder.id != null ? builder.id : GeradorIds.proximoIdTexto();
         this.plataforma = builder.plataforma;
         this.conteudo = builder.conteudo;
-        this.dataPublicacao = builder.dataPublicacao;
+        this.dataPublicacao = builder.dataPublicacao != null ? builder.dataPublicacao : RelogioAproximado.agora();
         this.status = builder.status;
         this.urlPublicacao = builder.urlPublicacao;
         this.mensagemErro = builder.mensagemErro;
+        this.categoriaErro = builder.categoriaErro;
+        this.inicioNanos = builder.inicioNanos;
+        this.fimNanos = builder.fimNanos;
+    }
+
+    private Publicacao(Publicacao original, long inicioNanos, long fimNanos) {
+        this.id = original.id;
+        this.plataforma = original.plataforma;
+        this.conteudo = original.conteudo;
+        this.dataPublicacao = original.dataPublicacao;
+        this.status = original.status;
+        this.urlPublicacao = original.urlPublicacao;
+        this.mensagemErro = original.mensagemErro;
+        this.categoriaErro = original.categoriaErro;
+        this.inicioNanos = inicioNanos;
+        this.fimNanos = fimNanos;
     }
 
     public String getId() {
@@ -52,6 +75,32 @@ public class Publicacao {
         return mensagemErro;
     }
 
+    public CategoriaErro getCategoriaErro() {
+        return categoriaErro;
+    }
+
+    public long getInicioNanos() {
+        return inicioNanos;
+    }
+
+    public long getFimNanos() {
+        return fimNanos;
+    }
+
+    public boolean isTemporizada() {
+        return fimNanos != 0;
+    }
+
+    // Duração da chamada à plataforma em nanossegundos (-1 quando não medida)
+    public long getDuracaoNanos() {
+        return isTemporizada() ? fimNanos - inicioNanos : -1;
+    }
+
+    // Cópia com os instantes da chamada, para publicações criadas sem medição
+    public Publicacao comTempos(long inicioNanos, long fimNanos) {
+        return new Publicacao(this, inicioNanos, fimNanos);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -74,6 +123,7 @@ public class Publicacao {
                 ", dataPublicacao=" + dataPublicacao +
                 (urlPublicacao != null ? ", url='" + urlPublicacao + '\'' : "") +
                 (mensagemErro != null ? ", erro='" + mensagemErro + '\'' : "") +
+                (categoriaErro != null ? ", categoria=" + categoriaErro : "") +
                 '}';
     }
 
@@ -81,10 +131,13 @@ public class Publicacao {
         private String id;
         private String plataforma;
         private Conteudo conteudo;
-        private LocalDateTime dataPublicacao = LocalDateTime.now();
+        private LocalDateTime dataPublicacao;
         private StatusPublicacao status = StatusPublicacao.PENDENTE;
         private String urlPublicacao;
         private String mensagemErro;
+        private CategoriaErro categoriaErro;
+        private long inicioNanos;
+        private long fimNanos;
 
         public Builder id(String id) {
             this.id = id;
@@ -121,6 +174,18 @@ public class Publicacao {
             return this;
         }
 
+        public Builder categoriaErro(CategoriaErro categoriaErro) {
+            this.categoriaErro = categoriaErro;
+            return this;
+        }
+
+        // Instantes de System.nanoTime() do início e do fim da chamada à plataforma
+        public Builder tempos(long inicioNanos, long fimNanos) {
+            this.inicioNanos = inicioNanos;
+            this.fimNanos = fimNanos;
+            return this;
+        }
+
         public Publicacao build() {
             if (plataforma == null || plataforma.trim().isEmpty()) {
                 throw new IllegalArgumentException("Plataforma não pode ser vazia");
@@ -0,0 +1,22 @@
+package com.socialmedia.resultado;
+
+// Categorias estruturadas de falha das operações nas plataformas
+public enum CategoriaErro {
+    LIMITADO(true),        // Limite de requisições atingido (throttling)
+    INVALIDO(false),       // Conteúdo ou parâmetros rejeitados pela plataforma
+    AUTENTICACAO(false),   // Credenciais ausentes, inválidas ou expiradas
+    NAO_ENCONTRADO(false), // Publicação inexistente na plataforma
+    DUPLICADO(false),      // Conteúdo quase idêntico a uma publicação recente
+    TRANSITORIO(true);     // Falha temporária (rede, indisponibilidade)
+
+    private final boolean retentavel;
+
+    CategoriaErro(boolean retentavel) {
+        this.retentavel = retentavel;
+    }
+
+    // Indica se faz sentido tentar novamente a mesma operação
+    public boolean isRetentavel() {
+        return retentavel;
+    }
+}
@@ -0,0 +1,66 @@
+package com.socialmedia.resultado;
+
+import com.socialmedia.api.ApiException;
+import com.socialmedia.exception.PublicacaoException;
+
+import java.util.Objects;
+
+/**
+ * Erro de uma operação em plataforma representado como valor
+ * Não captura stack trace; só vira exceção quando a API pública exige (comoExcecao)
+ */
+public final class ErroPlataforma {
+    private final String plataforma;
+    private final CategoriaErro categoria;
+    private final String mensagem;
+
+    public ErroPlataforma(String plataforma, CategoriaErro categoria, String mensagem) {
+        this.plataforma = plataforma;
+        this.categoria = Objects.requireNonNull(categoria, "Categoria não pode ser nula");
+        this.mensagem = mensagem;
+    }
+
+    public static ErroPlataforma invalido(String plataforma, String mensagem) {
+        return new ErroPlataforma(plataforma, CategoriaErro.INVALIDO, mensagem);
+    }
+
+    public static ErroPlataforma autenticacao(String plataforma, String mensagem) {
+        return new ErroPlataforma(plataforma, CategoriaErro.AUTENTICACAO, mensagem);
+    }
+
+    public static ErroPlataforma de(String plataforma, ApiException e) {
+        return new ErroPlataforma(plataforma, e.getCategoria(), e.getMessage());
+    }
+
+    // Mantém a categoria da API e acrescenta contexto à mensagem
+    public static ErroPlataforma de(String plataforma, String contexto, ApiException e) {
+        return new ErroPlataforma(plataforma, e.getCategoria(), contexto + e.getMessage());
+    }
+
+    public static ErroPlataforma de(String plataforma, PublicacaoException e) {
+        CategoriaErro categoria = e.getCategoria() != null ? e.getCategoria() : CategoriaErro.TRANSITORIO;
+        return new ErroPlataforma(plataforma, categoria, e.getMessage());
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    public CategoriaErro getCategoria() {
+        return categoria;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    // Converte para a exceção da API pública, sem stack trace
+    public PublicacaoException comoExcecao() {
+        return PublicacaoException.semStackTrace(mensagem, categoria);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + plataforma + "] " + categoria + ": " + mensagem;
+    }
+}
@@ -0,0 +1,71 @@
+package com.socialmedia.resultado;
+
+import com.socialmedia.exception.PublicacaoException;
+
+import java.util.function.Function;
+
+/**
+ * Resultado de uma operação: um valor em caso de sucesso ou um ErroPlataforma
+ * Substitui o fluxo de controle baseado em exceções no caminho de publicação
+ */
+public final class Resultado<T> {
+    private final T valor;
+    private final ErroPlataforma erro;
+
+    private Resultado(T valor, ErroPlataforma erro) {
+        this.valor = valor;
+        this.erro = erro;
+    }
+
+    public static <T> Resultado<T> sucesso(T valor) {
+        return new Resultado<>(valor, null);
+    }
+
+    public static <T> Resultado<T> falha(ErroPlataforma erro) {
+        if (erro == null) {
+            throw new IllegalArgumentException("Erro não pode ser nulo");
+        }
+        return new Resultado<>(null, erro);
+    }
+
+    public boolean isSucesso() {
+        return erro == null;
+    }
+
+    public boolean isFalha() {
+        return erro != null;
+    }
+
+    public T getValor() {
+        if (erro != null) {
+            throw new IllegalStateException("Resultado de falha não possui valor: " + erro);
+        }
+        return valor;
+    }
+
+    public ErroPlataforma getErro() {
+        return erro;
+    }
+
+    public T getValorOu(T alternativo) {
+        return erro == null ? valor : alternativo;
+    }
+
+    // Retorna o valor ou lança a falha como PublicacaoException (sem stack trace)
+    public T getValorOuLancar() throws PublicacaoException {
+        if (erro != null) {
+            throw erro.comoExcecao();
+        }
+        return valor;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> Resultado<R> map(Function<? super T, ? extends R> funcao) {
+        return erro == null ? sucesso(funcao.apply(valor)) : (Resultado<R>) this;
+    }
+
+    @Override
+    public String toString() {
+        return erro == null ? "Sucesso{" + valor + "}" : "Falha{" + erro + "}";
+    }
+}
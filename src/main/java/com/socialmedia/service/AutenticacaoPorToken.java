@@ -0,0 +1,18 @@
+package com.socialmedia.service;
+
+import com.socialmedia.api.TokenAcesso;
+import com.socialmedia.exception.AutenticacaoException;
+
+/**
+ * Adapter cuja sessão pode ser compartilhada entre instâncias da mesma plataforma
+ * Uma instância autentica e emite o token; as demais o instalam e operam sem nova autenticação.
+ * O GerenciadorSessoes usa isso para dar um adapter próprio a cada service de uma mesma conta
+ */
+public interface AutenticacaoPorToken {
+
+    // Autentica esta instância e devolve o token da sessão
+    TokenAcesso emitirToken(String credenciais) throws AutenticacaoException;
+
+    // Passa a usar a sessão do token, emitido por outra instância da mesma plataforma
+    void usarToken(TokenAcesso token) throws AutenticacaoException;
+}
@@ -1,19 +1,46 @@
 package com.socialmedia.service;
 
 import com.socialmedia.config.ConfiguracaoPlataforma;
+import com.socialmedia.duplicidade.DetectorDuplicidade;
+import com.socialmedia.duplicidade.Duplicidade;
+import com.socialmedia.duplicidade.ModoDuplicidade;
 import com.socialmedia.exception.AutenticacaoException;
 import com.socialmedia.exception.PublicacaoException;
 import com.socialmedia.factory.RedeSocialFactory;
+import com.socialmedia.idempotencia.RegistroIdempotencia;
+import com.socialmedia.jfr.EventoFanOut;
+import com.socialmedia.jfr.RedeSocialServiceRastreado;
+import com.socialmedia.metricas.RedeSocialServiceMonitorado;
+import com.socialmedia.metricas.RegistroMetricas;
 import com.socialmedia.model.Conteudo;
 import com.socialmedia.model.Estatisticas;
 import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.resultado.ErroPlataforma;
+import com.socialmedia.resultado.Resultado;
+import com.socialmedia.sessao.GerenciadorSessoes;
 import com.socialmedia.strategy.RespostaStrategy;
 import com.socialmedia.strategy.RespostaUnificada;
+import com.socialmedia.validacao.ResultadoValidacao;
+import com.socialmedia.validacao.ValidadorConteudo;
+import com.socialmedia.validacao.ViolacaoValidacao;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -21,35 +48,174 @@ import java.util.stream.Collectors;
  * Coordena as operações entre diferentes adapters
  */
 public class GerenciadorMidiaSocial {
-    private final Map<String, RedeSocialService> plataformasAtivas;
+    // Autenticações simultâneas em adicionarPlataformas/iniciarPlataformas
+    private static final int MAX_AUTENTICACOES_SIMULTANEAS = 16;
+    // Regras padrão de validar/validarLote quando nenhum validador foi definido; criado uma vez e nunca exposto
+    private static final ValidadorConteudo VALIDADOR_PADRAO = ValidadorConteudo.padrao();
+
+    // Instantâneo imutável trocado por inteiro a cada alteração: leitores nunca esperam
+    private volatile Map<String, RedeSocialService> plataformasAtivas = Collections.emptyMap();
+    // Credenciais de cada plataforma ativa; protegidas por escritaPlataformas
+    private final Map<String, String> credenciaisPorPlataforma = new HashMap<>();
+    private final Object escritaPlataformas = new Object();
+    private final Object recargaConfiguracoes = new Object();
+    private final long criadoEmNanos = System.nanoTime();
+    // Nanos da criação do gerenciador até a primeira publicação com sucesso, por plataforma
+    private final Map<String, Long> primeirasPublicacoes = new ConcurrentHashMap<>();
     private RespostaStrategy respostaStrategy;
+    private ValidadorConteudo validadorConteudo;
+    private DetectorDuplicidade detectorDuplicidade;
+    private volatile RegistroIdempotencia registroIdempotencia;
+    private RegistroMetricas registroMetricas;
+    private GerenciadorSessoes gerenciadorSessoes;
+    private final List<OuvintePublicacao> ouvintes = new CopyOnWriteArrayList<>();
 
     public GerenciadorMidiaSocial(RespostaStrategy respostaStrategy) {
-        this.plataformasAtivas = new HashMap<>();
         this.respostaStrategy = respostaStrategy;
     }
 
     /**
      * Adiciona e autentica uma plataforma
+     * O service emite eventos JFR de cada operação (sem custo relevante fora de uma gravação).
+     * Com um GerenciadorSessoes, reaproveita a sessão da conta se ela já estiver autenticada
      */
     public void adicionarPlataforma(ConfiguracaoPlataforma config) throws AutenticacaoException {
         if (!config.isAtiva()) {
             return;
         }
+        RedeSocialService service = criarServiceAutenticado(config);
+        alterarPlataformas(ativas -> colocar(ativas, config, service));
+    }
 
-        RedeSocialService service = RedeSocialFactory.criarAutenticado(
-            config.getPlataforma(),
-            config.getCredenciais()
-        );
-        
-        plataformasAtivas.put(config.getPlataforma().toUpperCase(), service);
+    /**
+     * Adiciona várias plataformas autenticando-as em paralelo
+     * Retorna as falhas por plataforma (lista vazia se todas foram adicionadas);
+     * as plataformas que falharam não ficam ativas
+     */
+    public List<ErroPlataforma> adicionarPlataformas(List<ConfiguracaoPlataforma> configs) {
+        List<ConfiguracaoPlataforma> ativas = filtrarConfiguracoesAtivas(configs);
+        List<CompletableFuture<RedeSocialService>> autenticacoes = autenticarEmParalelo(ativas);
+
+        Map<ConfiguracaoPlataforma, RedeSocialService> autenticadas = new LinkedHashMap<>();
+        List<ErroPlataforma> falhas = new ArrayList<>();
+        aguardarAutenticacoes(ativas, autenticacoes, autenticadas, falhas);
+        if (!autenticadas.isEmpty()) {
+            alterarPlataformas(plataformas -> autenticadas.forEach((config, service) -> colocar(plataformas, config, service)));
+        }
+        return falhas;
+    }
+
+    /**
+     * Início rápido: as plataformas ficam ativas na hora e a autenticação segue em segundo plano
+     * As chamadas feitas antes de a autenticação de uma plataforma terminar esperam por ela;
+     * uma plataforma cuja autenticação falha é removida e essas chamadas retornam AUTENTICACAO.
+     * O future conclui com as falhas por plataforma quando todas as autenticações terminam
+     */
+    public CompletableFuture<List<ErroPlataforma>> iniciarPlataformas(List<ConfiguracaoPlataforma> configs) {
+        List<ConfiguracaoPlataforma> ativas = filtrarConfiguracoesAtivas(configs);
+        List<CompletableFuture<RedeSocialService>> autenticacoes = autenticarEmParalelo(ativas);
+
+        List<RedeSocialServicePendente> pendentes = new ArrayList<>(ativas.size());
+        for (int i = 0; i < ativas.size(); i++) {
+            pendentes.add(new RedeSocialServicePendente(ativas.get(i).getPlataforma(), autenticacoes.get(i)));
+        }
+        alterarPlataformas(plataformas -> {
+            for (int i = 0; i < ativas.size(); i++) {
+                colocar(plataformas, ativas.get(i), pendentes.get(i));
+            }
+        });
+
+        List<CompletableFuture<RedeSocialService>> concluidas = new ArrayList<>(ativas.size());
+        for (int i = 0; i < ativas.size(); i++) {
+            String chave = ativas.get(i).getPlataforma().toUpperCase();
+            RedeSocialServicePendente pendente = pendentes.get(i);
+            // Troca o service pendente pelo autenticado, ou o remove se a autenticação falhou
+            concluidas.add(autenticacoes.get(i).whenComplete((service, erro) -> substituir(chave, pendente, service)));
+        }
+
+        return CompletableFuture.allOf(concluidas.toArray(new CompletableFuture<?>[0])).handle((nada, erro) -> {
+            List<ErroPlataforma> falhas = new ArrayList<>();
+            for (int i = 0; i < ativas.size(); i++) {
+                CompletableFuture<RedeSocialService> autenticacao = autenticacoes.get(i);
+                if (autenticacao.isCompletedExceptionally()) {
+                    try {
+                        autenticacao.join();
+                    } catch (CompletionException e) {
+                        falhas.add(erroAutenticacao(ativas.get(i), e.getCause()));
+                    }
+                }
+            }
+            return falhas;
+        });
+    }
+
+    /**
+     * Aplica um conjunto completo de configurações (ex.: recarga do arquivo pelo MonitorConfiguracao)
+     * Plataformas com as mesmas credenciais mantêm o service e a sessão já autenticados; as novas e as
+     * com credenciais alteradas são autenticadas em paralelo antes da troca; as ausentes ou inativas
+     * saem. O conjunto ativo é trocado de uma vez, sem bloquear as operações em andamento, que
+     * terminam no service com que começaram. Se a autenticação de credenciais alteradas falhar, a
+     * plataforma segue com as anteriores e a falha é retornada
+     */
+    public List<ErroPlataforma> aplicarConfiguracoes(List<ConfiguracaoPlataforma> configs) {
+        List<ConfiguracaoPlataforma> ativas = filtrarConfiguracoesAtivas(configs);
+        synchronized (recargaConfiguracoes) {
+            Map<String, ConfiguracaoPlataforma> desejadas = new LinkedHashMap<>();
+            for (ConfiguracaoPlataforma config : ativas) {
+                desejadas.put(config.getPlataforma().toUpperCase(), config);
+            }
+
+            List<ConfiguracaoPlataforma> alteradas = new ArrayList<>();
+            synchronized (escritaPlataformas) {
+                for (Map.Entry<String, ConfiguracaoPlataforma> entrada : desejadas.entrySet()) {
+                    if (!plataformasAtivas.containsKey(entrada.getKey())
+                            || !entrada.getValue().getCredenciais().equals(credenciaisPorPlataforma.get(entrada.getKey()))) {
+                        alteradas.add(entrada.getValue());
+                    }
+                }
+            }
+
+            // Autentica fora da trava de escrita: as demais alterações e as leituras seguem enquanto isso
+            Map<ConfiguracaoPlataforma, RedeSocialService> autenticadas = new LinkedHashMap<>();
+            List<ErroPlataforma> falhas = new ArrayList<>();
+            aguardarAutenticacoes(alteradas, autenticarEmParalelo(alteradas), autenticadas, falhas);
+
+            synchronized (escritaPlataformas) {
+                Map<String, RedeSocialService> atuais = plataformasAtivas;
+                Map<String, RedeSocialService> novas = new LinkedHashMap<>();
+                for (Map.Entry<String, ConfiguracaoPlataforma> entrada : desejadas.entrySet()) {
+                    RedeSocialService autenticada = autenticadas.get(entrada.getValue());
+                    if (autenticada != null) {
+                        novas.put(entrada.getKey(), autenticada);
+                        credenciaisPorPlataforma.put(entrada.getKey(), entrada.getValue().getCredenciais());
+                    } else if (atuais.containsKey(entrada.getKey())) {
+                        novas.put(entrada.getKey(), atuais.get(entrada.getKey()));
+                    }
+                }
+                credenciaisPorPlataforma.keySet().retainAll(novas.keySet());
+                if (!novas.equals(atuais)) {
+                    plataformasAtivas = Collections.unmodifiableMap(novas);
+                }
+            }
+            return falhas;
+        }
     }
 
     /**
      * Remove uma plataforma
      */
     public boolean removerPlataforma(String plataforma) {
-        return plataformasAtivas.remove(plataforma.toUpperCase()) != null;
+        String chave = plataforma.toUpperCase();
+        synchronized (escritaPlataformas) {
+            if (!plataformasAtivas.containsKey(chave)) {
+                return false;
+            }
+            alterarPlataformas(ativas -> {
+                ativas.remove(chave);
+                credenciaisPorPlataforma.remove(chave);
+            });
+            return true;
+        }
     }
 
     /**
@@ -59,30 +225,59 @@ public class GerenciadorMidiaSocial {
             Conteudo conteudo, 
             List<String> plataformas) {
         
-        List<Publicacao> resultados = plataformas.stream()
-            .map(String::toUpperCase)
-            .filter(plataformasAtivas::containsKey)
-            .map(plataforma -> publicarEmPlataforma(plataforma, conteudo))
-            .collect(Collectors.toList());
+        EventoFanOut evento = EventoFanOut.iniciar();
+        Map<String, RedeSocialService> ativas = plataformasAtivas;
+        List<String> destinos = filtrarAtivas(ativas, plataformas);
+        List<Publicacao> rejeitadas = validarFanOut(ativas, conteudo, destinos);
+        if (rejeitadas != null) {
+            return evento.concluir("publicarEmMultiplasPlataformas", conteudo, responder(rejeitadas));
+        }
+
+        List<Publicacao> resultados = new ArrayList<>(destinos.size());
+        for (String plataforma : destinos) {
+            resultados.add(publicarNoServico(ativas.get(plataforma), conteudo));
+        }
 
-        return respostaStrategy.processar(resultados);
+        return evento.concluir("publicarEmMultiplasPlataformas", conteudo, responder(resultados));
+    }
+
+    /**
+     * Publica com chave de idempotência: repetir a chamada com a mesma chave
+     * (ex.: após timeout no cliente) devolve a resposta original sem publicar de novo
+     */
+    public RespostaUnificada publicarEmMultiplasPlataformas(
+            String chaveIdempotencia,
+            Conteudo conteudo,
+            List<String> plataformas) {
+        return obterRegistroIdempotencia().executar("publicar:" + chaveIdempotencia,
+            () -> publicarEmMultiplasPlataformas(conteudo, plataformas));
     }
 
     /**
      * Publica em todas as plataformas ativas
      */
     public RespostaUnificada publicarEmTodasPlataformas(Conteudo conteudo) {
-        List<Publicacao> resultados = plataformasAtivas.values().stream()
-            .map(service -> {
-                try {
-                    return service.publicar(conteudo);
-                } catch (PublicacaoException e) {
-                    return criarPublicacaoErro(service.getNomePlataforma(), conteudo, e);
-                }
-            })
-            .collect(Collectors.toList());
+        EventoFanOut evento = EventoFanOut.iniciar();
+        Map<String, RedeSocialService> ativas = plataformasAtivas;
+        List<Publicacao> rejeitadas = validarFanOut(ativas, conteudo, ativas.keySet());
+        if (rejeitadas != null) {
+            return evento.concluir("publicarEmTodasPlataformas", conteudo, responder(rejeitadas));
+        }
+
+        List<Publicacao> resultados = new ArrayList<>(ativas.size());
+        for (RedeSocialService service : ativas.values()) {
+            resultados.add(publicarNoServico(service, conteudo));
+        }
 
-        return respostaStrategy.processar(resultados);
+        return evento.concluir("publicarEmTodasPlataformas", conteudo, responder(resultados));
+    }
+
+    /**
+     * Publica em todas as plataformas ativas com chave de idempotência
+     */
+    public RespostaUnificada publicarEmTodasPlataformas(String chaveIdempotencia, Conteudo conteudo) {
+        return obterRegistroIdempotencia().executar("publicar-todas:" + chaveIdempotencia,
+            () -> publicarEmTodasPlataformas(conteudo));
     }
 
     /**
@@ -92,13 +287,31 @@ public class GerenciadorMidiaSocial {
             Conteudo conteudo, 
             List<String> plataformas) {
         
-        List<Publicacao> resultados = plataformas.stream()
-            .map(String::toUpperCase)
-            .filter(plataformasAtivas::containsKey)
-            .map(plataforma -> agendarEmPlataforma(plataforma, conteudo))
-            .collect(Collectors.toList());
+        EventoFanOut evento = EventoFanOut.iniciar();
+        Map<String, RedeSocialService> ativas = plataformasAtivas;
+        List<String> destinos = filtrarAtivas(ativas, plataformas);
+        List<Publicacao> rejeitadas = validarFanOut(ativas, conteudo, destinos);
+        if (rejeitadas != null) {
+            return evento.concluir("agendarEmMultiplasPlataformas", conteudo, responder(rejeitadas));
+        }
 
-        return respostaStrategy.processar(resultados);
+        List<Publicacao> resultados = new ArrayList<>(destinos.size());
+        for (String plataforma : destinos) {
+            resultados.add(agendarNoServico(ativas.get(plataforma), conteudo));
+        }
+
+        return evento.concluir("agendarEmMultiplasPlataformas", conteudo, responder(resultados));
+    }
+
+    /**
+     * Agenda com chave de idempotência
+     */
+    public RespostaUnificada agendarEmMultiplasPlataformas(
+            String chaveIdempotencia,
+            Conteudo conteudo,
+            List<String> plataformas) {
+        return obterRegistroIdempotencia().executar("agendar:" + chaveIdempotencia,
+            () -> agendarEmMultiplasPlataformas(conteudo, plataformas));
     }
 
     /**
@@ -107,7 +320,13 @@ public class GerenciadorMidiaSocial {
     public boolean removerPublicacao(String plataforma, String publicacaoId) 
             throws PublicacaoException {
         RedeSocialService service = obterService(plataforma);
-        return service.remover(publicacaoId);
+        boolean removida = service.remover(publicacaoId);
+        if (removida) {
+            for (OuvintePublicacao ouvinte : ouvintes) {
+                ouvinte.aoRemover(service.getNomePlataforma(), publicacaoId);
+            }
+        }
+        return removida;
     }
 
     /**
@@ -125,16 +344,19 @@ public class GerenciadorMidiaSocial {
     public List<Estatisticas> obterEstatisticasConsolidadas(
             Map<String, String> publicacoesPorPlataforma) {
         
-        return publicacoesPorPlataforma.entrySet().stream()
-            .map(entry -> {
-                try {
-                    return obterEstatisticas(entry.getKey(), entry.getValue());
-                } catch (PublicacaoException e) {
-                    return null;
-                }
-            })
-            .filter(stats -> stats != null)
-            .collect(Collectors.toList());
+        Map<String, RedeSocialService> ativas = plataformasAtivas;
+        List<Estatisticas> estatisticas = new ArrayList<>(publicacoesPorPlataforma.size());
+        for (Map.Entry<String, String> entry : publicacoesPorPlataforma.entrySet()) {
+            RedeSocialService service = ativas.get(entry.getKey().toUpperCase());
+            if (service == null) {
+                continue;
+            }
+            Resultado<Estatisticas> resultado = service.tentarObterEstatisticas(entry.getValue());
+            if (resultado.isSucesso()) {
+                estatisticas.add(resultado.getValor());
+            }
+        }
+        return estatisticas;
     }
 
     /**
@@ -147,6 +369,97 @@ public class GerenciadorMidiaSocial {
         this.respostaStrategy = strategy;
     }
 
+    /**
+     * Define o validador usado antes de cada fan-out (null desativa a validação prévia)
+     * Com o validador ativo, um conteúdo inválido para qualquer plataforma de destino
+     * rejeita o fan-out inteiro sem chamar nenhuma API
+     */
+    public void setValidadorConteudo(ValidadorConteudo validador) {
+        this.validadorConteudo = validador;
+    }
+
+    /**
+     * Define o detector de conteúdo quase duplicado (null desativa a verificação)
+     * O detector passa a ouvir as publicações do gerenciador; no modo BLOQUEAR,
+     * as plataformas com duplicidade retornam FALHOU (DUPLICADO) sem chamar a API
+     */
+    public void setDetectorDuplicidade(DetectorDuplicidade detector) {
+        if (detectorDuplicidade != null) {
+            ouvintes.remove(detectorDuplicidade);
+        }
+        detectorDuplicidade = detector;
+        if (detector != null) {
+            ouvintes.add(detector);
+        }
+    }
+
+    /**
+     * Define o registro de idempotência usado pelas sobrecargas com chave
+     * (sem configuração, um registro com os valores padrão é criado no primeiro uso)
+     */
+    public void setRegistroIdempotencia(RegistroIdempotencia registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro de idempotência não pode ser nulo");
+        }
+        this.registroIdempotencia = registro;
+    }
+
+    /**
+     * Define o registro de métricas (null desativa)
+     * Vale para as plataformas adicionadas depois: cada service é envolvido por um
+     * RedeSocialServiceMonitorado, que mede todas as operações inclusive a autenticação
+     */
+    public void setRegistroMetricas(RegistroMetricas registro) {
+        this.registroMetricas = registro;
+    }
+
+    public RegistroMetricas getRegistroMetricas() {
+        return registroMetricas;
+    }
+
+    /**
+     * Sessões compartilhadas e renovadas em segundo plano para as plataformas adicionadas
+     * a partir daqui (null volta a autenticar cada adapter)
+     */
+    public void setGerenciadorSessoes(GerenciadorSessoes gerenciador) {
+        this.gerenciadorSessoes = gerenciador;
+    }
+
+    public GerenciadorSessoes getGerenciadorSessoes() {
+        return gerenciadorSessoes;
+    }
+
+    /**
+     * Valida um conteúdo contra as regras das plataformas informadas
+     */
+    public ResultadoValidacao validar(Conteudo conteudo, List<String> plataformas) {
+        ValidadorConteudo validador = validadorConteudo != null ? validadorConteudo : VALIDADOR_PADRAO;
+        return validador.validar(conteudo, plataformas);
+    }
+
+    /**
+     * Valida um lote de conteúdos contra as regras das plataformas informadas
+     */
+    public ResultadoValidacao validarLote(List<Conteudo> conteudos, List<String> plataformas) {
+        ValidadorConteudo validador = validadorConteudo != null ? validadorConteudo : VALIDADOR_PADRAO;
+        return validador.validarLote(conteudos, plataformas);
+    }
+
+    /**
+     * Registra um ouvinte notificado a cada publicação processada e remoção
+     * (ex.: HistoricoPublicacoes); os ouvintes não devem lançar exceções
+     */
+    public void adicionarOuvinte(OuvintePublicacao ouvinte) {
+        if (ouvinte == null) {
+            throw new IllegalArgumentException("Ouvinte não pode ser nulo");
+        }
+        ouvintes.add(ouvinte);
+    }
+
+    public boolean removerOuvinte(OuvintePublicacao ouvinte) {
+        return ouvintes.remove(ouvinte);
+    }
+
     /**
      * Retorna as plataformas ativas
      */
@@ -154,6 +467,26 @@ public class GerenciadorMidiaSocial {
         return new ArrayList<>(plataformasAtivas.keySet());
     }
 
+    /**
+     * Tempo (ns) da criação do gerenciador até a primeira publicação com sucesso em qualquer
+     * plataforma (time-to-first-publish); -1 se ainda não houve nenhuma
+     */
+    public long getTempoAtePrimeiraPublicacao() {
+        long menor = -1;
+        for (long nanos : primeirasPublicacoes.values()) {
+            if (menor < 0 || nanos < menor) {
+                menor = nanos;
+            }
+        }
+        return menor;
+    }
+
+    // Mesmo tempo para uma plataforma (nome como nas publicações, ex.: "Twitter"); -1 se ainda não publicou
+    public long getTempoAtePrimeiraPublicacao(String plataforma) {
+        Long nanos = primeirasPublicacoes.get(plataforma);
+        return nanos != null ? nanos : -1;
+    }
+
     /**
      * Verifica se uma plataforma está ativa
      */
@@ -163,22 +496,254 @@ public class GerenciadorMidiaSocial {
 
     // Métodos privados auxiliares
 
-    private Publicacao publicarEmPlataforma(String plataforma, Conteudo conteudo) {
-        try {
-            RedeSocialService service = plataformasAtivas.get(plataforma);
-            return service.publicar(conteudo);
-        } catch (PublicacaoException e) {
-            return criarPublicacaoErro(plataforma, conteudo, e);
+    // Service da plataforma com os decorators (JFR e métricas), já autenticado
+    private RedeSocialService criarServiceAutenticado(ConfiguracaoPlataforma config) throws AutenticacaoException {
+        GerenciadorSessoes sessoes = gerenciadorSessoes;
+        RedeSocialService base = sessoes != null
+            ? sessoes.obter(config.getPlataforma(), config.getCredenciais())
+            : RedeSocialFactory.criar(config.getPlataforma());
+        RedeSocialService service = new RedeSocialServiceRastreado(base);
+        if (registroMetricas != null) {
+            service = new RedeSocialServiceMonitorado(service, registroMetricas);
+        }
+        if (sessoes == null) {
+            service.autenticar(config.getCredenciais());
+        }
+        return service;
+    }
+
+    private static List<ConfiguracaoPlataforma> filtrarConfiguracoesAtivas(List<ConfiguracaoPlataforma> configs) {
+        if (configs == null) {
+            throw new IllegalArgumentException("Configurações não podem ser nulas");
+        }
+        List<ConfiguracaoPlataforma> ativas = new ArrayList<>(configs.size());
+        for (ConfiguracaoPlataforma config : configs) {
+            if (config.isAtiva()) {
+                ativas.add(config);
+            }
+        }
+        return ativas;
+    }
+
+    // Troca o conjunto de plataformas ativas por uma cópia alterada; os leitores não esperam pela troca
+    private void alterarPlataformas(Consumer<Map<String, RedeSocialService>> alteracao) {
+        synchronized (escritaPlataformas) {
+            Map<String, RedeSocialService> copia = new LinkedHashMap<>(plataformasAtivas);
+            alteracao.accept(copia);
+            plataformasAtivas = Collections.unmodifiableMap(copia);
+        }
+    }
+
+    // Chamado dentro de alterarPlataformas
+    private void colocar(Map<String, RedeSocialService> plataformas, ConfiguracaoPlataforma config,
+                         RedeSocialService service) {
+        String chave = config.getPlataforma().toUpperCase();
+        plataformas.put(chave, service);
+        credenciaisPorPlataforma.put(chave, config.getCredenciais());
+    }
+
+    // Troca o service da plataforma se ele ainda for o esperado; novo null remove a plataforma
+    private void substituir(String chave, RedeSocialService esperado, RedeSocialService novo) {
+        synchronized (escritaPlataformas) {
+            if (plataformasAtivas.get(chave) != esperado) {
+                return;
+            }
+            alterarPlataformas(ativas -> {
+                if (novo != null) {
+                    ativas.put(chave, novo);
+                } else {
+                    ativas.remove(chave);
+                    credenciaisPorPlataforma.remove(chave);
+                }
+            });
+        }
+    }
+
+    private static void aguardarAutenticacoes(List<ConfiguracaoPlataforma> configs,
+                                              List<CompletableFuture<RedeSocialService>> autenticacoes,
+                                              Map<ConfiguracaoPlataforma, RedeSocialService> autenticadas,
+                                              List<ErroPlataforma> falhas) {
+        for (int i = 0; i < configs.size(); i++) {
+            try {
+                autenticadas.put(configs.get(i), autenticacoes.get(i).join());
+            } catch (CompletionException e) {
+                falhas.add(erroAutenticacao(configs.get(i), e.getCause()));
+            }
         }
     }
 
-    private Publicacao agendarEmPlataforma(String plataforma, Conteudo conteudo) {
+    // Uma autenticação por configuração, em threads próprias que terminam junto com as tarefas
+    private List<CompletableFuture<RedeSocialService>> autenticarEmParalelo(List<ConfiguracaoPlataforma> configs) {
+        List<CompletableFuture<RedeSocialService>> autenticacoes = new ArrayList<>(configs.size());
+        if (configs.isEmpty()) {
+            return autenticacoes;
+        }
+        AtomicInteger contador = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(configs.size(), MAX_AUTENTICACOES_SIMULTANEAS),
+            tarefa -> {
+                Thread thread = new Thread(tarefa, "autenticacao-plataformas-" + contador.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
         try {
-            RedeSocialService service = plataformasAtivas.get(plataforma);
-            return service.agendar(conteudo);
-        } catch (PublicacaoException e) {
-            return criarPublicacaoErro(plataforma, conteudo, e);
+            for (ConfiguracaoPlataforma config : configs) {
+                autenticacoes.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return criarServiceAutenticado(config);
+                    } catch (AutenticacaoException e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return autenticacoes;
+    }
+
+    private static ErroPlataforma erroAutenticacao(ConfiguracaoPlataforma config, Throwable erro) {
+        if (erro instanceof AutenticacaoException) {
+            return ErroPlataforma.autenticacao(config.getPlataforma(), erro.getMessage());
+        }
+        return ErroPlataforma.invalido(config.getPlataforma(), erro.getMessage());
+    }
+
+    private static List<String> filtrarAtivas(Map<String, RedeSocialService> ativas, List<String> plataformas) {
+        List<String> destinos = new ArrayList<>(plataformas.size());
+        for (String plataforma : plataformas) {
+            String chave = plataforma.toUpperCase();
+            if (ativas.containsKey(chave)) {
+                destinos.add(chave);
+            }
+        }
+        return destinos;
+    }
+
+    // Retorna null se o fan-out pode seguir ou as publicações rejeitadas:
+    // FALHOU nas plataformas com violações e CANCELADO nas demais, com o mesmo nome de plataforma
+    // das publicações normais (getNomePlataforma() do service)
+    private List<Publicacao> validarFanOut(Map<String, RedeSocialService> ativas, Conteudo conteudo,
+                                           Collection<String> destinos) {
+        if (validadorConteudo == null || destinos.isEmpty()) {
+            return null;
+        }
+
+        ResultadoValidacao resultado = validadorConteudo.validar(conteudo, destinos);
+        if (resultado.isValido()) {
+            return null;
+        }
+
+        List<Publicacao> rejeitadas = new ArrayList<>(destinos.size());
+        for (String chave : destinos) {
+            List<ViolacaoValidacao> violacoes = resultado.getViolacoes(chave);
+            RedeSocialService service = ativas.get(chave);
+            String plataforma = service != null ? service.getNomePlataforma() : chave;
+            if (violacoes.isEmpty()) {
+                rejeitadas.add(new Publicacao.Builder()
+                    .plataforma(plataforma)
+                    .conteudo(conteudo)
+                    .status(StatusPublicacao.CANCELADO)
+                    .mensagemErro("Fan-out cancelado: conteúdo inválido para outras plataformas")
+                    .build());
+            } else {
+                rejeitadas.add(new Publicacao.Builder()
+                    .plataforma(plataforma)
+                    .conteudo(conteudo)
+                    .status(StatusPublicacao.FALHOU)
+                    .categoriaErro(CategoriaErro.INVALIDO)
+                    .mensagemErro(violacoes.stream()
+                        .map(ViolacaoValidacao::getMensagem)
+                        .collect(Collectors.joining("; ")))
+                    .build());
+            }
+        }
+        return rejeitadas;
+    }
+
+    private RegistroIdempotencia obterRegistroIdempotencia() {
+        RegistroIdempotencia registro = registroIdempotencia;
+        if (registro == null) {
+            synchronized (this) {
+                registro = registroIdempotencia;
+                if (registro == null) {
+                    registro = new RegistroIdempotencia.Builder().build();
+                    registroIdempotencia = registro;
+                }
+            }
+        }
+        return registro;
+    }
+
+    private RespostaUnificada responder(List<Publicacao> publicacoes) {
+        for (OuvintePublicacao ouvinte : ouvintes) {
+            for (Publicacao publicacao : publicacoes) {
+                ouvinte.aoProcessar(publicacao);
+            }
+        }
+        return respostaStrategy.processar(publicacoes);
+    }
+
+    private Publicacao agendarNoServico(RedeSocialService service, Conteudo conteudo) {
+        Publicacao bloqueada = verificarDuplicidade(service, conteudo);
+        if (bloqueada != null) {
+            return bloqueada;
+        }
+        long inicio = System.nanoTime();
+        return paraPublicacao(service.tentarAgendar(conteudo), conteudo, inicio);
+    }
+
+    private Publicacao publicarNoServico(RedeSocialService service, Conteudo conteudo) {
+        Publicacao bloqueada = verificarDuplicidade(service, conteudo);
+        if (bloqueada != null) {
+            return bloqueada;
+        }
+        long inicio = System.nanoTime();
+        Publicacao publicacao = paraPublicacao(service.tentarPublicar(conteudo), conteudo, inicio);
+        if (publicacao.getStatus() == StatusPublicacao.PUBLICADO
+                && !primeirasPublicacoes.containsKey(publicacao.getPlataforma())) {
+            registrarPrimeiraPublicacao(publicacao);
+        }
+        return publicacao;
+    }
+
+    private void registrarPrimeiraPublicacao(Publicacao publicacao) {
+        long nanos = System.nanoTime() - criadoEmNanos;
+        if (primeirasPublicacoes.putIfAbsent(publicacao.getPlataforma(), nanos) == null) {
+            RegistroMetricas registro = registroMetricas;
+            if (registro != null) {
+                registro.registrarPrimeiraPublicacao(publicacao.getPlataforma(), nanos);
+            }
+        }
+    }
+
+    // Retorna a publicação bloqueada por duplicidade ou null se pode seguir
+    private Publicacao verificarDuplicidade(RedeSocialService service, Conteudo conteudo) {
+        DetectorDuplicidade detector = detectorDuplicidade;
+        if (detector == null) {
+            return null;
+        }
+        Duplicidade duplicidade = detector.verificar(conteudo, service.getNomePlataforma());
+        if (duplicidade == null || detector.getModo() != ModoDuplicidade.BLOQUEAR) {
+            return null;
+        }
+        return new Publicacao.Builder()
+            .plataforma(service.getNomePlataforma())
+            .conteudo(conteudo)
+            .status(StatusPublicacao.FALHOU)
+            .categoriaErro(CategoriaErro.DUPLICADO)
+            .mensagemErro("Conteúdo quase duplicado da publicação " + duplicidade.getPublicacaoOriginalId()
+                + " (similaridade " + Math.round(duplicidade.getSimilaridade() * 100) + "%)")
+            .build();
+    }
+
+    // Os adapters medem a própria chamada; falhas e adapters sem medição recebem os instantes medidos aqui
+    private Publicacao paraPublicacao(Resultado<Publicacao> resultado, Conteudo conteudo, long inicio) {
+        long fim = System.nanoTime();
+        if (!resultado.isSucesso()) {
+            return criarPublicacaoErro(conteudo, resultado.getErro(), inicio, fim);
         }
+        Publicacao publicacao = resultado.getValor();
+        return publicacao.isTemporizada() ? publicacao : publicacao.comTempos(inicio, fim);
     }
 
     private RedeSocialService obterService(String plataforma) throws PublicacaoException {
@@ -189,12 +754,14 @@ public class GerenciadorMidiaSocial {
         return service;
     }
 
-    private Publicacao criarPublicacaoErro(String plataforma, Conteudo conteudo, Exception e) {
+    private Publicacao criarPublicacaoErro(Conteudo conteudo, ErroPlataforma erro, long inicio, long fim) {
         return new Publicacao.Builder()
-            .plataforma(plataforma)
+            .plataforma(erro.getPlataforma())
             .conteudo(conteudo)
-            .status(com.socialmedia.model.StatusPublicacao.FALHOU)
-            .mensagemErro(e.getMessage())
+            .status(StatusPublicacao.FALHOU)
+            .mensagemErro(erro.getMensagem())
+            .categoriaErro(erro.getCategoria())
+            .tempos(inicio, fim)
             .build();
     }
 }
@@ -0,0 +1,24 @@
+package com.socialmedia.service;
+
+import com.socialmedia.model.Publicacao;
+
+/**
+ * Observador das publicações processadas pelo GerenciadorMidiaSocial
+ * Recebe todas as publicações de um fan-out (inclusive falhas) antes da strategy de resposta
+ */
+public interface OuvintePublicacao {
+
+    /**
+     * Chamado para cada publicação resultante de publicar/agendar
+     * @param publicacao Publicação processada
+     */
+    void aoProcessar(Publicacao publicacao);
+
+    /**
+     * Chamado quando uma publicação é removida com sucesso da plataforma
+     * @param plataforma Plataforma da publicação
+     * @param publicacaoId ID da publicação removida
+     */
+    default void aoRemover(String plataforma, String publicacaoId) {
+    }
+}
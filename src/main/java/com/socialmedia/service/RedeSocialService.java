@@ -5,6 +5,10 @@ import com.socialmedia.exception.PublicacaoException;
 import com.socialmedia.model.Conteudo;
 import com.socialmedia.model.Estatisticas;
 import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.resultado.ErroPlataforma;
+import com.socialmedia.resultado.Resultado;
 
 /**
  * Interface unificada para todas as redes sociais
@@ -51,6 +55,66 @@ public interface RedeSocialService {
      */
     Estatisticas obterEstatisticas(String publicacaoId) throws PublicacaoException;
     
+    /**
+     * Publica conteúdo retornando o erro como valor, sem exceções no fluxo de controle
+     * A implementação padrão adapta publicar(); adapters podem sobrescrever para evitar exceções
+     * @param conteudo Conteúdo a ser publicado
+     * @return Publicação realizada ou erro categorizado
+     */
+    default Resultado<Publicacao> tentarPublicar(Conteudo conteudo) {
+        try {
+            Publicacao publicacao = publicar(conteudo);
+            if (publicacao.getStatus() == StatusPublicacao.FALHOU) {
+                CategoriaErro categoria = publicacao.getCategoriaErro() != null
+                    ? publicacao.getCategoriaErro()
+                    : CategoriaErro.TRANSITORIO;
+                return Resultado.falha(new ErroPlataforma(getNomePlataforma(), categoria, publicacao.getMensagemErro()));
+            }
+            return Resultado.sucesso(publicacao);
+        } catch (PublicacaoException e) {
+            return Resultado.falha(ErroPlataforma.de(getNomePlataforma(), e));
+        }
+    }
+
+    /**
+     * Agenda uma publicação retornando o erro como valor
+     * @param conteudo Conteúdo a ser agendado
+     * @return Publicação agendada ou erro categorizado
+     */
+    default Resultado<Publicacao> tentarAgendar(Conteudo conteudo) {
+        try {
+            return Resultado.sucesso(agendar(conteudo));
+        } catch (PublicacaoException e) {
+            return Resultado.falha(ErroPlataforma.de(getNomePlataforma(), e));
+        }
+    }
+
+    /**
+     * Remove uma publicação retornando o erro como valor
+     * @param publicacaoId ID da publicação
+     * @return true se removido ou erro categorizado
+     */
+    default Resultado<Boolean> tentarRemover(String publicacaoId) {
+        try {
+            return Resultado.sucesso(remover(publicacaoId));
+        } catch (PublicacaoException e) {
+            return Resultado.falha(ErroPlataforma.de(getNomePlataforma(), e));
+        }
+    }
+
+    /**
+     * Obtém estatísticas retornando o erro como valor
+     * @param publicacaoId ID da publicação
+     * @return Estatísticas da publicação ou erro categorizado
+     */
+    default Resultado<Estatisticas> tentarObterEstatisticas(String publicacaoId) {
+        try {
+            return Resultado.sucesso(obterEstatisticas(publicacaoId));
+        } catch (PublicacaoException e) {
+            return Resultado.falha(ErroPlataforma.de(getNomePlataforma(), e));
+        }
+    }
+
     /**
      * Retorna o nome da plataforma
      * @return Nome da plataforma
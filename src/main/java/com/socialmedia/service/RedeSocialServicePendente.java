@@ -0,0 +1,124 @@
+package com.socialmedia.service;
+
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Estatisticas;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.resultado.ErroPlataforma;
+import com.socialmedia.resultado.Resultado;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Lugar de uma plataforma cuja autenticação ainda está em segundo plano (início rápido)
+ * As chamadas esperam a autenticação terminar e seguem para o service autenticado; se ela
+ * falhar, retornam erro de AUTENTICACAO. O gerenciador troca este service pelo autenticado
+ * assim que possível, então só as primeiras chamadas passam por aqui
+ */
+final class RedeSocialServicePendente implements RedeSocialService {
+    private final String plataforma;
+    private final CompletableFuture<RedeSocialService> autenticacao;
+
+    RedeSocialServicePendente(String plataforma, CompletableFuture<RedeSocialService> autenticacao) {
+        this.plataforma = plataforma;
+        this.autenticacao = autenticacao;
+    }
+
+    @Override
+    public void autenticar(String credenciais) throws AutenticacaoException {
+        RedeSocialService service = autenticado();
+        if (service == null) {
+            throw new AutenticacaoException("Autenticação inicial de " + plataforma + " ainda em andamento");
+        }
+        service.autenticar(credenciais);
+    }
+
+    @Override
+    public Publicacao publicar(Conteudo conteudo) throws PublicacaoException {
+        return aguardar().publicar(conteudo);
+    }
+
+    @Override
+    public Publicacao agendar(Conteudo conteudo) throws PublicacaoException {
+        return aguardar().agendar(conteudo);
+    }
+
+    @Override
+    public boolean remover(String publicacaoId) throws PublicacaoException {
+        return aguardar().remover(publicacaoId);
+    }
+
+    @Override
+    public Estatisticas obterEstatisticas(String publicacaoId) throws PublicacaoException {
+        return aguardar().obterEstatisticas(publicacaoId);
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarPublicar(Conteudo conteudo) {
+        try {
+            return aguardar().tentarPublicar(conteudo);
+        } catch (PublicacaoException e) {
+            return Resultado.falha(ErroPlataforma.de(plataforma, e));
+        }
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarAgendar(Conteudo conteudo) {
+        try {
+            return aguardar().tentarAgendar(conteudo);
+        } catch (PublicacaoException e) {
+            return Resultado.falha(ErroPlataforma.de(plataforma, e));
+        }
+    }
+
+    @Override
+    public Resultado<Boolean> tentarRemover(String publicacaoId) {
+        try {
+            return aguardar().tentarRemover(publicacaoId);
+        } catch (PublicacaoException e) {
+            return Resultado.falha(ErroPlataforma.de(plataforma, e));
+        }
+    }
+
+    @Override
+    public Resultado<Estatisticas> tentarObterEstatisticas(String publicacaoId) {
+        try {
+            return aguardar().tentarObterEstatisticas(publicacaoId);
+        } catch (PublicacaoException e) {
+            return Resultado.falha(ErroPlataforma.de(plataforma, e));
+        }
+    }
+
+    @Override
+    public String getNomePlataforma() {
+        RedeSocialService service = autenticado();
+        return service != null ? service.getNomePlataforma() : plataforma;
+    }
+
+    @Override
+    public boolean isAutenticado() {
+        RedeSocialService service = autenticado();
+        return service != null && service.isAutenticado();
+    }
+
+    // Service autenticado, ou null se a autenticação ainda não terminou ou falhou
+    private RedeSocialService autenticado() {
+        return autenticacao.isDone() && !autenticacao.isCompletedExceptionally() ? autenticacao.join() : null;
+    }
+
+    private RedeSocialService aguardar() throws PublicacaoException {
+        try {
+            return autenticacao.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw PublicacaoException.semStackTrace("Interrompido aguardando a autenticação de " + plataforma,
+                CategoriaErro.TRANSITORIO);
+        } catch (ExecutionException e) {
+            throw PublicacaoException.semStackTrace("Falha na autenticação de " + plataforma + ": "
+                + e.getCause().getMessage(), CategoriaErro.AUTENTICACAO);
+        }
+    }
+}
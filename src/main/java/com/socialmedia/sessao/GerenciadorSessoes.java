@@ -0,0 +1,262 @@
+package com.socialmedia.sessao;
+
+import com.socialmedia.api.ValidadeSessao;
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.factory.RedeSocialFactory;
+import com.socialmedia.service.RedeSocialService;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache de sessões autenticadas por conta (plataforma + credenciais)
+ * A primeira obtenção de uma conta autentica na hora; depois disso a sessão é renovada em
+ * segundo plano antes de expirar. Cada service obtido tem o próprio adapter e todos compartilham
+ * o token da conta, sem lock entre eles. Uma publicação só espera autenticação quando a conta
+ * é nova ou quando as renovações falharam até a sessão expirar
+ */
+public class GerenciadorSessoes {
+    private final Map<ChaveSessao, SessaoPlataforma> sessoes = new ConcurrentHashMap<>();
+    private final long validadePadraoNanos;
+    private final Map<String, Long> validadePorPlataforma;
+    private final double fracaoRenovacao;
+    private final ScheduledThreadPoolExecutor agendador;
+    private final LongAdder renovacoes = new LongAdder();
+    private final LongAdder falhasRenovacao = new LongAdder();
+    private final LongAdder autenticacoesNaHora = new LongAdder();
+
+    private GerenciadorSessoes(Builder builder) {
+        this.validadePadraoNanos = builder.validadePadraoNanos;
+        this.validadePorPlataforma = Map.copyOf(builder.validadePorPlataforma);
+        this.fracaoRenovacao = builder.fracaoRenovacao;
+        AtomicInteger contador = new AtomicInteger();
+        this.agendador = new ScheduledThreadPoolExecutor(builder.threads, tarefa -> {
+            Thread thread = new Thread(tarefa, "renovacao-sessoes-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.agendador.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Service autenticado da conta, com adapter próprio e a sessão compartilhada com os demais
+     * obtidos para ela. Autentica apenas se a conta ainda não tem sessão válida
+     */
+    public RedeSocialService obter(String plataforma, String credenciais) throws AutenticacaoException {
+        if (plataforma == null || plataforma.trim().isEmpty()) {
+            throw new IllegalArgumentException("Plataforma não pode ser vazia");
+        }
+        if (credenciais == null || credenciais.trim().isEmpty()) {
+            throw new IllegalArgumentException("Credenciais não podem ser vazias");
+        }
+
+        ChaveSessao chave = new ChaveSessao(plataforma.toUpperCase().trim(), credenciais);
+        SessaoPlataforma sessao = sessoes.get(chave);
+        if (sessao == null) {
+            SessaoPlataforma nova = new SessaoPlataforma(chave.plataforma, credenciais,
+                RedeSocialFactory.criar(chave.plataforma));
+            sessao = sessoes.putIfAbsent(chave, nova);
+            if (sessao == null) {
+                sessao = nova;
+            }
+        }
+
+        if (sessao.precisaAutenticar()) {
+            try {
+                autenticarSeNecessario(sessao);
+            } catch (AutenticacaoException e) {
+                // Credenciais recusadas não ficam no cache
+                descartarSeNuncaAutenticada(chave, sessao);
+                throw e;
+            }
+        }
+        return new RedeSocialServiceSessao(sessao, this, RedeSocialFactory.criar(chave.plataforma));
+    }
+
+    // Encerra a sessão da conta: cancela a renovação e a remove do cache
+    public boolean invalidar(String plataforma, String credenciais) {
+        SessaoPlataforma sessao = sessoes.remove(new ChaveSessao(plataforma.toUpperCase().trim(), credenciais));
+        if (sessao == null) {
+            return false;
+        }
+        synchronized (sessao.autenticacao) {
+            sessao.encerrada = true;
+            if (sessao.renovacao != null) {
+                sessao.renovacao.cancel(false);
+            }
+        }
+        return true;
+    }
+
+    public int getTotalSessoes() {
+        return sessoes.size();
+    }
+
+    public long getRenovacoes() {
+        return renovacoes.sum();
+    }
+
+    public long getFalhasRenovacao() {
+        return falhasRenovacao.sum();
+    }
+
+    // Autenticações feitas no caminho da chamada (contas novas e sessões que expiraram sem renovar)
+    public long getAutenticacoesNaHora() {
+        return autenticacoesNaHora.sum();
+    }
+
+    // Para a renovação em segundo plano; as sessões expiram normalmente depois disso
+    public void encerrar() {
+        agendador.shutdownNow();
+    }
+
+    void autenticarSeNecessario(SessaoPlataforma sessao) throws AutenticacaoException {
+        synchronized (sessao.autenticacao) {
+            if (!sessao.precisaAutenticar()) {
+                return;
+            }
+            autenticacoesNaHora.increment();
+            sessao.autenticar(validade(sessao));
+            agendarRenovacao(sessao, intervaloRenovacao(sessao));
+        }
+    }
+
+    void renovarAgora(SessaoPlataforma sessao) throws AutenticacaoException {
+        synchronized (sessao.autenticacao) {
+            sessao.autenticar(validade(sessao));
+            renovacoes.increment();
+            agendarRenovacao(sessao, intervaloRenovacao(sessao));
+        }
+    }
+
+    // Tarefa de segundo plano; em caso de falha tenta de novo antes da expiração
+    private void renovar(SessaoPlataforma sessao) {
+        synchronized (sessao.autenticacao) {
+            if (sessao.encerrada) {
+                return;
+            }
+            try {
+                sessao.autenticar(validade(sessao));
+                renovacoes.increment();
+                agendarRenovacao(sessao, intervaloRenovacao(sessao));
+            } catch (AutenticacaoException | RuntimeException e) {
+                falhasRenovacao.increment();
+                long janela = duracao(sessao) - intervaloRenovacao(sessao);
+                agendarRenovacao(sessao, Math.max(TimeUnit.MILLISECONDS.toNanos(1), janela / 4));
+            }
+        }
+    }
+
+    // Chamado com o monitor de autenticacao da sessão
+    private void agendarRenovacao(SessaoPlataforma sessao, long atrasoNanos) {
+        if (sessao.encerrada || agendador.isShutdown()) {
+            return;
+        }
+        if (sessao.renovacao != null) {
+            sessao.renovacao.cancel(false);
+        }
+        sessao.renovacao = agendador.schedule(() -> renovar(sessao), atrasoNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void descartarSeNuncaAutenticada(ChaveSessao chave, SessaoPlataforma sessao) {
+        synchronized (sessao.autenticacao) {
+            if (sessao.renovacao == null) {
+                sessao.encerrada = true;
+                sessoes.remove(chave, sessao);
+            }
+        }
+    }
+
+    private long validade(SessaoPlataforma sessao) {
+        Long validade = validadePorPlataforma.get(sessao.plataforma);
+        return validade != null ? validade : validadePadraoNanos;
+    }
+
+    // Duração da última autenticação (a expiração do token pode encurtá-la); sem expiração, a validade configurada
+    private long duracao(SessaoPlataforma sessao) {
+        SessaoPlataforma.Estado estado = sessao.estado();
+        long duracao = estado != null ? estado.duracaoNanos() : ValidadeSessao.SEM_EXPIRACAO;
+        return duracao != ValidadeSessao.SEM_EXPIRACAO ? duracao : validade(sessao);
+    }
+
+    private long intervaloRenovacao(SessaoPlataforma sessao) {
+        return Math.max(TimeUnit.MILLISECONDS.toNanos(1), (long) (duracao(sessao) * fracaoRenovacao));
+    }
+
+    private static final class ChaveSessao {
+        private final String plataforma;
+        private final String credenciais;
+
+        private ChaveSessao(String plataforma, String credenciais) {
+            this.plataforma = plataforma;
+            this.credenciais = credenciais;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ChaveSessao)) return false;
+            ChaveSessao that = (ChaveSessao) o;
+            return plataforma.equals(that.plataforma) && credenciais.equals(that.credenciais);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(plataforma, credenciais);
+        }
+    }
+
+    public static class Builder {
+        private long validadePadraoNanos = TimeUnit.HOURS.toNanos(1);
+        private final Map<String, Long> validadePorPlataforma = new HashMap<>();
+        private double fracaoRenovacao = 0.8;
+        private int threads = 1;
+
+        // Validade dos tokens quando a plataforma não tem uma específica
+        public Builder validade(long validade, TimeUnit unidade) {
+            if (validade <= 0) {
+                throw new IllegalArgumentException("Validade deve ser positiva");
+            }
+            this.validadePadraoNanos = unidade.toNanos(validade);
+            return this;
+        }
+
+        public Builder validade(String plataforma, long validade, TimeUnit unidade) {
+            if (plataforma == null || plataforma.trim().isEmpty()) {
+                throw new IllegalArgumentException("Plataforma não pode ser vazia");
+            }
+            if (validade <= 0) {
+                throw new IllegalArgumentException("Validade deve ser positiva");
+            }
+            this.validadePorPlataforma.put(plataforma.toUpperCase().trim(), unidade.toNanos(validade));
+            return this;
+        }
+
+        // Fração da validade após a qual a sessão é renovada (ex.: 0.8 renova com 80% da validade)
+        public Builder fracaoRenovacao(double fracao) {
+            if (!(fracao > 0 && fracao < 1)) {
+                throw new IllegalArgumentException("Fração de renovação deve estar entre 0 e 1");
+            }
+            this.fracaoRenovacao = fracao;
+            return this;
+        }
+
+        public Builder threads(int threads) {
+            if (threads <= 0) {
+                throw new IllegalArgumentException("Quantidade de threads deve ser positiva");
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        public GerenciadorSessoes build() {
+            return new GerenciadorSessoes(this);
+        }
+    }
+}
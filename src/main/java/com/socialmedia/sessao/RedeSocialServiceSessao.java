@@ -0,0 +1,129 @@
+package com.socialmedia.sessao;
+
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Estatisticas;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.resultado.ErroPlataforma;
+import com.socialmedia.resultado.Resultado;
+import com.socialmedia.service.AutenticacaoPorToken;
+import com.socialmedia.service.RedeSocialService;
+
+/**
+ * RedeSocialService com adapter próprio sobre a sessão compartilhada de uma conta
+ * Antes de cada chamada instala no adapter o token vigente da sessão (só quando ele muda), então
+ * services da mesma conta operam em paralelo sem autenticar de novo. Como os adapters, cada
+ * service deve ser usado por uma thread por vez. Só autentica na hora se a renovação em segundo
+ * plano não conseguiu renovar antes de expirar
+ */
+final class RedeSocialServiceSessao implements RedeSocialService {
+    private final SessaoPlataforma sessao;
+    private final GerenciadorSessoes gerenciador;
+    private final RedeSocialService adapter;
+    // Geração da sessão instalada no adapter (0: nenhuma)
+    private long geracaoInstalada;
+
+    RedeSocialServiceSessao(SessaoPlataforma sessao, GerenciadorSessoes gerenciador, RedeSocialService adapter) {
+        this.sessao = sessao;
+        this.gerenciador = gerenciador;
+        this.adapter = adapter;
+    }
+
+    // Renova a sessão agora; as credenciais devem ser as da sessão
+    @Override
+    public void autenticar(String credenciais) throws AutenticacaoException {
+        if (!sessao.credenciais.equals(credenciais)) {
+            throw new AutenticacaoException("Sessão compartilhada pertence a outras credenciais");
+        }
+        gerenciador.renovarAgora(sessao);
+    }
+
+    @Override
+    public Publicacao publicar(Conteudo conteudo) throws PublicacaoException {
+        garantirSessao();
+        return adapter.publicar(conteudo);
+    }
+
+    @Override
+    public Publicacao agendar(Conteudo conteudo) throws PublicacaoException {
+        garantirSessao();
+        return adapter.agendar(conteudo);
+    }
+
+    @Override
+    public boolean remover(String publicacaoId) throws PublicacaoException {
+        garantirSessao();
+        return adapter.remover(publicacaoId);
+    }
+
+    @Override
+    public Estatisticas obterEstatisticas(String publicacaoId) throws PublicacaoException {
+        garantirSessao();
+        return adapter.obterEstatisticas(publicacaoId);
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarPublicar(Conteudo conteudo) {
+        ErroPlataforma erro = tentarGarantirSessao();
+        return erro != null ? Resultado.falha(erro) : adapter.tentarPublicar(conteudo);
+    }
+
+    @Override
+    public Resultado<Publicacao> tentarAgendar(Conteudo conteudo) {
+        ErroPlataforma erro = tentarGarantirSessao();
+        return erro != null ? Resultado.falha(erro) : adapter.tentarAgendar(conteudo);
+    }
+
+    @Override
+    public Resultado<Boolean> tentarRemover(String publicacaoId) {
+        ErroPlataforma erro = tentarGarantirSessao();
+        return erro != null ? Resultado.falha(erro) : adapter.tentarRemover(publicacaoId);
+    }
+
+    @Override
+    public Resultado<Estatisticas> tentarObterEstatisticas(String publicacaoId) {
+        ErroPlataforma erro = tentarGarantirSessao();
+        return erro != null ? Resultado.falha(erro) : adapter.tentarObterEstatisticas(publicacaoId);
+    }
+
+    @Override
+    public String getNomePlataforma() {
+        return adapter.getNomePlataforma();
+    }
+
+    @Override
+    public boolean isAutenticado() {
+        return !sessao.precisaAutenticar();
+    }
+
+    private void garantirSessao() throws PublicacaoException {
+        ErroPlataforma erro = tentarGarantirSessao();
+        if (erro != null) {
+            throw PublicacaoException.semStackTrace(erro.getMensagem(), CategoriaErro.AUTENTICACAO);
+        }
+    }
+
+    // Autentica a sessão se preciso e instala no adapter a geração vigente
+    private ErroPlataforma tentarGarantirSessao() {
+        try {
+            SessaoPlataforma.Estado estado = sessao.estadoValido();
+            if (estado == null) {
+                gerenciador.autenticarSeNecessario(sessao);
+                estado = sessao.estado();
+            }
+            if (estado.geracao != geracaoInstalada) {
+                if (estado.token != null && adapter instanceof AutenticacaoPorToken) {
+                    ((AutenticacaoPorToken) adapter).usarToken(estado.token);
+                } else {
+                    adapter.autenticar(sessao.credenciais);
+                }
+                geracaoInstalada = estado.geracao;
+            }
+            return null;
+        } catch (AutenticacaoException e) {
+            return ErroPlataforma.autenticacao(getNomePlataforma(), e.getMessage());
+        }
+    }
+}
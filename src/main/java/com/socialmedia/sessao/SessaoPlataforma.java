@@ -0,0 +1,104 @@
+package com.socialmedia.sessao;
+
+import com.socialmedia.api.TokenAcesso;
+import com.socialmedia.api.ValidadeSessao;
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.service.AutenticacaoPorToken;
+import com.socialmedia.service.RedeSocialService;
+
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Sessão de uma conta: o token e a validade da autenticação, compartilhados pelos services da conta
+ * Cada service tem o próprio adapter e instala nele o token vigente; só o adapter autenticador,
+ * usado com o monitor de autenticacao, autentica e renova. As operações não passam por lock
+ */
+final class SessaoPlataforma {
+    final String plataforma;
+    final String credenciais;
+    // Serializa as autenticações e protege o agendamento da renovação
+    final Object autenticacao = new Object();
+    ScheduledFuture<?> renovacao;
+    boolean encerrada;
+
+    private final RedeSocialService autenticador;
+    private volatile Estado estado;
+
+    SessaoPlataforma(String plataforma, String credenciais, RedeSocialService autenticador) {
+        this.plataforma = plataforma;
+        this.credenciais = credenciais;
+        this.autenticador = autenticador;
+    }
+
+    // Chamado com o monitor de autenticacao
+    void autenticar(long validadeNanos) throws AutenticacaoException {
+        long inicio = System.nanoTime();
+        TokenAcesso token = null;
+        if (autenticador instanceof AutenticacaoPorToken) {
+            token = ((AutenticacaoPorToken) autenticador).emitirToken(credenciais);
+        } else {
+            autenticador.autenticar(credenciais);
+        }
+        long expiraEm = expiracao(inicio, validadeNanos);
+        // O token da plataforma pode expirar antes da validade configurada no gerenciador
+        if (token != null && expiraAntes(token.getExpiraEm(), expiraEm)) {
+            expiraEm = token.getExpiraEm();
+        }
+        Estado anterior = estado;
+        estado = new Estado(token, inicio, expiraEm, anterior == null ? 1 : anterior.geracao + 1);
+    }
+
+    // Estado da última autenticação se ainda válido, senão null
+    Estado estadoValido() {
+        Estado atual = estado;
+        return atual == null || ValidadeSessao.expirada(atual.expiraEmNanos) ? null : atual;
+    }
+
+    Estado estado() {
+        return estado;
+    }
+
+    boolean precisaAutenticar() {
+        return estadoValido() == null;
+    }
+
+    // Satura como ValidadeSessao.expiracao: validade que estoura o relógio vale como sem expiração
+    private static long expiracao(long inicio, long validadeNanos) {
+        long expiraEm = inicio + validadeNanos;
+        if (validadeNanos == ValidadeSessao.SEM_EXPIRACAO || ((inicio ^ expiraEm) & (validadeNanos ^ expiraEm)) < 0) {
+            return ValidadeSessao.SEM_EXPIRACAO;
+        }
+        return expiraEm;
+    }
+
+    // Compara instantes de System.nanoTime; SEM_EXPIRACAO vem depois de qualquer instante
+    private static boolean expiraAntes(long instante, long outro) {
+        if (instante == ValidadeSessao.SEM_EXPIRACAO) {
+            return false;
+        }
+        return outro == ValidadeSessao.SEM_EXPIRACAO || instante - outro < 0;
+    }
+
+    // Resultado de uma autenticação; a geração muda a cada renovação para os services reinstalarem o token
+    static final class Estado {
+        // null quando o adapter da plataforma não compartilha token: cada service autentica o seu
+        final TokenAcesso token;
+        final long autenticadoEmNanos;
+        // Menor entre a validade do gerenciador e a expiração do token
+        final long expiraEmNanos;
+        final long geracao;
+
+        private Estado(TokenAcesso token, long autenticadoEmNanos, long expiraEmNanos, long geracao) {
+            this.token = token;
+            this.autenticadoEmNanos = autenticadoEmNanos;
+            this.expiraEmNanos = expiraEmNanos;
+            this.geracao = geracao;
+        }
+
+        // Tempo entre a autenticação e a expiração, ou SEM_EXPIRACAO
+        long duracaoNanos() {
+            return expiraEmNanos == ValidadeSessao.SEM_EXPIRACAO
+                ? ValidadeSessao.SEM_EXPIRACAO : expiraEmNanos - autenticadoEmNanos;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.socialmedia.strategy;
+
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.resultado.CategoriaErro;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base dos acumuladores das strategies: contadores por status e por categoria de falha
+ * A lista de resumos (id, status, falha) só existe para strategies que devolvem detalhes;
+ * o acumulador nunca guarda as publicações em si
+ */
+abstract class AcumuladorContagem implements AcumuladorResposta {
+    private static final int TOTAL_CATEGORIAS = CategoriaErro.values().length;
+
+    protected int totalPublicacoes;
+    protected int sucesso;
+    protected int falhas;
+    protected int agendadas;
+    protected final int[] falhasPorCategoria = new int[TOTAL_CATEGORIAS];
+    private List<ResumoPublicacao> resumos;
+
+    @Override
+    public void adicionar(Publicacao publicacao) {
+        totalPublicacoes++;
+        switch (publicacao.getStatus()) {
+            case PUBLICADO:
+                sucesso++;
+                break;
+            case AGENDADO:
+                agendadas++;
+                break;
+            case FALHOU:
+                falhas++;
+                if (publicacao.getCategoriaErro() != null) {
+                    falhasPorCategoria[publicacao.getCategoriaErro().ordinal()]++;
+                }
+                break;
+            case PENDENTE:
+            case CANCELADO:
+                // Não contabiliza em nenhuma categoria específica
+                break;
+        }
+
+        RenderizadorDetalhes renderizador = renderizador();
+        if (renderizador != null) {
+            resumos().add(ResumoPublicacao.de(publicacao, renderizador.usaMensagemErro()));
+        }
+    }
+
+    @Override
+    public AcumuladorResposta combinar(AcumuladorResposta outro) {
+        if (outro.getClass() != getClass()) {
+            throw new IllegalArgumentException("Acumuladores de strategies diferentes não podem ser combinados");
+        }
+        AcumuladorContagem parcial = (AcumuladorContagem) outro;
+        totalPublicacoes += parcial.totalPublicacoes;
+        sucesso += parcial.sucesso;
+        falhas += parcial.falhas;
+        agendadas += parcial.agendadas;
+        for (int i = 0; i < TOTAL_CATEGORIAS; i++) {
+            falhasPorCategoria[i] += parcial.falhasPorCategoria[i];
+        }
+        if (parcial.resumos != null) {
+            resumos().addAll(parcial.resumos);
+        }
+        return this;
+    }
+
+    @Override
+    public RespostaUnificada finalizar() {
+        return new RespostaUnificada.Builder()
+                .totalPublicacoes(totalPublicacoes)
+                .sucesso(sucesso)
+                .falhas(falhas)
+                .agendadas(agendadas)
+                .falhasPorCategoria(RespostaUnificada.contagemPorCategoria(falhasPorCategoria))
+                .resumos(resumos != null ? resumos : List.of(), renderizador())
+                .build();
+    }
+
+    // Formato dos detalhes da strategy; null quando a resposta só tem contadores
+    protected abstract RenderizadorDetalhes renderizador();
+
+    private List<ResumoPublicacao> resumos() {
+        if (resumos == null) {
+            resumos = new ArrayList<>();
+        }
+        return resumos;
+    }
+}
@@ -0,0 +1,38 @@
+package com.socialmedia.strategy;
+
+import com.socialmedia.model.Publicacao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Acumulador padrão para strategies que só implementam processar(List):
+ * guarda as publicações e delega para a strategy ao finalizar
+ */
+final class AcumuladorLista implements AcumuladorResposta {
+    private final RespostaStrategy strategy;
+    private final List<Publicacao> publicacoes = new ArrayList<>();
+
+    AcumuladorLista(RespostaStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void adicionar(Publicacao publicacao) {
+        publicacoes.add(publicacao);
+    }
+
+    @Override
+    public AcumuladorResposta combinar(AcumuladorResposta outro) {
+        if (!(outro instanceof AcumuladorLista) || ((AcumuladorLista) outro).strategy != strategy) {
+            throw new IllegalArgumentException("Acumuladores de strategies diferentes não podem ser combinados");
+        }
+        publicacoes.addAll(((AcumuladorLista) outro).publicacoes);
+        return this;
+    }
+
+    @Override
+    public RespostaUnificada finalizar() {
+        return strategy.processar(publicacoes);
+    }
+}
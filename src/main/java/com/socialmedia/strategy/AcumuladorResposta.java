@@ -0,0 +1,24 @@
+package com.socialmedia.strategy;
+
+import com.socialmedia.model.Publicacao;
+
+/**
+ * Acumulador mutável de uma RespostaStrategy
+ * Permite agregar publicações uma a uma, combinar resultados parciais
+ * (threads de fork/join, divisões de um stream paralelo) e finalizar a resposta
+ */
+public interface AcumuladorResposta {
+
+    // Adiciona uma publicação ao resultado parcial
+    void adicionar(Publicacao publicacao);
+
+    /**
+     * Incorpora o resultado parcial de outro acumulador da mesma strategy
+     * As publicações do outro entram depois das deste (ordem preservada)
+     * @return este acumulador
+     */
+    AcumuladorResposta combinar(AcumuladorResposta outro);
+
+    // Produz a resposta com tudo o que foi acumulado
+    RespostaUnificada finalizar();
+}
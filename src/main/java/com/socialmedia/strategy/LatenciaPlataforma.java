@@ -0,0 +1,67 @@
+package com.socialmedia.strategy;
+
+// Tempos de uma plataforma em um fan-out: espera na fila (até a chamada começar) e serviço (duração da chamada)
+public final class LatenciaPlataforma {
+    private final String plataforma;
+    private final int operacoes;
+    private final long servicoTotalNanos;
+    private final long servicoMaximoNanos;
+    private final long esperaTotalNanos;
+    private final long esperaMaximaNanos;
+    private final long conclusaoNanos;
+
+    LatenciaPlataforma(String plataforma, int operacoes, long servicoTotalNanos, long servicoMaximoNanos,
+                       long esperaTotalNanos, long esperaMaximaNanos, long conclusaoNanos) {
+        this.plataforma = plataforma;
+        this.operacoes = operacoes;
+        this.servicoTotalNanos = servicoTotalNanos;
+        this.servicoMaximoNanos = servicoMaximoNanos;
+        this.esperaTotalNanos = esperaTotalNanos;
+        this.esperaMaximaNanos = esperaMaximaNanos;
+        this.conclusaoNanos = conclusaoNanos;
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    public int getOperacoes() {
+        return operacoes;
+    }
+
+    public long getServicoTotalNanos() {
+        return servicoTotalNanos;
+    }
+
+    public long getServicoMedioNanos() {
+        return servicoTotalNanos / operacoes;
+    }
+
+    public long getServicoMaximoNanos() {
+        return servicoMaximoNanos;
+    }
+
+    public long getEsperaTotalNanos() {
+        return esperaTotalNanos;
+    }
+
+    public long getEsperaMediaNanos() {
+        return esperaTotalNanos / operacoes;
+    }
+
+    public long getEsperaMaximaNanos() {
+        return esperaMaximaNanos;
+    }
+
+    // Instante em que a última chamada da plataforma terminou, relativo ao início do fan-out
+    public long getConclusaoNanos() {
+        return conclusaoNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{operacoes=%d, servico=%.3fms (max %.3fms), espera=%.3fms (max %.3fms)}",
+            plataforma, operacoes, getServicoMedioNanos() / 1e6, servicoMaximoNanos / 1e6,
+            getEsperaMediaNanos() / 1e6, esperaMaximaNanos / 1e6);
+    }
+}
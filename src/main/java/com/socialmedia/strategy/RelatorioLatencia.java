@@ -0,0 +1,66 @@
+package com.socialmedia.strategy;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Latência de um fan-out por plataforma
+ * A origem é o início da primeira chamada medida: a espera de cada publicação é o tempo
+ * até a sua chamada começar e o caminho crítico é a plataforma que terminou por último
+ */
+public final class RelatorioLatencia {
+    private final Map<String, LatenciaPlataforma> porPlataforma;
+    private final String plataformaCritica;
+    private final long duracaoNanos;
+    private final long servicoTotalNanos;
+    private final long esperaTotalNanos;
+    private final int naoMedidas;
+
+    RelatorioLatencia(Map<String, LatenciaPlataforma> porPlataforma, String plataformaCritica, long duracaoNanos,
+                      long servicoTotalNanos, long esperaTotalNanos, int naoMedidas) {
+        this.porPlataforma = Collections.unmodifiableMap(porPlataforma);
+        this.plataformaCritica = plataformaCritica;
+        this.duracaoNanos = duracaoNanos;
+        this.servicoTotalNanos = servicoTotalNanos;
+        this.esperaTotalNanos = esperaTotalNanos;
+        this.naoMedidas = naoMedidas;
+    }
+
+    public Map<String, LatenciaPlataforma> getPorPlataforma() {
+        return porPlataforma;
+    }
+
+    public LatenciaPlataforma getLatencia(String plataforma) {
+        return porPlataforma.get(plataforma);
+    }
+
+    // Plataforma que determinou o fim do fan-out (null se nenhuma chamada foi medida)
+    public String getPlataformaCritica() {
+        return plataformaCritica;
+    }
+
+    // Do início da primeira chamada ao fim da última
+    public long getDuracaoNanos() {
+        return duracaoNanos;
+    }
+
+    public long getServicoTotalNanos() {
+        return servicoTotalNanos;
+    }
+
+    public long getEsperaTotalNanos() {
+        return esperaTotalNanos;
+    }
+
+    // Publicações sem medição (ex.: rejeitadas antes de chamar a plataforma)
+    public int getNaoMedidas() {
+        return naoMedidas;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RelatorioLatencia{duracao=%.3fms, critica=%s, servico=%.3fms, espera=%.3fms, plataformas=%s}",
+            duracaoNanos / 1e6, plataformaCritica, servicoTotalNanos / 1e6, esperaTotalNanos / 1e6,
+            porPlataforma.values());
+    }
+}
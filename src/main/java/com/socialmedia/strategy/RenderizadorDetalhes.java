@@ -0,0 +1,21 @@
+package com.socialmedia.strategy;
+
+/**
+ * Como uma strategy transforma o resumo de cada publicação em texto de detalhe.
+ * Só é chamado quando a RespostaUnificada tem os detalhes lidos pela primeira vez.
+ */
+public interface RenderizadorDetalhes {
+
+    // Texto da publicação na lista da sua plataforma
+    String entrada(ResumoPublicacao resumo);
+
+    // Linha de erro de uma publicação com falha; null omite a falha da lista de erros
+    default String erro(ResumoPublicacao resumo) {
+        return null;
+    }
+
+    // Se os resumos precisam guardar a mensagem de erro (só quem a mostra em erro() deve pedir)
+    default boolean usaMensagemErro() {
+        return false;
+    }
+}
@@ -1,68 +1,28 @@
 package com.socialmedia.strategy;
 
 import com.socialmedia.model.Publicacao;
-import com.socialmedia.model.StatusPublicacao;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 // Strategy que processa respostas com detalhes completos
 public class RespostaDetalhadaStrategy implements RespostaStrategy {
-    
+
     @Override
-    @SuppressWarnings("unused")
     public RespostaUnificada processar(List<Publicacao> publicacoes) {
         if (publicacoes == null || publicacoes.isEmpty()) {
             return criarRespostaVazia();
         }
 
-        int totalPublicacoes = publicacoes.size();
-        int sucesso = 0;
-        int falhas = 0;
-        int agendadas = 0;
-        List<String> erros = new ArrayList<>();
-        Map<String, List<String>> publicacoesPorPlataforma = new HashMap<>();
-
+        AcumuladorResposta acumulador = novoAcumulador();
         for (Publicacao pub : publicacoes) {
-            StatusPublicacao status = pub.getStatus();
-            
-            // Contabiliza status
-            switch (status) {
-                case PUBLICADO:
-                    sucesso++;
-                    break;
-                case AGENDADO:
-                    agendadas++;
-                    break;
-                case FALHOU:
-                    falhas++;
-                    if (pub.getMensagemErro() != null) {
-                        erros.add(String.format("[%s] %s", pub.getPlataforma(), pub.getMensagemErro()));
-                    }
-                    break;
-                case PENDENTE:
-                case CANCELADO:
-                    // Não contabiliza em nenhuma categoria específica
-                    break;
-            }
-            
-            // Agrupa por plataforma
-            String plataforma = pub.getPlataforma();
-            publicacoesPorPlataforma
-                .computeIfAbsent(plataforma, key -> new ArrayList<>())
-                .add(String.format("%s (%s)", pub.getId(), status));
+            acumulador.adicionar(pub);
         }
+        return acumulador.finalizar();
+    }
 
-        return new RespostaUnificada.Builder()
-                .totalPublicacoes(totalPublicacoes)
-                .sucesso(sucesso)
-                .falhas(falhas)
-                .agendadas(agendadas)
-                .publicacoesPorPlataforma(publicacoesPorPlataforma)
-                .erros(erros)
-                .build();
+    @Override
+    public AcumuladorResposta novoAcumulador() {
+        return new AcumuladorDetalhado();
     }
 
     private RespostaUnificada criarRespostaVazia() {
@@ -70,5 +30,30 @@ public class RespostaDetalhadaStrategy implements RespostaStrategy {
                 .totalPublicacoes(0)
                 .build();
     }
-}
 
+    // Agrupa "id (status)" por plataforma e lista as mensagens de erro
+    private static final RenderizadorDetalhes RENDERIZADOR = new RenderizadorDetalhes() {
+        @Override
+        public String entrada(ResumoPublicacao pub) {
+            return pub.getId() + " (" + pub.getStatus() + ")";
+        }
+
+        @Override
+        public String erro(ResumoPublicacao pub) {
+            return pub.getMensagemErro() != null ? "[" + pub.getPlataforma() + "] " + pub.getMensagemErro() : null;
+        }
+
+        @Override
+        public boolean usaMensagemErro() {
+            return true;
+        }
+    };
+
+    private static final class AcumuladorDetalhado extends AcumuladorContagem {
+
+        @Override
+        protected RenderizadorDetalhes renderizador() {
+            return RENDERIZADOR;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.socialmedia.strategy;
+
+import com.socialmedia.model.Publicacao;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Strategy que acrescenta à resposta da strategy base a latência por plataforma,
+ * o caminho crítico do fan-out e a divisão entre espera na fila e tempo de serviço
+ * Usa os instantes gravados nas publicações pelos adapters; o acumulador guarda apenas
+ * somas e máximos por plataforma
+ */
+public class RespostaLatenciaStrategy implements RespostaStrategy {
+    private final RespostaStrategy base;
+
+    public RespostaLatenciaStrategy() {
+        this(new RespostaDetalhadaStrategy());
+    }
+
+    public RespostaLatenciaStrategy(RespostaStrategy base) {
+        if (base == null) {
+            throw new IllegalArgumentException("Strategy base não pode ser nula");
+        }
+        this.base = base;
+    }
+
+    @Override
+    public RespostaUnificada processar(List<Publicacao> publicacoes) {
+        AcumuladorResposta acumulador = novoAcumulador();
+        if (publicacoes != null) {
+            for (Publicacao pub : publicacoes) {
+                acumulador.adicionar(pub);
+            }
+        }
+        return acumulador.finalizar();
+    }
+
+    @Override
+    public AcumuladorResposta novoAcumulador() {
+        return new AcumuladorLatencia(base.novoAcumulador());
+    }
+
+    // Instantes guardados relativos à primeira chamada vista pelo acumulador, para as somas não estourarem
+    private static final class AcumuladorLatencia implements AcumuladorResposta {
+        private final AcumuladorResposta base;
+        private final Map<String, TemposPlataforma> porPlataforma = new LinkedHashMap<>();
+        private boolean medido;
+        private long referencia;
+        private long menorInicio;
+        private long maiorFim;
+        private String plataformaCritica;
+        private int naoMedidas;
+
+        private AcumuladorLatencia(AcumuladorResposta base) {
+            this.base = base;
+        }
+
+        @Override
+        public void adicionar(Publicacao publicacao) {
+            base.adicionar(publicacao);
+            if (!publicacao.isTemporizada()) {
+                naoMedidas++;
+                return;
+            }
+            if (!medido) {
+                medido = true;
+                referencia = publicacao.getInicioNanos();
+                menorInicio = 0;
+                maiorFim = Long.MIN_VALUE;
+            }
+            long inicio = publicacao.getInicioNanos() - referencia;
+            long fim = publicacao.getFimNanos() - referencia;
+            porPlataforma.computeIfAbsent(publicacao.getPlataforma(), key -> new TemposPlataforma())
+                .adicionar(inicio, fim);
+            menorInicio = Math.min(menorInicio, inicio);
+            if (fim > maiorFim) {
+                maiorFim = fim;
+                plataformaCritica = publicacao.getPlataforma();
+            }
+        }
+
+        @Override
+        public AcumuladorResposta combinar(AcumuladorResposta outro) {
+            if (!(outro instanceof AcumuladorLatencia)) {
+                throw new IllegalArgumentException("Acumuladores de strategies diferentes não podem ser combinados");
+            }
+            AcumuladorLatencia parcial = (AcumuladorLatencia) outro;
+            base.combinar(parcial.base);
+            naoMedidas += parcial.naoMedidas;
+            if (!parcial.medido) {
+                return this;
+            }
+            if (!medido) {
+                medido = true;
+                referencia = parcial.referencia;
+                menorInicio = parcial.menorInicio;
+                maiorFim = Long.MIN_VALUE;
+            }
+
+            long deslocamento = parcial.referencia - referencia;
+            for (Map.Entry<String, TemposPlataforma> entrada : parcial.porPlataforma.entrySet()) {
+                porPlataforma.computeIfAbsent(entrada.getKey(), key -> new TemposPlataforma())
+                    .combinar(entrada.getValue(), deslocamento);
+            }
+            menorInicio = Math.min(menorInicio, parcial.menorInicio + deslocamento);
+            if (parcial.maiorFim + deslocamento > maiorFim) {
+                maiorFim = parcial.maiorFim + deslocamento;
+                plataformaCritica = parcial.plataformaCritica;
+            }
+            return this;
+        }
+
+        @Override
+        public RespostaUnificada finalizar() {
+            return base.finalizar().comLatencia(relatorio());
+        }
+
+        private RelatorioLatencia relatorio() {
+            if (!medido) {
+                return new RelatorioLatencia(Map.of(), null, 0, 0, 0, naoMedidas);
+            }
+            Map<String, LatenciaPlataforma> latencias = new LinkedHashMap<>();
+            long servicoTotal = 0;
+            long esperaTotal = 0;
+            for (Map.Entry<String, TemposPlataforma> entrada : porPlataforma.entrySet()) {
+                LatenciaPlataforma latencia = entrada.getValue().paraLatencia(entrada.getKey(), menorInicio);
+                latencias.put(entrada.getKey(), latencia);
+                servicoTotal += latencia.getServicoTotalNanos();
+                esperaTotal += latencia.getEsperaTotalNanos();
+            }
+            return new RelatorioLatencia(latencias, plataformaCritica, maiorFim - menorInicio,
+                servicoTotal, esperaTotal, naoMedidas);
+        }
+    }
+
+    private static final class TemposPlataforma {
+        private int operacoes;
+        private long somaInicios;
+        private long maiorInicio = Long.MIN_VALUE;
+        private long maiorFim = Long.MIN_VALUE;
+        private long servicoTotal;
+        private long servicoMaximo;
+
+        void adicionar(long inicio, long fim) {
+            long servico = fim - inicio;
+            operacoes++;
+            somaInicios += inicio;
+            maiorInicio = Math.max(maiorInicio, inicio);
+            maiorFim = Math.max(maiorFim, fim);
+            servicoTotal += servico;
+            servicoMaximo = Math.max(servicoMaximo, servico);
+        }
+
+        void combinar(TemposPlataforma outro, long deslocamento) {
+            operacoes += outro.operacoes;
+            somaInicios += outro.somaInicios + outro.operacoes * deslocamento;
+            maiorInicio = Math.max(maiorInicio, outro.maiorInicio + deslocamento);
+            maiorFim = Math.max(maiorFim, outro.maiorFim + deslocamento);
+            servicoTotal += outro.servicoTotal;
+            servicoMaximo = Math.max(servicoMaximo, outro.servicoMaximo);
+        }
+
+        // Espera = soma dos inícios menos a origem de cada operação
+        LatenciaPlataforma paraLatencia(String plataforma, long origem) {
+            return new LatenciaPlataforma(plataforma, operacoes, servicoTotal, servicoMaximo,
+                somaInicios - operacoes * origem, maiorInicio - origem, maiorFim - origem);
+        }
+    }
+}
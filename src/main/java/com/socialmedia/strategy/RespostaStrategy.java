@@ -3,6 +3,7 @@ package com.socialmedia.strategy;
 import com.socialmedia.model.Publicacao;
 
 import java.util.List;
+import java.util.stream.Collector;
 
 
 // Interface Strategy para processar respostas de publicações
@@ -11,5 +12,26 @@ public interface RespostaStrategy {
 
     // Processa a resposta de uma ou mais publicações
     RespostaUnificada processar(List<Publicacao> publicacoes);
-}
 
+    /**
+     * Novo acumulador para agregar publicações incrementalmente
+     * O padrão guarda as publicações e chama processar ao finalizar;
+     * as strategies do projeto agregam sem manter a lista
+     */
+    default AcumuladorResposta novoAcumulador() {
+        return new AcumuladorLista(this);
+    }
+
+    /**
+     * Collector para streams (inclusive paralelos):
+     * publicacoes.parallelStream().collect(strategy.coletor())
+     */
+    default Collector<Publicacao, AcumuladorResposta, RespostaUnificada> coletor() {
+        return Collector.of(
+            this::novoAcumulador,
+            AcumuladorResposta::adicionar,
+            AcumuladorResposta::combinar,
+            AcumuladorResposta::finalizar
+        );
+    }
+}
@@ -1,64 +1,28 @@
 package com.socialmedia.strategy;
 
 import com.socialmedia.model.Publicacao;
-import com.socialmedia.model.StatusPublicacao;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 // Strategy que processa respostas de forma sumarizada (apenas contadores)
 public class RespostaSumarizadaStrategy implements RespostaStrategy {
-    
+
     @Override
-    @SuppressWarnings("unused")
     public RespostaUnificada processar(List<Publicacao> publicacoes) {
         if (publicacoes == null || publicacoes.isEmpty()) {
             return criarRespostaVazia();
         }
 
-        int totalPublicacoes = publicacoes.size();
-        int sucesso = 0;
-        int falhas = 0;
-        int agendadas = 0;
-        Map<String, List<String>> publicacoesPorPlataforma = new HashMap<>();
-
+        AcumuladorResposta acumulador = novoAcumulador();
         for (Publicacao pub : publicacoes) {
-            StatusPublicacao status = pub.getStatus();
-            
-            // Contabiliza status
-            switch (status) {
-                case PUBLICADO:
-                    sucesso++;
-                    break;
-                case AGENDADO:
-                    agendadas++;
-                    break;
-                case FALHOU:
-                    falhas++;
-                    break;
-                case PENDENTE:
-                case CANCELADO:
-                    // Não contabiliza em nenhuma categoria específica
-                    break;
-            }
-            
-            // Apenas conta por plataforma (sem detalhes)
-            String plataforma = pub.getPlataforma();
-            publicacoesPorPlataforma
-                .computeIfAbsent(plataforma, key -> new ArrayList<>())
-                .add(pub.getId());
+            acumulador.adicionar(pub);
         }
+        return acumulador.finalizar();
+    }
 
-        return new RespostaUnificada.Builder()
-                .totalPublicacoes(totalPublicacoes)
-                .sucesso(sucesso)
-                .falhas(falhas)
-                .agendadas(agendadas)
-                .publicacoesPorPlataforma(publicacoesPorPlataforma)
-                .erros(List.of()) // Não inclui erros na versão sumarizada
-                .build();
+    @Override
+    public AcumuladorResposta novoAcumulador() {
+        return new AcumuladorSumarizado();
     }
 
     private RespostaUnificada criarRespostaVazia() {
@@ -66,5 +30,15 @@ public class RespostaSumarizadaStrategy implements RespostaStrategy {
                 .totalPublicacoes(0)
                 .build();
     }
-}
 
+    // Apenas ids por plataforma (sem detalhes); não inclui erros na versão sumarizada
+    private static final RenderizadorDetalhes RENDERIZADOR = ResumoPublicacao::getId;
+
+    private static final class AcumuladorSumarizado extends AcumuladorContagem {
+
+        @Override
+        protected RenderizadorDetalhes renderizador() {
+            return RENDERIZADOR;
+        }
+    }
+}
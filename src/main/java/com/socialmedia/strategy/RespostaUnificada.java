@@ -1,10 +1,18 @@
 package com.socialmedia.strategy;
 
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.tempo.RelogioAproximado;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 // Resposta unificada do processamento de publicações
 public class RespostaUnificada {
@@ -12,18 +20,52 @@ public class RespostaUnificada {
     private final int sucesso;
     private final int falhas;
     private final int agendadas;
-    private final Map<String, List<String>> publicacoesPorPlataforma;
-    private final List<String> erros;
+    private final Map<CategoriaErro, Integer> falhasPorCategoria;
+    private final List<ResumoPublicacao> resumos;
+    private final RenderizadorDetalhes renderizador;
     private final LocalDateTime dataProcessamento;
+    private final RelatorioLatencia latencia;
+
+    // Detalhes em texto, renderizados a partir dos resumos no primeiro acesso.
+    // Corrida benigna: duas threads podem renderizar ao mesmo tempo, mas o resultado é o mesmo
+    private volatile Map<String, List<String>> publicacoesPorPlataforma;
+    private volatile List<String> erros;
 
     private RespostaUnificada(Builder builder) {
         this.totalPublicacoes = builder.totalPublicacoes;
         this.sucesso = builder.sucesso;
         this.falhas = builder.falhas;
         this.agendadas = builder.agendadas;
-        this.publicacoesPorPlataforma = Map.copyOf(builder.publicacoesPorPlataforma);
-        this.erros = List.copyOf(builder.erros);
-        this.dataProcessamento = builder.dataProcessamento;
+        this.falhasPorCategoria = Collections.unmodifiableMap(builder.falhasPorCategoria);
+        this.resumos = Collections.unmodifiableList(builder.resumos);
+        this.renderizador = builder.renderizador;
+        if (builder.publicacoesPorPlataforma != null) {
+            this.publicacoesPorPlataforma = Collections.unmodifiableMap(builder.publicacoesPorPlataforma);
+        }
+        if (builder.erros != null) {
+            this.erros = Collections.unmodifiableList(builder.erros);
+        }
+        this.dataProcessamento = builder.dataProcessamento != null ? builder.dataProcessamento : RelogioAproximado.agora();
+        this.latencia = null;
+    }
+
+    private RespostaUnificada(RespostaUnificada original, RelatorioLatencia latencia) {
+        this.totalPublicacoes = original.totalPublicacoes;
+        this.sucesso = original.sucesso;
+        this.falhas = original.falhas;
+        this.agendadas = original.agendadas;
+        this.falhasPorCategoria = original.falhasPorCategoria;
+        this.resumos = original.resumos;
+        this.renderizador = original.renderizador;
+        this.publicacoesPorPlataforma = original.publicacoesPorPlataforma;
+        this.erros = original.erros;
+        this.dataProcessamento = original.dataProcessamento;
+        this.latencia = latencia;
+    }
+
+    // Cópia com o relatório de latência, usada pela RespostaLatenciaStrategy
+    RespostaUnificada comLatencia(RelatorioLatencia latencia) {
+        return new RespostaUnificada(this, latencia);
     }
 
     public int getTotalPublicacoes() {
@@ -42,18 +84,47 @@ public class RespostaUnificada {
         return agendadas;
     }
 
+    // Falhas agrupadas por categoria (apenas falhas classificadas)
+    public Map<CategoriaErro, Integer> getFalhasPorCategoria() {
+        return falhasPorCategoria;
+    }
+
+    public int getFalhas(CategoriaErro categoria) {
+        return falhasPorCategoria.getOrDefault(categoria, 0);
+    }
+
+    // Resumo de cada publicação, na ordem de processamento (vazia quando a resposta só tem contadores ou textos)
+    public List<ResumoPublicacao> getResumos() {
+        return resumos;
+    }
+
     public Map<String, List<String>> getPublicacoesPorPlataforma() {
-        return publicacoesPorPlataforma;
+        Map<String, List<String>> mapa = publicacoesPorPlataforma;
+        if (mapa == null) {
+            mapa = renderizarPublicacoes();
+            publicacoesPorPlataforma = mapa;
+        }
+        return mapa;
     }
 
     public List<String> getErros() {
-        return erros;
+        List<String> lista = erros;
+        if (lista == null) {
+            lista = renderizarErros();
+            erros = lista;
+        }
+        return lista;
     }
 
     public LocalDateTime getDataProcessamento() {
         return dataProcessamento;
     }
 
+    // Latência por plataforma (null quando a strategy não mede latência)
+    public RelatorioLatencia getLatencia() {
+        return latencia;
+    }
+
     public boolean isTodasSucesso() {
         return falhas == 0 && sucesso == totalPublicacoes;
     }
@@ -68,18 +139,83 @@ public class RespostaUnificada {
         return String.format(
             "RespostaUnificada{total=%d, sucesso=%d (%.1f%%), falhas=%d, agendadas=%d, plataformas=%d}",
             totalPublicacoes, sucesso, getTaxaSucesso(), falhas, agendadas, 
-            publicacoesPorPlataforma.size()
+            contarPlataformas()
         );
     }
 
+    private Map<String, List<String>> renderizarPublicacoes() {
+        if (renderizador == null || resumos.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, List<String>> mapa = new HashMap<>();
+        for (ResumoPublicacao pub : resumos) {
+            mapa.computeIfAbsent(pub.getPlataforma(), key -> new ArrayList<>())
+                .add(renderizador.entrada(pub));
+        }
+        for (Map.Entry<String, List<String>> entrada : mapa.entrySet()) {
+            entrada.setValue(Collections.unmodifiableList(entrada.getValue()));
+        }
+        return Collections.unmodifiableMap(mapa);
+    }
+
+    private List<String> renderizarErros() {
+        if (renderizador == null || falhas == 0) {
+            return List.of();
+        }
+        List<String> lista = new ArrayList<>(falhas);
+        for (ResumoPublicacao pub : resumos) {
+            if (pub.getStatus() == StatusPublicacao.FALHOU) {
+                String erro = renderizador.erro(pub);
+                if (erro != null) {
+                    lista.add(erro);
+                }
+            }
+        }
+        return Collections.unmodifiableList(lista);
+    }
+
+    // Conta plataformas sem renderizar os detalhes
+    private int contarPlataformas() {
+        Map<String, List<String>> mapa = publicacoesPorPlataforma;
+        if (mapa != null) {
+            return mapa.size();
+        }
+        if (renderizador == null) {
+            return 0;
+        }
+        Set<String> plataformas = new HashSet<>();
+        for (ResumoPublicacao pub : resumos) {
+            plataformas.add(pub.getPlataforma());
+        }
+        return plataformas.size();
+    }
+
+    // Converte contadores indexados por CategoriaErro.ordinal() em mapa, omitindo zeros
+    static Map<CategoriaErro, Integer> contagemPorCategoria(int[] contadores) {
+        Map<CategoriaErro, Integer> mapa = null;
+        CategoriaErro[] categorias = CategoriaErro.values();
+        for (int i = 0; i < contadores.length; i++) {
+            if (contadores[i] > 0) {
+                if (mapa == null) {
+                    mapa = new EnumMap<>(CategoriaErro.class);
+                }
+                mapa.put(categorias[i], contadores[i]);
+            }
+        }
+        return mapa != null ? mapa : Map.of();
+    }
+
     public static class Builder {
         private int totalPublicacoes = 0;
         private int sucesso = 0;
         private int falhas = 0;
         private int agendadas = 0;
-        private Map<String, List<String>> publicacoesPorPlataforma = new HashMap<>();
-        private List<String> erros = new ArrayList<>();
-        private LocalDateTime dataProcessamento = LocalDateTime.now();
+        private Map<CategoriaErro, Integer> falhasPorCategoria = Map.of();
+        private List<ResumoPublicacao> resumos = List.of();
+        private RenderizadorDetalhes renderizador;
+        private Map<String, List<String>> publicacoesPorPlataforma;
+        private List<String> erros;
+        private LocalDateTime dataProcessamento;
 
         public Builder totalPublicacoes(int total) {
             this.totalPublicacoes = total;
@@ -101,13 +237,27 @@ public class RespostaUnificada {
             return this;
         }
 
+        public Builder falhasPorCategoria(Map<CategoriaErro, Integer> falhasPorCategoria) {
+            this.falhasPorCategoria = falhasPorCategoria;
+            return this;
+        }
+
+        // As coleções são repassadas sem cópia: quem chama não deve alterá-las depois do build()
+        // Detalhes renderizados sob demanda a partir dos resumos
+        public Builder resumos(List<ResumoPublicacao> resumos, RenderizadorDetalhes renderizador) {
+            this.resumos = resumos;
+            this.renderizador = renderizador;
+            return this;
+        }
+
+        // Detalhes já prontos; têm precedência sobre a renderização dos resumos
         public Builder publicacoesPorPlataforma(Map<String, List<String>> publicacoes) {
-            this.publicacoesPorPlataforma = new HashMap<>(publicacoes);
+            this.publicacoesPorPlataforma = publicacoes;
             return this;
         }
 
         public Builder erros(List<String> erros) {
-            this.erros = new ArrayList<>(erros);
+            this.erros = erros;
             return this;
         }
 
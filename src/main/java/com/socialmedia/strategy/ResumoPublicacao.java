@@ -0,0 +1,64 @@
+package com.socialmedia.strategy;
+
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.resultado.CategoriaErro;
+
+/**
+ * O que a RespostaUnificada guarda de cada publicação: id, plataforma, status e a falha
+ * Não referencia a Publicacao nem o Conteudo, então a resposta (e quem a mantém em cache)
+ * não prende o grafo das entidades
+ */
+public final class ResumoPublicacao {
+    private final String id;
+    private final String plataforma;
+    private final StatusPublicacao status;
+    private final CategoriaErro categoriaErro;
+    private final String mensagemErro;
+
+    public ResumoPublicacao(String id, String plataforma, StatusPublicacao status,
+                            CategoriaErro categoriaErro, String mensagemErro) {
+        this.id = id;
+        this.plataforma = plataforma;
+        this.status = status;
+        this.categoriaErro = categoriaErro;
+        this.mensagemErro = mensagemErro;
+    }
+
+    public static ResumoPublicacao de(Publicacao publicacao) {
+        return de(publicacao, true);
+    }
+
+    // Sem a mensagem, o resumo fica só com id, plataforma, status e categoria
+    public static ResumoPublicacao de(Publicacao publicacao, boolean comMensagem) {
+        return new ResumoPublicacao(publicacao.getId(), publicacao.getPlataforma(), publicacao.getStatus(),
+            publicacao.getCategoriaErro(), comMensagem ? publicacao.getMensagemErro() : null);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    public StatusPublicacao getStatus() {
+        return status;
+    }
+
+    // Categoria da falha (null se não falhou ou não foi classificada)
+    public CategoriaErro getCategoriaErro() {
+        return categoriaErro;
+    }
+
+    // Mensagem da falha; null quando a strategy não a guarda
+    public String getMensagemErro() {
+        return mensagemErro;
+    }
+
+    @Override
+    public String toString() {
+        return "ResumoPublicacao{id='" + id + "', plataforma='" + plataforma + "', status=" + status + "}";
+    }
+}
@@ -0,0 +1,64 @@
+package com.socialmedia.tempo;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Relógio de baixa resolução para timestamps do caminho de publicação
+ * Reaproveita o mesmo LocalDateTime enquanto o tick (resolução em ms) não muda,
+ * evitando uma alocação e a conversão de fuso a cada LocalDateTime.now()
+ */
+public final class RelogioAproximado {
+    public static final long RESOLUCAO_PADRAO_MS = 10;
+
+    private static volatile long resolucaoMs = RESOLUCAO_PADRAO_MS;
+    private static volatile Leitura ultimaLeitura = new Leitura(RESOLUCAO_PADRAO_MS, Long.MIN_VALUE, null);
+
+    private RelogioAproximado() {
+    }
+
+    public static LocalDateTime agora() {
+        long resolucao = resolucaoMs;
+        long milissegundos = System.currentTimeMillis();
+        long tick = milissegundos / resolucao;
+
+        Leitura leitura = ultimaLeitura;
+        // A resolução entra na comparação: o mesmo número de tick em outra resolução é outro instante
+        if (leitura.tick == tick && leitura.resolucao == resolucao) {
+            return leitura.valor;
+        }
+
+        // Corrida benigna: duas threads podem recalcular o mesmo tick
+        LocalDateTime valor = LocalDateTime.ofInstant(Instant.ofEpochMilli(tick * resolucao), ZoneId.systemDefault());
+        ultimaLeitura = new Leitura(resolucao, tick, valor);
+        return valor;
+    }
+
+    /**
+     * Define a resolução do relógio; 1 ms equivale à precisão de System.currentTimeMillis()
+     */
+    public static void setResolucaoMs(long resolucao) {
+        if (resolucao <= 0) {
+            throw new IllegalArgumentException("Resolução deve ser positiva");
+        }
+        resolucaoMs = resolucao;
+        ultimaLeitura = new Leitura(resolucao, Long.MIN_VALUE, null);
+    }
+
+    public static long getResolucaoMs() {
+        return resolucaoMs;
+    }
+
+    private static final class Leitura {
+        private final long resolucao;
+        private final long tick;
+        private final LocalDateTime valor;
+
+        private Leitura(long resolucao, long tick, LocalDateTime valor) {
+            this.resolucao = resolucao;
+            this.tick = tick;
+            this.valor = valor;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.socialmedia.util;
+
+/**
+ * Hash de 64 bits para textos (FNV-1a com mistura final), estável entre execuções
+ * Usado nos índices em memória e nas assinaturas de conteúdo
+ */
+public final class Hash64 {
+    private static final long BASE_FNV = 0xcbf29ce484222325L;
+    private static final long PRIMO_FNV = 0x100000001b3L;
+
+    private Hash64() {
+    }
+
+    public static long de(CharSequence texto) {
+        long h = BASE_FNV;
+        for (int i = 0; i < texto.length(); i++) {
+            h ^= texto.charAt(i);
+            h *= PRIMO_FNV;
+        }
+        return misturar(h);
+    }
+
+    /**
+     * Finalizador do MurmurHash3: espalha todos os bits de entrada pela saída
+     */
+    public static long misturar(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,73 @@
+package com.socialmedia.util;
+
+import java.util.Arrays;
+
+/**
+ * Lista crescente de ints primitivos, sem boxing
+ * Usada pelos índices em memória (histórico, índice invertido)
+ */
+public final class ListaInts {
+    private int[] valores;
+    private int tamanho;
+
+    public ListaInts() {
+        this(16);
+    }
+
+    public ListaInts(int capacidadeInicial) {
+        this.valores = new int[Math.max(1, capacidadeInicial)];
+    }
+
+    public void adicionar(int valor) {
+        if (tamanho == valores.length) {
+            valores = Arrays.copyOf(valores, valores.length + (valores.length >> 1) + 1);
+        }
+        valores[tamanho++] = valor;
+    }
+
+    public int get(int indice) {
+        if (indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do tamanho " + tamanho);
+        }
+        return valores[indice];
+    }
+
+    /**
+     * Remove a primeira ocorrência do valor mantendo a ordem dos demais
+     */
+    public boolean remover(int valor) {
+        for (int i = 0; i < tamanho; i++) {
+            if (valores[i] == valor) {
+                System.arraycopy(valores, i + 1, valores, i, tamanho - i - 1);
+                tamanho--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public boolean isVazia() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Primeiro índice cujo valor é maior que o informado (a lista deve estar ordenada)
+     */
+    public int primeiroMaiorQue(int valor) {
+        int baixo = 0;
+        int alto = tamanho;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (valores[meio] <= valor) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+}
@@ -0,0 +1,44 @@
+package com.socialmedia.util;
+
+import java.util.Arrays;
+
+/**
+ * Lista crescente de longs primitivos, sem boxing
+ */
+public final class ListaLongs {
+    private long[] valores;
+    private int tamanho;
+
+    public ListaLongs() {
+        this(16);
+    }
+
+    public ListaLongs(int capacidadeInicial) {
+        this.valores = new long[Math.max(1, capacidadeInicial)];
+    }
+
+    public void adicionar(long valor) {
+        if (tamanho == valores.length) {
+            valores = Arrays.copyOf(valores, valores.length + (valores.length >> 1) + 1);
+        }
+        valores[tamanho++] = valor;
+    }
+
+    public long get(int indice) {
+        if (indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do tamanho " + tamanho);
+        }
+        return valores[indice];
+    }
+
+    public void set(int indice, long valor) {
+        if (indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do tamanho " + tamanho);
+        }
+        valores[indice] = valor;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+}
@@ -0,0 +1,145 @@
+package com.socialmedia.validacao;
+
+import com.socialmedia.model.Conteudo;
+
+import java.util.List;
+
+/**
+ * Contagem de caracteres do texto renderizado de cada plataforma
+ * Calcula o comprimento final (texto + hashtags) sem montar a String
+ */
+public final class ContadorCaracteres {
+    // Peso de URLs no Twitter (t.co) e faixas de code points com peso 1 (twitter-text v3)
+    private static final int PESO_URL_TWITTER = 23;
+    private static final int[][] FAIXAS_PESO_SIMPLES = {
+        {0, 4351},
+        {8192, 8205},
+        {8208, 8223},
+        {8242, 8247}
+    };
+
+    private ContadorCaracteres() {
+    }
+
+    /**
+     * Comprimento em unidades UTF-16 (String.length) da legenda renderizada
+     * no formato "texto + separador + #tag1 #tag2", como fazem os adapters
+     */
+    public static int comprimentoLegenda(Conteudo conteudo, String separador) {
+        return comprimentoRenderizado(conteudo, separador, false);
+    }
+
+    /**
+     * Comprimento ponderado do tweet renderizado pelo TwitterAdapter:
+     * code points fora das faixas latinas contam 2 e URLs contam 23
+     */
+    public static int comprimentoTweet(Conteudo conteudo) {
+        return comprimentoRenderizado(conteudo, "\n\n", true);
+    }
+
+    /**
+     * Comprimento ponderado segundo as regras do Twitter para um trecho de texto
+     */
+    public static int contarPonderadoTwitter(CharSequence texto, int inicio, int fim) {
+        int total = 0;
+        int i = inicio;
+        while (i < fim) {
+            if (iniciaUrl(texto, i, fim)) {
+                while (i < fim && !Character.isWhitespace(texto.charAt(i))) {
+                    i++;
+                }
+                total += PESO_URL_TWITTER;
+                continue;
+            }
+            int codePoint = Character.codePointAt(texto, i);
+            total += pesoTwitter(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return total;
+    }
+
+    private static int comprimentoRenderizado(Conteudo conteudo, String separador, boolean ponderado) {
+        String texto = conteudo.getTexto();
+        List<String> hashtags = conteudo.getHashtags();
+
+        int inicio = 0;
+        while (inicio < texto.length() && texto.charAt(inicio) <= ' ') {
+            inicio++;
+        }
+
+        if (hashtags.isEmpty()) {
+            int fim = texto.length();
+            while (fim > inicio && texto.charAt(fim - 1) <= ' ') {
+                fim--;
+            }
+            return contar(texto, inicio, fim, ponderado);
+        }
+
+        int total = contar(texto, inicio, texto.length(), ponderado) + separador.length();
+        for (String hashtag : hashtags) {
+            // "#" + tag sem '#' + " "
+            total += 2 + contarSemCerquilha(hashtag, ponderado);
+        }
+
+        // trim() remove o espaço final e os espaços no fim da última tag (o '#' inicial nunca é removido)
+        String ultima = hashtags.get(hashtags.size() - 1);
+        int removidos = 1;
+        for (int i = ultima.length() - 1; i >= 0; i--) {
+            char c = ultima.charAt(i);
+            if (c == '#') {
+                continue;
+            }
+            if (c > ' ') {
+                break;
+            }
+            removidos++;
+        }
+        return total - removidos;
+    }
+
+    private static int contarSemCerquilha(String hashtag, boolean ponderado) {
+        int total = 0;
+        int i = 0;
+        while (i < hashtag.length()) {
+            int codePoint = Character.codePointAt(hashtag, i);
+            int largura = Character.charCount(codePoint);
+            if (codePoint != '#') {
+                total += ponderado ? pesoTwitter(codePoint) : largura;
+            }
+            i += largura;
+        }
+        return total;
+    }
+
+    private static int contar(String texto, int inicio, int fim, boolean ponderado) {
+        return ponderado ? contarPonderadoTwitter(texto, inicio, fim) : fim - inicio;
+    }
+
+    private static int pesoTwitter(int codePoint) {
+        for (int[] faixa : FAIXAS_PESO_SIMPLES) {
+            if (codePoint >= faixa[0] && codePoint <= faixa[1]) {
+                return 1;
+            }
+        }
+        return 2;
+    }
+
+    private static boolean iniciaUrl(CharSequence texto, int i, int fim) {
+        if (i > 0 && !Character.isWhitespace(texto.charAt(i - 1))) {
+            return false;
+        }
+        return comecaCom(texto, i, fim, "https://") || comecaCom(texto, i, fim, "http://");
+    }
+
+    private static boolean comecaCom(CharSequence texto, int i, int fim, String prefixo) {
+        if (fim - i <= prefixo.length()) {
+            return false;
+        }
+        for (int k = 0; k < prefixo.length(); k++) {
+            if (Character.toLowerCase(texto.charAt(i + k)) != prefixo.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,12 @@
+package com.socialmedia.validacao;
+
+import com.socialmedia.model.Conteudo;
+
+// Regra de validação prévia de um conteúdo para uma plataforma
+@FunctionalInterface
+public interface RegraValidacao {
+
+    // Retorna null se o conteúdo é válido ou a mensagem da violação
+    // A mensagem só deve ser montada quando há violação, para não alocar no caminho feliz
+    String verificar(Conteudo conteudo);
+}
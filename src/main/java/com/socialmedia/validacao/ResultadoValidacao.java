@@ -0,0 +1,48 @@
+package com.socialmedia.validacao;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Resultado da validação prévia com todas as violações encontradas
+public class ResultadoValidacao {
+    private static final ResultadoValidacao VALIDO = new ResultadoValidacao(List.of());
+
+    private final List<ViolacaoValidacao> violacoes;
+
+    private ResultadoValidacao(List<ViolacaoValidacao> violacoes) {
+        this.violacoes = violacoes;
+    }
+
+    static ResultadoValidacao de(List<ViolacaoValidacao> violacoes) {
+        return violacoes == null || violacoes.isEmpty() ? VALIDO : new ResultadoValidacao(List.copyOf(violacoes));
+    }
+
+    public boolean isValido() {
+        return violacoes.isEmpty();
+    }
+
+    public List<ViolacaoValidacao> getViolacoes() {
+        return violacoes;
+    }
+
+    // Violações de uma plataforma específica
+    public List<ViolacaoValidacao> getViolacoes(String plataforma) {
+        return violacoes.stream()
+            .filter(v -> v.getPlataforma().equalsIgnoreCase(plataforma))
+            .collect(Collectors.toList());
+    }
+
+    // Violações de um item do lote
+    public List<ViolacaoValidacao> getViolacoes(int indiceConteudo) {
+        return violacoes.stream()
+            .filter(v -> v.getIndiceConteudo() == indiceConteudo)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public String toString() {
+        return isValido()
+            ? "ResultadoValidacao{valido}"
+            : "ResultadoValidacao{violacoes=" + violacoes + "}";
+    }
+}
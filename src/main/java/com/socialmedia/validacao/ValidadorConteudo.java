@@ -0,0 +1,139 @@
+package com.socialmedia.validacao;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.TipoConteudo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validação prévia de conteúdo contra a tabela de regras de cada plataforma
+ * Permite rejeitar um fan-out inteiro antes de qualquer chamada às APIs
+ */
+public class ValidadorConteudo {
+    public static final int LIMITE_TWITTER = 280;
+    public static final int LIMITE_CAPTION_INSTAGRAM = 2200;
+    public static final int LIMITE_CAPTION_TIKTOK = 2200;
+    public static final int LIMITE_COMENTARIO_LINKEDIN = 3000;
+
+    private static final RegraValidacao[] SEM_REGRAS = new RegraValidacao[0];
+
+    private final Map<String, RegraValidacao[]> regrasPorPlataforma = new ConcurrentHashMap<>();
+
+    /**
+     * Cria um validador com as regras das plataformas suportadas
+     */
+    public static ValidadorConteudo padrao() {
+        ValidadorConteudo validador = new ValidadorConteudo();
+
+        validador.adicionarRegra("TWITTER", conteudo -> {
+            int comprimento = ContadorCaracteres.comprimentoTweet(conteudo);
+            return comprimento > LIMITE_TWITTER
+                ? "Tweet excede o limite de " + LIMITE_TWITTER + " caracteres (" + comprimento + ")"
+                : null;
+        });
+
+        validador.adicionarRegra("INSTAGRAM", conteudo -> conteudo.getMidias().isEmpty()
+            ? "Instagram requer ao menos uma mídia (imagem ou vídeo)"
+            : null);
+        validador.adicionarRegra("INSTAGRAM", conteudo -> {
+            if (conteudo.getTipo() == TipoConteudo.STORY) {
+                return null;
+            }
+            int comprimento = ContadorCaracteres.comprimentoLegenda(conteudo, "\n\n");
+            return comprimento > LIMITE_CAPTION_INSTAGRAM
+                ? "Caption excede o limite de " + LIMITE_CAPTION_INSTAGRAM + " caracteres (" + comprimento + ")"
+                : null;
+        });
+
+        validador.adicionarRegra("LINKEDIN", conteudo -> {
+            if (conteudo.getTipo() == TipoConteudo.ARTIGO) {
+                return conteudo.getTexto().startsWith("\n") ? "Título do artigo é obrigatório" : null;
+            }
+            int comprimento = ContadorCaracteres.comprimentoLegenda(conteudo, "\n\n");
+            return comprimento > LIMITE_COMENTARIO_LINKEDIN
+                ? "Comentário excede o limite de " + LIMITE_COMENTARIO_LINKEDIN + " caracteres (" + comprimento + ")"
+                : null;
+        });
+
+        validador.adicionarRegra("TIKTOK", conteudo -> {
+            if (conteudo.getMidias().isEmpty()) {
+                return "TikTok requer um vídeo";
+            }
+            String videoUrl = conteudo.getMidias().get(0);
+            return !videoUrl.endsWith(".mp4") && !videoUrl.endsWith(".mov")
+                ? "TikTok aceita apenas vídeos (.mp4, .mov)"
+                : null;
+        });
+        validador.adicionarRegra("TIKTOK", conteudo -> {
+            int comprimento = ContadorCaracteres.comprimentoLegenda(conteudo, " ");
+            return comprimento > LIMITE_CAPTION_TIKTOK
+                ? "Caption excede o limite de " + LIMITE_CAPTION_TIKTOK + " caracteres (" + comprimento + ")"
+                : null;
+        });
+
+        return validador;
+    }
+
+    /**
+     * Adiciona uma regra à tabela da plataforma
+     */
+    public synchronized void adicionarRegra(String plataforma, RegraValidacao regra) {
+        if (plataforma == null || plataforma.trim().isEmpty()) {
+            throw new IllegalArgumentException("Plataforma não pode ser vazia");
+        }
+        if (regra == null) {
+            throw new IllegalArgumentException("Regra não pode ser nula");
+        }
+
+        String chave = plataforma.toUpperCase().trim();
+        RegraValidacao[] atuais = regrasPorPlataforma.getOrDefault(chave, SEM_REGRAS);
+        RegraValidacao[] novas = new RegraValidacao[atuais.length + 1];
+        System.arraycopy(atuais, 0, novas, 0, atuais.length);
+        novas[atuais.length] = regra;
+        regrasPorPlataforma.put(chave, novas);
+    }
+
+    /**
+     * Valida um conteúdo para todas as plataformas de destino
+     */
+    public ResultadoValidacao validar(Conteudo conteudo, Collection<String> plataformas) {
+        return validarLote(List.of(conteudo), plataformas);
+    }
+
+    /**
+     * Valida um lote de conteúdos, reportando todas as violações de uma vez
+     * As regras são resolvidas uma única vez por plataforma; a lista de violações
+     * só é criada quando a primeira violação aparece
+     */
+    public ResultadoValidacao validarLote(List<Conteudo> conteudos, Collection<String> plataformas) {
+        String[] nomes = new String[plataformas.size()];
+        RegraValidacao[][] regras = new RegraValidacao[nomes.length][];
+        int p = 0;
+        for (String plataforma : plataformas) {
+            nomes[p] = plataforma.toUpperCase();
+            regras[p] = regrasPorPlataforma.getOrDefault(nomes[p], SEM_REGRAS);
+            p++;
+        }
+
+        List<ViolacaoValidacao> violacoes = null;
+        for (int i = 0; i < conteudos.size(); i++) {
+            Conteudo conteudo = conteudos.get(i);
+            for (int k = 0; k < nomes.length; k++) {
+                for (RegraValidacao regra : regras[k]) {
+                    String mensagem = regra.verificar(conteudo);
+                    if (mensagem != null) {
+                        if (violacoes == null) {
+                            violacoes = new ArrayList<>();
+                        }
+                        violacoes.add(new ViolacaoValidacao(i, conteudo, nomes[k], mensagem));
+                    }
+                }
+            }
+        }
+        return ResultadoValidacao.de(violacoes);
+    }
+}
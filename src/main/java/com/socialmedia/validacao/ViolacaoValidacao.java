@@ -0,0 +1,39 @@
+package com.socialmedia.validacao;
+
+import com.socialmedia.model.Conteudo;
+
+// Violação encontrada na validação prévia de um conteúdo
+public class ViolacaoValidacao {
+    private final int indiceConteudo;
+    private final Conteudo conteudo;
+    private final String plataforma;
+    private final String mensagem;
+
+    public ViolacaoValidacao(int indiceConteudo, Conteudo conteudo, String plataforma, String mensagem) {
+        this.indiceConteudo = indiceConteudo;
+        this.conteudo = conteudo;
+        this.plataforma = plataforma;
+        this.mensagem = mensagem;
+    }
+
+    public int getIndiceConteudo() {
+        return indiceConteudo;
+    }
+
+    public Conteudo getConteudo() {
+        return conteudo;
+    }
+
+    public String getPlataforma() {
+        return plataforma;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + plataforma + "] " + mensagem;
+    }
+}
@@ -0,0 +1,33 @@
+package com.socialmedia.adapter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class CredenciaisTest {
+
+    @Test
+    void separaAteOMaximoEAUltimaParteFicaComORestante() {
+        assertArrayEquals(new String[]{"id", "segredo"}, Credenciais.separar("id:segredo", 3));
+        assertArrayEquals(new String[]{"id", "segredo", "https://exemplo.com:8443/retorno"},
+            Credenciais.separar("id:segredo:https://exemplo.com:8443/retorno", 3));
+    }
+
+    @Test
+    void partesVaziasNoFinalSaoDescartadasComoNoSplit() {
+        assertArrayEquals(new String[]{"a"}, Credenciais.separar("a:", 3));
+        assertArrayEquals(new String[]{"a"}, Credenciais.separar("a::", 4));
+        assertArrayEquals(new String[0], Credenciais.separar("", 2));
+    }
+
+    @Test
+    void partesVaziasNoMeioSaoMantidas() {
+        assertArrayEquals(new String[]{"", "b"}, Credenciais.separar(":b", 2));
+        assertArrayEquals(new String[]{"a", "", "c"}, Credenciais.separar("a::c", 3));
+    }
+
+    @Test
+    void semSeparadorResultaEmUmaParte() {
+        assertArrayEquals(new String[]{"token"}, Credenciais.separar("token", 3));
+    }
+}
@@ -0,0 +1,126 @@
+package com.socialmedia.busca;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndiceConteudoTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    private final IndiceConteudo indice = new IndiceConteudo();
+
+    private static Publicacao publicacao(String id, String plataforma, String texto, List<String> hashtags, int minutos) {
+        Conteudo conteudo = new Conteudo.Builder().texto(texto).hashtags(hashtags).build();
+        return new Publicacao.Builder().id(id).plataforma(plataforma).conteudo(conteudo)
+            .status(StatusPublicacao.PUBLICADO).dataPublicacao(BASE.plusMinutes(minutos)).build();
+    }
+
+    private List<String> ids(ConsultaTexto.Builder consulta) {
+        return indice.buscar(consulta.build()).getResultados().stream()
+            .map(ResultadoBusca::getPublicacaoId).collect(Collectors.toList());
+    }
+
+    private void popular() {
+        indice.aoProcessar(publicacao("a", "TWITTER", "Promoção de verão na loja", List.of("promo"), 0));
+        indice.aoProcessar(publicacao("b", "INSTAGRAM", "Loja aberta no verão", List.of(), 10));
+        indice.aoProcessar(publicacao("c", "TWITTER", "verão chegou, promo relâmpago", List.of("loja"), 20));
+    }
+
+    @Test
+    void operadoresBooleanos() {
+        popular();
+
+        assertEquals(List.of("a", "b", "c"), ids(new ConsultaTexto.Builder().todos("verao")));
+        assertEquals(List.of("a", "b"), ids(new ConsultaTexto.Builder().todos("verão", "loja").nenhum("relampago")));
+        assertEquals(List.of("a", "c"), ids(new ConsultaTexto.Builder().algum("promocao", "relampago")));
+        assertEquals(List.of("c"), ids(new ConsultaTexto.Builder().todos("verao").algum("relampago", "inexistente")));
+        assertTrue(ids(new ConsultaTexto.Builder().todos("verao", "inexistente")).isEmpty());
+    }
+
+    @Test
+    void hashtagCasaSoComHashtagETextoCasaComAmbos() {
+        popular();
+
+        // "a" tem #promo; "c" tem "promo" só no texto
+        assertEquals(List.of("a"), ids(new ConsultaTexto.Builder().todos("#promo")));
+        assertEquals(List.of("a", "c"), ids(new ConsultaTexto.Builder().todos("promo")));
+        assertEquals(List.of("c"), ids(new ConsultaTexto.Builder().todos("#loja")));
+    }
+
+    @Test
+    void frasesExigemTermosConsecutivosSemAtravessarTextoEHashtags() {
+        popular();
+
+        assertEquals(List.of("a"), ids(new ConsultaTexto.Builder().frase("promoção de verão")));
+        assertTrue(ids(new ConsultaTexto.Builder().frase("verão promoção")).isEmpty());
+        // Fim do texto de "c" seguido da hashtag #loja não forma frase
+        assertTrue(ids(new ConsultaTexto.Builder().frase("relâmpago loja")).isEmpty());
+    }
+
+    @Test
+    void filtrosDePlataformaETempo() {
+        popular();
+
+        assertEquals(List.of("a", "c"), ids(new ConsultaTexto.Builder().todos("verao").plataforma("twitter")));
+        assertEquals(List.of("b"), ids(new ConsultaTexto.Builder().todos("verao")
+            .desde(BASE.plusMinutes(5)).ate(BASE.plusMinutes(20))));
+        assertTrue(ids(new ConsultaTexto.Builder().todos("verao").plataforma("TIKTOK")).isEmpty());
+    }
+
+    @Test
+    void paginacaoPorCursorAtravessaPontosDeSalto() {
+        for (int i = 0; i < 500; i++) {
+            indice.indexar(publicacao("p" + i, "TWITTER", i % 2 == 0 ? "par comum" : "impar comum", List.of(), i));
+        }
+
+        List<String> encontrados = new ArrayList<>();
+        int cursor = -1;
+        PaginaBusca pagina;
+        do {
+            pagina = indice.buscar(new ConsultaTexto.Builder().todos("comum", "par").cursor(cursor).limite(40).build());
+            pagina.getResultados().forEach(r -> encontrados.add(r.getPublicacaoId()));
+            cursor = pagina.getProximoCursor();
+        } while (pagina.temProxima());
+
+        assertEquals(250, encontrados.size());
+        assertEquals("p0", encontrados.get(0));
+        assertEquals("p498", encontrados.get(249));
+    }
+
+    @Test
+    void remocaoEReindexacaoSubstituemODocumento() {
+        popular();
+
+        indice.aoRemover("TWITTER", "a");
+        indice.indexar(publicacao("b", "INSTAGRAM", "texto novo", List.of(), 30));
+
+        assertEquals(List.of("c"), ids(new ConsultaTexto.Builder().todos("verao")));
+        assertEquals(List.of("b"), ids(new ConsultaTexto.Builder().todos("novo")));
+        assertEquals(2, indice.getDocumentos());
+
+        long antes = indice.getTamanhoPostagensBytes();
+        indice.compactar();
+        assertTrue(indice.getTamanhoPostagensBytes() < antes);
+        assertEquals(List.of("c"), ids(new ConsultaTexto.Builder().todos("verao")));
+    }
+
+    @Test
+    void publicacoesNaoPublicadasNaoSaoIndexadas() {
+        Conteudo conteudo = new Conteudo.Builder().texto("falhou").build();
+        indice.aoProcessar(new Publicacao.Builder().id("x").plataforma("TWITTER").conteudo(conteudo)
+            .status(StatusPublicacao.FALHOU).build());
+
+        assertEquals(0, indice.getDocumentos());
+        assertThrows(IllegalArgumentException.class, () -> new ConsultaTexto.Builder().nenhum("x").build());
+    }
+}
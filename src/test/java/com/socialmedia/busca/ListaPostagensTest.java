@@ -0,0 +1,79 @@
+package com.socialmedia.busca;
+
+import com.socialmedia.util.ListaInts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ListaPostagensTest {
+
+    private static ListaInts posicoes(int... valores) {
+        ListaInts lista = new ListaInts();
+        for (int valor : valores) {
+            lista.adicionar(valor);
+        }
+        return lista;
+    }
+
+    // Docs 0, 3, 6, ... com posições {doc, doc + 200} (deltas de mais de um byte)
+    private static ListaPostagens lista(int documentos) {
+        ListaPostagens lista = new ListaPostagens();
+        for (int i = 0; i < documentos; i++) {
+            lista.adicionar(i * 3, posicoes(i * 3, i * 3 + 200));
+        }
+        return lista;
+    }
+
+    @Test
+    void cursorPercorreTodosOsDocumentosComAsPosicoes() {
+        ListaPostagens lista = lista(300);
+        CursorPostagens cursor = new CursorPostagens(lista);
+
+        int esperado = 0;
+        for (int doc = cursor.proximo(); doc != CursorPostagens.FIM; doc = cursor.proximo()) {
+            assertEquals(esperado, doc);
+            if (doc % 2 == 0) {
+                ListaInts posicoes = cursor.posicoes();
+                assertEquals(doc, posicoes.get(0));
+                assertEquals(doc + 200, posicoes.get(1));
+            }
+            esperado += 3;
+        }
+        assertEquals(900, esperado);
+        assertEquals(300, lista.getDocumentos());
+    }
+
+    @Test
+    void avancarUsaOsSaltosEParaNoPrimeiroDocMaiorOuIgual() {
+        ListaPostagens lista = lista(1000);
+        CursorPostagens cursor = new CursorPostagens(lista);
+
+        assertEquals(600, cursor.avancar(600));
+        assertEquals(600, cursor.posicoes().get(0));
+        assertEquals(603, cursor.avancar(601));
+        // Para trás não retrocede
+        assertEquals(603, cursor.avancar(10));
+        assertEquals(2997, cursor.avancar(2996));
+        assertEquals(CursorPostagens.FIM, cursor.avancar(2998));
+    }
+
+    @Test
+    void saltoNaFronteiraDoIntervalo() {
+        ListaPostagens lista = lista(ListaPostagens.INTERVALO_SALTO * 3);
+        for (int k = 1; k < 3; k++) {
+            int docNaFronteira = k * ListaPostagens.INTERVALO_SALTO * 3;
+            CursorPostagens cursor = new CursorPostagens(lista);
+            assertEquals(docNaFronteira, cursor.avancar(docNaFronteira));
+            assertEquals(docNaFronteira - 3, new CursorPostagens(lista).avancar(docNaFronteira - 3));
+        }
+    }
+
+    @Test
+    void docIdsDevemSerCrescentes() {
+        ListaPostagens lista = new ListaPostagens();
+        lista.adicionar(5, posicoes(0));
+
+        assertThrows(IllegalArgumentException.class, () -> lista.adicionar(5, posicoes(0)));
+    }
+}
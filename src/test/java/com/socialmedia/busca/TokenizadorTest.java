@@ -0,0 +1,49 @@
+package com.socialmedia.busca;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenizadorTest {
+
+    private static List<String> emitidos(String texto) {
+        List<String> termos = new ArrayList<>();
+        Tokenizador.tokenizar(texto, 0, (termo, posicao) -> termos.add(termo + "@" + posicao));
+        return termos;
+    }
+
+    @Test
+    void normalizaMaiusculasEAcentos() {
+        assertEquals("promocao de verao", Tokenizador.normalizar("Promoção de VERÃO"));
+        assertEquals(List.of("promocao", "de", "verao"), Tokenizador.termos("Promoção de VERÃO!"));
+    }
+
+    @Test
+    void hashtagNoTextoEmiteOsDoisTermosNaMesmaPosicao() {
+        assertEquals(List.of("veja@0", "#promo@1", "promo@1", "hoje@2"), emitidos("veja #Promo, hoje"));
+    }
+
+    @Test
+    void naConsultaHashtagValeSoComoHashtag() {
+        assertEquals(List.of("#promo", "hoje"), Tokenizador.termos("#promo hoje"));
+    }
+
+    @Test
+    void hashtagDoConteudoIgnoraPontuacaoERetornaAProximaPosicao() {
+        List<String> termos = new ArrayList<>();
+
+        int proxima = Tokenizador.tokenizarHashtag("#Promoção!", 5, (termo, posicao) -> termos.add(termo + "@" + posicao));
+
+        assertEquals(List.of("#promocao@5", "promocao@5"), termos);
+        assertEquals(6, proxima);
+        assertEquals(5, Tokenizador.tokenizarHashtag("#!!", 5, (termo, posicao) -> termos.add(termo)));
+    }
+
+    @Test
+    void tokenizarRetornaAProximaPosicaoLivre() {
+        assertEquals(13, Tokenizador.tokenizar("um, dois... três", 10, (termo, posicao) -> { }));
+    }
+}
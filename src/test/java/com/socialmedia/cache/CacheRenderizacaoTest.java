@@ -0,0 +1,117 @@
+package com.socialmedia.cache;
+
+import com.socialmedia.model.Conteudo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheRenderizacaoTest {
+
+    private static Conteudo conteudo(String texto) {
+        return new Conteudo.Builder().texto(texto).build();
+    }
+
+    @Test
+    void renderizaUmaVezPorConteudoEPlataforma() {
+        CacheRenderizacao<String> cache = new CacheRenderizacao<>();
+        AtomicInteger renderizacoes = new AtomicInteger();
+        Conteudo conteudo = conteudo("Olá");
+
+        String primeira = cache.obter(conteudo, "Twitter", c -> c.getTexto() + renderizacoes.incrementAndGet());
+        String segunda = cache.obter(conteudo, "Twitter", c -> c.getTexto() + renderizacoes.incrementAndGet());
+        cache.obter(conteudo, "LinkedIn", c -> c.getTexto() + renderizacoes.incrementAndGet());
+
+        assertSame(primeira, segunda);
+        assertEquals(2, renderizacoes.get());
+    }
+
+    @Test
+    void chaveEhAIdentidadeDoConteudoENaoOEquals() {
+        CacheRenderizacao<Object> cache = new CacheRenderizacao<>();
+        Conteudo a = conteudo("igual");
+        Conteudo b = conteudo("igual");
+
+        assertEquals(a, b);
+        assertNotSame(cache.obter(a, "Twitter", c -> new Object()), cache.obter(b, "Twitter", c -> new Object()));
+    }
+
+    @Test
+    void invalidarForcaNovaRenderizacao() {
+        CacheRenderizacao<Object> cache = new CacheRenderizacao<>();
+        Conteudo conteudo = conteudo("x");
+        Object antes = cache.obter(conteudo, "Twitter", c -> new Object());
+
+        cache.invalidar(conteudo, "Twitter");
+
+        assertNotSame(antes, cache.obter(conteudo, "Twitter", c -> new Object()));
+    }
+
+    @Test
+    void tamanhoNaoPassaDaCapacidade() {
+        CacheRenderizacao<String> cache = new CacheRenderizacao<>(8);
+        List<Conteudo> vivos = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Conteudo conteudo = conteudo("c" + i);
+            vivos.add(conteudo);
+            cache.obter(conteudo, "Twitter", Conteudo::getTexto);
+        }
+        assertTrue(cache.tamanho() <= 8, "tamanho " + cache.tamanho());
+    }
+
+    @Test
+    void despejoPreservaEntradasUsadasRecentemente() {
+        CacheRenderizacao<Object> cache = new CacheRenderizacao<>(4);
+        Conteudo quente = conteudo("quente");
+        Object valor = cache.obter(quente, "Twitter", c -> new Object());
+        List<Conteudo> vivos = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Conteudo frio = conteudo("frio" + i);
+            vivos.add(frio);
+            cache.obter(frio, "Twitter", c -> new Object());
+            // Uso constante: no relógio, a entrada sempre ganha outra chance
+            assertSame(valor, cache.obter(quente, "Twitter", c -> new Object()));
+        }
+    }
+
+    @Test
+    void renderizadorLentoNaoBloqueiaOutrosConteudos() throws Exception {
+        CacheRenderizacao<String> cache = new CacheRenderizacao<>();
+        CountDownLatch renderizando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Conteudo lento = conteudo("lento");
+        Thread thread = new Thread(() -> cache.obter(lento, "Twitter", c -> {
+            renderizando.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return c.getTexto();
+        }));
+        thread.start();
+        try {
+            assertTrue(renderizando.await(5, TimeUnit.SECONDS));
+            // Sem lock global, outro conteúdo é renderizado enquanto o primeiro ainda está em andamento
+            assertEquals("rapido", cache.obter(conteudo("rapido"), "Twitter", Conteudo::getTexto));
+        } finally {
+            liberar.countDown();
+            thread.join();
+        }
+        assertEquals("lento", cache.obter(lento, "Twitter", c -> "outro"));
+    }
+
+    @Test
+    void capacidadeDeveSerPositiva() {
+        assertThrows(IllegalArgumentException.class, () -> new CacheRenderizacao<String>(0));
+    }
+}
@@ -0,0 +1,39 @@
+package com.socialmedia.carga;
+
+import com.socialmedia.exception.AutenticacaoException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GeradorCargaTest {
+
+    private static CenarioCarga.Builder cenarioCurto() {
+        return new CenarioCarga.Builder()
+            .taxaPorSegundo(40)
+            .duracaoSegundos(1)
+            .aquecimentoSegundos(0)
+            .threads(2)
+            .chegadaPoisson(false)
+            .plataformas(Map.of("TWITTER", 1, "INSTAGRAM", 1));
+    }
+
+    @Test
+    void executaCenarioERelataTodasAsRequisicoes() throws AutenticacaoException {
+        RelatorioCarga relatorio = new GeradorCarga(cenarioCurto().build()).executar();
+
+        assertEquals(40, relatorio.getAgendadas());
+        assertEquals(0, relatorio.getNaoConcluidas());
+        assertEquals(40, relatorio.getTotal().getTotal());
+        assertEquals(40, relatorio.getTotal().getSucessos());
+    }
+
+    @Test
+    void falhaAntesDeDispararComCredenciaisInvalidas() {
+        CenarioCarga cenario = cenarioCurto().credenciais("TWITTER", "sem-separador").build();
+
+        assertThrows(AutenticacaoException.class, () -> new GeradorCarga(cenario).executar());
+    }
+}
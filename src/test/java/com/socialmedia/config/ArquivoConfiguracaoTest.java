@@ -0,0 +1,48 @@
+package com.socialmedia.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArquivoConfiguracaoTest {
+
+    private static List<ConfiguracaoPlataforma> ler(String texto) throws IOException {
+        return ArquivoConfiguracao.ler(new StringReader(texto));
+    }
+
+    @Test
+    void leCredenciaisEAtivaEmOrdemDePlataforma() throws IOException {
+        List<ConfiguracaoPlataforma> configs = ler(
+            "twitter.credenciais=chave:segredo\n"
+            + "linkedin.credenciais=id:segredo:https://exemplo.com/retorno\n"
+            + "linkedin.ativa=FALSE\n");
+
+        assertEquals(2, configs.size());
+        assertEquals("LINKEDIN", configs.get(0).getPlataforma());
+        assertEquals("id:segredo:https://exemplo.com/retorno", configs.get(0).getCredenciais());
+        assertFalse(configs.get(0).isAtiva());
+        assertEquals("TWITTER", configs.get(1).getPlataforma());
+        assertTrue(configs.get(1).isAtiva());
+    }
+
+    @Test
+    void plataformaInativaPodeOmitirAsCredenciais() throws IOException {
+        assertEquals(List.of(), ler("tiktok.ativa=false\n"));
+    }
+
+    @Test
+    void chavesEValoresInvalidosSaoRejeitados() {
+        assertThrows(IllegalArgumentException.class, () -> ler("credenciais=chave:segredo\n"));
+        assertThrows(IllegalArgumentException.class, () -> ler("twitter.senha=segredo\n"));
+        assertThrows(IllegalArgumentException.class, () -> ler("twitter.credenciais=a:b\ntwitter.ativa=sim\n"));
+        IllegalArgumentException erro = assertThrows(IllegalArgumentException.class, () -> ler("tiktok.ativa=true\n"));
+        assertTrue(erro.getMessage().startsWith("TIKTOK"));
+    }
+}
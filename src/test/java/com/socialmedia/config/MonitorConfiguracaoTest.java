@@ -0,0 +1,167 @@
+package com.socialmedia.config;
+
+import com.socialmedia.service.GerenciadorMidiaSocial;
+import com.socialmedia.strategy.RespostaSumarizadaStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonitorConfiguracaoTest {
+
+    @TempDir
+    Path diretorio;
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condicao.getAsBoolean() && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertTrue(condicao.getAsBoolean());
+    }
+
+    @Test
+    void aplicaOArquivoInicialERecarregaCadaVersaoNova() throws Exception {
+        Path arquivo = diretorio.resolve("plataformas.properties");
+        Files.writeString(arquivo, "twitter.credenciais=chave:segredo\n");
+        BlockingQueue<List<ConfiguracaoPlataforma>> versoes = new LinkedBlockingQueue<>();
+        try (MonitorConfiguracao monitor = new MonitorConfiguracao.Builder()
+                .arquivo(arquivo)
+                .destino(configs -> {
+                    versoes.add(configs);
+                    return List.of();
+                })
+                .agrupamento(20, TimeUnit.MILLISECONDS)
+                .build()) {
+            monitor.iniciar();
+            assertEquals("TWITTER", versoes.take().get(0).getPlataforma());
+
+            Files.writeString(arquivo, "instagram.credenciais=token\n");
+            List<ConfiguracaoPlataforma> segunda = versoes.poll(10, TimeUnit.SECONDS);
+            assertEquals("INSTAGRAM", segunda.get(0).getPlataforma());
+
+            // Salvamento por temporário + renomeação gera CREATE em vez de MODIFY
+            Path temporario = diretorio.resolve("plataformas.properties.tmp");
+            Files.writeString(temporario, "tiktok.credenciais=app:segredo:codigo\n");
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            List<ConfiguracaoPlataforma> terceira = versoes.poll(10, TimeUnit.SECONDS);
+            assertEquals("TIKTOK", terceira.get(0).getPlataforma());
+            aguardar(() -> monitor.getRecargas() == 3);
+        }
+    }
+
+    @Test
+    void arquivoInvalidoNaoAlteraNadaEVaiParaAoFalhar() throws Exception {
+        Path arquivo = diretorio.resolve("plataformas.properties");
+        Files.writeString(arquivo, "twitter.credenciais=chave:segredo\n");
+        BlockingQueue<List<ConfiguracaoPlataforma>> versoes = new LinkedBlockingQueue<>();
+        BlockingQueue<Exception> erros = new LinkedBlockingQueue<>();
+        try (MonitorConfiguracao monitor = new MonitorConfiguracao.Builder()
+                .arquivo(arquivo)
+                .destino(configs -> {
+                    versoes.add(configs);
+                    return List.of();
+                })
+                .aoFalhar(erros::add)
+                .agrupamento(20, TimeUnit.MILLISECONDS)
+                .build()) {
+            monitor.iniciar();
+            versoes.take();
+
+            Files.writeString(arquivo, "twitter.senha=segredo\n");
+            assertTrue(erros.poll(10, TimeUnit.SECONDS) instanceof IllegalArgumentException);
+            assertEquals(1, monitor.getFalhas());
+            assertNull(versoes.poll(100, TimeUnit.MILLISECONDS));
+            assertEquals(1, monitor.getRecargas());
+        }
+    }
+
+    @Test
+    void falhaDoDestinoPermiteReaplicarOMesmoConteudo() throws Exception {
+        Path arquivo = diretorio.resolve("plataformas.properties");
+        Files.writeString(arquivo, "twitter.credenciais=chave:segredo\n");
+        BlockingQueue<List<ConfiguracaoPlataforma>> versoes = new LinkedBlockingQueue<>();
+        BlockingQueue<Exception> erros = new LinkedBlockingQueue<>();
+        AtomicInteger entregas = new AtomicInteger();
+        try (MonitorConfiguracao monitor = new MonitorConfiguracao.Builder()
+                .arquivo(arquivo)
+                .destino(configs -> {
+                    // A segunda versão falha na primeira entrega
+                    if (entregas.incrementAndGet() == 2) {
+                        throw new IllegalStateException("destino indisponível");
+                    }
+                    versoes.add(configs);
+                    return List.of();
+                })
+                .aoFalhar(erros::add)
+                .agrupamento(20, TimeUnit.MILLISECONDS)
+                .build()) {
+            monitor.iniciar();
+            versoes.take();
+
+            Files.writeString(arquivo, "instagram.credenciais=token\n");
+            assertTrue(erros.poll(10, TimeUnit.SECONDS) instanceof IllegalStateException);
+
+            // Os mesmos bytes gravados de novo são reaplicados
+            Files.writeString(arquivo, "instagram.credenciais=token\n");
+            List<ConfiguracaoPlataforma> reaplicada = versoes.poll(10, TimeUnit.SECONDS);
+            assertEquals("INSTAGRAM", reaplicada.get(0).getPlataforma());
+            assertEquals(1, monitor.getFalhas());
+        }
+    }
+
+    @Test
+    void inicioComArquivoInvalidoOuRepetidoFalha() throws IOException {
+        Path arquivo = diretorio.resolve("plataformas.properties");
+        Files.writeString(arquivo, "twitter.ativa=talvez\n");
+        MonitorConfiguracao.Builder builder = new MonitorConfiguracao.Builder()
+            .arquivo(arquivo)
+            .destino(configs -> List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> builder.build().iniciar());
+
+        Files.writeString(arquivo, "twitter.credenciais=chave:segredo\n");
+        try (MonitorConfiguracao monitor = builder.build()) {
+            monitor.iniciar();
+            assertThrows(IllegalStateException.class, monitor::iniciar);
+        }
+    }
+
+    @Test
+    void recargaNoGerenciadorTrocaAsPlataformasAtivas() throws Exception {
+        Path arquivo = diretorio.resolve("plataformas.properties");
+        Files.writeString(arquivo, "twitter.credenciais=chave:segredo\ninstagram.credenciais=token\n");
+        GerenciadorMidiaSocial gerenciador = new GerenciadorMidiaSocial(new RespostaSumarizadaStrategy());
+        try (MonitorConfiguracao monitor = new MonitorConfiguracao.Builder()
+                .arquivo(arquivo)
+                .destino(gerenciador::aplicarConfiguracoes)
+                .agrupamento(20, TimeUnit.MILLISECONDS)
+                .build()) {
+            assertEquals(List.of(), monitor.iniciar());
+            assertTrue(gerenciador.isPlataformaAtiva("TWITTER"));
+
+            Files.writeString(arquivo, "instagram.credenciais=token\ntiktok.credenciais=sem-codigo\n");
+            // A recarga é contada antes de chegar ao gerenciador; as falhas só depois que ele termina
+            aguardar(() -> monitor.getUltimasFalhas().size() == 1);
+            assertEquals(2, monitor.getRecargas());
+            assertTrue(gerenciador.isPlataformaAtiva("INSTAGRAM"));
+            assertFalse(gerenciador.isPlataformaAtiva("TWITTER"));
+            assertFalse(gerenciador.isPlataformaAtiva("TIKTOK"));
+        }
+    }
+}
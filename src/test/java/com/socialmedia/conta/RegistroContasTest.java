@@ -0,0 +1,120 @@
+package com.socialmedia.conta;
+
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.resultado.Resultado;
+import com.socialmedia.service.RedeSocialService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegistroContasTest {
+    private static final ChaveConta MARCA_TWITTER = new ChaveConta("marca", "twitter", "@marca");
+    private static final ChaveConta MARCA_LINKEDIN = new ChaveConta("marca", "LINKEDIN", "empresa");
+    private static final ChaveConta OUTRA_TWITTER = new ChaveConta("outra", "TWITTER", "@outra");
+
+    private static Resultado<RedeSocialService> service(RegistroContas registro, ChaveConta chave) {
+        return registro.executar(chave, Resultado::sucesso);
+    }
+
+    @Test
+    void registrarNaoAutenticaAteOPrimeiroUso() {
+        RegistroContas registro = new RegistroContas.Builder().shards(4).build();
+        registro.registrar(MARCA_TWITTER, "chave:segredo");
+        assertEquals(0, registro.getSessoesAtivas());
+
+        Resultado<RedeSocialService> primeiro = service(registro, MARCA_TWITTER);
+        Resultado<RedeSocialService> segundo = service(registro, MARCA_TWITTER);
+
+        assertTrue(primeiro.isSucesso());
+        assertTrue(primeiro.getValor().isAutenticado());
+        assertSame(primeiro.getValor(), segundo.getValor());
+        assertEquals(1, registro.getSessoesAtivas());
+    }
+
+    @Test
+    void contaNaoRegistradaOuCredenciaisRecusadasViramFalha() {
+        RegistroContas registro = new RegistroContas.Builder().build();
+        assertEquals(CategoriaErro.NAO_ENCONTRADO, service(registro, MARCA_TWITTER).getErro().getCategoria());
+
+        registro.registrar(MARCA_TWITTER, "sem-separador");
+        assertEquals(CategoriaErro.AUTENTICACAO, service(registro, MARCA_TWITTER).getErro().getCategoria());
+        assertEquals(0, registro.getSessoesAtivas());
+    }
+
+    @Test
+    void nomeDaPlataformaVemDoAdapterSemAbrirSessao() {
+        RegistroContas registro = new RegistroContas.Builder().build();
+        registro.registrar(MARCA_LINKEDIN, "id:segredo:https://exemplo.com/retorno");
+
+        assertEquals("LinkedIn", registro.getNomePlataforma(MARCA_LINKEDIN));
+        assertEquals("Twitter", registro.getNomePlataforma(MARCA_TWITTER));
+        assertEquals("ORKUT", registro.getNomePlataforma(new ChaveConta("marca", "orkut", "perfil")));
+        assertEquals(0, registro.getSessoesAtivas());
+    }
+
+    @Test
+    void registroValidaChaveCredenciaisEPlataforma() {
+        RegistroContas registro = new RegistroContas.Builder().build();
+
+        assertThrows(IllegalArgumentException.class, () -> registro.registrar(null, "chave:segredo"));
+        assertThrows(IllegalArgumentException.class, () -> registro.registrar(MARCA_TWITTER, " "));
+        assertThrows(IllegalArgumentException.class,
+            () -> registro.registrar(new ChaveConta("marca", "ORKUT", "perfil"), "token"));
+        assertThrows(IllegalArgumentException.class, () -> new RegistroContas.Builder().shards(0));
+    }
+
+    @Test
+    void contasDoTenantNaOrdemDeRegistroERemocaoDoTenant() {
+        RegistroContas registro = new RegistroContas.Builder().shards(2).build();
+        registro.registrar(MARCA_TWITTER, "chave:segredo");
+        registro.registrar(OUTRA_TWITTER, "chave:segredo");
+        registro.registrar(MARCA_LINKEDIN, "cliente:segredo");
+        service(registro, MARCA_TWITTER);
+
+        assertEquals(List.of(MARCA_TWITTER, MARCA_LINKEDIN), registro.getContas("marca"));
+        assertEquals(3, registro.getTotalContas());
+
+        assertEquals(2, registro.removerTenant("marca"));
+        assertEquals(List.of(), registro.getContas("marca"));
+        assertFalse(registro.contem(MARCA_TWITTER));
+        assertTrue(registro.contem(OUTRA_TWITTER));
+        assertEquals(0, registro.getSessoesAtivas());
+        assertEquals(0, registro.removerTenant("marca"));
+    }
+
+    @Test
+    void substituirCredenciaisDescartaASessaoAnterior() {
+        RegistroContas registro = new RegistroContas.Builder().build();
+        registro.registrar(MARCA_TWITTER, "chave:segredo");
+        RedeSocialService anterior = service(registro, MARCA_TWITTER).getValor();
+
+        registro.registrar(MARCA_TWITTER, "nova-chave:novo-segredo");
+        assertEquals(0, registro.getSessoesAtivas());
+        assertEquals(List.of(MARCA_TWITTER), registro.getContas("marca"));
+        assertNotSame(anterior, service(registro, MARCA_TWITTER).getValor());
+    }
+
+    @Test
+    void despejoDescartaSessoesOciosasEOProximoUsoAutenticaDeNovo() throws InterruptedException {
+        RegistroContas registro = new RegistroContas.Builder().tempoOcioso(1, TimeUnit.MILLISECONDS).build();
+        registro.registrar(MARCA_TWITTER, "chave:segredo");
+        registro.registrar(OUTRA_TWITTER, "chave:segredo");
+        RedeSocialService anterior = service(registro, MARCA_TWITTER).getValor();
+        Thread.sleep(5);
+
+        assertEquals(1, registro.despejarOciosas());
+        assertEquals(0, registro.getSessoesAtivas());
+        assertEquals(2, registro.getTotalContas());
+
+        assertNotSame(anterior, service(registro, MARCA_TWITTER).getValor());
+        assertEquals(1, registro.getSessoesAtivas());
+    }
+}
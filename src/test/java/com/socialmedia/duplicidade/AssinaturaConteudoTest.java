@@ -0,0 +1,69 @@
+package com.socialmedia.duplicidade;
+
+import com.socialmedia.model.Conteudo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AssinaturaConteudoTest {
+
+    private static AssinaturaConteudo assinatura(String texto, List<String> hashtags, List<String> midias) {
+        return AssinaturaConteudo.de(new Conteudo.Builder().texto(texto).hashtags(hashtags).midias(midias).build());
+    }
+
+    private static AssinaturaConteudo assinatura(String texto) {
+        return assinatura(texto, List.of(), List.of());
+    }
+
+    @Test
+    void caixaAcentosEPontuacaoNaoMudamAAssinatura() {
+        AssinaturaConteudo original = assinatura("Promoção de verão: 50% em toda a loja!");
+        AssinaturaConteudo variante = assinatura("promocao   de VERAO 50 em toda a loja");
+
+        assertEquals(1.0, original.similaridade(variante));
+    }
+
+    @Test
+    void textosParecidosTemSimilaridadeAltaEDistintosBaixa() {
+        String base = "lançamento do novo produto hoje às dez horas com desconto especial para clientes antigos";
+        AssinaturaConteudo original = assinatura(base);
+
+        double parecido = original.similaridade(assinatura(base + " e novos"));
+        double distinto = original.similaridade(assinatura("receita de bolo de cenoura com cobertura de chocolate"));
+
+        assertTrue(parecido > 0.6, "parecido " + parecido);
+        assertTrue(distinto < 0.2, "distinto " + distinto);
+    }
+
+    @Test
+    void ordemDosTermosEntraPelosPares() {
+        AssinaturaConteudo original = assinatura("um dois tres quatro cinco seis");
+
+        assertTrue(original.similaridade(assinatura("seis cinco quatro tres dois um")) < 1.0);
+    }
+
+    @Test
+    void midiasEHashtagsFazemParteDaAssinatura() {
+        AssinaturaConteudo semMidia = assinatura("texto curto", List.of(), List.of());
+        AssinaturaConteudo comMidia = assinatura("texto curto", List.of(), List.of("https://cdn/a.jpg"));
+        AssinaturaConteudo comHashtag = assinatura("texto curto", List.of("verao"), List.of());
+
+        assertTrue(semMidia.similaridade(comMidia) < 1.0);
+        assertTrue(semMidia.similaridade(comHashtag) < 1.0);
+    }
+
+    @Test
+    void bandasIguaisParaAssinaturasIguais() {
+        AssinaturaConteudo a = assinatura("mesmo texto");
+        AssinaturaConteudo b = assinatura("MESMO texto");
+
+        for (int banda = 0; banda < 16; banda++) {
+            assertEquals(a.banda(banda, 4), b.banda(banda, 4));
+        }
+        // O índice da banda entra no hash
+        assertTrue(a.banda(0, 4) != a.banda(1, 4));
+    }
+}
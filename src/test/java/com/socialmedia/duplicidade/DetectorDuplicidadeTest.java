@@ -0,0 +1,91 @@
+package com.socialmedia.duplicidade;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DetectorDuplicidadeTest {
+
+    private static Conteudo conteudo(String texto) {
+        return new Conteudo.Builder().texto(texto).build();
+    }
+
+    private static Publicacao publicacao(String id, String plataforma, Conteudo conteudo, StatusPublicacao status) {
+        return new Publicacao.Builder().id(id).plataforma(plataforma).conteudo(conteudo).status(status).build();
+    }
+
+    @Test
+    void aprendeComPublicadasENotificaOsOuvintes() {
+        DetectorDuplicidade detector = new DetectorDuplicidade.Builder().build();
+        List<Duplicidade> notificadas = new ArrayList<>();
+        detector.adicionarOuvinte(notificadas::add);
+
+        detector.aoProcessar(publicacao("tw1", "Twitter", conteudo("Grande liquidação de inverno hoje"), StatusPublicacao.PUBLICADO));
+        Duplicidade duplicidade = detector.verificar(conteudo("grande liquidacao de INVERNO hoje!"), "TWITTER");
+
+        assertEquals("tw1", duplicidade.getPublicacaoOriginalId());
+        assertEquals(List.of(duplicidade), notificadas);
+    }
+
+    @Test
+    void textosSoComEmojiOuPontuacaoNaoSaoDuplicadosEntreSi() {
+        DetectorDuplicidade detector = new DetectorDuplicidade.Builder().build();
+        detector.aoProcessar(publicacao("tw1", "Twitter", conteudo("🔥🔥🔥"), StatusPublicacao.PUBLICADO));
+        detector.aoProcessar(publicacao("tw2", "Twitter", conteudo("!!!"), StatusPublicacao.PUBLICADO));
+
+        assertNull(detector.verificar(conteudo("🎉🎂🎈"), "TWITTER"));
+        assertNull(detector.verificar(conteudo("???"), "TWITTER"));
+        assertEquals("tw1", detector.verificar(conteudo("🔥 🔥 🔥"), "TWITTER").getPublicacaoOriginalId());
+    }
+
+    @Test
+    void conteudoSemCaracteristicasNuncaEDuplicado() {
+        DetectorDuplicidade detector = new DetectorDuplicidade.Builder().build();
+        // Espaço ideográfico: sobrevive ao trim() do Conteudo, mas não gera termo nem code point
+        detector.aoProcessar(publicacao("tw1", "Twitter", conteudo("\u3000"), StatusPublicacao.PUBLICADO));
+
+        assertNull(detector.verificar(conteudo("\u3000\u3000"), "TWITTER"));
+    }
+
+    @Test
+    void cadaPlataformaTemSuaJanela() {
+        DetectorDuplicidade detector = new DetectorDuplicidade.Builder().build();
+        Conteudo conteudo = conteudo("mesmo texto em duas redes");
+
+        detector.registrar(conteudo, "TWITTER", "tw1");
+
+        assertNull(detector.verificar(conteudo, "LINKEDIN"));
+    }
+
+    @Test
+    void ignoraFalhasEEsqueceRemovidas() {
+        DetectorDuplicidade detector = new DetectorDuplicidade.Builder().build();
+        Conteudo conteudo = conteudo("conteúdo que falhou e depois foi removido");
+
+        detector.aoProcessar(publicacao("x", "TWITTER", conteudo, StatusPublicacao.FALHOU));
+        assertNull(detector.verificar(conteudo, "TWITTER"));
+
+        detector.aoProcessar(publicacao("y", "TWITTER", conteudo, StatusPublicacao.AGENDADO));
+        detector.aoRemover("twitter", "y");
+        assertNull(detector.verificar(conteudo, "TWITTER"));
+    }
+
+    @Test
+    void builderValidaOsParametros() {
+        assertThrows(IllegalArgumentException.class, () -> new DetectorDuplicidade.Builder().limiar(0).build());
+        assertThrows(IllegalArgumentException.class, () -> new DetectorDuplicidade.Builder().limiar(1.1).build());
+        assertThrows(IllegalArgumentException.class, () -> new DetectorDuplicidade.Builder().janela(Duration.ZERO).build());
+        assertThrows(IllegalArgumentException.class, () -> new DetectorDuplicidade.Builder().bandas(5).build());
+        assertThrows(IllegalArgumentException.class, () -> new DetectorDuplicidade.Builder().capacidadePorPlataforma(0).build());
+        assertThrows(IllegalArgumentException.class, () -> new DetectorDuplicidade.Builder().modo(null).build());
+    }
+}
@@ -0,0 +1,53 @@
+package com.socialmedia.duplicidade;
+
+import com.socialmedia.model.Conteudo;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndiceLshTest {
+    private static final int TODOS = AssinaturaConteudo.COMPONENTES;
+
+    private static AssinaturaConteudo assinatura(String texto) {
+        return AssinaturaConteudo.de(new Conteudo.Builder().texto(texto).build());
+    }
+
+    @Test
+    void encontraAEntradaIgualDentroDaJanela() {
+        IndiceLsh indice = new IndiceLsh("TWITTER", 10, 16);
+        indice.adicionar(assinatura("primeiro texto publicado"), "p1", 1_000);
+        indice.adicionar(assinatura("outro assunto qualquer"), "p2", 2_000);
+
+        Duplicidade duplicidade = indice.buscar(assinatura("Primeiro texto, publicado!"), TODOS, 0);
+
+        assertEquals("p1", duplicidade.getPublicacaoOriginalId());
+        assertEquals(1.0, duplicidade.getSimilaridade());
+        assertNull(indice.buscar(assinatura("primeiro texto publicado"), TODOS, 1_001), "fora da janela");
+    }
+
+    @Test
+    void capacidadeCheiaSobrescreveAMaisAntiga() {
+        IndiceLsh indice = new IndiceLsh("TWITTER", 2, 16);
+        indice.adicionar(assinatura("texto a"), "a", 0);
+        indice.adicionar(assinatura("texto b"), "b", 0);
+        indice.adicionar(assinatura("texto c"), "c", 0);
+
+        assertNull(indice.buscar(assinatura("texto a"), TODOS, 0));
+        assertEquals("c", indice.buscar(assinatura("texto c"), TODOS, 0).getPublicacaoOriginalId());
+        assertFalse(indice.remover("a"));
+    }
+
+    @Test
+    void removerERegistrarDeNovoOMesmoId() {
+        IndiceLsh indice = new IndiceLsh("TWITTER", 10, 16);
+        indice.adicionar(assinatura("versao antiga"), "p", 0);
+        indice.adicionar(assinatura("versao nova"), "p", 0);
+
+        assertNull(indice.buscar(assinatura("versao antiga"), TODOS, 0), "o ID passa a apontar só para a nova");
+        assertTrue(indice.remover("p"));
+        assertNull(indice.buscar(assinatura("versao nova"), TODOS, 0));
+    }
+}
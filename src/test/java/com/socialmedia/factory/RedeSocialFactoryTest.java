@@ -0,0 +1,67 @@
+package com.socialmedia.factory;
+
+import com.socialmedia.adapter.TwitterAdapter;
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.service.RedeSocialService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RedeSocialFactoryTest {
+
+    @Test
+    void descobrePlataformasDeclaradasNoServiceLoader() {
+        assertTrue(Set.of(RedeSocialFactory.getPlataformasSuportadas())
+            .containsAll(Set.of("TWITTER", "INSTAGRAM", "LINKEDIN", "TIKTOK")));
+    }
+
+    @Test
+    void criaInstanciaNovaSemDiferenciarMaiusculas() {
+        RedeSocialService primeiro = RedeSocialFactory.criar(" twitter ");
+        RedeSocialService segundo = RedeSocialFactory.criar("Twitter");
+
+        assertEquals("Twitter", primeiro.getNomePlataforma());
+        assertNotSame(primeiro, segundo);
+    }
+
+    @Test
+    void criarAutenticadoAutenticaOuPropagaAFalha() throws AutenticacaoException {
+        assertTrue(RedeSocialFactory.criarAutenticado("TWITTER", "chave:segredo").isAutenticado());
+        assertThrows(AutenticacaoException.class, () -> RedeSocialFactory.criarAutenticado("TWITTER", "sem-separador"));
+    }
+
+    @Test
+    void plataformaDesconhecidaOuVaziaEhRejeitada() {
+        IllegalArgumentException erro = assertThrows(IllegalArgumentException.class,
+            () -> RedeSocialFactory.criar("ORKUT"));
+        assertTrue(erro.getMessage().contains("TWITTER"));
+        assertThrows(IllegalArgumentException.class, () -> RedeSocialFactory.criar(" "));
+        assertFalse(RedeSocialFactory.isPlataformaSuportada(null));
+    }
+
+    @Test
+    void registrarChamaOSupplierACadaCriacaoERemoverDesfaz() {
+        AtomicInteger criados = new AtomicInteger();
+        RedeSocialFactory.registrar("teste-factory", () -> {
+            criados.incrementAndGet();
+            return new TwitterAdapter();
+        });
+        try {
+            assertTrue(RedeSocialFactory.isPlataformaSuportada("TESTE-FACTORY"));
+            RedeSocialFactory.criar("teste-factory");
+            RedeSocialFactory.criar("teste-factory");
+            assertEquals(2, criados.get());
+        } finally {
+            assertTrue(RedeSocialFactory.removerRegistro("teste-factory"));
+        }
+        assertFalse(RedeSocialFactory.isPlataformaSuportada("teste-factory"));
+        assertFalse(RedeSocialFactory.removerRegistro("teste-factory"));
+    }
+}
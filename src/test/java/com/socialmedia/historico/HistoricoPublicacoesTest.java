@@ -0,0 +1,287 @@
+package com.socialmedia.historico;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistoricoPublicacoesTest {
+    private static final Conteudo CONTEUDO = new Conteudo.Builder().texto("texto").build();
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @TempDir
+    Path diretorio;
+
+    private static Publicacao publicacao(String id, String plataforma, StatusPublicacao status, LocalDateTime data) {
+        return new Publicacao.Builder().id(id).plataforma(plataforma).conteudo(CONTEUDO)
+            .status(status).dataPublicacao(data).urlPublicacao("https://x/" + id).build();
+    }
+
+    private static List<Path> arquivos(Path diretorio, String extensao) throws IOException {
+        try (Stream<Path> listagem = Files.list(diretorio)) {
+            return listagem.filter(p -> p.getFileName().toString().endsWith(extensao)).sorted().collect(Collectors.toList());
+        }
+    }
+
+    // Registros pequenos em segmentos de 512 bytes: alguns registros por segmento
+    private HistoricoPublicacoes abrirPequeno() throws IOException {
+        return new HistoricoPublicacoes(diretorio, 512);
+    }
+
+    @Test
+    void registraLeEBuscaOMaisRecentePorId() throws IOException {
+        try (HistoricoPublicacoes historico = abrirPequeno()) {
+            long primeira = historico.registrar(publicacao("p1", "Twitter", StatusPublicacao.PUBLICADO, BASE));
+            historico.registrar(publicacao("p2", "LinkedIn", StatusPublicacao.FALHOU, BASE));
+            long remocao = historico.registrarRemocao("Twitter", "p1");
+
+            assertEquals("p1", historico.ler(primeira).getId());
+            RegistroPublicacao maisRecente = historico.buscarPorId("p1");
+            assertEquals(remocao, maisRecente.getSequencia());
+            assertEquals(StatusPublicacao.CANCELADO, maisRecente.getStatus());
+            assertNull(historico.buscarPorId("inexistente"));
+            assertThrows(IllegalArgumentException.class, () -> historico.ler(99));
+        }
+    }
+
+    @Test
+    void consultaFiltraEPaginaAtravesDeSegmentosSelados() throws IOException {
+        try (HistoricoPublicacoes historico = abrirPequeno()) {
+            for (int i = 0; i < 60; i++) {
+                String plataforma = i % 3 == 0 ? "TWITTER" : "INSTAGRAM";
+                StatusPublicacao status = i % 2 == 0 ? StatusPublicacao.PUBLICADO : StatusPublicacao.FALHOU;
+                historico.registrar(publicacao("p" + i, plataforma, status, BASE.plusMinutes(i)));
+            }
+            assertTrue(arquivos(diretorio, ".idx").size() > 2, "esperava segmentos selados");
+
+            List<String> ids = new ArrayList<>();
+            long cursor = -1;
+            PaginaHistorico pagina;
+            do {
+                pagina = historico.consultar(new ConsultaHistorico.Builder()
+                    .plataforma("twitter").status(StatusPublicacao.PUBLICADO).cursor(cursor).limite(3).build());
+                pagina.getRegistros().forEach(r -> ids.add(r.getId()));
+                cursor = pagina.getProximoCursor();
+            } while (pagina.temProxima());
+
+            // i múltiplo de 3 e par: múltiplos de 6
+            List<String> esperados = new ArrayList<>();
+            for (int i = 0; i < 60; i += 6) {
+                esperados.add("p" + i);
+            }
+            assertEquals(esperados, ids);
+
+            PaginaHistorico faixa = historico.consultar(new ConsultaHistorico.Builder()
+                .desde(BASE.plusMinutes(10)).ate(BASE.plusMinutes(13)).build());
+            assertEquals(List.of("p10", "p11", "p12"),
+                faixa.getRegistros().stream().map(RegistroPublicacao::getId).collect(Collectors.toList()));
+            assertTrue(historico.consultar(new ConsultaHistorico.Builder().plataforma("TIKTOK").build())
+                .getRegistros().isEmpty());
+        }
+    }
+
+    @Test
+    void reabrirUsaOsIndicesSeladosEContinuaAsSequencias() throws IOException {
+        long ultima;
+        try (HistoricoPublicacoes historico = abrirPequeno()) {
+            for (int i = 0; i < 30; i++) {
+                historico.registrar(publicacao("p" + i, "TWITTER", StatusPublicacao.PUBLICADO, BASE));
+            }
+            ultima = historico.registrar(publicacao("ultima", "TWITTER", StatusPublicacao.PUBLICADO, BASE));
+        }
+        try (HistoricoPublicacoes historico = abrirPequeno()) {
+            assertEquals(31, historico.tamanho());
+            assertEquals("p7", historico.buscarPorId("p7").getId());
+            assertEquals("ultima", historico.ler(ultima).getId());
+            assertTrue(historico.registrar(publicacao("nova", "TWITTER", StatusPublicacao.PUBLICADO, BASE)) > ultima);
+            assertEquals(0, historico.getTrechosEmQuarentena());
+        }
+    }
+
+    @Test
+    void escritaInterrompidaNoFimEhDescartadaEmQuarentena() throws IOException {
+        long ultima;
+        try (HistoricoPublicacoes historico = abrirPequeno()) {
+            historico.registrar(publicacao("a", "TWITTER", StatusPublicacao.PUBLICADO, BASE));
+            ultima = historico.registrar(publicacao("b", "TWITTER", StatusPublicacao.PUBLICADO, BASE));
+        }
+        List<Path> segmentos = arquivos(diretorio, ".log");
+        Path ativo = segmentos.get(segmentos.size() - 1);
+        long tamanhoIntegro = Files.size(ativo);
+        Files.write(ativo, new byte[] {0, 0, 0, 60, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (HistoricoPublicacoes historico = abrirPequeno()) {
+            assertEquals(2, historico.tamanho());
+            assertEquals(1, historico.getTrechosEmQuarentena());
+            assertEquals(tamanhoIntegro, Files.size(ativo));
+            assertEquals(1, arquivos(diretorio, ".corrompido").size());
+            assertEquals(ultima + 1, historico.registrar(publicacao("c", "TWITTER", StatusPublicacao.PUBLICADO, BASE)));
+        }
+    }
+
+    @Test
+    void registroCorrompidoNoMeioNaoRenumeraOsSeguintes() throws IOException {
+        List<Long> sequencias = new ArrayList<>();
+        try (HistoricoPublicacoes historico = abrirPequeno()) {
+            for (int i = 0; i < 20; i++) {
+                sequencias.add(historico.registrar(publicacao("p" + i, "TWITTER", StatusPublicacao.PUBLICADO, BASE)));
+            }
+        }
+        // Corrompe um byte do segundo registro do primeiro segmento e força a revarredura
+        Path primeiro = arquivos(diretorio, ".log").get(0);
+        Files.delete(arquivos(diretorio, ".idx").get(0));
+        try (RandomAccessFile arquivo = new RandomAccessFile(primeiro.toFile(), "rw")) {
+            int tamanhoPrimeiro = arquivo.readInt() + 8;
+            arquivo.seek(tamanhoPrimeiro + 20);
+            int original = arquivo.read();
+            arquivo.seek(tamanhoPrimeiro + 20);
+            arquivo.write(original ^ 0xFF);
+        }
+
+        try (HistoricoPublicacoes historico = abrirPequeno()) {
+            assertEquals(1, historico.getTrechosEmQuarentena());
+            assertEquals(19, historico.tamanho());
+            assertNull(historico.buscarPorId("p1"));
+            for (int i = 0; i < 20; i++) {
+                if (i == 1) {
+                    long perdida = sequencias.get(1);
+                    assertThrows(IllegalArgumentException.class, () -> historico.ler(perdida));
+                    continue;
+                }
+                // Cada sequência continua apontando para o mesmo registro
+                assertEquals("p" + i, historico.ler(sequencias.get(i)).getId());
+                assertEquals(sequencias.get(i), historico.buscarPorId("p" + i).getSequencia());
+            }
+        }
+    }
+
+    @Test
+    void ouvinteGravaEmLoteVindoDeVariasThreads() throws Exception {
+        int threads = 4;
+        int porThread = 500;
+        try (HistoricoPublicacoes historico = new HistoricoPublicacoes(diretorio, 64 * 1024, false)) {
+            ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                pool.execute(() -> {
+                    for (int i = 0; i < porThread; i++) {
+                        historico.aoProcessar(publicacao("t" + thread + "-" + i, "TWITTER", StatusPublicacao.PUBLICADO, BASE));
+                    }
+                });
+            }
+            // Leituras concorrentes com a escrita não bloqueiam nem falham
+            pool.execute(() -> {
+                for (int i = 0; i < 200; i++) {
+                    try {
+                        historico.consultar(new ConsultaHistorico.Builder().limite(10).build());
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+            historico.sincronizar();
+
+            assertEquals(threads * porThread, historico.tamanho());
+            assertEquals(0, historico.getFalhasGravacao());
+            Set<Long> sequencias = new HashSet<>();
+            long cursor = -1;
+            PaginaHistorico pagina;
+            do {
+                pagina = historico.consultar(new ConsultaHistorico.Builder().cursor(cursor).limite(256).build());
+                pagina.getRegistros().forEach(r -> sequencias.add(r.getSequencia()));
+                cursor = pagina.getProximoCursor();
+            } while (pagina.temProxima());
+            assertEquals(threads * porThread, sequencias.size());
+        }
+    }
+
+    @Test
+    void consultaFiltradaSoExaminaRegistrosQueCasam() throws IOException {
+        // Raros TWITTER/PUBLICADO entre muitos outros, espalhados por várias horas e segmentos
+        List<String> esperados = new ArrayList<>();
+        List<String> esperadosNaFaixa = new ArrayList<>();
+        try (HistoricoPublicacoes historico = new HistoricoPublicacoes(diretorio, 8 * 1024, false)) {
+            for (int i = 0; i < 600; i++) {
+                boolean casa = i % 40 == 0;
+                String plataforma = casa || i % 2 == 0 ? "TWITTER" : "INSTAGRAM";
+                StatusPublicacao status = casa ? StatusPublicacao.PUBLICADO : StatusPublicacao.FALHOU;
+                LocalDateTime data = BASE.plusMinutes(i * 7L);
+                historico.aoProcessar(publicacao("p" + i, plataforma, status, data));
+                if (casa) {
+                    esperados.add("p" + i);
+                    if (!data.isBefore(BASE.plusHours(10)) && data.isBefore(BASE.plusHours(50))) {
+                        esperadosNaFaixa.add("p" + i);
+                    }
+                }
+            }
+            historico.sincronizar();
+        }
+        // Reabre para cobrir as listas lidas do .idx e as reconstruídas no segmento ativo
+        try (HistoricoPublicacoes historico = new HistoricoPublicacoes(diretorio, 8 * 1024, false)) {
+            assertTrue(arquivos(diretorio, ".idx").size() > 2, "esperava segmentos selados");
+
+            PaginaHistorico pagina = historico.consultar(new ConsultaHistorico.Builder()
+                .plataforma("TWITTER").status(StatusPublicacao.PUBLICADO).limite(100).build());
+            assertEquals(esperados, pagina.getRegistros().stream().map(RegistroPublicacao::getId).collect(Collectors.toList()));
+            assertEquals(esperados.size(), historico.getRegistrosExaminados());
+
+            PaginaHistorico faixa = historico.consultar(new ConsultaHistorico.Builder()
+                .plataforma("TWITTER").status(StatusPublicacao.PUBLICADO)
+                .desde(BASE.plusHours(10)).ate(BASE.plusHours(50)).limite(100).build());
+            assertEquals(esperadosNaFaixa, faixa.getRegistros().stream().map(RegistroPublicacao::getId).collect(Collectors.toList()));
+            assertEquals(esperados.size() + esperadosNaFaixa.size(), historico.getRegistrosExaminados());
+        }
+    }
+
+    @Test
+    void ouvinteDescartaComFilaCheiaEmVezDeBloquear() throws IOException {
+        // Mais pedidos que a capacidade da fila, sem esperar o escritor: o excedente é descartado e contado
+        int total = 40_000;
+        try (HistoricoPublicacoes historico = new HistoricoPublicacoes(diretorio, 1 << 20)) {
+            for (int i = 0; i < total; i++) {
+                historico.aoProcessar(publicacao("p" + i, "TWITTER", StatusPublicacao.PUBLICADO, BASE));
+            }
+            historico.sincronizar();
+
+            assertEquals(total, historico.tamanho() + historico.getRegistrosDescartados());
+            assertEquals(historico.getRegistrosDescartados(), historico.getFalhasGravacao());
+        }
+    }
+
+    @Test
+    void operacoesDepoisDeFecharFalham() throws IOException {
+        HistoricoPublicacoes historico = abrirPequeno();
+        historico.close();
+
+        assertThrows(IOException.class, () -> historico.registrar(publicacao("x", "TWITTER", StatusPublicacao.PUBLICADO, BASE)));
+        assertThrows(IOException.class, () -> historico.buscarPorId("x"));
+        historico.aoProcessar(publicacao("y", "TWITTER", StatusPublicacao.PUBLICADO, BASE));
+        assertEquals(1, historico.getFalhasGravacao());
+        assertFalse(historico.getUltimaFalhaGravacao() == null);
+    }
+}
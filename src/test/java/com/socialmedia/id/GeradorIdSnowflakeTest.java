@@ -0,0 +1,117 @@
+package com.socialmedia.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeradorIdSnowflakeTest {
+
+    @Test
+    void idsCrescentesNaMesmaThreadMesmoEsgotandoASequencia() {
+        GeradorIdSnowflake gerador = new GeradorIdSnowflake(GeradorIdSnowflake.EPOCA_PADRAO, 7);
+        long anterior = gerador.proximoId();
+        // Mais de 4096 IDs: a sequência transborda para o milissegundo seguinte
+        for (int i = 0; i < 20_000; i++) {
+            long atual = gerador.proximoId();
+            assertTrue(atual > anterior);
+            anterior = atual;
+        }
+    }
+
+    @Test
+    void threadsCriadasEDescartadasAlemDe1024NaoRepetemIds() throws Exception {
+        GeradorIdSnowflake gerador = new GeradorIdSnowflake(GeradorIdSnowflake.EPOCA_PADRAO, 1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        // Pool novo a cada rodada, como nas autenticações e envios em paralelo
+        for (int rodada = 0; rodada < 300; rodada++) {
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+            for (int t = 0; t < 4; t++) {
+                pool.execute(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        ids.add(gerador.proximoId());
+                    }
+                });
+            }
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(300 * 4 * 50, ids.size());
+    }
+
+    @Test
+    void nosDiferentesNaoColidemNoMesmoMilissegundo() {
+        long epoca = GeradorIdSnowflake.EPOCA_PADRAO;
+        GeradorIdSnowflake a = new GeradorIdSnowflake(epoca, 0);
+        GeradorIdSnowflake b = new GeradorIdSnowflake(epoca, 1);
+        List<Long> idsA = new ArrayList<>();
+        List<Long> idsB = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            idsA.add(a.proximoId());
+            idsB.add(b.proximoId());
+        }
+        idsA.retainAll(idsB);
+        assertTrue(idsA.isEmpty());
+    }
+
+    @Test
+    void noEInstanteSaoRecuperadosDoId() {
+        GeradorIdSnowflake gerador = new GeradorIdSnowflake(GeradorIdSnowflake.EPOCA_PADRAO, GeradorIdSnowflake.NO_MAXIMO);
+        long antes = System.currentTimeMillis();
+        long id = gerador.proximoId();
+        long depois = System.currentTimeMillis();
+
+        assertEquals(GeradorIdSnowflake.NO_MAXIMO, GeradorIdSnowflake.noDe(id));
+        Instant instante = gerador.instanteDe(id);
+        assertTrue(instante.toEpochMilli() >= antes && instante.toEpochMilli() <= depois);
+    }
+
+    @Test
+    void noForaDaFaixaEhRejeitado() {
+        assertThrows(IllegalArgumentException.class, () -> new GeradorIdSnowflake(GeradorIdSnowflake.EPOCA_PADRAO, -1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GeradorIdSnowflake(GeradorIdSnowflake.EPOCA_PADRAO, GeradorIdSnowflake.NO_MAXIMO + 1));
+    }
+
+    @Test
+    void noPadraoVemDaPropriedadeDeSistema() {
+        String anterior = System.getProperty(GeradorIdSnowflake.PROPRIEDADE_NO);
+        try {
+            System.setProperty(GeradorIdSnowflake.PROPRIEDADE_NO, "42");
+            assertEquals(42, new GeradorIdSnowflake().getNo());
+            System.setProperty(GeradorIdSnowflake.PROPRIEDADE_NO, "abc");
+            assertThrows(IllegalArgumentException.class, GeradorIdSnowflake::new);
+        } finally {
+            if (anterior == null) {
+                System.clearProperty(GeradorIdSnowflake.PROPRIEDADE_NO);
+            } else {
+                System.setProperty(GeradorIdSnowflake.PROPRIEDADE_NO, anterior);
+            }
+        }
+    }
+
+    @Test
+    void textoPreservaAOrdemNumerica() {
+        GeradorIdSnowflake gerador = new GeradorIdSnowflake(GeradorIdSnowflake.EPOCA_PADRAO, 3);
+        String anterior = gerador.proximoIdTexto("tw_");
+        for (int i = 0; i < 5000; i++) {
+            String atual = gerador.proximoIdTexto("tw_");
+            assertEquals(3 + CodificadorId.TAMANHO, atual.length());
+            assertTrue(atual.compareTo(anterior) > 0);
+            anterior = atual;
+        }
+        assertNotEquals(CodificadorId.codificar(1L), CodificadorId.codificar(2L));
+        assertTrue(CodificadorId.codificar(31L).compareTo(CodificadorId.codificar(32L)) < 0);
+    }
+}
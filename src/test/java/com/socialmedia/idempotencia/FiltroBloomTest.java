@@ -0,0 +1,60 @@
+package com.socialmedia.idempotencia;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FiltroBloomTest {
+
+    @Test
+    void chavesAdicionadasSempreSaoEncontradas() {
+        FiltroBloom filtro = new FiltroBloom(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filtro.adicionar("chave-" + i);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filtro.talvezContenha("chave-" + i));
+        }
+    }
+
+    @Test
+    void filtroVazioNaoContemNada() {
+        FiltroBloom filtro = new FiltroBloom(100, 0.01);
+
+        assertFalse(filtro.talvezContenha("qualquer"));
+    }
+
+    @Test
+    void taxaDeFalsoPositivoFicaPertoDaConfigurada() {
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filtro.adicionar("presente-" + i);
+        }
+        int falsosPositivos = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filtro.talvezContenha("ausente-" + i)) {
+                falsosPositivos++;
+            }
+        }
+        assertTrue(falsosPositivos < 300, "falsos positivos: " + falsosPositivos);
+    }
+
+    @Test
+    void dimensionamentoSegueAsFormulas() {
+        FiltroBloom filtro = new FiltroBloom(1_000, 0.01);
+
+        // m = -n ln p / (ln 2)^2 ~ 9586 bits, arredondado para palavras de 64; k ~ 7
+        assertTrue(filtro.getTotalBits() >= 9_586 && filtro.getTotalBits() < 9_586 + 64);
+        assertEquals(7, filtro.getFuncoes());
+    }
+
+    @Test
+    void parametrosInvalidosSaoRecusados() {
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(10, 1));
+    }
+}
@@ -0,0 +1,141 @@
+package com.socialmedia.idempotencia;
+
+import com.socialmedia.strategy.RespostaUnificada;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegistroIdempotenciaTest {
+
+    private static RespostaUnificada resposta(int total) {
+        return new RespostaUnificada.Builder().totalPublicacoes(total).build();
+    }
+
+    @Test
+    void repeticaoRecebeARespostaOriginalSemExecutarDeNovo() {
+        RegistroIdempotencia registro = new RegistroIdempotencia.Builder().build();
+        AtomicInteger execucoes = new AtomicInteger();
+
+        RespostaUnificada primeira = registro.executar("k1", () -> resposta(execucoes.incrementAndGet()));
+        RespostaUnificada repetida = registro.executar("k1", () -> resposta(execucoes.incrementAndGet()));
+
+        assertSame(primeira, repetida);
+        assertEquals(1, execucoes.get());
+        assertEquals(1, registro.getRespostasReaproveitadas());
+        assertEquals(1, registro.getConsultasEvitadas(), "só a chave nova pulou a tabela");
+    }
+
+    @Test
+    void repeticoesConcorrentesAguardamAExecucaoEmAndamento() throws Exception {
+        RegistroIdempotencia registro = new RegistroIdempotencia.Builder().build();
+        AtomicInteger execucoes = new AtomicInteger();
+        CountDownLatch emExecucao = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<RespostaUnificada> primeira = executor.submit(() -> registro.executar("k", () -> {
+                execucoes.incrementAndGet();
+                emExecucao.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return resposta(1);
+            }));
+            assertTrue(emExecucao.await(5, TimeUnit.SECONDS));
+            Future<RespostaUnificada> repetida = executor.submit(() -> registro.executar("k", () -> {
+                execucoes.incrementAndGet();
+                return resposta(2);
+            }));
+            liberar.countDown();
+
+            assertSame(primeira.get(5, TimeUnit.SECONDS), repetida.get(5, TimeUnit.SECONDS));
+            assertEquals(1, execucoes.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void falhaLiberaAChaveParaNovaTentativa() {
+        RegistroIdempotencia registro = new RegistroIdempotencia.Builder().build();
+
+        assertThrows(IllegalStateException.class, () -> registro.executar("k", () -> {
+            throw new IllegalStateException("falhou");
+        }));
+        RespostaUnificada segunda = registro.executar("k", () -> resposta(7));
+
+        assertEquals(7, segunda.getTotalPublicacoes());
+        assertEquals(0, registro.getRespostasReaproveitadas());
+    }
+
+    @Test
+    void respostaVencidaVoltaASerExecutada() throws InterruptedException {
+        RegistroIdempotencia registro = new RegistroIdempotencia.Builder()
+            .validadeRespostas(Duration.ofMillis(20))
+            .build();
+        AtomicInteger execucoes = new AtomicInteger();
+
+        registro.executar("k", () -> resposta(execucoes.incrementAndGet()));
+        Thread.sleep(40);
+        RespostaUnificada depois = registro.executar("k", () -> resposta(execucoes.incrementAndGet()));
+
+        assertEquals(2, depois.getTotalPublicacoes());
+        assertEquals(2, execucoes.get());
+    }
+
+    @Test
+    void falsoPositivoDoFiltroNuncaRecusaChaveNova() {
+        // Filtro minúsculo: satura logo e passa a responder "talvez" para quase tudo
+        RegistroIdempotencia registro = new RegistroIdempotencia.Builder()
+            .chavesEsperadas(1)
+            .taxaFalsoPositivo(0.5)
+            .build();
+        AtomicInteger execucoes = new AtomicInteger();
+
+        for (int i = 0; i < 200; i++) {
+            int esperado = i + 1;
+            RespostaUnificada obtida = registro.executar("nova-" + i, () -> resposta(execucoes.incrementAndGet()));
+            assertEquals(esperado, obtida.getTotalPublicacoes());
+        }
+
+        assertEquals(200, execucoes.get());
+        assertEquals(0, registro.getRespostasReaproveitadas());
+        assertTrue(registro.getConsultasEvitadas() < 200, "o filtro saturado deveria ter dado falsos positivos");
+    }
+
+    @Test
+    void capacidadeLimitaAsRespostasEmMemoria() {
+        RegistroIdempotencia registro = new RegistroIdempotencia.Builder().capacidadeRespostas(10).build();
+
+        for (int i = 0; i < 100; i++) {
+            registro.executar("k" + i, () -> resposta(1));
+        }
+
+        assertTrue(registro.getRespostasEmMemoria() <= 11, "em memória: " + registro.getRespostasEmMemoria());
+    }
+
+    @Test
+    void builderValidaParametros() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new RegistroIdempotencia.Builder().validadeRespostas(Duration.ZERO).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> new RegistroIdempotencia.Builder().capacidadeRespostas(0).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> new RegistroIdempotencia.Builder().chavesEsperadas(-1).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> new RegistroIdempotencia.Builder().build().executar(" ", () -> resposta(1)));
+    }
+}
@@ -0,0 +1,121 @@
+package com.socialmedia.jfr;
+
+import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Estatisticas;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.service.RedeSocialService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RedeSocialServiceRastreadoTest {
+    @TempDir
+    Path diretorio;
+
+    // Publica com sucesso a não ser que o texto seja "falhar"
+    private static final class ServiceFalso implements RedeSocialService {
+        @Override
+        public void autenticar(String credenciais) {
+        }
+
+        @Override
+        public Publicacao publicar(Conteudo conteudo) throws PublicacaoException {
+            if ("falhar".equals(conteudo.getTexto())) {
+                throw PublicacaoException.semStackTrace("limite", CategoriaErro.LIMITADO);
+            }
+            return new Publicacao.Builder().id("p1").plataforma("TESTE").conteudo(conteudo)
+                .status(StatusPublicacao.PUBLICADO).build();
+        }
+
+        @Override
+        public Publicacao agendar(Conteudo conteudo) throws PublicacaoException {
+            return publicar(conteudo);
+        }
+
+        @Override
+        public boolean remover(String publicacaoId) {
+            return true;
+        }
+
+        @Override
+        public Estatisticas obterEstatisticas(String publicacaoId) {
+            return new Estatisticas.Builder().publicacaoId(publicacaoId).build();
+        }
+
+        @Override
+        public String getNomePlataforma() {
+            return "TESTE";
+        }
+
+        @Override
+        public boolean isAutenticado() {
+            return true;
+        }
+    }
+
+    private static Path gravar(Path diretorio, RedeSocialService service) throws Exception {
+        Path arquivo = diretorio.resolve("gravacao.jfr");
+        try (Recording gravacao = new Recording()) {
+            gravacao.enable("com.socialmedia.Publicacao");
+            gravacao.enable("com.socialmedia.Autenticacao");
+            gravacao.start();
+            service.autenticar("token");
+            service.publicar(new Conteudo.Builder().texto("olá").build());
+            assertThrows(PublicacaoException.class, () -> service.publicar(new Conteudo.Builder().texto("falhar").build()));
+            gravacao.stop();
+            gravacao.dump(arquivo);
+        }
+        return arquivo;
+    }
+
+    @Test
+    void emiteEventosComPlataformaStatusEPayload() throws Exception {
+        Path arquivo = gravar(diretorio, new RedeSocialServiceRastreado(new ServiceFalso()));
+
+        List<RecordedEvent> eventos = RecordingFile.readAllEvents(arquivo);
+        List<RecordedEvent> publicacoes = eventos.stream()
+            .filter(evento -> evento.getEventType().getName().equals("com.socialmedia.Publicacao"))
+            .toList();
+
+        assertEquals(2, publicacoes.size());
+        RecordedEvent sucesso = publicacoes.get(0);
+        assertEquals("TESTE", sucesso.getString("plataforma"));
+        assertEquals("publicar", sucesso.getString("operacao"));
+        assertEquals("PUBLICADO", sucesso.getString("status"));
+        assertEquals(4, sucesso.getLong("tamanhoPayload"));
+        assertEquals("p1", sucesso.getString("publicacaoId"));
+        assertEquals("LIMITADO", publicacoes.get(1).getString("status"));
+    }
+
+    @Test
+    void analisadorResumeLatenciaEFalhasPorPlataforma() throws Exception {
+        Path arquivo = gravar(diretorio, new RedeSocialServiceRastreado(new ServiceFalso()));
+
+        AnalisadorGravacao analisador = new AnalisadorGravacao();
+        analisador.ler(arquivo);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        analisador.imprimir(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        String relatorio = bytes.toString(StandardCharsets.UTF_8);
+
+        String linha = relatorio.lines().filter(texto -> texto.startsWith("TESTE/publicar")).findFirst().orElseThrow();
+        String[] colunas = linha.trim().split("\\s+");
+        assertEquals("2", colunas[1], "operações");
+        assertEquals("1", colunas[2], "falhas");
+        assertTrue(relatorio.contains("TESTE/autenticar"), relatorio);
+    }
+}
@@ -0,0 +1,45 @@
+package com.socialmedia.jfr;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.TipoConteudo;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TamanhoPayloadTest {
+
+    private static long utf8(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Test
+    void contaOsBytesUtf8DeTextoHashtagsEMidias() {
+        String texto = "Olá, mundo! 日本 🚀";
+        Conteudo conteudo = new Conteudo.Builder()
+            .texto(texto)
+            .hashtags(List.of("#ação", "#java"))
+            .midias(List.of("https://cdn.exemplo.com/a.jpg"))
+            .build();
+
+        long esperado = utf8(texto) + utf8("#ação") + utf8("#java") + utf8("https://cdn.exemplo.com/a.jpg");
+        assertEquals(esperado, TamanhoPayload.bytes(conteudo));
+    }
+
+    @Test
+    void surrogateIsoladoContaComoTresBytes() {
+        Conteudo conteudo = new Conteudo.Builder().texto("a\uD83D").build();
+
+        assertEquals(4, TamanhoPayload.bytes(conteudo));
+    }
+
+    @Test
+    void conteudoNuloNaoTemPayloadNemTipo() {
+        assertEquals(0, TamanhoPayload.bytes(null));
+        assertNull(TamanhoPayload.tipo(null));
+        assertEquals("VIDEO", TamanhoPayload.tipo(new Conteudo.Builder().texto("x").tipo(TipoConteudo.VIDEO).build()));
+    }
+}
@@ -0,0 +1,123 @@
+package com.socialmedia.metricas;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Estatisticas;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.service.RedeSocialService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ContadorRecursosTest {
+    private static final Conteudo CONTEUDO = new Conteudo.Builder().texto("texto").build();
+
+    // Publica alocando ~1 MB
+    private static final class ServiceAlocador implements RedeSocialService {
+        private volatile byte[] ultimo;
+
+        @Override
+        public void autenticar(String credenciais) {
+        }
+
+        @Override
+        public Publicacao publicar(Conteudo conteudo) {
+            ultimo = new byte[1 << 20];
+            return new Publicacao.Builder().plataforma("TESTE").conteudo(conteudo)
+                .status(StatusPublicacao.PUBLICADO).build();
+        }
+
+        @Override
+        public Publicacao agendar(Conteudo conteudo) {
+            return publicar(conteudo);
+        }
+
+        @Override
+        public boolean remover(String publicacaoId) {
+            return true;
+        }
+
+        @Override
+        public Estatisticas obterEstatisticas(String publicacaoId) {
+            return new Estatisticas.Builder().publicacaoId(publicacaoId).build();
+        }
+
+        @Override
+        public String getNomePlataforma() {
+            return "TESTE";
+        }
+
+        @Override
+        public boolean isAutenticado() {
+            return true;
+        }
+    }
+
+    @BeforeAll
+    static void ativar() {
+        assumeTrue(ContadorRecursos.ativar(), "JVM sem medição de alocação por thread");
+    }
+
+    @Test
+    void threadDePlataformaTemAlocacaoECpuContabilizadas() {
+        RegistroMetricas metricas = new RegistroMetricas();
+        metricas.setContabilizacaoRecursos(true);
+        RedeSocialService service = new RedeSocialServiceMonitorado(new ServiceAlocador(), metricas);
+
+        service.tentarPublicar(CONTEUDO);
+
+        MetricasOperacao metrica = metricas.obter("TESTE", Operacao.PUBLICAR);
+        assertEquals(1, metrica.getOperacoesContabilizadas());
+        assertEquals(0, metrica.getOperacoesNaoContabilizadas());
+        assertTrue(metrica.getBytesAlocados() >= 1 << 20, "bytes: " + metrica.getBytesAlocados());
+        assertTrue(metrica.getCpuNanos() >= 0);
+    }
+
+    @Test
+    void virtualThreadEntraComoSemMedicao() throws InterruptedException {
+        RegistroMetricas metricas = new RegistroMetricas();
+        metricas.setContabilizacaoRecursos(true);
+        RedeSocialService service = new RedeSocialServiceMonitorado(new ServiceAlocador(), metricas);
+        AtomicLong leituraBytes = new AtomicLong();
+        AtomicLong leituraCpu = new AtomicLong();
+
+        Thread virtual = Thread.ofVirtual().start(() -> {
+            leituraBytes.set(ContadorRecursos.bytesAlocados());
+            leituraCpu.set(ContadorRecursos.tempoCpu());
+            service.tentarPublicar(CONTEUDO);
+        });
+        virtual.join();
+
+        MetricasOperacao metrica = metricas.obter("TESTE", Operacao.PUBLICAR);
+        assertEquals(1, metrica.getOperacoesContabilizadas() + metrica.getOperacoesNaoContabilizadas());
+        if (leituraBytes.get() == ContadorRecursos.NAO_MEDIDO || leituraCpu.get() == ContadorRecursos.NAO_MEDIDO) {
+            // JDK 21: a operação não é atribuída a ninguém, nem à carrier thread; basta faltar uma das leituras
+            assertEquals(1, metrica.getOperacoesNaoContabilizadas());
+            assertEquals(0, metrica.getBytesAlocados());
+            assertTrue(metricas.relatorioRecursos().contains("TESTE/publicar"));
+        } else {
+            assertEquals(1, metrica.getOperacoesContabilizadas());
+            assertTrue(metrica.getBytesAlocados() >= 1 << 20);
+        }
+    }
+
+    @Test
+    void orcamentoDeAlocacaoDetectaExcesso() {
+        RegistroMetricas metricas = new RegistroMetricas();
+        metricas.setContabilizacaoRecursos(true);
+        RedeSocialService service = new RedeSocialServiceMonitorado(new ServiceAlocador(), metricas);
+        metricas.definirOrcamentoAlocacao(Operacao.PUBLICAR, 1024);
+        metricas.definirOrcamentoAlocacao("TESTE", Operacao.AGENDAR, 8L << 20);
+
+        service.tentarPublicar(CONTEUDO);
+        service.tentarAgendar(CONTEUDO);
+
+        assertEquals(1, metricas.verificarOrcamentos().size());
+        assertTrue(metricas.verificarOrcamentos().get(0).startsWith("TESTE/publicar"));
+    }
+}
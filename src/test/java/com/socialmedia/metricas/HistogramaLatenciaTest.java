@@ -0,0 +1,115 @@
+package com.socialmedia.metricas;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistogramaLatenciaTest {
+
+    @Test
+    void valoresPequenosTemBaldeExato() {
+        for (long valor = 0; valor < 64; valor++) {
+            assertEquals(valor, HistogramaLatencia.indice(valor));
+            assertEquals(valor, HistogramaLatencia.limiteSuperior((int) valor));
+        }
+    }
+
+    @Test
+    void cadaValorCaiNoBaldeCujoIntervaloOContem() {
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        for (int i = 0; i < 100_000; i++) {
+            long valor = aleatorio.nextLong(1L << 43);
+            verificarBalde(valor);
+        }
+        for (int expoente = 6; expoente < 43; expoente++) {
+            long potencia = 1L << expoente;
+            verificarBalde(potencia - 1);
+            verificarBalde(potencia);
+            verificarBalde(potencia + 1);
+        }
+    }
+
+    private static void verificarBalde(long valor) {
+        int indice = HistogramaLatencia.indice(valor);
+        long limite = HistogramaLatencia.limiteSuperior(indice);
+        assertTrue(limite >= valor, "limite " + limite + " abaixo de " + valor);
+        assertTrue(indice == 0 || HistogramaLatencia.limiteSuperior(indice - 1) < valor,
+            "balde anterior também cobre " + valor);
+        // Erro relativo de no máximo 1/32
+        assertTrue((limite - valor) * 32 <= valor, "erro acima de 1/32 para " + valor);
+    }
+
+    @Test
+    void baldesSaoContiguosECrescentes() {
+        for (int i = 1; i < HistogramaLatencia.TOTAL_BALDES; i++) {
+            long anterior = HistogramaLatencia.limiteSuperior(i - 1);
+            assertTrue(HistogramaLatencia.limiteSuperior(i) > anterior);
+            assertEquals(i, HistogramaLatencia.indice(anterior + 1), "primeiro valor do balde " + i);
+        }
+    }
+
+    @Test
+    void valoresForaDaFaixaVaoParaOsExtremos() {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        histograma.registrar(-5);
+        histograma.registrar(Long.MAX_VALUE);
+
+        assertEquals(HistogramaLatencia.TOTAL_BALDES - 1, HistogramaLatencia.indice(Long.MAX_VALUE));
+        InstantaneoHistograma instantaneo = histograma.instantaneo();
+        assertEquals(2, instantaneo.getTotal());
+        assertEquals(0, instantaneo.percentil(50));
+        assertEquals(Long.MAX_VALUE, instantaneo.getMaximoNanos());
+    }
+
+    @Test
+    void percentisFicamDentroDoErroDoBalde() {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        for (long valor = 1; valor <= 10_000; valor++) {
+            histograma.registrar(valor * 1_000);
+        }
+        InstantaneoHistograma instantaneo = histograma.instantaneo();
+
+        assertEquals(10_000, instantaneo.getTotal());
+        assertEquals(5_000_500.0, instantaneo.getMediaNanos());
+        long p50 = instantaneo.percentil(50);
+        assertTrue(p50 >= 5_000_000 && p50 <= 5_000_000 + 5_000_000 / 32, "p50=" + p50);
+        long p99 = instantaneo.percentil(99);
+        assertTrue(p99 >= 9_900_000 && p99 <= 9_900_000 + 9_900_000 / 32, "p99=" + p99);
+        assertEquals(10_000_000, instantaneo.percentil(100), "limitado pelo máximo");
+        assertEquals(0, new HistogramaLatencia().instantaneo().percentil(99));
+    }
+
+    @Test
+    void registrosConcorrentesNaoSePerdem() throws Exception {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                tarefas.add(executor.submit(() -> {
+                    for (int i = 0; i < 25_000; i++) {
+                        histograma.registrar(i);
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        InstantaneoHistograma instantaneo = histograma.instantaneo();
+        assertEquals(100_000, instantaneo.getTotal());
+        assertEquals(4L * (24_999L * 25_000 / 2), instantaneo.getSomaNanos());
+        assertEquals(24_999, instantaneo.getMaximoNanos());
+    }
+}
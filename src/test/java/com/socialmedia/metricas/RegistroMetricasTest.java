@@ -0,0 +1,70 @@
+package com.socialmedia.metricas;
+
+import com.socialmedia.resultado.CategoriaErro;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegistroMetricasTest {
+
+    @Test
+    void contaSucessosErrosELimitacoes() {
+        RegistroMetricas registro = new RegistroMetricas();
+        registro.registrar("TWITTER", Operacao.PUBLICAR, 1_000, null);
+        registro.registrar("TWITTER", Operacao.PUBLICAR, 2_000, CategoriaErro.LIMITADO);
+        registro.registrar("TWITTER", Operacao.PUBLICAR, 3_000, CategoriaErro.INVALIDO);
+
+        MetricasOperacao metrica = registro.obter("TWITTER", Operacao.PUBLICAR);
+        assertEquals(3, metrica.getContagem());
+        assertEquals(1, metrica.getSucessos());
+        assertEquals(2, metrica.getErros());
+        assertEquals(1, metrica.getLimitacoes());
+        assertEquals(1, metrica.getErros(CategoriaErro.INVALIDO));
+        assertEquals(0, registro.obter("TWITTER", Operacao.AGENDAR).getContagem());
+    }
+
+    @Test
+    void exportaNoFormatoDoPrometheus() {
+        RegistroMetricas registro = new RegistroMetricas();
+        registro.registrar("LINKEDIN", Operacao.AGENDAR, 2_000_000, null);
+        registro.registrar("LINKEDIN", Operacao.AGENDAR, 4_000_000, CategoriaErro.TRANSITORIO);
+
+        String texto = registro.exportarPrometheus();
+
+        assertTrue(texto.contains("# TYPE midiasocial_latencia_segundos summary"));
+        assertTrue(texto.contains(
+            "midiasocial_latencia_segundos_count{plataforma=\"LINKEDIN\",operacao=\"agendar\"} 2"), texto);
+        assertTrue(texto.contains(
+            "midiasocial_operacoes_total{plataforma=\"LINKEDIN\",operacao=\"agendar\",resultado=\"erro\"} 1"), texto);
+        assertTrue(texto.contains("categoria=\"TRANSITORIO\"} 1"), texto);
+        assertFalse(texto.contains("operacao=\"publicar\""), "operações sem registro ficam de fora");
+    }
+
+    @Test
+    void registraEremoveOsMBeans() throws Exception {
+        MBeanServer servidor = MBeanServerFactory.newMBeanServer();
+        RegistroMetricas registro = new RegistroMetricas("teste.metricas");
+        registro.registrar("TWITTER", Operacao.PUBLICAR, 1_000, null);
+        registro.registrarJmx(servidor);
+        // Plataforma nova depois do registro também vira MBean
+        registro.registrar("INSTAGRAM", Operacao.PUBLICAR, 1_000, null);
+
+        ObjectName padrao = new ObjectName("teste.metricas:type=Metricas,*");
+        assertEquals(2 * Operacao.values().length, servidor.queryNames(padrao, null).size());
+
+        registro.removerJmx();
+        assertTrue(servidor.queryNames(padrao, null).isEmpty());
+    }
+
+    @Test
+    void dominioJmxEhObrigatorio() {
+        assertThrows(IllegalArgumentException.class, () -> new RegistroMetricas(" "));
+    }
+}
@@ -0,0 +1,60 @@
+package com.socialmedia.midia;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CheckpointUploadTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void gravaELeASessaoEAsPartesConcluidas() throws IOException {
+        Path arquivo = diretorio.resolve("tiktok-1.upload");
+        BitSet concluidas = new BitSet();
+        concluidas.set(0);
+        concluidas.set(3);
+        concluidas.set(70);
+        new CheckpointUpload(arquivo, new SessaoUpload("v_123", 5L << 30, 8 << 20), 1_700_000_000_000L, concluidas)
+            .gravar();
+
+        CheckpointUpload lido = CheckpointUpload.ler(arquivo);
+        assertEquals("v_123", lido.sessao.getUploadId());
+        assertEquals(5L << 30, lido.sessao.getTamanho());
+        assertEquals(8 << 20, lido.sessao.getTamanhoParte());
+        assertEquals(1_700_000_000_000L, lido.modificadoEm);
+        assertEquals(concluidas, lido.concluidas);
+        assertFalse(Files.exists(diretorio.resolve("tiktok-1.upload.tmp")));
+    }
+
+    @Test
+    void regravarSubstituiAVersaoAnterior() throws IOException {
+        Path arquivo = diretorio.resolve("tiktok-1.upload");
+        CheckpointUpload checkpoint = new CheckpointUpload(arquivo, new SessaoUpload("v_1", 100, 10), 1, new BitSet());
+        checkpoint.gravar();
+        checkpoint.concluidas.set(4);
+        checkpoint.gravar();
+
+        assertEquals(1, CheckpointUpload.ler(arquivo).concluidas.cardinality());
+        checkpoint.apagar();
+        assertNull(CheckpointUpload.ler(arquivo));
+    }
+
+    @Test
+    void checkpointIlegivelOuAusenteViraNull() throws IOException {
+        Path arquivo = diretorio.resolve("instagram-1.upload");
+        assertNull(CheckpointUpload.ler(arquivo));
+
+        Files.writeString(arquivo, "uploadId=ig_1\ntamanho=dez\n");
+        assertNull(CheckpointUpload.ler(arquivo));
+    }
+}
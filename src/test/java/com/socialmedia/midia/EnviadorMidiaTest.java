@@ -0,0 +1,203 @@
+package com.socialmedia.midia;
+
+import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.resultado.CategoriaErro;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EnviadorMidiaTest {
+    private static final int PARTE = 64 << 10;
+
+    @TempDir
+    Path diretorio;
+
+    // Plataforma em memória: guarda os bytes recebidos e pode falhar numa parte escolhida
+    private static final class DestinoMemoria implements DestinoUpload {
+        private byte[] recebido;
+        private final BitSet partes = new BitSet();
+        private final AtomicInteger[] envios = new AtomicInteger[64];
+        private final AtomicInteger sessoes = new AtomicInteger();
+        private volatile int parteComFalha = -1;
+        private volatile CategoriaErro categoriaFalha;
+        private volatile int falhasRestantes;
+        private volatile boolean sessaoExpirada;
+
+        DestinoMemoria() {
+            for (int i = 0; i < envios.length; i++) {
+                envios[i] = new AtomicInteger();
+            }
+        }
+
+        void falharNaParte(int indice, CategoriaErro categoria, int vezes) {
+            parteComFalha = indice;
+            categoriaFalha = categoria;
+            falhasRestantes = vezes;
+        }
+
+        @Override
+        public String getNomePlataforma() {
+            return "Memoria";
+        }
+
+        @Override
+        public synchronized SessaoUpload iniciarUpload(long tamanho, int tamanhoParte) {
+            recebido = new byte[(int) tamanho];
+            partes.clear();
+            sessaoExpirada = false;
+            return new SessaoUpload("up-" + sessoes.incrementAndGet(), tamanho, tamanhoParte);
+        }
+
+        @Override
+        public void enviarParte(SessaoUpload sessao, int indice, ByteBuffer dados) throws PublicacaoException {
+            envios[indice].incrementAndGet();
+            synchronized (this) {
+                if (indice == parteComFalha && falhasRestantes > 0) {
+                    falhasRestantes--;
+                    throw PublicacaoException.semStackTrace("Falha simulada na parte " + indice, categoriaFalha);
+                }
+                ByteBuffer origem = dados.duplicate();
+                origem.get(recebido, (int) sessao.getPosicao(indice), origem.remaining());
+                partes.set(indice);
+            }
+        }
+
+        @Override
+        public synchronized BitSet partesRecebidas(SessaoUpload sessao) throws PublicacaoException {
+            if (sessaoExpirada) {
+                throw PublicacaoException.semStackTrace("Sessão expirada", CategoriaErro.NAO_ENCONTRADO);
+            }
+            return (BitSet) partes.clone();
+        }
+
+        @Override
+        public synchronized String concluirUpload(SessaoUpload sessao) {
+            return "midia/" + sessao.getUploadId();
+        }
+    }
+
+    private Path arquivo(int tamanho) throws IOException {
+        byte[] dados = new byte[tamanho];
+        new Random(7).nextBytes(dados);
+        return Files.write(diretorio.resolve("video.mp4"), dados);
+    }
+
+    private EnviadorMidia.Builder enviador() {
+        return new EnviadorMidia.Builder()
+            .tamanhoParte(PARTE)
+            .tentativas(3, 0, TimeUnit.MILLISECONDS)
+            .diretorioCheckpoints(diretorio.resolve("checkpoints"));
+    }
+
+    private long checkpoints() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio.resolve("checkpoints"))) {
+            return arquivos.count();
+        }
+    }
+
+    @Test
+    void enviaTodasAsPartesEmParaleloLendoPorCanalOuMapeado() throws Exception {
+        Path arquivo = arquivo(10 * PARTE + 123);
+        for (boolean mapeado : new boolean[]{false, true}) {
+            DestinoMemoria destino = new DestinoMemoria();
+            ResultadoUpload resultado = enviador().paralelismo(3).mapeado(mapeado).build().enviar(arquivo, destino);
+
+            assertEquals(11, resultado.getTotalPartes());
+            assertEquals(0, resultado.getPartesRetomadas());
+            assertEquals("midia/up-1", resultado.getMidiaId());
+            assertArrayEquals(Files.readAllBytes(arquivo), destino.recebido);
+            assertEquals(0, checkpoints());
+        }
+    }
+
+    @Test
+    void falhaNoMeioGuardaOCheckpointEARetomadaEnviaSoAsPartesFaltantes() throws Exception {
+        Path arquivo = arquivo(8 * PARTE);
+        DestinoMemoria destino = new DestinoMemoria();
+        destino.falharNaParte(5, CategoriaErro.INVALIDO, 1);
+        EnviadorMidia enviador = enviador().paralelismo(1).build();
+
+        PublicacaoException erro = assertThrows(PublicacaoException.class, () -> enviador.enviar(arquivo, destino));
+        assertEquals(CategoriaErro.INVALIDO, erro.getCategoria());
+        assertEquals(1, checkpoints());
+
+        ResultadoUpload resultado = enviador.enviar(arquivo, destino);
+        assertEquals(5, resultado.getPartesRetomadas());
+        assertEquals(1, destino.sessoes.get());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1, destino.envios[i].get(), "parte " + i);
+        }
+        assertEquals(2, destino.envios[5].get());
+        assertArrayEquals(Files.readAllBytes(arquivo), destino.recebido);
+        assertEquals(0, checkpoints());
+    }
+
+    @Test
+    void retomadaSoConsideraAsPartesQueAPlataformaConfirma() throws Exception {
+        Path arquivo = arquivo(8 * PARTE);
+        DestinoMemoria destino = new DestinoMemoria();
+        destino.falharNaParte(5, CategoriaErro.INVALIDO, 1);
+        EnviadorMidia enviador = enviador().paralelismo(1).build();
+        assertThrows(PublicacaoException.class, () -> enviador.enviar(arquivo, destino));
+
+        // A plataforma perdeu a parte 2 depois do checkpoint
+        synchronized (destino) {
+            destino.partes.clear(2);
+        }
+        ResultadoUpload resultado = enviador.enviar(arquivo, destino);
+
+        assertEquals(4, resultado.getPartesRetomadas());
+        assertEquals(2, destino.envios[2].get());
+        assertArrayEquals(Files.readAllBytes(arquivo), destino.recebido);
+    }
+
+    @Test
+    void sessaoExpiradaOuArquivoAlteradoRecomecamDoZero() throws Exception {
+        Path arquivo = arquivo(4 * PARTE);
+        DestinoMemoria destino = new DestinoMemoria();
+        EnviadorMidia enviador = enviador().paralelismo(1).build();
+
+        destino.falharNaParte(2, CategoriaErro.INVALIDO, 1);
+        assertThrows(PublicacaoException.class, () -> enviador.enviar(arquivo, destino));
+        destino.sessaoExpirada = true;
+        assertEquals(0, enviador.enviar(arquivo, destino).getPartesRetomadas());
+        assertEquals(2, destino.sessoes.get());
+
+        destino.falharNaParte(2, CategoriaErro.INVALIDO, 1);
+        assertThrows(PublicacaoException.class, () -> enviador.enviar(arquivo, destino));
+        Files.setLastModifiedTime(arquivo, FileTime.fromMillis(Files.getLastModifiedTime(arquivo).toMillis() + 5_000));
+        assertEquals(0, enviador.enviar(arquivo, destino).getPartesRetomadas());
+        assertEquals(4, destino.sessoes.get());
+        assertEquals(0, checkpoints());
+    }
+
+    @Test
+    void falhasTransitoriasSaoRepetidasAteOLimiteDeTentativas() throws Exception {
+        Path arquivo = arquivo(3 * PARTE);
+        DestinoMemoria destino = new DestinoMemoria();
+        destino.falharNaParte(1, CategoriaErro.TRANSITORIO, 2);
+        assertEquals(3, enviador().build().enviar(arquivo, destino).getTotalPartes());
+        assertEquals(3, destino.envios[1].get());
+
+        DestinoMemoria limitado = new DestinoMemoria();
+        limitado.falharNaParte(1, CategoriaErro.LIMITADO, 3);
+        PublicacaoException erro = assertThrows(PublicacaoException.class,
+            () -> enviador().build().enviar(arquivo, limitado));
+        assertEquals(CategoriaErro.LIMITADO, erro.getCategoria());
+        assertEquals(3, limitado.envios[1].get());
+    }
+}
@@ -0,0 +1,157 @@
+package com.socialmedia.midia;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GeradorDerivadosTest {
+    private static final List<VarianteImagem> VARIANTES = List.of(
+        new VarianteImagem("INSTAGRAM", "quadrado", 120, 120),
+        new VarianteImagem("INSTAGRAM", "retrato", 120, 150),
+        new VarianteImagem("LINKEDIN", "paisagem", 200, 105),
+        new VarianteImagem("TIKTOK", "capa", 90, 160));
+
+    @TempDir
+    Path diretorio;
+
+    private GeradorDerivados gerador(ForkJoinPool pool) {
+        return new GeradorDerivados.Builder()
+            .variantes(VARIANTES)
+            .diretorio(diretorio.resolve("derivados"))
+            .pool(pool)
+            .build();
+    }
+
+    private Path imagem(String nome, int largura, int altura) throws IOException {
+        BufferedImage imagem = new BufferedImage(largura, altura, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < largura; x++) {
+            for (int y = 0; y < altura; y++) {
+                imagem.setRGB(x, y, x * 255 / largura << 16 | y * 255 / altura << 8);
+            }
+        }
+        Path arquivo = diretorio.resolve(nome);
+        ImageIO.write(imagem, "png", arquivo.toFile());
+        return arquivo;
+    }
+
+    private long temporarios() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio.resolve("derivados"))) {
+            return arquivos.filter(arquivo -> arquivo.toString().endsWith(".tmp")).count();
+        }
+    }
+
+    @Test
+    void geraCadaVarianteNoTamanhoDaPlataformaEReaproveitaNaSegundaChamada() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            GeradorDerivados gerador = gerador(pool);
+            Path imagem = imagem("foto.png", 800, 600);
+
+            DerivadosImagem derivados = gerador.gerar(imagem);
+            assertEquals(4, derivados.getGerados());
+            for (VarianteImagem variante : VARIANTES) {
+                BufferedImage gerada = ImageIO.read(derivados.get(variante).toFile());
+                assertEquals(variante.getLargura(), gerada.getWidth());
+                assertEquals(variante.getAltura(), gerada.getHeight());
+            }
+            assertEquals(0, temporarios());
+
+            // Outro caminho, mesmo conteúdo: as variantes vêm do disco
+            Path copia = Files.copy(imagem, diretorio.resolve("copia.png"));
+            DerivadosImagem reaproveitados = gerador.gerar(copia);
+            assertEquals(0, reaproveitados.getGerados());
+            assertEquals(derivados.getArquivos(), reaproveitados.getArquivos());
+            assertEquals(4, gerador.getGerados());
+            assertEquals(4, gerador.getReaproveitados());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void proporcaoExtremaRecortaAoMenosUmPixel() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            DerivadosImagem derivados = gerador(pool).gerar(imagem("fita.png", 1, 1000));
+            assertEquals(4, derivados.getGerados());
+            BufferedImage paisagem = ImageIO.read(derivados.get(VARIANTES.get(2)).toFile());
+            assertEquals(200, paisagem.getWidth());
+            assertEquals(105, paisagem.getHeight());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void geraSoAsVariantesQueFaltamNoDisco() throws Exception {
+        GeradorDerivados gerador = gerador(ForkJoinPool.commonPool());
+        Path imagem = imagem("foto.png", 400, 400);
+        DerivadosImagem derivados = gerador.gerar(imagem);
+        Files.delete(derivados.get(VARIANTES.get(2)));
+
+        DerivadosImagem completados = new GeradorDerivados.Builder()
+            .variantes(VARIANTES)
+            .diretorio(diretorio.resolve("derivados"))
+            .build()
+            .gerar(imagem);
+        assertEquals(1, completados.getGerados());
+        assertEquals(3, completados.getReaproveitados());
+        assertEquals(4, completados.getArquivos().values().stream().filter(Files::isRegularFile).count());
+    }
+
+    @Test
+    void chamadasSimultaneasComAMesmaImagemGeramUmaVez() throws Exception {
+        GeradorDerivados gerador = gerador(ForkJoinPool.commonPool());
+        Path imagem = imagem("foto.png", 1200, 900);
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<DerivadosImagem>> resultados = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                resultados.add(executor.submit(() -> gerador.gerar(imagem)));
+            }
+            for (Future<DerivadosImagem> resultado : resultados) {
+                assertEquals(4, resultado.get(30, TimeUnit.SECONDS).getArquivos().size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(4, gerador.getGerados());
+        assertEquals(20, gerador.getReaproveitados());
+    }
+
+    @Test
+    void arquivoQueNaoEImagemFalhaSemDeixarVariantes() throws Exception {
+        GeradorDerivados gerador = gerador(ForkJoinPool.commonPool());
+        Path texto = Files.writeString(diretorio.resolve("falsa.png"), "não é uma imagem");
+
+        IOException erro = assertThrows(IOException.class, () -> gerador.gerar(texto));
+        assertEquals("Formato de imagem não suportado: " + texto, erro.getMessage());
+        assertFalse(Files.exists(diretorio.resolve("derivados")));
+        assertEquals(0, gerador.getGerados());
+    }
+
+    @Test
+    void builderExigeDiretorioEQualidadeValida() {
+        assertThrows(IllegalStateException.class, () -> new GeradorDerivados.Builder().build());
+        assertThrows(IllegalArgumentException.class, () -> new GeradorDerivados.Builder().qualidade(1.5f));
+        assertThrows(IllegalArgumentException.class, () -> new GeradorDerivados.Builder().variantes(List.of()));
+    }
+}
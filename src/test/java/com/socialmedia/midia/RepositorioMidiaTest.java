@@ -0,0 +1,222 @@
+package com.socialmedia.midia;
+
+import com.socialmedia.exception.PublicacaoException;
+import com.socialmedia.resultado.CategoriaErro;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RepositorioMidiaTest {
+
+    @TempDir
+    Path diretorio;
+
+    // Plataforma que só conta os uploads; pode segurar a conclusão ou falhar
+    private static final class DestinoContador implements DestinoUpload {
+        private final String nome;
+        private final AtomicInteger uploads = new AtomicInteger();
+        private volatile CountDownLatch liberar;
+        private volatile CountDownLatch iniciado = new CountDownLatch(1);
+        private volatile int falhasRestantes;
+
+        DestinoContador(String nome) {
+            this.nome = nome;
+        }
+
+        @Override
+        public String getNomePlataforma() {
+            return nome;
+        }
+
+        @Override
+        public SessaoUpload iniciarUpload(long tamanho, int tamanhoParte) {
+            return new SessaoUpload(nome + "-" + uploads.incrementAndGet(), tamanho, tamanhoParte);
+        }
+
+        @Override
+        public void enviarParte(SessaoUpload sessao, int indice, ByteBuffer dados) {
+        }
+
+        @Override
+        public BitSet partesRecebidas(SessaoUpload sessao) {
+            return new BitSet();
+        }
+
+        @Override
+        public String concluirUpload(SessaoUpload sessao) throws PublicacaoException {
+            iniciado.countDown();
+            try {
+                if (liberar != null && !liberar.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Upload não foi liberado");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (falhasRestantes > 0) {
+                falhasRestantes--;
+                throw PublicacaoException.semStackTrace("Mídia recusada", CategoriaErro.INVALIDO);
+            }
+            return "midia/" + sessao.getUploadId();
+        }
+    }
+
+    private RepositorioMidia.Builder repositorio() {
+        return new RepositorioMidia.Builder()
+            .enviador(new EnviadorMidia.Builder().tentativas(1, 0, TimeUnit.MILLISECONDS).build());
+    }
+
+    private Path arquivo(String nome, String conteudo) throws Exception {
+        return Files.writeString(diretorio.resolve(nome), conteudo);
+    }
+
+    @Test
+    void mesmoConteudoEmOutroCaminhoReaproveitaOUpload() throws Exception {
+        RepositorioMidia repositorio = repositorio().build();
+        DestinoContador tiktok = new DestinoContador("TikTok");
+        Path original = arquivo("campanha-a.mp4", "video da colecao");
+        Path copia = arquivo("campanha-b.mp4", "video da colecao");
+
+        ReferenciaMidia primeira = repositorio.enviar(original, tiktok);
+        ReferenciaMidia segunda = repositorio.enviar(copia, tiktok);
+
+        assertFalse(primeira.isReaproveitada());
+        assertTrue(segunda.isReaproveitada());
+        assertEquals("midia/TikTok-1", segunda.getMidiaId());
+        assertEquals("TIKTOK", segunda.getPlataforma());
+        assertEquals(primeira.getResumo(), segunda.getResumo());
+        assertEquals(1, tiktok.uploads.get());
+        assertEquals(1, repositorio.getUploads());
+        assertEquals(1, repositorio.getReaproveitamentos());
+        assertEquals(Files.size(copia), repositorio.getBytesEvitados());
+    }
+
+    @Test
+    void cadaPlataformaRecebeOConteudoUmaVez() throws Exception {
+        RepositorioMidia repositorio = repositorio().build();
+        DestinoContador tiktok = new DestinoContador("TikTok");
+        DestinoContador instagram = new DestinoContador("Instagram");
+        Path arquivo = arquivo("foto.jpg", "foto");
+
+        repositorio.enviar(arquivo, tiktok);
+        repositorio.enviar(arquivo, instagram);
+        repositorio.enviar(arquivo, instagram);
+
+        ResumoMidia resumo = repositorio.resumir(arquivo);
+        assertEquals(Set.of("INSTAGRAM", "TIKTOK"), repositorio.getPlataformas(resumo));
+        assertEquals("midia/Instagram-1", repositorio.getMidiaId(resumo, "instagram"));
+        assertNull(repositorio.getMidiaId(resumo, "LinkedIn"));
+        assertEquals(1, instagram.uploads.get());
+        assertEquals(2, repositorio.getUploads());
+    }
+
+    @Test
+    void chamadasSimultaneasFazemUmUnicoUpload() throws Exception {
+        RepositorioMidia repositorio = repositorio().build();
+        DestinoContador linkedin = new DestinoContador("LinkedIn");
+        linkedin.liberar = new CountDownLatch(1);
+        Path arquivo = arquivo("banner.png", "banner");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ReferenciaMidia>> referencias = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                referencias.add(executor.submit(() -> repositorio.enviar(arquivo, linkedin)));
+            }
+            assertTrue(linkedin.iniciado.await(10, TimeUnit.SECONDS));
+            // As demais chamadas chegam enquanto o primeiro upload está em andamento
+            assertTrue(repositorio.getPlataformas(repositorio.resumir(arquivo)).isEmpty());
+            linkedin.liberar.countDown();
+
+            for (Future<ReferenciaMidia> referencia : referencias) {
+                assertEquals("midia/LinkedIn-1", referencia.get(10, TimeUnit.SECONDS).getMidiaId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, linkedin.uploads.get());
+        assertEquals(1, repositorio.getUploads());
+        assertEquals(7, repositorio.getReaproveitamentos());
+    }
+
+    @Test
+    void falhaNoUploadLiberaAVagaParaANovaTentativa() throws Exception {
+        RepositorioMidia repositorio = repositorio().build();
+        DestinoContador tiktok = new DestinoContador("TikTok");
+        tiktok.falhasRestantes = 1;
+        Path arquivo = arquivo("clipe.mp4", "clipe");
+
+        PublicacaoException erro = assertThrows(PublicacaoException.class, () -> repositorio.enviar(arquivo, tiktok));
+        assertEquals(CategoriaErro.INVALIDO, erro.getCategoria());
+        assertTrue(repositorio.getPlataformas(repositorio.resumir(arquivo)).isEmpty());
+
+        ReferenciaMidia referencia = repositorio.enviar(arquivo, tiktok);
+        assertFalse(referencia.isReaproveitada());
+        assertEquals("midia/TikTok-2", referencia.getMidiaId());
+        assertEquals(1, repositorio.getUploads());
+    }
+
+    @Test
+    void indiceEmDiscoSobreviveAoReinicioEGuardaAsInvalidacoes() throws Exception {
+        Path indice = diretorio.resolve("midias.idx");
+        DestinoContador tiktok = new DestinoContador("TikTok");
+        DestinoContador instagram = new DestinoContador("Instagram");
+        Path arquivo = arquivo("foto.jpg", "foto");
+
+        RepositorioMidia primeiro = repositorio().indice(indice).build();
+        primeiro.enviar(arquivo, tiktok);
+        primeiro.enviar(arquivo, instagram);
+        ResumoMidia resumo = primeiro.resumir(arquivo);
+        assertTrue(primeiro.invalidar(resumo, "instagram"));
+        assertFalse(primeiro.invalidar(resumo, "instagram"));
+        // Linha cortada no meio por uma queda durante a gravação
+        Files.writeString(indice, resumo.getHex().substring(0, 20), StandardOpenOption.APPEND);
+
+        RepositorioMidia segundo = repositorio().indice(indice).build();
+        assertEquals(Set.of("TIKTOK"), segundo.getPlataformas(resumo));
+        assertTrue(segundo.enviar(arquivo, tiktok).isReaproveitada());
+        assertFalse(segundo.enviar(arquivo, instagram).isReaproveitada());
+        assertEquals(1, tiktok.uploads.get());
+        assertEquals(2, instagram.uploads.get());
+    }
+
+    @Test
+    void resumoEmCacheERecalculadoQuandoOArquivoMuda() throws Exception {
+        RepositorioMidia repositorio = repositorio().janelaResumo(3).build();
+        Path arquivo = arquivo("capa.jpg", "capa");
+
+        ResumoMidia resumo = repositorio.resumir(arquivo);
+        assertSame(resumo, repositorio.resumir(arquivo));
+
+        Files.writeString(arquivo, "capa nova");
+        ResumoMidia novo = repositorio.resumir(arquivo);
+        assertEquals(ResumoMidia.calcular(arquivo), novo);
+        assertFalse(resumo.equals(novo));
+    }
+
+    @Test
+    void builderExigeEnviadorEJanelaPositiva() {
+        assertThrows(IllegalStateException.class, () -> new RepositorioMidia.Builder().build());
+        assertThrows(IllegalArgumentException.class, () -> new RepositorioMidia.Builder().janelaResumo(0));
+    }
+}
@@ -0,0 +1,64 @@
+package com.socialmedia.midia;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResumoMidiaTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void resumoPorJanelasIgualAoSha256DoArquivoInteiro() throws Exception {
+        byte[] conteudo = new byte[100_000];
+        new Random(7).nextBytes(conteudo);
+        Path arquivo = Files.write(diretorio.resolve("video.mp4"), conteudo);
+        byte[] esperado = MessageDigest.getInstance("SHA-256").digest(conteudo);
+
+        // Janelas que não dividem o arquivo, do tamanho exato e maiores que ele
+        for (int janela : new int[]{4096, 33_333, 100_000, ResumoMidia.JANELA_PADRAO}) {
+            assertArrayEquals(esperado, ResumoMidia.calcular(arquivo, janela).getBytes());
+        }
+    }
+
+    @Test
+    void arquivoVazioTemOResumoDaSequenciaVazia() throws Exception {
+        Path arquivo = Files.createFile(diretorio.resolve("vazio.jpg"));
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+            ResumoMidia.calcular(arquivo).getHex());
+    }
+
+    @Test
+    void hexIdaEVoltaEIgualdadePeloConteudo() throws Exception {
+        Path a = Files.writeString(diretorio.resolve("a.jpg"), "mesma imagem");
+        Path b = Files.writeString(diretorio.resolve("b.jpg"), "mesma imagem");
+        ResumoMidia resumo = ResumoMidia.calcular(a);
+
+        assertEquals(resumo, ResumoMidia.calcular(b));
+        assertEquals(resumo.hashCode(), ResumoMidia.calcular(b).hashCode());
+        assertEquals(resumo, ResumoMidia.deHex(resumo.getHex()));
+        assertEquals(resumo, ResumoMidia.deHex(resumo.getHex().toUpperCase()));
+        assertEquals(HexFormat.of().formatHex(resumo.getBytes()), resumo.getHex());
+        assertNotEquals(resumo, ResumoMidia.calcular(Files.writeString(a, "outra imagem")));
+    }
+
+    @Test
+    void rejeitaHexInvalidoEJanelaNaoPositiva() throws Exception {
+        Path arquivo = Files.writeString(diretorio.resolve("a.jpg"), "x");
+        assertThrows(IllegalArgumentException.class, () -> ResumoMidia.deHex("abc"));
+        assertThrows(IllegalArgumentException.class, () -> ResumoMidia.deHex(null));
+        assertThrows(IllegalArgumentException.class, () -> ResumoMidia.deHex("zz".repeat(32)));
+        assertThrows(IllegalArgumentException.class, () -> ResumoMidia.calcular(arquivo, 0));
+    }
+}
@@ -0,0 +1,80 @@
+package com.socialmedia.resultado;
+
+import com.socialmedia.api.ApiException;
+import com.socialmedia.exception.PublicacaoException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultadoTest {
+
+    @Test
+    void sucessoExpoeOValorEMapTransforma() throws PublicacaoException {
+        Resultado<String> resultado = Resultado.sucesso("abc");
+
+        assertTrue(resultado.isSucesso());
+        assertFalse(resultado.isFalha());
+        assertNull(resultado.getErro());
+        assertEquals("abc", resultado.getValorOuLancar());
+        assertEquals(3, resultado.map(String::length).getValor());
+    }
+
+    @Test
+    void falhaNaoTemValorEMapPreservaOErro() {
+        ErroPlataforma erro = ErroPlataforma.invalido("TWITTER", "texto longo");
+        Resultado<String> resultado = Resultado.falha(erro);
+
+        assertTrue(resultado.isFalha());
+        assertThrows(IllegalStateException.class, resultado::getValor);
+        assertEquals("padrão", resultado.getValorOu("padrão"));
+        assertSame(erro, resultado.map(String::length).getErro());
+    }
+
+    @Test
+    void falhaViraExcecaoSemStackTraceComACategoria() {
+        Resultado<String> resultado = Resultado.falha(ErroPlataforma.autenticacao("LINKEDIN", "token expirado"));
+
+        PublicacaoException e = assertThrows(PublicacaoException.class, resultado::getValorOuLancar);
+
+        assertEquals("token expirado", e.getMessage());
+        assertEquals(CategoriaErro.AUTENTICACAO, e.getCategoria());
+        assertEquals(0, e.getStackTrace().length);
+    }
+
+    @Test
+    void falhaExigeErro() {
+        assertThrows(IllegalArgumentException.class, () -> Resultado.falha(null));
+    }
+
+    @Test
+    void erroHerdaCategoriaDaApiEAcrescentaContexto() {
+        ApiException api = new ApiException(CategoriaErro.LIMITADO, "429");
+
+        ErroPlataforma erro = ErroPlataforma.de("TIKTOK", "Upload: ", api);
+
+        assertEquals(CategoriaErro.LIMITADO, erro.getCategoria());
+        assertEquals("Upload: 429", erro.getMensagem());
+        assertTrue(erro.getCategoria().isRetentavel());
+    }
+
+    @Test
+    void excecaoSemCategoriaEhTratadaComoTransitoria() {
+        ErroPlataforma erro = ErroPlataforma.de("INSTAGRAM", new PublicacaoException("falha"));
+
+        assertEquals(CategoriaErro.TRANSITORIO, erro.getCategoria());
+        assertThrows(NullPointerException.class, () -> new ErroPlataforma("X", null, "m"));
+    }
+
+    @Test
+    void somenteLimitadoETransitorioSaoRetentaveis() {
+        for (CategoriaErro categoria : CategoriaErro.values()) {
+            boolean esperado = categoria == CategoriaErro.LIMITADO || categoria == CategoriaErro.TRANSITORIO;
+            assertEquals(esperado, categoria.isRetentavel(), categoria.name());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.socialmedia.service;
+
+import com.socialmedia.adapter.TwitterAdapter;
+import com.socialmedia.config.ConfiguracaoPlataforma;
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.factory.RedeSocialFactory;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.resultado.CategoriaErro;
+import com.socialmedia.resultado.ErroPlataforma;
+import com.socialmedia.strategy.RespostaSumarizadaStrategy;
+import com.socialmedia.strategy.RespostaUnificada;
+import com.socialmedia.validacao.ValidadorConteudo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GerenciadorMidiaSocialTest {
+    private static final String CREDENCIAIS = "chave:segredo";
+    private static final List<String> REGISTRADAS = List.of("PARALELA-1", "PARALELA-2", "PARALELA-3", "LENTA");
+
+    @AfterEach
+    void removerRegistros() {
+        REGISTRADAS.forEach(RedeSocialFactory::removerRegistro);
+    }
+
+    private static ConfiguracaoPlataforma config(String plataforma, String credenciais) {
+        return new ConfiguracaoPlataforma.Builder().plataforma(plataforma).credenciais(credenciais).build();
+    }
+
+    // Twitter simulado que só conclui a autenticação quando a espera liberar
+    private static final class AdapterEsperando extends TwitterAdapter {
+        private final Espera espera;
+
+        AdapterEsperando(Espera espera) {
+            this.espera = espera;
+        }
+
+        @Override
+        public void autenticar(String credenciais) throws AutenticacaoException {
+            try {
+                espera.aguardar();
+            } catch (Exception e) {
+                throw new AutenticacaoException("Espera interrompida: " + e, e);
+            }
+            super.autenticar(credenciais);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Espera {
+        void aguardar() throws Exception;
+    }
+
+    @Test
+    void adicionarPlataformasAutenticaEmParaleloEDevolveFalhasPorPlataforma() {
+        // Cada autenticação só termina quando as três estão em andamento ao mesmo tempo
+        CyclicBarrier todas = new CyclicBarrier(3);
+        for (int i = 1; i <= 3; i++) {
+            RedeSocialFactory.registrar("PARALELA-" + i,
+                () -> new AdapterEsperando(() -> todas.await(5, TimeUnit.SECONDS)));
+        }
+        GerenciadorMidiaSocial gerenciador = new GerenciadorMidiaSocial(new RespostaSumarizadaStrategy());
+
+        List<ErroPlataforma> falhas = gerenciador.adicionarPlataformas(List.of(
+            config("PARALELA-1", CREDENCIAIS), config("PARALELA-2", CREDENCIAIS), config("PARALELA-3", CREDENCIAIS),
+            config("TWITTER", "sem-separador")));
+
+        assertEquals(1, falhas.size());
+        assertEquals(CategoriaErro.AUTENTICACAO, falhas.get(0).getCategoria());
+        assertTrue(gerenciador.isPlataformaAtiva("PARALELA-1"));
+        assertTrue(gerenciador.isPlataformaAtiva("PARALELA-3"));
+        assertFalse(gerenciador.isPlataformaAtiva("TWITTER"));
+    }
+
+    @Test
+    void inicioRapidoAtivaNaHoraEAsChamadasEsperamAAutenticacao() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        RedeSocialFactory.registrar("LENTA",
+            () -> new AdapterEsperando(() -> liberar.await(5, TimeUnit.SECONDS)));
+        GerenciadorMidiaSocial gerenciador = new GerenciadorMidiaSocial(new RespostaSumarizadaStrategy());
+
+        CompletableFuture<List<ErroPlataforma>> inicio = gerenciador.iniciarPlataformas(List.of(
+            config("LENTA", CREDENCIAIS), config("TWITTER", "sem-separador")));
+        assertTrue(gerenciador.isPlataformaAtiva("LENTA"));
+        assertFalse(inicio.isDone());
+
+        CompletableFuture<RespostaUnificada> publicacao = CompletableFuture.supplyAsync(() ->
+            gerenciador.publicarEmMultiplasPlataformas(new Conteudo.Builder().texto("Primeira publicação").build(),
+                List.of("LENTA")));
+        liberar.countDown();
+
+        assertEquals(StatusPublicacao.PUBLICADO,
+            publicacao.get(5, TimeUnit.SECONDS).getResumos().get(0).getStatus());
+        List<ErroPlataforma> falhas = inicio.get(5, TimeUnit.SECONDS);
+        assertEquals(1, falhas.size());
+        assertEquals(CategoriaErro.AUTENTICACAO, falhas.get(0).getCategoria());
+        assertFalse(gerenciador.isPlataformaAtiva("TWITTER"));
+        assertTrue(gerenciador.getTempoAtePrimeiraPublicacao() > 0);
+    }
+
+    @Test
+    void fanOutRejeitadoUsaONomeDePlataformaDosAdapters() {
+        GerenciadorMidiaSocial gerenciador = new GerenciadorMidiaSocial(new RespostaSumarizadaStrategy());
+        gerenciador.adicionarPlataformas(List.of(config("TWITTER", CREDENCIAIS),
+            config("LINKEDIN", "id:segredo:https://exemplo.com/retorno")));
+        gerenciador.setValidadorConteudo(ValidadorConteudo.padrao());
+
+        List<Publicacao> processadas = new ArrayList<>();
+        gerenciador.adicionarOuvinte(processadas::add);
+
+        gerenciador.publicarEmMultiplasPlataformas(
+            new Conteudo.Builder().texto("a".repeat(281)).build(), List.of("twitter", "LinkedIn"));
+
+        assertEquals("Twitter", processadas.get(0).getPlataforma());
+        assertEquals(StatusPublicacao.FALHOU, processadas.get(0).getStatus());
+        assertEquals("LinkedIn", processadas.get(1).getPlataforma());
+        assertEquals(StatusPublicacao.CANCELADO, processadas.get(1).getStatus());
+    }
+}
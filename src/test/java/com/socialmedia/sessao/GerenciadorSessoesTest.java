@@ -0,0 +1,144 @@
+package com.socialmedia.sessao;
+
+import com.socialmedia.adapter.InstagramAdapter;
+import com.socialmedia.adapter.TwitterAdapter;
+import com.socialmedia.api.ValidadeSessao;
+import com.socialmedia.exception.AutenticacaoException;
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.service.RedeSocialService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GerenciadorSessoesTest {
+    private static final String CREDENCIAIS = "chave:segredo";
+
+    private GerenciadorSessoes sessoes;
+
+    @AfterEach
+    void encerrar() {
+        if (sessoes != null) {
+            sessoes.encerrar();
+        }
+        ValidadeSessao.semExpiracao();
+    }
+
+    private static Conteudo conteudo(String texto) {
+        return new Conteudo.Builder().texto(texto).build();
+    }
+
+    @Test
+    void servicesDaMesmaContaAutenticamUmaVezEPublicamEmParalelo() throws Exception {
+        sessoes = new GerenciadorSessoes.Builder().build();
+        RedeSocialService primeiro = sessoes.obter("TWITTER", CREDENCIAIS);
+        RedeSocialService segundo = sessoes.obter("twitter", CREDENCIAIS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> a = executor.submit(publicacoes(primeiro, "a"));
+            Future<Integer> b = executor.submit(publicacoes(segundo, "b"));
+            assertEquals(200, a.get(10, TimeUnit.SECONDS));
+            assertEquals(200, b.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, sessoes.getTotalSessoes());
+        assertEquals(1, sessoes.getAutenticacoesNaHora());
+    }
+
+    private static Callable<Integer> publicacoes(RedeSocialService service, String prefixo) {
+        return () -> {
+            int sucessos = 0;
+            for (int i = 0; i < 200; i++) {
+                if (service.tentarPublicar(conteudo("Publicação " + prefixo + i)).isSucesso()) {
+                    sucessos++;
+                }
+            }
+            return sucessos;
+        };
+    }
+
+    @Test
+    void renovacaoEmSegundoPlanoEhInstaladaNosServices() throws Exception {
+        sessoes = new GerenciadorSessoes.Builder()
+            .validade(40, TimeUnit.MILLISECONDS)
+            .fracaoRenovacao(0.5)
+            .build();
+        RedeSocialService service = sessoes.obter("TWITTER", CREDENCIAIS);
+        assertTrue(service.tentarPublicar(conteudo("Antes da renovação")).isSucesso());
+
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sessoes.getRenovacoes() < 2 && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertTrue(sessoes.getRenovacoes() >= 2);
+        assertTrue(service.tentarPublicar(conteudo("Depois da renovação")).isSucesso());
+        assertEquals(1, sessoes.getAutenticacoesNaHora());
+    }
+
+    @Test
+    void tokenQueExpiraAntesDaValidadeDoGerenciadorEhRenovadoAntes() throws Exception {
+        // A API emite tokens de 60 ms; o gerenciador usa a validade padrão de 1 hora
+        ValidadeSessao.setValidade(60, TimeUnit.MILLISECONDS);
+        sessoes = new GerenciadorSessoes.Builder().fracaoRenovacao(0.5).build();
+        RedeSocialService service = sessoes.obter("TWITTER", CREDENCIAIS);
+
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sessoes.getRenovacoes() < 2 && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertTrue(sessoes.getRenovacoes() >= 2);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(service.tentarPublicar(conteudo("Publicação " + i)).isSucesso());
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void validadeQueEstouraORelogioNaoExpira() throws AutenticacaoException {
+        sessoes = new GerenciadorSessoes.Builder().validade(Long.MAX_VALUE, TimeUnit.DAYS).build();
+        RedeSocialService service = sessoes.obter("TWITTER", CREDENCIAIS);
+
+        assertTrue(service.isAutenticado());
+        assertTrue(service.tentarPublicar(conteudo("Sem expiração")).isSucesso());
+        assertEquals(0, sessoes.getRenovacoes());
+    }
+
+    @Test
+    void credenciaisRecusadasNaoFicamNoCache() {
+        sessoes = new GerenciadorSessoes.Builder().build();
+
+        assertThrows(AutenticacaoException.class, () -> sessoes.obter("TWITTER", "sem-separador"));
+        assertEquals(0, sessoes.getTotalSessoes());
+    }
+
+    @Test
+    void invalidarEncerraASessaoEAProximaObtencaoAutenticaDeNovo() throws AutenticacaoException {
+        sessoes = new GerenciadorSessoes.Builder().build();
+        sessoes.obter("TWITTER", CREDENCIAIS);
+
+        assertTrue(sessoes.invalidar("twitter", CREDENCIAIS));
+        assertEquals(0, sessoes.getTotalSessoes());
+        sessoes.obter("TWITTER", CREDENCIAIS);
+        assertEquals(2, sessoes.getAutenticacoesNaHora());
+    }
+
+    @Test
+    void tokenDeOutraPlataformaEhRecusado() throws AutenticacaoException {
+        TwitterAdapter twitter = new TwitterAdapter();
+
+        assertThrows(AutenticacaoException.class,
+            () -> twitter.usarToken(new InstagramAdapter().emitirToken("token-instagram")));
+        twitter.usarToken(new TwitterAdapter().emitirToken(CREDENCIAIS));
+        assertTrue(twitter.isAutenticado());
+    }
+}
@@ -0,0 +1,113 @@
+package com.socialmedia.strategy;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.resultado.CategoriaErro;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AcumuladorContagemTest {
+    private static final Conteudo CONTEUDO = new Conteudo.Builder().texto("texto do lote").build();
+
+    private static Publicacao publicacao(String id, String plataforma, StatusPublicacao status) {
+        Publicacao.Builder builder = new Publicacao.Builder().id(id).conteudo(CONTEUDO).plataforma(plataforma).status(status);
+        if (status == StatusPublicacao.FALHOU) {
+            builder.categoriaErro(CategoriaErro.LIMITADO).mensagemErro("limite " + id);
+        }
+        return builder.build();
+    }
+
+    private static List<Publicacao> lote(int quantidade) {
+        StatusPublicacao[] status = StatusPublicacao.values();
+        String[] plataformas = {"TWITTER", "INSTAGRAM", "LINKEDIN"};
+        List<Publicacao> publicacoes = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            publicacoes.add(publicacao("p" + i, plataformas[i % plataformas.length], status[i % status.length]));
+        }
+        return publicacoes;
+    }
+
+    // Acumulador só de contadores: não guarda resumo nenhum
+    private static final class AcumuladorSoContadores extends AcumuladorContagem {
+        @Override
+        protected RenderizadorDetalhes renderizador() {
+            return null;
+        }
+    }
+
+    @Test
+    void coletorParaleloProduzOMesmoQueOSequencial() {
+        List<Publicacao> publicacoes = lote(5_000);
+        RespostaStrategy strategy = new RespostaDetalhadaStrategy();
+
+        RespostaUnificada sequencial = strategy.processar(publicacoes);
+        RespostaUnificada paralela = publicacoes.parallelStream().collect(strategy.coletor());
+
+        assertEquals(sequencial.getTotalPublicacoes(), paralela.getTotalPublicacoes());
+        assertEquals(sequencial.getSucesso(), paralela.getSucesso());
+        assertEquals(sequencial.getFalhas(), paralela.getFalhas());
+        assertEquals(sequencial.getAgendadas(), paralela.getAgendadas());
+        assertEquals(sequencial.getFalhasPorCategoria(), paralela.getFalhasPorCategoria());
+        assertEquals(sequencial.getPublicacoesPorPlataforma(), paralela.getPublicacoesPorPlataforma());
+        assertEquals(sequencial.getErros(), paralela.getErros());
+    }
+
+    @Test
+    void combinarPreservaAOrdemDasPublicacoes() {
+        RespostaStrategy strategy = new RespostaSumarizadaStrategy();
+        AcumuladorResposta esquerda = strategy.novoAcumulador();
+        AcumuladorResposta direita = strategy.novoAcumulador();
+        esquerda.adicionar(publicacao("a", "TWITTER", StatusPublicacao.PUBLICADO));
+        direita.adicionar(publicacao("b", "TWITTER", StatusPublicacao.PUBLICADO));
+        direita.adicionar(publicacao("c", "TWITTER", StatusPublicacao.FALHOU));
+
+        RespostaUnificada resposta = esquerda.combinar(direita).finalizar();
+
+        assertEquals(List.of("a", "b", "c"), resposta.getPublicacoesPorPlataforma().get("TWITTER"));
+        assertEquals(3, resposta.getTotalPublicacoes());
+        assertEquals(1, resposta.getFalhas(CategoriaErro.LIMITADO));
+    }
+
+    @Test
+    void semRenderizadorGuardaApenasContadores() {
+        AcumuladorContagem acumulador = new AcumuladorSoContadores();
+        for (Publicacao pub : lote(30)) {
+            acumulador.adicionar(pub);
+        }
+        acumulador.combinar(new AcumuladorSoContadores());
+
+        RespostaUnificada resposta = acumulador.finalizar();
+
+        assertEquals(30, resposta.getTotalPublicacoes());
+        assertTrue(resposta.getResumos().isEmpty());
+        assertTrue(resposta.getPublicacoesPorPlataforma().isEmpty());
+        assertTrue(resposta.getErros().isEmpty());
+    }
+
+    @Test
+    void resumosCopiamIdStatusEFalha() {
+        RespostaUnificada resposta = new RespostaDetalhadaStrategy()
+            .processar(List.of(publicacao("x", "TWITTER", StatusPublicacao.FALHOU)));
+
+        ResumoPublicacao resumo = resposta.getResumos().get(0);
+        assertEquals("x", resumo.getId());
+        assertEquals("TWITTER", resumo.getPlataforma());
+        assertEquals(StatusPublicacao.FALHOU, resumo.getStatus());
+        assertEquals(CategoriaErro.LIMITADO, resumo.getCategoriaErro());
+    }
+
+    @Test
+    void naoCombinaAcumuladoresDeStrategiesDiferentes() {
+        AcumuladorResposta detalhado = new RespostaDetalhadaStrategy().novoAcumulador();
+        AcumuladorResposta sumarizado = new RespostaSumarizadaStrategy().novoAcumulador();
+
+        assertThrows(IllegalArgumentException.class, () -> detalhado.combinar(sumarizado));
+    }
+}
@@ -0,0 +1,101 @@
+package com.socialmedia.strategy;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RespostaLatenciaStrategyTest {
+    private static final Conteudo CONTEUDO = new Conteudo.Builder().texto("texto").build();
+
+    private static Publicacao publicacao(String plataforma, long inicio, long fim) {
+        Publicacao.Builder builder = new Publicacao.Builder().plataforma(plataforma).conteudo(CONTEUDO)
+            .status(StatusPublicacao.PUBLICADO);
+        if (fim != 0) {
+            builder.tempos(inicio, fim);
+        }
+        return builder.build();
+    }
+
+    // Fan-out a partir de 1000: TWITTER 1000-3000, INSTAGRAM 1500-6000 e LINKEDIN sem medição
+    private static List<Publicacao> fanOut() {
+        return List.of(
+            publicacao("TWITTER", 1_000, 3_000),
+            publicacao("INSTAGRAM", 1_500, 6_000),
+            publicacao("LINKEDIN", 0, 0));
+    }
+
+    @Test
+    void separaEsperaEServicoPorPlataforma() {
+        RespostaUnificada resposta = new RespostaLatenciaStrategy().processar(fanOut());
+        RelatorioLatencia relatorio = resposta.getLatencia();
+
+        LatenciaPlataforma twitter = relatorio.getLatencia("TWITTER");
+        assertEquals(2_000, twitter.getServicoTotalNanos());
+        assertEquals(0, twitter.getEsperaTotalNanos());
+        assertEquals(2_000, twitter.getConclusaoNanos());
+
+        LatenciaPlataforma instagram = relatorio.getLatencia("INSTAGRAM");
+        assertEquals(4_500, instagram.getServicoTotalNanos());
+        assertEquals(500, instagram.getEsperaMaximaNanos());
+        assertEquals(5_000, instagram.getConclusaoNanos());
+
+        assertNull(relatorio.getLatencia("LINKEDIN"));
+        assertEquals(1, relatorio.getNaoMedidas());
+        assertEquals(3, resposta.getTotalPublicacoes());
+    }
+
+    @Test
+    void caminhoCriticoEDuracaoDoFanOut() {
+        RelatorioLatencia relatorio = new RespostaLatenciaStrategy().processar(fanOut()).getLatencia();
+
+        assertEquals("INSTAGRAM", relatorio.getPlataformaCritica());
+        assertEquals(5_000, relatorio.getDuracaoNanos());
+        assertEquals(6_500, relatorio.getServicoTotalNanos());
+        assertEquals(500, relatorio.getEsperaTotalNanos());
+    }
+
+    @Test
+    void combinarAcumuladoresComReferenciasDiferentesDaOMesmoRelatorio() {
+        RespostaLatenciaStrategy strategy = new RespostaLatenciaStrategy();
+        List<Publicacao> publicacoes = fanOut();
+        AcumuladorResposta direita = strategy.novoAcumulador();
+        direita.adicionar(publicacoes.get(1));
+        direita.adicionar(publicacoes.get(2));
+        AcumuladorResposta esquerda = strategy.novoAcumulador();
+        esquerda.adicionar(publicacoes.get(0));
+
+        RelatorioLatencia combinado = esquerda.combinar(direita).finalizar().getLatencia();
+        RelatorioLatencia sequencial = strategy.processar(publicacoes).getLatencia();
+
+        assertEquals(sequencial.getDuracaoNanos(), combinado.getDuracaoNanos());
+        assertEquals(sequencial.getEsperaTotalNanos(), combinado.getEsperaTotalNanos());
+        assertEquals(sequencial.getPlataformaCritica(), combinado.getPlataformaCritica());
+        assertEquals(sequencial.getNaoMedidas(), combinado.getNaoMedidas());
+        assertEquals(sequencial.getLatencia("INSTAGRAM").getConclusaoNanos(),
+            combinado.getLatencia("INSTAGRAM").getConclusaoNanos());
+    }
+
+    @Test
+    void semPublicacoesMedidasORelatorioFicaVazio() {
+        RelatorioLatencia relatorio = new RespostaLatenciaStrategy(new RespostaSumarizadaStrategy())
+            .processar(List.of(publicacao("TWITTER", 0, 0))).getLatencia();
+
+        assertTrue(relatorio.getPorPlataforma().isEmpty());
+        assertNull(relatorio.getPlataformaCritica());
+        assertEquals(0, relatorio.getDuracaoNanos());
+        assertEquals(1, relatorio.getNaoMedidas());
+    }
+
+    @Test
+    void strategyBaseEhObrigatoria() {
+        assertThrows(IllegalArgumentException.class, () -> new RespostaLatenciaStrategy(null));
+    }
+}
@@ -0,0 +1,102 @@
+package com.socialmedia.strategy;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.Publicacao;
+import com.socialmedia.model.StatusPublicacao;
+import com.socialmedia.resultado.CategoriaErro;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RespostaUnificadaTest {
+    private static final Conteudo CONTEUDO = new Conteudo.Builder().texto("texto").build();
+
+    private static Publicacao falha(String id, String plataforma) {
+        return new Publicacao.Builder().id(id).plataforma(plataforma).conteudo(CONTEUDO)
+            .status(StatusPublicacao.FALHOU).categoriaErro(CategoriaErro.TRANSITORIO).mensagemErro("fora do ar")
+            .build();
+    }
+
+    private static Publicacao sucesso(String id, String plataforma) {
+        return new Publicacao.Builder().id(id).plataforma(plataforma).conteudo(CONTEUDO)
+            .status(StatusPublicacao.PUBLICADO).build();
+    }
+
+    @Test
+    void detalhesSoSaoRenderizadosNoPrimeiroAcesso() {
+        AtomicInteger chamadas = new AtomicInteger();
+        RenderizadorDetalhes contador = resumo -> {
+            chamadas.incrementAndGet();
+            return resumo.getId();
+        };
+        List<ResumoPublicacao> resumos = List.of(
+            ResumoPublicacao.de(sucesso("a", "TWITTER")), ResumoPublicacao.de(sucesso("b", "LINKEDIN")));
+        RespostaUnificada resposta = new RespostaUnificada.Builder()
+            .totalPublicacoes(2).sucesso(2)
+            .resumos(resumos, contador)
+            .build();
+
+        assertEquals(2, resposta.getSucesso());
+        assertTrue(resposta.toString().contains("plataformas=2"));
+        assertEquals(0, chamadas.get(), "contadores e toString não renderizam");
+
+        Map<String, List<String>> porPlataforma = resposta.getPublicacoesPorPlataforma();
+        assertEquals(List.of("a"), porPlataforma.get("TWITTER"));
+        assertSame(porPlataforma, resposta.getPublicacoesPorPlataforma());
+        assertEquals(2, chamadas.get());
+    }
+
+    @Test
+    void detalhadaGuardaAMensagemEMostraOsErros() {
+        RespostaUnificada resposta = new RespostaDetalhadaStrategy()
+            .processar(List.of(sucesso("a", "TWITTER"), falha("b", "TWITTER")));
+
+        assertEquals("fora do ar", resposta.getResumos().get(1).getMensagemErro());
+        assertEquals(List.of("[TWITTER] fora do ar"), resposta.getErros());
+        assertEquals(List.of("a (PUBLICADO)", "b (FALHOU)"), resposta.getPublicacoesPorPlataforma().get("TWITTER"));
+    }
+
+    @Test
+    void sumarizadaGuardaSoIdStatusECategoria() {
+        RespostaUnificada resposta = new RespostaSumarizadaStrategy()
+            .processar(List.of(falha("b", "INSTAGRAM")));
+
+        ResumoPublicacao resumo = resposta.getResumos().get(0);
+        assertEquals("b", resumo.getId());
+        assertEquals(StatusPublicacao.FALHOU, resumo.getStatus());
+        assertEquals(CategoriaErro.TRANSITORIO, resumo.getCategoriaErro());
+        assertNull(resumo.getMensagemErro());
+        assertTrue(resposta.getErros().isEmpty());
+        assertEquals(1, resposta.getFalhas(CategoriaErro.TRANSITORIO));
+    }
+
+    @Test
+    void detalhesProntosTemPrecedencia() {
+        RespostaUnificada resposta = new RespostaUnificada.Builder()
+            .resumos(List.of(ResumoPublicacao.de(sucesso("a", "TWITTER"))), ResumoPublicacao::getId)
+            .publicacoesPorPlataforma(Map.of("TWITTER", List.of("pronto")))
+            .erros(List.of("erro pronto"))
+            .build();
+
+        assertEquals(List.of("pronto"), resposta.getPublicacoesPorPlataforma().get("TWITTER"));
+        assertEquals(List.of("erro pronto"), resposta.getErros());
+    }
+
+    @Test
+    void respostaVaziaNaoTemDetalhes() {
+        RespostaUnificada resposta = new RespostaDetalhadaStrategy().processar(List.of());
+
+        assertEquals(0, resposta.getTotalPublicacoes());
+        assertEquals(0.0, resposta.getTaxaSucesso());
+        assertTrue(resposta.getResumos().isEmpty());
+        assertTrue(resposta.getPublicacoesPorPlataforma().isEmpty());
+        assertNull(resposta.getLatencia());
+    }
+}
@@ -0,0 +1,72 @@
+package com.socialmedia.tempo;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RelogioAproximadoTest {
+
+    @AfterEach
+    void restaurarResolucao() {
+        RelogioAproximado.setResolucaoMs(RelogioAproximado.RESOLUCAO_PADRAO_MS);
+    }
+
+    private static long milissegundos(LocalDateTime valor) {
+        return valor.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Test
+    void valorEhTruncadoNaResolucaoENaoPassaDoRelogioReal() {
+        RelogioAproximado.setResolucaoMs(250);
+        long antes = System.currentTimeMillis();
+        long lido = milissegundos(RelogioAproximado.agora());
+        long depois = System.currentTimeMillis();
+
+        assertEquals(0, lido % 250);
+        assertTrue(lido <= depois && lido > antes - 250, "lido " + lido + " entre " + antes + " e " + depois);
+    }
+
+    @Test
+    void mesmoTickDevolveAMesmaInstancia() {
+        RelogioAproximado.setResolucaoMs(60_000);
+        LocalDateTime primeira;
+        LocalDateTime segunda;
+        long tickAntes;
+        long tickDepois;
+        // Repete se a virada do minuto cair entre as leituras
+        do {
+            tickAntes = System.currentTimeMillis() / 60_000;
+            primeira = RelogioAproximado.agora();
+            segunda = RelogioAproximado.agora();
+            tickDepois = System.currentTimeMillis() / 60_000;
+        } while (tickAntes != tickDepois);
+
+        assertSame(primeira, segunda);
+    }
+
+    @Test
+    void trocarAResolucaoDescartaALeituraAnterior() {
+        RelogioAproximado.setResolucaoMs(3_600_000);
+        LocalDateTime hora = RelogioAproximado.agora();
+        RelogioAproximado.setResolucaoMs(1);
+
+        long agora = milissegundos(RelogioAproximado.agora());
+
+        assertTrue(agora - milissegundos(hora) < 3_600_000);
+        assertTrue(Math.abs(agora - Instant.now().toEpochMilli()) < 1_000);
+    }
+
+    @Test
+    void resolucaoDeveSerPositiva() {
+        assertThrows(IllegalArgumentException.class, () -> RelogioAproximado.setResolucaoMs(0));
+        assertEquals(RelogioAproximado.RESOLUCAO_PADRAO_MS, RelogioAproximado.getResolucaoMs());
+    }
+}
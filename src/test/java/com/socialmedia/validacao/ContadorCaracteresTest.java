@@ -0,0 +1,54 @@
+package com.socialmedia.validacao;
+
+import com.socialmedia.model.Conteudo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ContadorCaracteresTest {
+
+    private static int ponderado(String texto) {
+        return ContadorCaracteres.contarPonderadoTwitter(texto, 0, texto.length());
+    }
+
+    @Test
+    void latimContaUmECjkEEmojiContamDois() {
+        assertEquals(5, ponderado("olá!!"));
+        assertEquals(4, ponderado("日本"));
+        // Emoji fora do BMP: dois chars UTF-16, um code point de peso 2
+        assertEquals(2, ponderado("😀"));
+    }
+
+    @Test
+    void urlContaVinteETresIndependenteDoTamanho() {
+        assertEquals(23, ponderado("https://exemplo.com/um/caminho/bem/longo?com=parametros"));
+        assertEquals("veja ".length() + 23, ponderado("veja http://a.b"));
+        // Sem espaço antes não é URL
+        assertEquals("xhttp://a.b".length(), ponderado("xhttp://a.b"));
+    }
+
+    @Test
+    void comprimentoDaLegendaIgualAoTextoRenderizadoPeloAdapter() {
+        Conteudo conteudo = new Conteudo.Builder()
+            .texto("  Texto com espaços  ")
+            .hashtags(List.of("#java", "padroes", "fim  "))
+            .build();
+        // Mesmo formato dos adapters: texto + "\n\n" + "#tag " por hashtag, e trim() no fim
+        StringBuilder renderizado = new StringBuilder(conteudo.getTexto()).append("\n\n");
+        for (String hashtag : conteudo.getHashtags()) {
+            renderizado.append('#').append(hashtag.replace("#", "")).append(' ');
+        }
+
+        assertEquals(renderizado.toString().trim().length(), ContadorCaracteres.comprimentoLegenda(conteudo, "\n\n"));
+    }
+
+    @Test
+    void semHashtagsIgnoraEspacosNasPontas() {
+        Conteudo conteudo = new Conteudo.Builder().texto("  abc  ").build();
+
+        assertEquals(3, ContadorCaracteres.comprimentoLegenda(conteudo, "\n\n"));
+        assertEquals(3, ContadorCaracteres.comprimentoTweet(conteudo));
+    }
+}
@@ -0,0 +1,89 @@
+package com.socialmedia.validacao;
+
+import com.socialmedia.model.Conteudo;
+import com.socialmedia.model.TipoConteudo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidadorConteudoTest {
+    private final ValidadorConteudo validador = ValidadorConteudo.padrao();
+
+    private static Conteudo.Builder conteudo(String texto) {
+        return new Conteudo.Builder().texto(texto);
+    }
+
+    @Test
+    void conteudoValidoParaTodasAsPlataformas() {
+        Conteudo conteudo = conteudo("Lançamento").midias(List.of("https://cdn/video.mp4")).tipo(TipoConteudo.VIDEO).build();
+
+        ResultadoValidacao resultado = validador.validar(conteudo, List.of("Twitter", "INSTAGRAM", "linkedin", "TikTok"));
+
+        assertTrue(resultado.isValido(), resultado.toString());
+    }
+
+    @Test
+    void tweetNoLimiteExatoPassaEUmCaractereAMaisFalha() {
+        assertTrue(validador.validar(conteudo("a".repeat(280)).build(), List.of("TWITTER")).isValido());
+
+        ResultadoValidacao resultado = validador.validar(conteudo("a".repeat(281)).build(), List.of("TWITTER"));
+
+        assertFalse(resultado.isValido());
+        assertEquals("TWITTER", resultado.getViolacoes().get(0).getPlataforma());
+    }
+
+    @Test
+    void hashtagsContamNoLimiteDoTweet() {
+        // "texto" + "\n\n" + "#tag" = 278 + 2 + 4 = 284
+        Conteudo conteudo = conteudo("a".repeat(278)).hashtags(List.of("tag")).build();
+
+        assertFalse(validador.validar(conteudo, List.of("TWITTER")).isValido());
+    }
+
+    @Test
+    void instagramExigeMidiaETikTokExigeVideo() {
+        Conteudo semMidia = conteudo("Sem mídia").build();
+        Conteudo imagem = conteudo("Imagem").midias(List.of("https://cdn/foto.jpg")).build();
+
+        ResultadoValidacao resultado = validador.validar(semMidia, List.of("INSTAGRAM", "TIKTOK"));
+
+        assertEquals(1, resultado.getViolacoes("INSTAGRAM").size());
+        assertEquals(1, resultado.getViolacoes("TIKTOK").size());
+        assertFalse(validador.validar(imagem, List.of("TIKTOK")).isValido());
+        assertTrue(validador.validar(imagem, List.of("INSTAGRAM")).isValido());
+    }
+
+    @Test
+    void loteReportaTodasAsViolacoesComOIndiceDoConteudo() {
+        List<Conteudo> lote = List.of(
+            conteudo("ok").build(),
+            conteudo("b".repeat(300)).build(),
+            conteudo("c".repeat(300)).build());
+
+        ResultadoValidacao resultado = validador.validarLote(lote, List.of("TWITTER"));
+
+        assertEquals(2, resultado.getViolacoes().size());
+        assertTrue(resultado.getViolacoes(0).isEmpty());
+        assertEquals(1, resultado.getViolacoes(1).size());
+        assertEquals(1, resultado.getViolacoes(2).size());
+    }
+
+    @Test
+    void plataformaSemRegrasAceitaTudo() {
+        assertTrue(validador.validar(conteudo("x".repeat(10_000)).build(), List.of("MASTODON")).isValido());
+    }
+
+    @Test
+    void regraAdicionadaValeParaAPlataformaSemDiferenciarMaiusculas() {
+        ValidadorConteudo vazio = new ValidadorConteudo();
+        vazio.adicionarRegra("mastodon", c -> c.getTexto().length() > 5 ? "longo" : null);
+
+        assertFalse(vazio.validar(conteudo("123456").build(), List.of("Mastodon")).isValido());
+        assertThrows(IllegalArgumentException.class, () -> vazio.adicionarRegra(" ", c -> null));
+    }
+}